@@ -0,0 +1,176 @@
+package com.jnape.palatable.lambda.functions;
+
+import com.jnape.palatable.lambda.functions.builtin.fn1.Id;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+
+import static java.lang.System.arraycopy;
+
+/**
+ * The left-to-right composition of two functions, either of which may itself be a composition. Composing is constant
+ * time, and the resulting tree of compositions is flattened into a sequence of functions upon first invocation, which
+ * is then applied in a loop, so that invoking a composition uses constant stack regardless of how many functions it
+ * composes or how they are nested.
+ * <p>
+ * A composition that extends an already flattened composition by a single function at either end shares its
+ * sequence, extending it in place unless another composition already has, so that building a chain one function at a
+ * time and invoking every step along the way retains only linear space overall.
+ *
+ * @param <A> the input type
+ * @param <B> the output type
+ */
+final class Composition<A, B> implements Fn1<A, B> {
+
+    private final    Function<?, ?> before;
+    private final    Function<?, ?> after;
+    private volatile Flattened      flattened;
+
+    private Composition(Function<?, ?> before, Function<?, ?> after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public B apply(A a) {
+        Flattened flattened = flattened();
+        Function<Object, Object>[] fns = flattened.fns;
+        Object result = a;
+        for (int i = flattened.from; i < flattened.to; i++)
+            result = fns[i].apply(result);
+        return (B) result;
+    }
+
+    private Flattened flattened() {
+        Flattened flattened = this.flattened;
+        if (flattened == null) {
+            Flattened shared = flattenedOf(before);
+            if (shared != null && !(after instanceof Composition)) {
+                flattened = shared.append(after);
+            } else if ((shared = flattenedOf(after)) != null && !(before instanceof Composition)) {
+                flattened = shared.prepend(before);
+            } else {
+                flattened = flatten();
+            }
+            this.flattened = flattened;
+        }
+        return flattened;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Flattened flatten() {
+        Buffer buffer = new Buffer();
+        Deque<Function<?, ?>> remaining = new ArrayDeque<>();
+        remaining.push(this);
+        while (!remaining.isEmpty()) {
+            Function<?, ?> next = remaining.pop();
+            Flattened alreadyFlattened = next == this ? null : flattenedOf(next);
+            if (alreadyFlattened != null) {
+                for (int i = alreadyFlattened.from; i < alreadyFlattened.to; i++)
+                    buffer.add(alreadyFlattened.fns[i]);
+            } else if (next instanceof Composition) {
+                Composition<?, ?> composition = (Composition<?, ?>) next;
+                remaining.push(composition.after);
+                remaining.push(composition.before);
+            } else if (!(next instanceof Id)) {
+                buffer.add((Function<Object, Object>) next);
+            }
+        }
+        return new Flattened(buffer, buffer.fns, buffer.start, buffer.end);
+    }
+
+    private static Flattened flattenedOf(Function<?, ?> fn) {
+        return fn instanceof Composition ? ((Composition<?, ?>) fn).flattened : null;
+    }
+
+    static <A, B, C> Fn1<A, C> composition(Function<? super A, ? extends B> before,
+                                           Function<? super B, ? extends C> after) {
+        return new Composition<>(before, after);
+    }
+
+    /**
+     * The flattened sequence of a composition: the functions of a shared {@link Buffer} between <code>from</code>
+     * and <code>to</code>, which are never overwritten once published.
+     */
+    private static final class Flattened {
+        private final Buffer                     buffer;
+        private final Function<Object, Object>[] fns;
+        private final int                        from;
+        private final int                        to;
+
+        private Flattened(Buffer buffer, Function<Object, Object>[] fns, int from, int to) {
+            this.buffer = buffer;
+            this.fns = fns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Flattened append(Function<?, ?> fn) {
+            if (fn instanceof Id)
+                return this;
+            synchronized (buffer) {
+                Buffer target = buffer.fns == fns && buffer.end == to ? buffer : copy();
+                target.add((Function<Object, Object>) fn);
+                return new Flattened(target, target.fns, target.end - (to - from + 1), target.end);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Flattened prepend(Function<?, ?> fn) {
+            if (fn instanceof Id)
+                return this;
+            synchronized (buffer) {
+                Buffer target = buffer.fns == fns && buffer.start == from ? buffer : copy();
+                target.addFirst((Function<Object, Object>) fn);
+                return new Flattened(target, target.fns, target.start, target.start + (to - from + 1));
+            }
+        }
+
+        private Buffer copy() {
+            Buffer copy = new Buffer();
+            for (int i = from; i < to; i++)
+                copy.add(fns[i]);
+            return copy;
+        }
+    }
+
+    /**
+     * A sequence of functions that can grow at either end, shared by the {@link Flattened} sequences of compositions
+     * that extend one another. Guarded by its own monitor once it is shared.
+     */
+    private static final class Buffer {
+        private Function<Object, Object>[] fns   = newArray(8);
+        private int                        start = 4;
+        private int                        end   = 4;
+
+        private void add(Function<Object, Object> fn) {
+            if (end == fns.length)
+                grow();
+            fns[end++] = fn;
+        }
+
+        private void addFirst(Function<Object, Object> fn) {
+            if (start == 0)
+                grow();
+            fns[--start] = fn;
+        }
+
+        private void grow() {
+            int size = end - start;
+            Function<Object, Object>[] grown = newArray(size * 2 + 8);
+            int offset = (grown.length - size) / 2;
+            arraycopy(fns, start, grown, offset, size);
+            fns = grown;
+            start = offset;
+            end = offset + size;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Function<Object, Object>[] newArray(int length) {
+            return (Function<Object, Object>[]) new Function<?, ?>[length];
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.jnape.palatable.lambda.functions;
 import com.jnape.palatable.lambda.adt.Either;
 import com.jnape.palatable.lambda.adt.choice.Choice2;
 import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.memoization.MemoPolicy;
+import com.jnape.palatable.lambda.functions.memoization.MemoizedFn1;
 import com.jnape.palatable.lambda.functor.Applicative;
 import com.jnape.palatable.lambda.functor.Cartesian;
 import com.jnape.palatable.lambda.functor.Cocartesian;
@@ -12,8 +14,10 @@ import com.jnape.palatable.lambda.monad.Monad;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import static com.jnape.palatable.lambda.functions.Composition.composition;
 import static com.jnape.palatable.lambda.functions.Fn2.fn2;
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Constantly.constantly;
+import static com.jnape.palatable.lambda.functions.memoization.MemoizedFn1.memoizedFn1;
 
 /**
  * A function taking a single argument. This is the core function type that all other function types extend and
@@ -75,7 +79,7 @@ public interface Fn1<A, B> extends
      */
     @Override
     default <C> Fn1<A, C> fmap(Function<? super B, ? extends C> f) {
-        return Monad.super.<C>fmap(f).coerce();
+        return composition(this, f);
     }
 
     /**
@@ -166,7 +170,7 @@ public interface Fn1<A, B> extends
      */
     @Override
     default <Z, C> Fn1<Z, C> diMap(Function<? super Z, ? extends A> lFn, Function<? super B, ? extends C> rFn) {
-        return lFn.andThen(this).andThen(rFn)::apply;
+        return composition(composition(lFn, this), rFn);
     }
 
     /**
@@ -216,7 +220,7 @@ public interface Fn1<A, B> extends
 
     /**
      * Override of {@link Function#compose(Function)}, returning an instance of {@link Fn1} for compatibility.
-     * Right-to-left composition.
+     * Right-to-left composition. Like {@link Fn1#andThen(Function)}, this is stack-safe.
      *
      * @param before the function who's return value is this function's argument
      * @param <Z>    the new argument type
@@ -224,7 +228,7 @@ public interface Fn1<A, B> extends
      */
     @Override
     default <Z> Fn1<Z, B> compose(Function<? super Z, ? extends A> before) {
-        return z -> apply(before.apply(z));
+        return composition(before, this);
     }
 
     /**
@@ -270,6 +274,10 @@ public interface Fn1<A, B> extends
     /**
      * Override of {@link Function#andThen(Function)}, returning an instance of {@link Fn1} for compatibility.
      * Left-to-right composition.
+     * <p>
+     * Composition takes constant time, and the composed function is invoked in a loop over the flattened sequence of
+     * composed functions, computed once upon first invocation, so it is stack-safe no matter how many compositions are
+     * chained or nested.
      *
      * @param after the function to invoke on this function's return value
      * @param <C>   the new result type
@@ -277,7 +285,30 @@ public interface Fn1<A, B> extends
      */
     @Override
     default <C> Fn1<A, C> andThen(Function<? super B, ? extends C> after) {
-        return a -> after.apply(apply(a));
+        return composition(this, after);
+    }
+
+    /**
+     * Memoize this function, retaining every result indefinitely.
+     *
+     * @return the memoized function
+     * @see Fn1#memoize(MemoPolicy)
+     */
+    default MemoizedFn1<A, B> memoize() {
+        return memoize(MemoPolicy.unbounded());
+    }
+
+    /**
+     * Memoize this function, retaining its results according to the given {@link MemoPolicy}. The resulting function
+     * is safe to invoke concurrently, and computes each retained result once, even if concurrently invoked with the
+     * same argument.
+     *
+     * @param policy the {@link MemoPolicy}
+     * @return the memoized function
+     * @see MemoizedFn1
+     */
+    default MemoizedFn1<A, B> memoize(MemoPolicy policy) {
+        return memoizedFn1(this, policy);
     }
 
     /**
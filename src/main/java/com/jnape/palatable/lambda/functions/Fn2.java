@@ -1,6 +1,8 @@
 package com.jnape.palatable.lambda.functions;
 
 import com.jnape.palatable.lambda.adt.product.Product2;
+import com.jnape.palatable.lambda.functions.memoization.MemoPolicy;
+import com.jnape.palatable.lambda.functions.memoization.MemoizedFn2;
 import com.jnape.palatable.lambda.functor.Applicative;
 
 import java.util.function.BiFunction;
@@ -8,6 +10,7 @@ import java.util.function.Function;
 
 import static com.jnape.palatable.lambda.functions.Fn3.fn3;
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Constantly.constantly;
+import static com.jnape.palatable.lambda.functions.memoization.MemoizedFn2.memoizedFn2;
 
 /**
  * A function taking two arguments.
@@ -131,6 +134,30 @@ public interface Fn2<A, B, C> extends Fn1<A, Fn1<B, C>> {
         return fn3(Fn1.super.compose(before));
     }
 
+    /**
+     * Memoize this function on both of its arguments, retaining every result indefinitely.
+     *
+     * @return the memoized function
+     * @see Fn2#memoize(MemoPolicy)
+     */
+    @Override
+    default MemoizedFn2<A, B, C> memoize() {
+        return memoize(MemoPolicy.unbounded());
+    }
+
+    /**
+     * Memoize this function on both of its arguments, retaining its results according to the given {@link
+     * MemoPolicy}.
+     *
+     * @param policy the {@link MemoPolicy}
+     * @return the memoized function
+     * @see MemoizedFn2
+     */
+    @Override
+    default MemoizedFn2<A, B, C> memoize(MemoPolicy policy) {
+        return memoizedFn2(this::apply, policy);
+    }
+
     /**
      * Static factory method for wrapping a {@link BiFunction} in an {@link Fn2}. Useful for avoid explicit casting when
      * using method references as {@link Fn2}s.
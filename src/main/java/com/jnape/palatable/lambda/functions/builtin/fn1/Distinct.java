@@ -1,12 +1,25 @@
 package com.jnape.palatable.lambda.functions.builtin.fn1;
 
 import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.builtin.fn2.DistinctRecent;
+import com.jnape.palatable.lambda.functions.builtin.fn2.DistinctSortedWith;
+import com.jnape.palatable.lambda.functions.builtin.fn2.DistinctWithinLast;
+import com.jnape.palatable.lambda.functions.builtin.fn3.DistinctApproximately;
+import com.jnape.palatable.lambda.functions.builtin.fn3.DistinctWithin;
 import com.jnape.palatable.lambda.iteration.DistinctIterable;
 
 /**
  * Return an {@link Iterable} of the distinct values from the given input {@link Iterable}.
+ * <p>
+ * Note that every distinct element is retained for the duration of iteration; for unbounded inputs, prefer one of the
+ * memory-bounded variants.
  *
  * @param <A> the Iterable element type
+ * @see DistinctWithinLast
+ * @see DistinctRecent
+ * @see DistinctSortedWith
+ * @see DistinctWithin
+ * @see DistinctApproximately
  */
 public final class Distinct<A> implements Fn1<Iterable<A>, Iterable<A>> {
     private static final Distinct<?> INSTANCE = new Distinct<>();
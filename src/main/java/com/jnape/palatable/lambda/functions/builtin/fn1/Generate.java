@@ -0,0 +1,52 @@
+package com.jnape.palatable.lambda.functions.builtin.fn1;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.builtin.fn2.Unfoldr;
+import com.jnape.palatable.lambda.iteration.GeneratingIterator;
+import com.jnape.palatable.lambda.iteration.Generator;
+
+import java.util.function.Supplier;
+
+/**
+ * Given a {@link Supplier} of {@link Generator}s, produce an {@link Iterable} that steps a freshly supplied generator
+ * for each iteration. Because generators emit elements into a reusable emitter instead of returning them wrapped in a
+ * container, this is an allocation-free alternative to {@link Unfoldr} for hot generation paths.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * Iterable<Long> ids = generate(() -> new Generator<Long>() {
+ *     long next = 0;
+ *
+ *     public boolean step(Consumer<? super Long> emitter) {
+ *         emitter.accept(next++);
+ *         return next < 1_000_000;
+ *     }
+ * });
+ * }
+ * </pre>
+ *
+ * @param <A> the Iterable element type
+ * @see Generator
+ */
+public final class Generate<A> implements Fn1<Supplier<? extends Generator<A>>, Iterable<A>> {
+
+    private static final Generate<?> INSTANCE = new Generate<>();
+
+    private Generate() {
+    }
+
+    @Override
+    public Iterable<A> apply(Supplier<? extends Generator<A>> generatorSupplier) {
+        return () -> new GeneratingIterator<>(generatorSupplier.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> Generate<A> generate() {
+        return (Generate<A>) INSTANCE;
+    }
+
+    public static <A> Iterable<A> generate(Supplier<? extends Generator<A>> generatorSupplier) {
+        return Generate.<A>generate().apply(generatorSupplier);
+    }
+}
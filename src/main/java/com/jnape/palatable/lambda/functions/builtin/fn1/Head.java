@@ -2,6 +2,7 @@ package com.jnape.palatable.lambda.functions.builtin.fn1;
 
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.iteration.CloseableIterator;
 
 import java.util.Iterator;
 
@@ -24,7 +25,11 @@ public final class Head<A> implements Fn1<Iterable<A>, Maybe<A>> {
     @Override
     public Maybe<A> apply(Iterable<A> as) {
         Iterator<A> iterator = as.iterator();
-        return iterator.hasNext() ? just(iterator.next()) : nothing();
+        try {
+            return iterator.hasNext() ? just(iterator.next()) : nothing();
+        } finally {
+            CloseableIterator.close(iterator);
+        }
     }
 
     @SuppressWarnings("unchecked")
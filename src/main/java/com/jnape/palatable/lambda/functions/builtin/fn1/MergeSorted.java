@@ -0,0 +1,38 @@
+package com.jnape.palatable.lambda.functions.builtin.fn1;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.builtin.fn2.MergeSortedWith;
+
+import java.util.Comparator;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.MergeSortedWith.mergeSortedWith;
+
+/**
+ * Given a finite {@link Iterable} of sorted {@link Iterable Iterables} of {@link Comparable} elements, lazily merge
+ * them into a single sorted {@link Iterable}.
+ *
+ * @param <A> the {@link Iterable} element type
+ * @see MergeSortedWith
+ * @see Sort
+ */
+public final class MergeSorted<A extends Comparable<A>> implements Fn1<Iterable<? extends Iterable<A>>, Iterable<A>> {
+
+    private static final MergeSorted<?> INSTANCE = new MergeSorted<>();
+
+    private MergeSorted() {
+    }
+
+    @Override
+    public Iterable<A> apply(Iterable<? extends Iterable<A>> ass) {
+        return mergeSortedWith(Comparator.<A>naturalOrder(), ass);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A extends Comparable<A>> MergeSorted<A> mergeSorted() {
+        return (MergeSorted<A>) INSTANCE;
+    }
+
+    public static <A extends Comparable<A>> Iterable<A> mergeSorted(Iterable<? extends Iterable<A>> ass) {
+        return MergeSorted.<A>mergeSorted().apply(ass);
+    }
+}
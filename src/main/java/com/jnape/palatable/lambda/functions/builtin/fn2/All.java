@@ -2,7 +2,9 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.specialized.BiPredicate;
+import com.jnape.palatable.lambda.iteration.CloseableIterator;
 
+import java.util.Iterator;
 import java.util.function.Function;
 
 /**
@@ -22,11 +24,16 @@ public final class All<A> implements BiPredicate<Function<? super A, ? extends B
 
     @Override
     public Boolean apply(Function<? super A, ? extends Boolean> predicate, Iterable<A> as) {
-        for (A a : as)
-            if (!predicate.apply(a))
-                return false;
-
-        return true;
+        Iterator<A> iterator = as.iterator();
+        try {
+            while (iterator.hasNext())
+                if (!predicate.apply(iterator.next()))
+                    return false;
+
+            return true;
+        } finally {
+            CloseableIterator.close(iterator);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -2,7 +2,9 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.specialized.BiPredicate;
 import com.jnape.palatable.lambda.functions.specialized.Predicate;
+import com.jnape.palatable.lambda.iteration.CloseableIterator;
 
+import java.util.Iterator;
 import java.util.function.Function;
 
 /**
@@ -22,11 +24,16 @@ public final class Any<A> implements BiPredicate<Function<? super A, ? extends B
 
     @Override
     public Boolean apply(Function<? super A, ? extends Boolean> predicate, Iterable<A> as) {
-        for (A a : as)
-            if (predicate.apply(a))
-                return true;
-
-        return false;
+        Iterator<A> iterator = as.iterator();
+        try {
+            while (iterator.hasNext())
+                if (predicate.apply(iterator.next()))
+                    return true;
+
+            return false;
+        } finally {
+            CloseableIterator.close(iterator);
+        }
     }
 
     @SuppressWarnings("unchecked")
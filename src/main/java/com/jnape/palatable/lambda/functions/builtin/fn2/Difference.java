@@ -3,13 +3,7 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 import com.jnape.palatable.lambda.functions.builtin.fn1.Distinct;
-
-import java.util.HashSet;
-
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Distinct.distinct;
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Empty.empty;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
+import com.jnape.palatable.lambda.iteration.DifferencingIterable;
 
 /**
  * Given two {@link Iterable Iterables} <code>xs</code> and <code>ys</code>, return the {@link Distinct distinct}
@@ -17,7 +11,7 @@ import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCo
  * difference.
  * <p>
  * This operation preserves order, so the resulting elements from <code>xs</code> are iterated in the order that
- * they uniquely occur in.
+ * they uniquely occur in. Arbitrarily nested set operations are evaluated in a single, stack-safe traversal.
  *
  * @param <A> the {@link Iterable} element type
  */
@@ -30,17 +24,7 @@ public final class Difference<A> implements Fn2<Iterable<A>, Iterable<A>, Iterab
 
     @Override
     public Iterable<A> apply(Iterable<A> xs, Iterable<A> ys) {
-        return () -> {
-            if (empty(xs))
-                return xs.iterator();
-
-            if (empty(ys))
-                return distinct(xs).iterator();
-
-            //todo: a pre-order depth-first fold of the expression tree would make this stack-safe
-            HashSet<A> uniqueYs = toCollection(HashSet::new, ys);
-            return distinct(filter(a -> !uniqueYs.contains(a), xs)).iterator();
-        };
+        return new DifferencingIterable<>(xs, ys);
     }
 
     @SuppressWarnings("unchecked")
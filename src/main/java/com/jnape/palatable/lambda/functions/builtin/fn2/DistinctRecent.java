@@ -0,0 +1,77 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.builtin.fn1.Distinct;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+
+/**
+ * Given a <code>capacity</code> and an {@link Iterable} <code>as</code>, return an {@link Iterable} of the elements of
+ * <code>as</code> that are not among the <code>capacity</code> most recently seen distinct elements. Seeing an element
+ * again, whether or not it is iterated, refreshes its recency, so that frequently repeated elements stay remembered
+ * while elements that have not occurred in a while are evicted in least-recently-seen order.
+ * <p>
+ * Unlike {@link Distinct}, which remembers every element it has ever seen, memory is bounded by the capacity: at most
+ * <code>capacity</code> distinct elements are retained at any given time.
+ *
+ * @param <A> the {@link Iterable} element type
+ * @see Distinct
+ * @see DistinctWithinLast
+ */
+public final class DistinctRecent<A> implements Fn2<Integer, Iterable<A>, Iterable<A>> {
+
+    private static final DistinctRecent<?> INSTANCE = new DistinctRecent<>();
+
+    private DistinctRecent() {
+    }
+
+    @Override
+    public Iterable<A> apply(Integer capacity, Iterable<A> as) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity must be greater than 0: " + capacity);
+
+        return () -> filter(new Recent<A>(capacity), as).iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> DistinctRecent<A> distinctRecent() {
+        return (DistinctRecent<A>) INSTANCE;
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<A>> distinctRecent(int capacity) {
+        return DistinctRecent.<A>distinctRecent().apply(capacity);
+    }
+
+    public static <A> Iterable<A> distinctRecent(int capacity, Iterable<A> as) {
+        return DistinctRecent.<A>distinctRecent(capacity).apply(as);
+    }
+
+    private static final class Recent<A> implements Function<A, Boolean> {
+        private final int                       capacity;
+        private final LinkedHashMap<A, Boolean> seen;
+
+        private Recent(int capacity) {
+            this.capacity = capacity;
+            seen = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        @Override
+        public Boolean apply(A a) {
+            if (seen.get(a) != null)
+                return false;
+
+            seen.put(a, true);
+            if (seen.size() > capacity) {
+                Iterator<A> leastRecent = seen.keySet().iterator();
+                leastRecent.next();
+                leastRecent.remove();
+            }
+            return true;
+        }
+    }
+}
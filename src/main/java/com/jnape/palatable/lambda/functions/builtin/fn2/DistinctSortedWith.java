@@ -0,0 +1,67 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.builtin.fn1.Distinct;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+
+/**
+ * Given a {@link Comparator} and an {@link Iterable} <code>as</code> that is already sorted according to it, return
+ * an {@link Iterable} of the distinct elements of <code>as</code>, where elements are considered equal if the
+ * {@link Comparator} deems them equal.
+ * <p>
+ * Since equal elements of sorted input are adjacent, only the previous element needs to be retained, so memory is
+ * constant regardless of how many elements are iterated. If <code>as</code> is not sorted, only adjacent runs of equal
+ * elements are collapsed.
+ *
+ * @param <A> the {@link Iterable} element type
+ * @see Distinct
+ * @see SortWith
+ */
+public final class DistinctSortedWith<A> implements Fn2<Comparator<? super A>, Iterable<A>, Iterable<A>> {
+
+    private static final DistinctSortedWith<?> INSTANCE = new DistinctSortedWith<>();
+
+    private DistinctSortedWith() {
+    }
+
+    @Override
+    public Iterable<A> apply(Comparator<? super A> comparator, Iterable<A> as) {
+        return () -> filter(new Previous<A>(comparator), as).iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> DistinctSortedWith<A> distinctSortedWith() {
+        return (DistinctSortedWith<A>) INSTANCE;
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<A>> distinctSortedWith(Comparator<? super A> comparator) {
+        return DistinctSortedWith.<A>distinctSortedWith().apply(comparator);
+    }
+
+    public static <A> Iterable<A> distinctSortedWith(Comparator<? super A> comparator, Iterable<A> as) {
+        return DistinctSortedWith.<A>distinctSortedWith(comparator).apply(as);
+    }
+
+    private static final class Previous<A> implements Function<A, Boolean> {
+        private final Comparator<? super A> comparator;
+        private       boolean               started;
+        private       A                     previous;
+
+        private Previous(Comparator<? super A> comparator) {
+            this.comparator = comparator;
+        }
+
+        @Override
+        public Boolean apply(A a) {
+            boolean distinct = !started || comparator.compare(previous, a) != 0;
+            started = true;
+            previous = a;
+            return distinct;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.builtin.fn1.Distinct;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+
+/**
+ * Given a window size <code>n</code> and an {@link Iterable} <code>as</code>, return an {@link Iterable} of the
+ * elements of <code>as</code> that are not equal to any of the <code>n</code> elements immediately preceding them.
+ * <p>
+ * Unlike {@link Distinct}, which remembers every element it has ever seen, memory is bounded by the window: at most
+ * <code>n</code> elements are retained at any given time, regardless of how many elements are iterated.
+ *
+ * @param <A> the {@link Iterable} element type
+ * @see Distinct
+ * @see DistinctRecent
+ */
+public final class DistinctWithinLast<A> implements Fn2<Integer, Iterable<A>, Iterable<A>> {
+
+    private static final DistinctWithinLast<?> INSTANCE = new DistinctWithinLast<>();
+
+    private DistinctWithinLast() {
+    }
+
+    @Override
+    public Iterable<A> apply(Integer n, Iterable<A> as) {
+        if (n < 1)
+            throw new IllegalArgumentException("Window size must be greater than 0: " + n);
+
+        return () -> filter(new Window<A>(n), as).iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> DistinctWithinLast<A> distinctWithinLast() {
+        return (DistinctWithinLast<A>) INSTANCE;
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<A>> distinctWithinLast(int n) {
+        return DistinctWithinLast.<A>distinctWithinLast().apply(n);
+    }
+
+    public static <A> Iterable<A> distinctWithinLast(int n, Iterable<A> as) {
+        return DistinctWithinLast.<A>distinctWithinLast(n).apply(as);
+    }
+
+    private static final class Window<A> implements Function<A, Boolean> {
+        private final Object[]        elements;
+        private final Map<A, Integer> occurrences;
+        private       int             next;
+        private       int             size;
+
+        private Window(int n) {
+            elements = new Object[n];
+            occurrences = new HashMap<>();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Boolean apply(A a) {
+            boolean unseen = !occurrences.containsKey(a);
+            if (size == elements.length)
+                occurrences.computeIfPresent((A) elements[next], (evicted, count) -> count == 1 ? null : count - 1);
+            else
+                size++;
+
+            elements[next] = a;
+            next = (next + 1) % elements.length;
+            occurrences.merge(a, 1, Integer::sum);
+            return unseen;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 import com.jnape.palatable.lambda.iteration.GroupingIterator;
 
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunkedIterator;
+
 /**
  * Lazily group the <code>Iterable</code> by returning an <code>Iterable</code> of smaller <code>Iterable</code>s of
  * size <code>k</code>. Note that groups are <em>not</em> padded; that is, if <code>k &gt;= n</code>, where
@@ -21,7 +23,7 @@ public final class InGroupsOf<A> implements Fn2<Integer, Iterable<A>, Iterable<I
 
     @Override
     public Iterable<Iterable<A>> apply(Integer k, Iterable<A> as) {
-        return () -> new GroupingIterator<>(k, as.iterator());
+        return () -> new GroupingIterator<>(k, chunkedIterator(as));
     }
 
     @SuppressWarnings("unchecked")
@@ -3,16 +3,14 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 import com.jnape.palatable.lambda.functions.builtin.fn1.Distinct;
-
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Constantly.constantly;
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Distinct.distinct;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Eq.eq;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Find.find;
+import com.jnape.palatable.lambda.iteration.IntersectingIterable;
 
 /**
  * Given two {@link Iterable Iterables} <code>xs</code> and <code>ys</code>, return the {@link Distinct distinct}
  * elements of <code>xs</code> that are also in <code>ys</code> in order of their unique occurrence in <code>xs</code>.
+ * <p>
+ * <code>ys</code> is only iterated as far as necessary to witness each element of <code>xs</code>, and arbitrarily
+ * nested set operations are evaluated in a single, stack-safe traversal.
  *
  * @param <A> the {@link Iterable} element type
  */
@@ -25,7 +23,7 @@ public final class Intersection<A> implements Fn2<Iterable<A>, Iterable<A>, Iter
 
     @Override
     public Iterable<A> apply(Iterable<A> xs, Iterable<A> ys) {
-        return filter(x -> find(eq(x), ys).fmap(constantly(true)).orElse(false), distinct(xs));
+        return new IntersectingIterable<>(xs, ys);
     }
 
     @SuppressWarnings("unchecked")
@@ -2,17 +2,20 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.iteration.Generator;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 
-import static com.jnape.palatable.lambda.adt.Maybe.just;
-import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Unfoldr.unfoldr;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Generate.generate;
 
 /**
  * Lazily generate an infinite <code>Iterable</code> from the successive applications of the function first to the
  * initial seed value, then to the result, and so on; i.e., the result of <code>iterate(x -&gt; x + 1, 0)</code> would
  * produce an infinite <code>Iterable</code> over the elements <code>0, 1, 2, 3, ... </code> and so on.
+ * <p>
+ * Each successive application is deferred until its element is requested, and no intermediate objects are allocated
+ * per element.
  *
  * @param <A> The Iterable element type
  */
@@ -25,7 +28,7 @@ public final class Iterate<A> implements Fn2<Function<? super A, ? extends A>, A
 
     @Override
     public Iterable<A> apply(Function<? super A, ? extends A> fn, A seed) {
-        return unfoldr(a -> just(tuple(a, fn.apply(a))), seed);
+        return generate(() -> new Iterating<>(fn, seed));
     }
 
     @SuppressWarnings("unchecked")
@@ -40,4 +43,25 @@ public final class Iterate<A> implements Fn2<Function<? super A, ? extends A>, A
     public static <A> Iterable<A> iterate(Function<? super A, ? extends A> fn, A seed) {
         return Iterate.<A>iterate(fn).apply(seed);
     }
+
+    private static final class Iterating<A> implements Generator<A> {
+        private final Function<? super A, ? extends A> fn;
+        private       A                                current;
+        private       boolean                          started;
+
+        private Iterating(Function<? super A, ? extends A> fn, A seed) {
+            this.fn = fn;
+            current = seed;
+        }
+
+        @Override
+        public boolean step(Consumer<? super A> emitter) {
+            if (started)
+                current = fn.apply(current);
+            else
+                started = true;
+            emitter.accept(current);
+            return true;
+        }
+    }
 }
@@ -2,26 +2,22 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.builtin.fn4.FoldMapRunsBy;
+import com.jnape.palatable.lambda.iteration.MagnetizingIterable;
 
-import java.util.Collections;
 import java.util.function.BiFunction;
 
-import static com.jnape.palatable.lambda.adt.Maybe.just;
-import static com.jnape.palatable.lambda.adt.Maybe.nothing;
-import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Size.size;
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Uncons.uncons;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Drop.drop;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Into.into;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Unfoldr.unfoldr;
-
 /**
  * Given a binary predicate and an <code>{@link Iterable}&lt;A&gt;</code>, return an <code>{@link Iterable}&lt;{@link
  * Iterable}&lt;A&gt;&gt;</code> of the contiguous groups of elements that match the predicate pairwise.
  * <p>
  * Example: <code>magnetizeBy((x, y) -&gt; x &lt;= y, asList(1, 2, 3, 2, 2, 3, 2, 1)); // [[1, 2, 3], [2, 2, 3], [2],
  * [1]]</code>
+ * <p>
+ * The source is traversed exactly once per iteration, so single-use {@link Iterable Iterables} are supported. Each
+ * group draws its elements from the source as it is iterated and retains them, so advancing to the next group drains
+ * whatever remains of the current one. To aggregate runs without retaining their elements, see {@link
+ * FoldMapRunsBy}.
  *
  * @param <A> the {@link Iterable} element type
  */
@@ -34,13 +30,7 @@ public final class MagnetizeBy<A> implements Fn2<BiFunction<? super A, ? super A
 
     @Override
     public Iterable<Iterable<A>> apply(BiFunction<? super A, ? super A, ? extends Boolean> predicate, Iterable<A> as) {
-        return () -> uncons(as).fmap(into((A head, Iterable<A> tail) -> {
-            Iterable<A> group = cons(head, unfoldr(into((pivot, ys) -> uncons(ys)
-                    .flatMap(into((y, recurse) -> predicate.apply(pivot, y)
-                                                  ? just(tuple(y, tuple(y, recurse)))
-                                                  : nothing()))), tuple(head, tail)));
-            return cons(group, () -> apply(predicate, drop(size(group).intValue(), as)).iterator());
-        })).orElseGet(() -> Collections::emptyIterator).iterator();
+        return new MagnetizingIterable<>(predicate, as);
     }
 
     @SuppressWarnings("unchecked")
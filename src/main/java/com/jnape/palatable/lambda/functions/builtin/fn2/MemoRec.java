@@ -0,0 +1,88 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.builtin.fn3.DenseMemoRec;
+import com.jnape.palatable.lambda.functor.builtin.Lazy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functor.builtin.Lazy.lazy;
+import static com.jnape.palatable.lambda.monad.Monad.join;
+
+/**
+ * Like {@link LazyRec}, but ties the recursive knot through a memo table, so that each distinct input is solved at most
+ * once per evaluation. This makes naturally recursive dynamic programming definitions (edit distance, knapsack, tree
+ * DP, etc.) run in time proportional to the number of distinct subproblems rather than the number of recursive calls.
+ * <p>
+ * Memo lookups happen when a recursive result is forced, not when it is requested, so results requested eagerly but
+ * forced after a shared subproblem has been solved still hit the table. Evaluation proceeds in the same trampolined
+ * loop as {@link Lazy}, so arbitrarily deep dependency chains never grow the Java stack. Each forcing of the returned
+ * {@link Lazy} uses a fresh {@link HashMap}, so inputs must have well-behaved <code>equals</code> and
+ * <code>hashCode</code>; for problems indexed by a dense range of <code>int</code>s, prefer {@link DenseMemoRec}.
+ * <p>
+ * Example:
+ * <pre>
+ * <code>
+ * Lazy&lt;BigInteger&gt; fib = memoRec((f, n) -&gt; n &lt; 2
+ *                                         ? lazy(BigInteger.valueOf(n))
+ *                                         : f.apply(n - 1).flatMap(x -&gt; f.apply(n - 2).fmap(x::add)),
+ *                                  100_000);
+ * </code>
+ * </pre>
+ *
+ * @param <A> the input type
+ * @param <B> the output type
+ * @see DenseMemoRec
+ */
+public final class MemoRec<A, B> implements
+        Fn2<BiFunction<Function<? super A, ? extends Lazy<B>>, A, Lazy<B>>, A, Lazy<B>> {
+
+    private static final MemoRec<?, ?> INSTANCE = new MemoRec<>();
+
+    private MemoRec() {
+    }
+
+    @Override
+    public Lazy<B> apply(BiFunction<Function<? super A, ? extends Lazy<B>>, A, Lazy<B>> fn, A a) {
+        return join(lazy(() -> new Memoized<>(fn, new HashMap<>()).apply(a)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B> MemoRec<A, B> memoRec() {
+        return (MemoRec<A, B>) INSTANCE;
+    }
+
+    public static <A, B> Fn1<A, Lazy<B>> memoRec(BiFunction<Function<? super A, ? extends Lazy<B>>, A, Lazy<B>> fn) {
+        return MemoRec.<A, B>memoRec().apply(fn);
+    }
+
+    public static <A, B> Lazy<B> memoRec(BiFunction<Function<? super A, ? extends Lazy<B>>, A, Lazy<B>> fn, A a) {
+        return memoRec(fn).apply(a);
+    }
+
+    private static final class Memoized<A, B> implements Function<A, Lazy<B>> {
+        private final BiFunction<Function<? super A, ? extends Lazy<B>>, A, Lazy<B>> fn;
+        private final Map<A, B>                                                     table;
+
+        private Memoized(BiFunction<Function<? super A, ? extends Lazy<B>>, A, Lazy<B>> fn, Map<A, B> table) {
+            this.fn = fn;
+            this.table = table;
+        }
+
+        @Override
+        public Lazy<B> apply(A a) {
+            return join(lazy(() -> {
+                if (table.containsKey(a))
+                    return lazy(table.get(a));
+                return fn.apply(this, a).fmap(b -> {
+                    table.put(a, b);
+                    return b;
+                });
+            }));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.builtin.fn1.MergeSorted;
+import com.jnape.palatable.lambda.iteration.MergingIterable;
+
+import java.util.Comparator;
+
+/**
+ * Given a {@link Comparator} and a finite {@link Iterable} of {@link Iterable Iterables} that are each sorted
+ * according to it, lazily merge them into a single sorted {@link Iterable}. Elements that compare equal are iterated
+ * in the order of the {@link Iterable Iterables} they came from.
+ * <p>
+ * Only the next element of each {@link Iterable} is held at any given time, so merging <code>n</code> elements from
+ * <code>k</code> {@link Iterable Iterables} takes <code>O(n log k)</code> time and <code>O(k)</code> memory, and the
+ * merged {@link Iterable Iterables} may be infinite.
+ *
+ * @param <A> the {@link Iterable} element type
+ * @see MergeSorted
+ * @see SortWith
+ */
+public final class MergeSortedWith<A> implements
+        Fn2<Comparator<? super A>, Iterable<? extends Iterable<A>>, Iterable<A>> {
+
+    private static final MergeSortedWith<?> INSTANCE = new MergeSortedWith<>();
+
+    private MergeSortedWith() {
+    }
+
+    @Override
+    public Iterable<A> apply(Comparator<? super A> comparator, Iterable<? extends Iterable<A>> ass) {
+        return new MergingIterable<>(comparator, ass);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> MergeSortedWith<A> mergeSortedWith() {
+        return (MergeSortedWith<A>) INSTANCE;
+    }
+
+    public static <A> Fn1<Iterable<? extends Iterable<A>>, Iterable<A>> mergeSortedWith(
+            Comparator<? super A> comparator) {
+        return MergeSortedWith.<A>mergeSortedWith().apply(comparator);
+    }
+
+    public static <A> Iterable<A> mergeSortedWith(Comparator<? super A> comparator,
+                                                  Iterable<? extends Iterable<A>> ass) {
+        return MergeSortedWith.<A>mergeSortedWith(comparator).apply(ass);
+    }
+}
@@ -0,0 +1,153 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.builtin.fn3.ScanLeft;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Given a {@link Monoid} and a {@link List} <code>as</code>, return an array-backed {@link List} of the same elements
+ * as <code>{@link ScanLeft#scanLeft(java.util.function.BiFunction, Object, Iterable) scanLeft}(monoid,
+ * monoid.identity(), as)</code>, computed in parallel on the common {@link ForkJoinPool}.
+ * <p>
+ * The scan is work-efficient: an up-sweep reduces contiguous ranges of <code>as</code> in parallel, building a tree
+ * of range aggregates, and a down-sweep then scans each range in parallel, starting from the aggregate of every range
+ * before it. This relies on the associativity of the {@link Monoid}, but not on its commutativity. Lists that are not
+ * {@link RandomAccess} are first copied into an array, and lists too small to benefit from parallelism are scanned
+ * sequentially.
+ * <p>
+ * Example: <code>parallelScan(monoid(Integer::sum, 0), asList(1, 2, 3, 4)); // [0, 1, 3, 6, 10]</code>
+ *
+ * @param <A> the {@link List} element type
+ * @see ScanLeft
+ */
+public final class ParallelScan<A> implements Fn2<Monoid<A>, List<A>, List<A>> {
+
+    static final int PARALLEL_SCAN_THRESHOLD = 1 << 14;
+
+    private static final ParallelScan<?> INSTANCE = new ParallelScan<>();
+
+    private ParallelScan() {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<A> apply(Monoid<A> monoid, List<A> as) {
+        List<A> elements = as instanceof RandomAccess ? as : (List<A>) Arrays.asList(as.toArray());
+        int size = elements.size();
+        Object[] scanned = new Object[size + 1];
+        scanned[0] = monoid.identity();
+
+        if (size < PARALLEL_SCAN_THRESHOLD) {
+            scanRange(monoid, elements, scanned, 0, size, monoid.identity());
+        } else {
+            ForkJoinPool pool = ForkJoinPool.commonPool();
+            int leafSize = Math.max(PARALLEL_SCAN_THRESHOLD >> 1, size / (pool.getParallelism() * 8));
+            Range<A> root = new Range<>(monoid, elements, 0, size, leafSize);
+            pool.invoke(new UpSweep<>(root));
+            pool.invoke(new DownSweep<>(root, scanned, monoid.identity()));
+        }
+        return (List<A>) Arrays.asList(scanned);
+    }
+
+    private static <A> void scanRange(Monoid<A> monoid, List<A> elements, Object[] scanned, int from, int to,
+                                      A offset) {
+        A acc = offset;
+        for (int i = from; i < to; i++) {
+            acc = monoid.apply(acc, elements.get(i));
+            scanned[i + 1] = acc;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> ParallelScan<A> parallelScan() {
+        return (ParallelScan<A>) INSTANCE;
+    }
+
+    public static <A> Fn1<List<A>, List<A>> parallelScan(Monoid<A> monoid) {
+        return ParallelScan.<A>parallelScan().apply(monoid);
+    }
+
+    public static <A> List<A> parallelScan(Monoid<A> monoid, List<A> as) {
+        return ParallelScan.<A>parallelScan(monoid).apply(as);
+    }
+
+    private static final class Range<A> {
+        private final Monoid<A> monoid;
+        private final List<A>   elements;
+        private final int       from;
+        private final int       to;
+        private final Range<A>  left;
+        private final Range<A>  right;
+        private       A         aggregate;
+
+        private Range(Monoid<A> monoid, List<A> elements, int from, int to, int leafSize) {
+            this.monoid = monoid;
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            if (to - from > leafSize) {
+                int mid = (from + to) >>> 1;
+                left = new Range<>(monoid, elements, from, mid, leafSize);
+                right = new Range<>(monoid, elements, mid, to, leafSize);
+            } else {
+                left = null;
+                right = null;
+            }
+        }
+    }
+
+    private static final class UpSweep<A> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Range<A> range;
+
+        private UpSweep(Range<A> range) {
+            this.range = range;
+        }
+
+        @Override
+        protected void compute() {
+            Monoid<A> monoid = range.monoid;
+            if (range.left == null) {
+                A acc = monoid.identity();
+                for (int i = range.from; i < range.to; i++)
+                    acc = monoid.apply(acc, range.elements.get(i));
+                range.aggregate = acc;
+            } else {
+                invokeAll(new UpSweep<>(range.left), new UpSweep<>(range.right));
+                range.aggregate = monoid.apply(range.left.aggregate, range.right.aggregate);
+            }
+        }
+    }
+
+    private static final class DownSweep<A> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Range<A> range;
+        private final transient Object[] scanned;
+        private final transient A        offset;
+
+        private DownSweep(Range<A> range, Object[] scanned, A offset) {
+            this.range = range;
+            this.scanned = scanned;
+            this.offset = offset;
+        }
+
+        @Override
+        protected void compute() {
+            if (range.left == null) {
+                scanRange(range.monoid, range.elements, scanned, range.from, range.to, offset);
+            } else {
+                invokeAll(new DownSweep<>(range.left, scanned, offset),
+                          new DownSweep<>(range.right, scanned, range.monoid.apply(offset, range.left.aggregate)));
+            }
+        }
+    }
+}
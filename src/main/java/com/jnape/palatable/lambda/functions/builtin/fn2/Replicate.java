@@ -2,9 +2,11 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.iteration.Generator;
 
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import java.util.function.Consumer;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Generate.generate;
 
 /**
  * Produce an {@link Iterable} of a value <code>n</code> times.
@@ -20,7 +22,7 @@ public final class Replicate<A> implements Fn2<Integer, A, Iterable<A>> {
 
     @Override
     public Iterable<A> apply(Integer n, A a) {
-        return take(n, repeat(a));
+        return generate(() -> new Replicating<>(n, a));
     }
 
     @SuppressWarnings("unchecked")
@@ -35,4 +37,22 @@ public final class Replicate<A> implements Fn2<Integer, A, Iterable<A>> {
     public static <A> Iterable<A> replicate(Integer n, A a) {
         return Replicate.<A>replicate(n).apply(a);
     }
+
+    private static final class Replicating<A> implements Generator<A> {
+        private final A   a;
+        private       int remaining;
+
+        private Replicating(int n, A a) {
+            this.a = a;
+            remaining = n;
+        }
+
+        @Override
+        public boolean step(Consumer<? super A> emitter) {
+            if (remaining <= 0)
+                return false;
+            emitter.accept(a);
+            return --remaining > 0;
+        }
+    }
 }
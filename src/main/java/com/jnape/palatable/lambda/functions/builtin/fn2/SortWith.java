@@ -3,10 +3,13 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 import com.jnape.palatable.lambda.functions.builtin.fn1.Sort;
+import com.jnape.palatable.lambda.functions.builtin.fn4.ExternalSortWith;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 
@@ -14,14 +17,20 @@ import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCo
  * Given an {@link Iterable} and a {@link java.util.Comparator} over the {@link Iterable} element type, produce a
  * sorted {@link List} of the original elements based on sorting applied by the {@link java.util.Comparator}. Note that
  * this is both eager and monolithic.
+ * <p>
+ * Large inputs are sorted in parallel via {@link Arrays#parallelSort(Object[], Comparator)}, so the
+ * {@link java.util.Comparator} should be safe to invoke concurrently. For inputs that do not fit in memory, see
+ * {@link ExternalSortWith}.
  *
  * @param <A> the input Iterable and output List element type
  * @see Sort
  * @see SortBy
+ * @see ExternalSortWith
  */
 public final class SortWith<A> implements Fn2<Comparator<? super A>, Iterable<A>, List<A>> {
 
-    private static final SortWith<?> INSTANCE = new SortWith<>();
+    private static final SortWith<?> INSTANCE                = new SortWith<>();
+    private static final int         PARALLEL_SORT_THRESHOLD = 1 << 13;
 
     private SortWith() {
     }
@@ -29,7 +38,19 @@ public final class SortWith<A> implements Fn2<Comparator<? super A>, Iterable<A>
     @Override
     public List<A> apply(Comparator<? super A> comparator, Iterable<A> as) {
         List<A> result = toCollection(ArrayList::new, as);
-        result.sort(comparator);
+        if (result.size() < PARALLEL_SORT_THRESHOLD) {
+            result.sort(comparator);
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        A[] elements = (A[]) result.toArray();
+        Arrays.parallelSort(elements, comparator);
+        ListIterator<A> iterator = result.listIterator();
+        for (A element : elements) {
+            iterator.next();
+            iterator.set(element);
+        }
         return result;
     }
 
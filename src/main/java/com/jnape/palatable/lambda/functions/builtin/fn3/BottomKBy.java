@@ -0,0 +1,56 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn3.BottomKWith.bottomKWith;
+import static java.util.Comparator.comparing;
+
+/**
+ * Given a number <code>k</code>, some mapping function from the {@link Iterable} element type to some
+ * {@link Comparable} type, and an {@link Iterable} <code>as</code>, produce a {@link List} of the <code>k</code>
+ * elements of <code>as</code> with the least mapped values, from least to greatest, in <code>O(n log k)</code> time and
+ * <code>O(k)</code> memory. Note that this is both eager and monolithic.
+ *
+ * @param <A> the input Iterable and output List element type
+ * @param <B> the mapped Comparable type
+ * @see BottomKWith
+ * @see TopKBy
+ */
+public final class BottomKBy<A, B extends Comparable<B>> implements
+        Fn3<Integer, Function<? super A, ? extends B>, Iterable<A>, List<A>> {
+
+    private static final BottomKBy<?, ?> INSTANCE = new BottomKBy<>();
+
+    private BottomKBy() {
+    }
+
+    @Override
+    public List<A> apply(Integer k, Function<? super A, ? extends B> fn, Iterable<A> as) {
+        return bottomKWith(k, comparing(fn), as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B extends Comparable<B>> BottomKBy<A, B> bottomKBy() {
+        return (BottomKBy<A, B>) INSTANCE;
+    }
+
+    public static <A, B extends Comparable<B>> Fn2<Function<? super A, ? extends B>, Iterable<A>, List<A>> bottomKBy(
+            int k) {
+        return BottomKBy.<A, B>bottomKBy().apply(k);
+    }
+
+    public static <A, B extends Comparable<B>> Fn1<Iterable<A>, List<A>> bottomKBy(int k,
+                                                                                 Function<? super A, ? extends B> fn) {
+        return BottomKBy.<A, B>bottomKBy(k).apply(fn);
+    }
+
+    public static <A, B extends Comparable<B>> List<A> bottomKBy(int k, Function<? super A, ? extends B> fn,
+                                                                Iterable<A> as) {
+        return BottomKBy.<A, B>bottomKBy(k, fn).apply(as);
+    }
+}
@@ -0,0 +1,55 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.monoid.builtin.BottomK;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn3.TopKWith.topKWith;
+
+/**
+ * Given a number <code>k</code>, a {@link Comparator} over the {@link Iterable} element type, and an {@link Iterable}
+ * <code>as</code>, produce a {@link List} of the <code>k</code> least elements of <code>as</code> according to the
+ * {@link Comparator}, from least to greatest. Of elements that compare equal, those that occur earlier in
+ * <code>as</code> are preferred and ordered first.
+ * <p>
+ * Like {@link TopKWith}, this runs in <code>O(n log k)</code> time and <code>O(k)</code> memory. Note that this is
+ * both eager and monolithic.
+ *
+ * @param <A> the input Iterable and output List element type
+ * @see BottomKBy
+ * @see TopKWith
+ * @see BottomK
+ */
+public final class BottomKWith<A> implements Fn3<Integer, Comparator<? super A>, Iterable<A>, List<A>> {
+
+    private static final BottomKWith<?> INSTANCE = new BottomKWith<>();
+
+    private BottomKWith() {
+    }
+
+    @Override
+    public List<A> apply(Integer k, Comparator<? super A> comparator, Iterable<A> as) {
+        return topKWith(k, comparator.reversed(), as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> BottomKWith<A> bottomKWith() {
+        return (BottomKWith<A>) INSTANCE;
+    }
+
+    public static <A> Fn2<Comparator<? super A>, Iterable<A>, List<A>> bottomKWith(int k) {
+        return BottomKWith.<A>bottomKWith().apply(k);
+    }
+
+    public static <A> Fn1<Iterable<A>, List<A>> bottomKWith(int k, Comparator<? super A> comparator) {
+        return BottomKWith.<A>bottomKWith(k).apply(comparator);
+    }
+
+    public static <A> List<A> bottomKWith(int k, Comparator<? super A> comparator, Iterable<A> as) {
+        return BottomKWith.<A>bottomKWith(k, comparator).apply(as);
+    }
+}
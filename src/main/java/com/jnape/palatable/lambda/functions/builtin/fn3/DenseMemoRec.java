@@ -0,0 +1,91 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.builtin.fn2.MemoRec;
+import com.jnape.palatable.lambda.functor.builtin.Lazy;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functor.builtin.Lazy.lazy;
+import static com.jnape.palatable.lambda.monad.Monad.join;
+
+/**
+ * A {@link MemoRec} specialized to problems whose subproblems are indexed by <code>int</code>s in
+ * <code>[0, size)</code>, memoizing into a dense array instead of a hash table. Multidimensional problems can be
+ * encoded by flattening their indices, e.g. <code>i * width + j</code>.
+ * <p>
+ * As with {@link MemoRec}, each distinct index is solved at most once per evaluation, and dependencies are evaluated
+ * in a stack-safe trampolined loop. Requesting an index outside of <code>[0, size)</code> results in an
+ * {@link ArrayIndexOutOfBoundsException} when forced.
+ *
+ * @param <B> the output type
+ * @see MemoRec
+ */
+public final class DenseMemoRec<B> implements
+        Fn3<Integer, BiFunction<Function<? super Integer, ? extends Lazy<B>>, Integer, Lazy<B>>, Integer, Lazy<B>> {
+
+    private static final DenseMemoRec<?> INSTANCE = new DenseMemoRec<>();
+
+    private DenseMemoRec() {
+    }
+
+    @Override
+    public Lazy<B> apply(Integer size, BiFunction<Function<? super Integer, ? extends Lazy<B>>, Integer, Lazy<B>> fn,
+                         Integer index) {
+        if (size < 1)
+            throw new IllegalArgumentException("size must be greater than 0: " + size);
+        return join(lazy(() -> new Memoized<>(fn, new Object[size]).apply(index)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <B> DenseMemoRec<B> denseMemoRec() {
+        return (DenseMemoRec<B>) INSTANCE;
+    }
+
+    public static <B> Fn2<BiFunction<Function<? super Integer, ? extends Lazy<B>>, Integer, Lazy<B>>, Integer, Lazy<B>>
+    denseMemoRec(int size) {
+        return DenseMemoRec.<B>denseMemoRec().apply(size);
+    }
+
+    public static <B> Fn1<Integer, Lazy<B>> denseMemoRec(
+            int size, BiFunction<Function<? super Integer, ? extends Lazy<B>>, Integer, Lazy<B>> fn) {
+        return DenseMemoRec.<B>denseMemoRec(size).apply(fn);
+    }
+
+    public static <B> Lazy<B> denseMemoRec(
+            int size, BiFunction<Function<? super Integer, ? extends Lazy<B>>, Integer, Lazy<B>> fn, int index) {
+        return denseMemoRec(size, fn).apply(index);
+    }
+
+    private static final class Memoized<B> implements Function<Integer, Lazy<B>> {
+        private final BiFunction<Function<? super Integer, ? extends Lazy<B>>, Integer, Lazy<B>> fn;
+        private final Object[]                                                                 table;
+
+        private Memoized(BiFunction<Function<? super Integer, ? extends Lazy<B>>, Integer, Lazy<B>> fn,
+                         Object[] table) {
+            this.fn = fn;
+            this.table = table;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Lazy<B> apply(Integer index) {
+            return join(lazy(() -> {
+                Object solved = table[index];
+                if (solved != null)
+                    return lazy(solved == NullResult.INSTANCE ? null : (B) solved);
+                return fn.apply(this, index).fmap(b -> {
+                    table[index] = b == null ? NullResult.INSTANCE : b;
+                    return b;
+                });
+            }));
+        }
+    }
+
+    private enum NullResult {
+        INSTANCE
+    }
+}
@@ -0,0 +1,104 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.builtin.fn1.Distinct;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+
+/**
+ * Given the number of distinct elements expected, a desired false-positive probability, and an {@link Iterable}
+ * <code>as</code>, return an {@link Iterable} of the approximately distinct elements of <code>as</code>, as witnessed
+ * by a <a href="https://en.wikipedia.org/wiki/Bloom_filter" target="_top">Bloom filter</a>.
+ * <p>
+ * Every element is iterated at most once, but an element seen for the first time is mistakenly skipped with roughly
+ * the given probability once the expected number of distinct elements has been seen; past that point, the probability
+ * of a mistake increases. As elements are only witnessed via their {@link Object#hashCode() hash codes}, elements with
+ * colliding hash codes are always considered equal.
+ * <p>
+ * Unlike {@link Distinct}, which remembers every element it has ever seen, memory is constant: the filter occupies
+ * <code>ceil(-expected * ln(p) / ln(2)^2)</code> bits, regardless of how many elements are iterated.
+ *
+ * @param <A> the {@link Iterable} element type
+ * @see Distinct
+ */
+public final class DistinctApproximately<A> implements Fn3<Long, Double, Iterable<A>, Iterable<A>> {
+
+    private static final DistinctApproximately<?> INSTANCE = new DistinctApproximately<>();
+
+    private DistinctApproximately() {
+    }
+
+    @Override
+    public Iterable<A> apply(Long expected, Double falsePositiveProbability, Iterable<A> as) {
+        if (expected < 1)
+            throw new IllegalArgumentException("Expected elements must be greater than 0: " + expected);
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1))
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1 (exclusive): "
+                                                       + falsePositiveProbability);
+
+        long bits = (long) Math.ceil(-expected * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int hashes = (int) Math.max(1, Math.round((double) bits / expected * Math.log(2)));
+        return () -> filter(new BloomFilter<A>(bits, hashes), as).iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> DistinctApproximately<A> distinctApproximately() {
+        return (DistinctApproximately<A>) INSTANCE;
+    }
+
+    public static <A> Fn2<Double, Iterable<A>, Iterable<A>> distinctApproximately(long expected) {
+        return DistinctApproximately.<A>distinctApproximately().apply(expected);
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<A>> distinctApproximately(long expected,
+                                                                          double falsePositiveProbability) {
+        return DistinctApproximately.<A>distinctApproximately(expected).apply(falsePositiveProbability);
+    }
+
+    public static <A> Iterable<A> distinctApproximately(long expected, double falsePositiveProbability,
+                                                        Iterable<A> as) {
+        return DistinctApproximately.<A>distinctApproximately(expected, falsePositiveProbability).apply(as);
+    }
+
+    private static final class BloomFilter<A> implements Function<A, Boolean> {
+        private final long[] words;
+        private final long   bits;
+        private final int    hashes;
+
+        private BloomFilter(long bits, int hashes) {
+            words = new long[Math.toIntExact((bits + 63) / 64)];
+            this.bits = bits;
+            this.hashes = hashes;
+        }
+
+        @Override
+        public Boolean apply(A a) {
+            long hash = mix(Objects.hashCode(a));
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            boolean unseen = false;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bits);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((words[word] & mask) == 0) {
+                    words[word] |= mask;
+                    unseen = true;
+                }
+            }
+            return unseen;
+        }
+
+        private static long mix(int hashCode) {
+            long z = hashCode + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
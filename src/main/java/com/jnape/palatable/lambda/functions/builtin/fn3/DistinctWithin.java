@@ -0,0 +1,101 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.builtin.fn1.Distinct;
+import com.jnape.palatable.lambda.functions.builtin.fn2.DistinctWithinLast;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+
+/**
+ * Given a {@link Duration} <code>window</code>, a function from an element to its {@link Instant timestamp}, and an
+ * {@link Iterable} <code>as</code> whose timestamps never decrease, return an {@link Iterable} of the elements of
+ * <code>as</code> that are not equal to any element timestamped less than <code>window</code> before them.
+ * <p>
+ * Unlike {@link Distinct}, which remembers every element it has ever seen, memory is bounded by the window: only the
+ * elements timestamped within the last <code>window</code> are retained at any given time. Elements with timestamps
+ * that precede an already-seen timestamp are treated as if they occurred at the latest timestamp seen so far.
+ *
+ * @param <A> the {@link Iterable} element type
+ * @see Distinct
+ * @see DistinctWithinLast
+ */
+public final class DistinctWithin<A> implements
+        Fn3<Duration, Function<? super A, ? extends Instant>, Iterable<A>, Iterable<A>> {
+
+    private static final DistinctWithin<?> INSTANCE = new DistinctWithin<>();
+
+    private DistinctWithin() {
+    }
+
+    @Override
+    public Iterable<A> apply(Duration window, Function<? super A, ? extends Instant> timestampFn, Iterable<A> as) {
+        if (window.isNegative() || window.isZero())
+            throw new IllegalArgumentException("Window must be positive: " + window);
+
+        return () -> filter(new Window<A>(window, timestampFn), as).iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> DistinctWithin<A> distinctWithin() {
+        return (DistinctWithin<A>) INSTANCE;
+    }
+
+    public static <A> Fn2<Function<? super A, ? extends Instant>, Iterable<A>, Iterable<A>> distinctWithin(
+            Duration window) {
+        return DistinctWithin.<A>distinctWithin().apply(window);
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<A>> distinctWithin(Duration window,
+                                                                   Function<? super A, ? extends Instant> timestampFn) {
+        return DistinctWithin.<A>distinctWithin(window).apply(timestampFn);
+    }
+
+    public static <A> Iterable<A> distinctWithin(Duration window, Function<? super A, ? extends Instant> timestampFn,
+                                                 Iterable<A> as) {
+        return DistinctWithin.<A>distinctWithin(window, timestampFn).apply(as);
+    }
+
+    private static final class Window<A> implements Function<A, Boolean> {
+        private final Duration                               window;
+        private final Function<? super A, ? extends Instant> timestampFn;
+        private final ArrayDeque<Tuple2<Instant, A>>         occurrences;
+        private final Map<A, Instant>                        latest;
+        private       Instant                                now;
+
+        private Window(Duration window, Function<? super A, ? extends Instant> timestampFn) {
+            this.window = window;
+            this.timestampFn = timestampFn;
+            occurrences = new ArrayDeque<>();
+            latest = new HashMap<>();
+        }
+
+        @Override
+        public Boolean apply(A a) {
+            Instant timestamp = timestampFn.apply(a);
+            if (now == null || timestamp.isAfter(now))
+                now = timestamp;
+
+            Instant horizon = now.minus(window);
+            while (!occurrences.isEmpty() && !occurrences.peekFirst()._1().isAfter(horizon)) {
+                Tuple2<Instant, A> expired = occurrences.pollFirst();
+                latest.remove(expired._2(), expired._1());
+            }
+
+            boolean unseen = !latest.containsKey(a);
+            latest.put(a, now);
+            occurrences.addLast(tuple(now, a));
+            return unseen;
+        }
+    }
+}
@@ -3,9 +3,15 @@ package com.jnape.palatable.lambda.functions.builtin.fn3;
 import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.functions.Fn2;
 import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.iteration.ChunkedIterator;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.BiFunction;
 
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.DEFAULT_CHUNK_SIZE;
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunkedIterator;
+
 /**
  * Given an <code>Iterable</code> of <code>A</code>s, a starting value <code>B</code>, and a <code>{@link
  * BiFunction}&lt;B, A, B&gt;</code>, iteratively accumulate over the <code>Iterable</code>, ultimately returning a
@@ -13,6 +19,12 @@ import java.util.function.BiFunction;
  * Note that, as the name implies, this function accumulates from left to right, such that <code>foldLeft(f, 0,
  * asList(1, 2, 3, 4, 5))</code> is evaluated as <code>f(f(f(f(f(0, 1), 2), 3), 4), 5)</code>.
  * <p>
+ * If the <code>Iterable</code> can be iterated a chunk at a time without running any user-supplied functions, as
+ * <code>ArrayList</code>s and the builtin <code>take</code> and <code>drop</code> over them can (see
+ * {@link ChunkedIterator#chunksArePure()}), it is consumed a chunk at a time; otherwise, it is consumed element by
+ * element, so side effects of functions mapped or filtered over it interleave with those of the folding function
+ * exactly as they would in a loop.
+ * <p>
  * For more information, read about <a href="https://en.wikipedia.org/wiki/Catamorphism"
  * target="_top">Catamorphisms</a>.
  *
@@ -30,8 +42,17 @@ public final class FoldLeft<A, B> implements Fn3<BiFunction<? super B, ? super A
     @Override
     public B apply(BiFunction<? super B, ? super A, ? extends B> fn, B acc, Iterable<A> as) {
         B accumulation = acc;
-        for (A a : as)
-            accumulation = fn.apply(accumulation, a);
+        Iterator<A> iterator = chunkedIterator(as);
+        if (iterator instanceof ChunkedIterator<?> && ((ChunkedIterator<A>) iterator).chunksArePure()) {
+            ChunkedIterator<A> chunks = (ChunkedIterator<A>) iterator;
+            List<A> chunk;
+            while (!(chunk = chunks.nextChunk(DEFAULT_CHUNK_SIZE)).isEmpty())
+                for (int i = 0, size = chunk.size(); i < size; i++)
+                    accumulation = fn.apply(accumulation, chunk.get(i));
+        } else {
+            while (iterator.hasNext())
+                accumulation = fn.apply(accumulation, iterator.next());
+        }
         return accumulation;
     }
 
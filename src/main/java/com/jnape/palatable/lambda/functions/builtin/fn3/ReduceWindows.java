@@ -0,0 +1,51 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.builtin.fn4.FoldMapWindows;
+import com.jnape.palatable.lambda.iteration.Window;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
+import static com.jnape.palatable.lambda.functions.builtin.fn4.FoldMapWindows.foldMapWindows;
+
+/**
+ * Given a {@link Window} specification, a {@link Monoid}, and an {@link Iterable} <code>as</code>, return an {@link
+ * Iterable} of the {@link Monoid} reduction of each window of <code>as</code>, maintained incrementally.
+ * <p>
+ * Example: <code>reduceWindows(Window.tumbling(2), monoid(Integer::sum, 0), asList(1, 2, 3, 4, 5)); // [3, 7,
+ * 5]</code>
+ *
+ * @param <A> the {@link Iterable} element type
+ * @see FoldMapWindows
+ */
+public final class ReduceWindows<A> implements Fn3<Window<A>, Monoid<A>, Iterable<A>, Iterable<A>> {
+
+    private static final ReduceWindows<?> INSTANCE = new ReduceWindows<>();
+
+    private ReduceWindows() {
+    }
+
+    @Override
+    public Iterable<A> apply(Window<A> window, Monoid<A> monoid, Iterable<A> as) {
+        return foldMapWindows(window, monoid, id(), as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> ReduceWindows<A> reduceWindows() {
+        return (ReduceWindows<A>) INSTANCE;
+    }
+
+    public static <A> Fn2<Monoid<A>, Iterable<A>, Iterable<A>> reduceWindows(Window<A> window) {
+        return ReduceWindows.<A>reduceWindows().apply(window);
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<A>> reduceWindows(Window<A> window, Monoid<A> monoid) {
+        return ReduceWindows.<A>reduceWindows(window).apply(monoid);
+    }
+
+    public static <A> Iterable<A> reduceWindows(Window<A> window, Monoid<A> monoid, Iterable<A> as) {
+        return ReduceWindows.<A>reduceWindows(window, monoid).apply(as);
+    }
+}
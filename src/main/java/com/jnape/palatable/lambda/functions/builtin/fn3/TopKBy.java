@@ -0,0 +1,56 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn3.TopKWith.topKWith;
+import static java.util.Comparator.comparing;
+
+/**
+ * Given a number <code>k</code>, some mapping function from the {@link Iterable} element type to some
+ * {@link Comparable} type, and an {@link Iterable} <code>as</code>, produce a {@link List} of the <code>k</code>
+ * elements of <code>as</code> with the greatest mapped values, from greatest to least, in <code>O(n log k)</code> time
+ * and <code>O(k)</code> memory. Note that this is both eager and monolithic.
+ *
+ * @param <A> the input Iterable and output List element type
+ * @param <B> the mapped Comparable type
+ * @see TopKWith
+ * @see BottomKBy
+ */
+public final class TopKBy<A, B extends Comparable<B>> implements
+        Fn3<Integer, Function<? super A, ? extends B>, Iterable<A>, List<A>> {
+
+    private static final TopKBy<?, ?> INSTANCE = new TopKBy<>();
+
+    private TopKBy() {
+    }
+
+    @Override
+    public List<A> apply(Integer k, Function<? super A, ? extends B> fn, Iterable<A> as) {
+        return topKWith(k, comparing(fn), as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B extends Comparable<B>> TopKBy<A, B> topKBy() {
+        return (TopKBy<A, B>) INSTANCE;
+    }
+
+    public static <A, B extends Comparable<B>> Fn2<Function<? super A, ? extends B>, Iterable<A>, List<A>> topKBy(
+            int k) {
+        return TopKBy.<A, B>topKBy().apply(k);
+    }
+
+    public static <A, B extends Comparable<B>> Fn1<Iterable<A>, List<A>> topKBy(int k,
+                                                                              Function<? super A, ? extends B> fn) {
+        return TopKBy.<A, B>topKBy(k).apply(fn);
+    }
+
+    public static <A, B extends Comparable<B>> List<A> topKBy(int k, Function<? super A, ? extends B> fn,
+                                                             Iterable<A> as) {
+        return TopKBy.<A, B>topKBy(k, fn).apply(as);
+    }
+}
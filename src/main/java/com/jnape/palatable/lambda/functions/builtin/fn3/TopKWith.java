@@ -0,0 +1,96 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.builtin.fn2.SortWith;
+import com.jnape.palatable.lambda.monoid.builtin.TopK;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Given a number <code>k</code>, a {@link Comparator} over the {@link Iterable} element type, and an {@link Iterable}
+ * <code>as</code>, produce a {@link List} of the <code>k</code> greatest elements of <code>as</code> according to the
+ * {@link Comparator}, from greatest to least. Of elements that compare equal, those that occur earlier in
+ * <code>as</code> are preferred and ordered first.
+ * <p>
+ * Rather than sorting all of <code>as</code>, a heap of at most <code>k</code> elements is maintained, so this runs in
+ * <code>O(n log k)</code> time and <code>O(k)</code> memory. Note that this is both eager and monolithic.
+ *
+ * @param <A> the input Iterable and output List element type
+ * @see TopKBy
+ * @see BottomKWith
+ * @see TopK
+ * @see SortWith
+ */
+public final class TopKWith<A> implements Fn3<Integer, Comparator<? super A>, Iterable<A>, List<A>> {
+
+    private static final TopKWith<?> INSTANCE = new TopKWith<>();
+
+    private TopKWith() {
+    }
+
+    @Override
+    public List<A> apply(Integer k, Comparator<? super A> comparator, Iterable<A> as) {
+        if (k < 0)
+            throw new IllegalArgumentException("k must not be negative: " + k);
+
+        List<A> topK = new ArrayList<>(Math.min(k, 1024));
+        if (k == 0)
+            return topK;
+
+        Comparator<Ranked<A>> heapOrder = (x, y) -> {
+            int comparison = comparator.compare(x.value, y.value);
+            return comparison != 0 ? comparison : Long.compare(y.index, x.index);
+        };
+        PriorityQueue<Ranked<A>> heap = new PriorityQueue<>(Math.min(k, 1024), heapOrder);
+        long index = 0;
+        for (A a : as) {
+            if (heap.size() < k) {
+                heap.add(new Ranked<>(a, index));
+            } else if (comparator.compare(a, heap.peek().value) > 0) {
+                Ranked<A> evicted = heap.poll();
+                evicted.value = a;
+                evicted.index = index;
+                heap.add(evicted);
+            }
+            index++;
+        }
+
+        List<Ranked<A>> ranked = new ArrayList<>(heap);
+        ranked.sort(heapOrder.reversed());
+        for (Ranked<A> r : ranked)
+            topK.add(r.value);
+        return topK;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> TopKWith<A> topKWith() {
+        return (TopKWith<A>) INSTANCE;
+    }
+
+    public static <A> Fn2<Comparator<? super A>, Iterable<A>, List<A>> topKWith(int k) {
+        return TopKWith.<A>topKWith().apply(k);
+    }
+
+    public static <A> Fn1<Iterable<A>, List<A>> topKWith(int k, Comparator<? super A> comparator) {
+        return TopKWith.<A>topKWith(k).apply(comparator);
+    }
+
+    public static <A> List<A> topKWith(int k, Comparator<? super A> comparator, Iterable<A> as) {
+        return TopKWith.<A>topKWith(k, comparator).apply(as);
+    }
+
+    private static final class Ranked<A> {
+        private A    value;
+        private long index;
+
+        private Ranked(A value, long index) {
+            this.value = value;
+            this.index = index;
+        }
+    }
+}
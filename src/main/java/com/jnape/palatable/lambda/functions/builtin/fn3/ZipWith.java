@@ -7,6 +7,8 @@ import com.jnape.palatable.lambda.iteration.ZippingIterator;
 
 import java.util.function.BiFunction;
 
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunkedIterator;
+
 /**
  * Zip together two <code>Iterable</code>s by applying a zipping function to the successive elements of each
  * <code>Iterable</code> until one of them runs out of elements. Returns an <code>Iterable</code> containing the
@@ -26,7 +28,7 @@ public final class ZipWith<A, B, C> implements Fn3<BiFunction<? super A, ? super
 
     @Override
     public Iterable<C> apply(BiFunction<? super A, ? super B, ? extends C> zipper, Iterable<A> as, Iterable<B> bs) {
-        return () -> new ZippingIterator<>(zipper, as.iterator(), bs.iterator());
+        return () -> new ZippingIterator<>(zipper, chunkedIterator(as), chunkedIterator(bs));
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,77 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.Fn4;
+import com.jnape.palatable.lambda.functions.builtin.fn2.SortWith;
+import com.jnape.palatable.lambda.iteration.CloseableIterator;
+import com.jnape.palatable.lambda.iteration.ExternallySortingIterable;
+import com.jnape.palatable.lambda.optics.Iso;
+
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+
+/**
+ * Given a {@link Comparator}, an {@link Iso} between elements and their binary encoding, a maximum run size, and an
+ * {@link Iterable} <code>as</code>, return an {@link Iterable} of the elements of <code>as</code> sorted according to
+ * the {@link Comparator}, without ever holding more than the maximum run size of elements in memory.
+ * <p>
+ * Upon iteration, <code>as</code> is consumed in runs of at most the maximum run size, each of which is sorted in
+ * memory via {@link SortWith} and, unless the whole input fits in a single run, spilled to a temporary file using the
+ * {@link Iso} to encode its elements. The sorted runs are then lazily merged, decoding elements as they are iterated,
+ * and each temporary file is deleted as soon as it has been fully merged. No more than 64 runs are read at once: any
+ * more are first merged into longer runs in as many passes as needed. Elements that compare equal retain their
+ * original relative order.
+ * <p>
+ * Iteration that stops before the sorted elements are exhausted must {@link CloseableIterator#close() close} the
+ * iterator, either directly or by closing a pipeline built on it, to release and delete the remaining temporary
+ * files.
+ * <p>
+ * Failure to write or read a temporary file results in an {@link UncheckedIOException}.
+ *
+ * @param <A> the {@link Iterable} element type
+ * @see SortWith
+ */
+public final class ExternalSortWith<A> implements
+        Fn4<Comparator<? super A>, Iso.Simple<A, byte[]>, Integer, Iterable<A>, Iterable<A>> {
+
+    private static final ExternalSortWith<?> INSTANCE = new ExternalSortWith<>();
+
+    private ExternalSortWith() {
+    }
+
+    @Override
+    public Iterable<A> apply(Comparator<? super A> comparator, Iso.Simple<A, byte[]> codec, Integer maxRunSize,
+                             Iterable<A> as) {
+        if (maxRunSize < 1)
+            throw new IllegalArgumentException("Maximum run size must be greater than 0: " + maxRunSize);
+
+        return new ExternallySortingIterable<>(comparator, codec, maxRunSize, as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> ExternalSortWith<A> externalSortWith() {
+        return (ExternalSortWith<A>) INSTANCE;
+    }
+
+    public static <A> Fn3<Iso.Simple<A, byte[]>, Integer, Iterable<A>, Iterable<A>> externalSortWith(
+            Comparator<? super A> comparator) {
+        return ExternalSortWith.<A>externalSortWith().apply(comparator);
+    }
+
+    public static <A> Fn2<Integer, Iterable<A>, Iterable<A>> externalSortWith(Comparator<? super A> comparator,
+                                                                             Iso.Simple<A, byte[]> codec) {
+        return ExternalSortWith.<A>externalSortWith(comparator).apply(codec);
+    }
+
+    public static <A> Fn1<Iterable<A>, Iterable<A>> externalSortWith(Comparator<? super A> comparator,
+                                                                     Iso.Simple<A, byte[]> codec, int maxRunSize) {
+        return ExternalSortWith.<A>externalSortWith(comparator, codec).apply(maxRunSize);
+    }
+
+    public static <A> Iterable<A> externalSortWith(Comparator<? super A> comparator, Iso.Simple<A, byte[]> codec,
+                                                   int maxRunSize, Iterable<A> as) {
+        return ExternalSortWith.<A>externalSortWith(comparator, codec, maxRunSize).apply(as);
+    }
+}
@@ -0,0 +1,71 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.Fn4;
+import com.jnape.palatable.lambda.functions.builtin.fn2.MagnetizeBy;
+import com.jnape.palatable.lambda.iteration.RunFoldingIterable;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.util.function.Function;
+
+/**
+ * Given a key function, a {@link Monoid}, a mapping function, and an {@link Iterable} <code>as</code>, return an
+ * {@link Iterable} of one {@link Tuple2} per run of adjacent elements of <code>as</code> that share the same key,
+ * pairing that key with the {@link Monoid} aggregate of the mapped elements of the run. Keys are compared for
+ * equality, and each run is emitted as soon as it closes, without retaining its elements.
+ * <p>
+ * Example: <code>foldMapRunsBy(id(), monoid(Integer::sum, 0), constantly(1), asList(1, 1, 2, 2, 2, 1)); // [(1,
+ * 2), (2, 3), (1, 1)]</code>
+ * <p>
+ * Since a run is only emitted once it closes, an infinite run never yields.
+ *
+ * @param <A> the {@link Iterable} element type
+ * @param <K> the key type
+ * @param <M> the aggregate type
+ * @see MagnetizeBy
+ */
+public final class FoldMapRunsBy<A, K, M> implements
+        Fn4<Function<? super A, ? extends K>, Monoid<M>, Function<? super A, ? extends M>, Iterable<A>,
+                Iterable<Tuple2<K, M>>> {
+
+    private static final FoldMapRunsBy<?, ?, ?> INSTANCE = new FoldMapRunsBy<>();
+
+    private FoldMapRunsBy() {
+    }
+
+    @Override
+    public Iterable<Tuple2<K, M>> apply(Function<? super A, ? extends K> keyFn, Monoid<M> monoid,
+                                        Function<? super A, ? extends M> fn, Iterable<A> as) {
+        return new RunFoldingIterable<>(keyFn, monoid, fn, as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, K, M> FoldMapRunsBy<A, K, M> foldMapRunsBy() {
+        return (FoldMapRunsBy<A, K, M>) INSTANCE;
+    }
+
+    public static <A, K, M> Fn3<Monoid<M>, Function<? super A, ? extends M>, Iterable<A>, Iterable<Tuple2<K, M>>>
+    foldMapRunsBy(Function<? super A, ? extends K> keyFn) {
+        return FoldMapRunsBy.<A, K, M>foldMapRunsBy().apply(keyFn);
+    }
+
+    public static <A, K, M> Fn2<Function<? super A, ? extends M>, Iterable<A>, Iterable<Tuple2<K, M>>> foldMapRunsBy(
+            Function<? super A, ? extends K> keyFn, Monoid<M> monoid) {
+        return FoldMapRunsBy.<A, K, M>foldMapRunsBy(keyFn).apply(monoid);
+    }
+
+    public static <A, K, M> Fn1<Iterable<A>, Iterable<Tuple2<K, M>>> foldMapRunsBy(
+            Function<? super A, ? extends K> keyFn, Monoid<M> monoid, Function<? super A, ? extends M> fn) {
+        return FoldMapRunsBy.<A, K, M>foldMapRunsBy(keyFn, monoid).apply(fn);
+    }
+
+    public static <A, K, M> Iterable<Tuple2<K, M>> foldMapRunsBy(Function<? super A, ? extends K> keyFn,
+                                                                 Monoid<M> monoid,
+                                                                 Function<? super A, ? extends M> fn,
+                                                                 Iterable<A> as) {
+        return FoldMapRunsBy.<A, K, M>foldMapRunsBy(keyFn, monoid, fn).apply(as);
+    }
+}
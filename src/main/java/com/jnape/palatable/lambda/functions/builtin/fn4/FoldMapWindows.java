@@ -0,0 +1,73 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.Fn4;
+import com.jnape.palatable.lambda.functions.builtin.fn2.Slide;
+import com.jnape.palatable.lambda.functions.builtin.fn3.ReduceWindows;
+import com.jnape.palatable.lambda.iteration.Window;
+import com.jnape.palatable.lambda.iteration.WindowAggregatingIterable;
+import com.jnape.palatable.lambda.monoid.InvertibleMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.util.function.Function;
+
+/**
+ * Given a {@link Window} specification, a {@link Monoid}, a mapping function, and an {@link Iterable}
+ * <code>as</code>, return an {@link Iterable} of the {@link Monoid} aggregate of the mapped elements in each window
+ * of <code>as</code>.
+ * <p>
+ * Aggregates are maintained incrementally rather than recomputed per window, so each element is combined an
+ * amortized constant number of times, regardless of the window size. Sliding windows keep a stack of partial
+ * aggregates over the oldest elements in the window and a running aggregate of the newest; if the {@link Monoid} is
+ * an {@link InvertibleMonoid}, a single running aggregate is kept instead, and evicted elements are removed by
+ * combining their inverse.
+ * <p>
+ * Example: <code>foldMapWindows(Window.sliding(3), monoid(Integer::sum, 0), id(), asList(1, 2, 3, 4, 5)); // [6, 9,
+ * 12]</code>
+ *
+ * @param <A> the {@link Iterable} element type
+ * @param <M> the aggregate type
+ * @see ReduceWindows
+ * @see Slide
+ */
+public final class FoldMapWindows<A, M> implements
+        Fn4<Window<A>, Monoid<M>, Function<? super A, ? extends M>, Iterable<A>, Iterable<M>> {
+
+    private static final FoldMapWindows<?, ?> INSTANCE = new FoldMapWindows<>();
+
+    private FoldMapWindows() {
+    }
+
+    @Override
+    public Iterable<M> apply(Window<A> window, Monoid<M> monoid, Function<? super A, ? extends M> fn,
+                             Iterable<A> as) {
+        return new WindowAggregatingIterable<>(window, monoid, fn, as);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, M> FoldMapWindows<A, M> foldMapWindows() {
+        return (FoldMapWindows<A, M>) INSTANCE;
+    }
+
+    public static <A, M> Fn3<Monoid<M>, Function<? super A, ? extends M>, Iterable<A>, Iterable<M>> foldMapWindows(
+            Window<A> window) {
+        return FoldMapWindows.<A, M>foldMapWindows().apply(window);
+    }
+
+    public static <A, M> Fn2<Function<? super A, ? extends M>, Iterable<A>, Iterable<M>> foldMapWindows(
+            Window<A> window, Monoid<M> monoid) {
+        return FoldMapWindows.<A, M>foldMapWindows(window).apply(monoid);
+    }
+
+    public static <A, M> Fn1<Iterable<A>, Iterable<M>> foldMapWindows(Window<A> window, Monoid<M> monoid,
+                                                                      Function<? super A, ? extends M> fn) {
+        return FoldMapWindows.<A, M>foldMapWindows(window, monoid).apply(fn);
+    }
+
+    public static <A, M> Iterable<M> foldMapWindows(Window<A> window, Monoid<M> monoid,
+                                                    Function<? super A, ? extends M> fn, Iterable<A> as) {
+        return FoldMapWindows.<A, M>foldMapWindows(window, monoid, fn).apply(as);
+    }
+}
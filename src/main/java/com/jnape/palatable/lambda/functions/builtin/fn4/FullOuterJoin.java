@@ -0,0 +1,102 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.adt.These;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.Fn4;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Flatten.flatten;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.monoid.builtin.Concat.concat;
+import static java.util.Collections.singletonList;
+
+/**
+ * Given a key function for the elements of <code>as</code>, a key function for the elements of <code>bs</code>, and
+ * two {@link Iterable Iterables} <code>as</code> and <code>bs</code>, return an {@link Iterable} of {@link These}
+ * pairing every element of <code>as</code> with each element of <code>bs</code> whose key is equal, followed by every
+ * element of either side that matched nothing on the other.
+ * <p>
+ * Upon iteration, <code>bs</code> is grouped by key into a hash table, and <code>as</code> is then streamed lazily,
+ * emitting {@link These#both(Object, Object) both} for each match or {@link These#a(Object) a} for an unmatched
+ * element. Once <code>as</code> is exhausted, the unmatched elements of <code>bs</code> are emitted as {@link
+ * These#b(Object) b}, grouped by key in the order each key first occurred.
+ * <p>
+ * Example: <code>fullOuterJoin(String::length, id(), asList("a", "bb"), asList(2, 3)); // [a("a"), both("bb", 2),
+ * b(3)]</code>
+ *
+ * @param <A> the first {@link Iterable} element type
+ * @param <B> the second {@link Iterable} element type
+ * @param <K> the key type
+ * @see HashJoin
+ * @see LeftJoin
+ */
+public final class FullOuterJoin<A, B, K> implements
+        Fn4<Function<? super A, ? extends K>, Function<? super B, ? extends K>, Iterable<A>, Iterable<B>,
+                Iterable<These<A, B>>> {
+
+    private static final FullOuterJoin<?, ?, ?> INSTANCE = new FullOuterJoin<>();
+
+    private FullOuterJoin() {
+    }
+
+    @Override
+    public Iterable<These<A, B>> apply(Function<? super A, ? extends K> aKeyFn,
+                                       Function<? super B, ? extends K> bKeyFn,
+                                       Iterable<A> as, Iterable<B> bs) {
+        return () -> {
+            Map<K, List<B>> table = new LinkedHashMap<>();
+            for (B b : bs)
+                table.computeIfAbsent(bKeyFn.apply(b), __ -> new ArrayList<>()).add(b);
+
+            Set<K> matched = new HashSet<>();
+            Iterable<These<A, B>> probed = flatten(map(a -> {
+                K key = aKeyFn.apply(a);
+                List<B> matches = table.get(key);
+                if (matches == null)
+                    return singletonList(These.<A, B>a(a));
+                matched.add(key);
+                return map(b -> These.<A, B>both(a, b), matches);
+            }, as));
+            Iterable<These<A, B>> unmatched = flatten(map(entry -> map(These::<A, B>b, entry.getValue()),
+                                                          filter(entry -> !matched.contains(entry.getKey()),
+                                                                 table.entrySet())));
+            return concat(probed, unmatched).iterator();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, K> FullOuterJoin<A, B, K> fullOuterJoin() {
+        return (FullOuterJoin<A, B, K>) INSTANCE;
+    }
+
+    public static <A, B, K> Fn3<Function<? super B, ? extends K>, Iterable<A>, Iterable<B>, Iterable<These<A, B>>>
+    fullOuterJoin(Function<? super A, ? extends K> aKeyFn) {
+        return FullOuterJoin.<A, B, K>fullOuterJoin().apply(aKeyFn);
+    }
+
+    public static <A, B, K> Fn2<Iterable<A>, Iterable<B>, Iterable<These<A, B>>> fullOuterJoin(
+            Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn) {
+        return FullOuterJoin.<A, B, K>fullOuterJoin(aKeyFn).apply(bKeyFn);
+    }
+
+    public static <A, B, K> Fn1<Iterable<B>, Iterable<These<A, B>>> fullOuterJoin(
+            Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn, Iterable<A> as) {
+        return FullOuterJoin.<A, B, K>fullOuterJoin(aKeyFn, bKeyFn).apply(as);
+    }
+
+    public static <A, B, K> Iterable<These<A, B>> fullOuterJoin(Function<? super A, ? extends K> aKeyFn,
+                                                                Function<? super B, ? extends K> bKeyFn,
+                                                                Iterable<A> as, Iterable<B> bs) {
+        return FullOuterJoin.<A, B, K>fullOuterJoin(aKeyFn, bKeyFn, as).apply(bs);
+    }
+}
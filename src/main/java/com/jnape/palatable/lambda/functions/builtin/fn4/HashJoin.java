@@ -0,0 +1,87 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.Fn4;
+import com.jnape.palatable.lambda.functions.builtin.fn2.GroupBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Flatten.flatten;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.GroupBy.groupBy;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static java.util.Collections.emptyList;
+
+/**
+ * Given a key function for the elements of <code>as</code>, a key function for the elements of <code>bs</code>, and
+ * two {@link Iterable Iterables} <code>as</code> and <code>bs</code>, return an {@link Iterable} of every pair of
+ * elements from <code>as</code> and <code>bs</code> whose keys are equal.
+ * <p>
+ * Upon iteration, the elements of <code>bs</code> are grouped by key into a hash table via {@link GroupBy}, and the
+ * elements of <code>as</code> are then streamed lazily, each one emitting a pair for every element of <code>bs</code>
+ * it matches, in the order those elements appear in <code>bs</code>. Results therefore always follow the order of
+ * <code>as</code>, and <code>bs</code> should be the smaller side. To build from <code>as</code> instead, use
+ * {@link HashJoinBuildingAs}.
+ * <p>
+ * Example: <code>hashJoin(String::length, id(), asList("a", "bb", "cc"), asList(2, 3)); // [("bb", 2), ("cc",
+ * 2)]</code>
+ *
+ * @param <A> the first {@link Iterable} element type
+ * @param <B> the second {@link Iterable} element type
+ * @param <K> the key type
+ * @see HashJoinBuildingAs
+ * @see LeftJoin
+ * @see FullOuterJoin
+ * @see SortMergeJoin
+ */
+public final class HashJoin<A, B, K> implements
+        Fn4<Function<? super A, ? extends K>, Function<? super B, ? extends K>, Iterable<A>, Iterable<B>,
+                Iterable<Tuple2<A, B>>> {
+
+    private static final HashJoin<?, ?, ?> INSTANCE = new HashJoin<>();
+
+    private HashJoin() {
+    }
+
+    @Override
+    public Iterable<Tuple2<A, B>> apply(Function<? super A, ? extends K> aKeyFn,
+                                        Function<? super B, ? extends K> bKeyFn,
+                                        Iterable<A> as, Iterable<B> bs) {
+        return () -> {
+            Map<K, List<B>> table = groupBy(bKeyFn, bs);
+            return flatten(map(a -> map(b -> tuple(a, b), table.getOrDefault(aKeyFn.apply(a), emptyList())),
+                               as)).iterator();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, K> HashJoin<A, B, K> hashJoin() {
+        return (HashJoin<A, B, K>) INSTANCE;
+    }
+
+    public static <A, B, K> Fn3<Function<? super B, ? extends K>, Iterable<A>, Iterable<B>, Iterable<Tuple2<A, B>>>
+    hashJoin(Function<? super A, ? extends K> aKeyFn) {
+        return HashJoin.<A, B, K>hashJoin().apply(aKeyFn);
+    }
+
+    public static <A, B, K> Fn2<Iterable<A>, Iterable<B>, Iterable<Tuple2<A, B>>> hashJoin(
+            Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn) {
+        return HashJoin.<A, B, K>hashJoin(aKeyFn).apply(bKeyFn);
+    }
+
+    public static <A, B, K> Fn1<Iterable<B>, Iterable<Tuple2<A, B>>> hashJoin(
+            Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn, Iterable<A> as) {
+        return HashJoin.<A, B, K>hashJoin(aKeyFn, bKeyFn).apply(as);
+    }
+
+    public static <A, B, K> Iterable<Tuple2<A, B>> hashJoin(Function<? super A, ? extends K> aKeyFn,
+                                                            Function<? super B, ? extends K> bKeyFn,
+                                                            Iterable<A> as, Iterable<B> bs) {
+        return HashJoin.<A, B, K>hashJoin(aKeyFn, bKeyFn, as).apply(bs);
+    }
+}
@@ -0,0 +1,82 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.Fn4;
+import com.jnape.palatable.lambda.functions.builtin.fn2.GroupBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Flatten.flatten;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.GroupBy.groupBy;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static java.util.Collections.emptyList;
+
+/**
+ * Like {@link HashJoin}, but building the hash table from <code>as</code> rather than <code>bs</code>, for when
+ * <code>as</code> is the smaller side.
+ * <p>
+ * Upon iteration, the elements of <code>as</code> are grouped by key into a hash table via {@link GroupBy}, and the
+ * elements of <code>bs</code> are then streamed lazily, each one emitting a pair for every element of <code>as</code>
+ * it matches, in the order those elements appear in <code>as</code>. Results therefore always follow the order of
+ * <code>bs</code>.
+ * <p>
+ * Example: <code>hashJoinBuildingAs(String::length, id(), asList("a", "bb", "cc"), asList(2, 3, 1)); // [("bb", 2),
+ * ("cc", 2), ("a", 1)]</code>
+ *
+ * @param <A> the first {@link Iterable} element type
+ * @param <B> the second {@link Iterable} element type
+ * @param <K> the key type
+ * @see HashJoin
+ */
+public final class HashJoinBuildingAs<A, B, K> implements
+        Fn4<Function<? super A, ? extends K>, Function<? super B, ? extends K>, Iterable<A>, Iterable<B>,
+                Iterable<Tuple2<A, B>>> {
+
+    private static final HashJoinBuildingAs<?, ?, ?> INSTANCE = new HashJoinBuildingAs<>();
+
+    private HashJoinBuildingAs() {
+    }
+
+    @Override
+    public Iterable<Tuple2<A, B>> apply(Function<? super A, ? extends K> aKeyFn,
+                                        Function<? super B, ? extends K> bKeyFn,
+                                        Iterable<A> as, Iterable<B> bs) {
+        return () -> {
+            Map<K, List<A>> table = groupBy(aKeyFn, as);
+            return flatten(map(b -> map(a -> tuple(a, b), table.getOrDefault(bKeyFn.apply(b), emptyList())),
+                               bs)).iterator();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, K> HashJoinBuildingAs<A, B, K> hashJoinBuildingAs() {
+        return (HashJoinBuildingAs<A, B, K>) INSTANCE;
+    }
+
+    public static <A, B, K> Fn3<Function<? super B, ? extends K>, Iterable<A>, Iterable<B>, Iterable<Tuple2<A, B>>>
+    hashJoinBuildingAs(Function<? super A, ? extends K> aKeyFn) {
+        return HashJoinBuildingAs.<A, B, K>hashJoinBuildingAs().apply(aKeyFn);
+    }
+
+    public static <A, B, K> Fn2<Iterable<A>, Iterable<B>, Iterable<Tuple2<A, B>>> hashJoinBuildingAs(
+            Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn) {
+        return HashJoinBuildingAs.<A, B, K>hashJoinBuildingAs(aKeyFn).apply(bKeyFn);
+    }
+
+    public static <A, B, K> Fn1<Iterable<B>, Iterable<Tuple2<A, B>>> hashJoinBuildingAs(
+            Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn, Iterable<A> as) {
+        return HashJoinBuildingAs.<A, B, K>hashJoinBuildingAs(aKeyFn, bKeyFn).apply(as);
+    }
+
+    public static <A, B, K> Iterable<Tuple2<A, B>> hashJoinBuildingAs(Function<? super A, ? extends K> aKeyFn,
+                                                                      Function<? super B, ? extends K> bKeyFn,
+                                                                      Iterable<A> as, Iterable<B> bs) {
+        return HashJoinBuildingAs.<A, B, K>hashJoinBuildingAs(aKeyFn, bKeyFn, as).apply(bs);
+    }
+}
@@ -0,0 +1,87 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.Fn4;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Flatten.flatten;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.GroupBy.groupBy;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static java.util.Collections.singletonList;
+
+/**
+ * Given a key function for the elements of <code>as</code>, a key function for the elements of <code>bs</code>, and
+ * two {@link Iterable Iterables} <code>as</code> and <code>bs</code>, return an {@link Iterable} pairing every element
+ * of <code>as</code> with each element of <code>bs</code> whose key is equal, or with {@link Maybe#nothing()} if there
+ * is no such element.
+ * <p>
+ * Upon iteration, <code>bs</code> is grouped by key into a hash table, and <code>as</code> is then streamed lazily.
+ * <p>
+ * Example: <code>leftJoin(String::length, id(), asList("a", "bb"), asList(2, 3)); // [("a", nothing()), ("bb",
+ * just(2))]</code>
+ *
+ * @param <A> the first {@link Iterable} element type
+ * @param <B> the second {@link Iterable} element type
+ * @param <K> the key type
+ * @see HashJoin
+ * @see FullOuterJoin
+ */
+public final class LeftJoin<A, B, K> implements
+        Fn4<Function<? super A, ? extends K>, Function<? super B, ? extends K>, Iterable<A>, Iterable<B>,
+                Iterable<Tuple2<A, Maybe<B>>>> {
+
+    private static final LeftJoin<?, ?, ?> INSTANCE = new LeftJoin<>();
+
+    private LeftJoin() {
+    }
+
+    @Override
+    public Iterable<Tuple2<A, Maybe<B>>> apply(Function<? super A, ? extends K> aKeyFn,
+                                               Function<? super B, ? extends K> bKeyFn,
+                                               Iterable<A> as, Iterable<B> bs) {
+        return () -> {
+            Map<K, List<B>> table = groupBy(bKeyFn, bs);
+            return flatten(map(a -> {
+                List<B> matches = table.get(aKeyFn.apply(a));
+                return matches == null
+                       ? singletonList(tuple(a, Maybe.<B>nothing()))
+                       : map(b -> tuple(a, just(b)), matches);
+            }, as)).iterator();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, K> LeftJoin<A, B, K> leftJoin() {
+        return (LeftJoin<A, B, K>) INSTANCE;
+    }
+
+    public static <A, B, K> Fn3<Function<? super B, ? extends K>, Iterable<A>, Iterable<B>,
+            Iterable<Tuple2<A, Maybe<B>>>> leftJoin(Function<? super A, ? extends K> aKeyFn) {
+        return LeftJoin.<A, B, K>leftJoin().apply(aKeyFn);
+    }
+
+    public static <A, B, K> Fn2<Iterable<A>, Iterable<B>, Iterable<Tuple2<A, Maybe<B>>>> leftJoin(
+            Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn) {
+        return LeftJoin.<A, B, K>leftJoin(aKeyFn).apply(bKeyFn);
+    }
+
+    public static <A, B, K> Fn1<Iterable<B>, Iterable<Tuple2<A, Maybe<B>>>> leftJoin(
+            Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn, Iterable<A> as) {
+        return LeftJoin.<A, B, K>leftJoin(aKeyFn, bKeyFn).apply(as);
+    }
+
+    public static <A, B, K> Iterable<Tuple2<A, Maybe<B>>> leftJoin(Function<? super A, ? extends K> aKeyFn,
+                                                                   Function<? super B, ? extends K> bKeyFn,
+                                                                   Iterable<A> as, Iterable<B> bs) {
+        return LeftJoin.<A, B, K>leftJoin(aKeyFn, bKeyFn, as).apply(bs);
+    }
+}
@@ -0,0 +1,74 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import com.jnape.palatable.lambda.functions.Fn3;
+import com.jnape.palatable.lambda.functions.Fn4;
+import com.jnape.palatable.lambda.iteration.SortMergeJoiningIterator;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Given a key function for the elements of <code>as</code>, a key function for the elements of <code>bs</code>, and
+ * two {@link Iterable Iterables} <code>as</code> and <code>bs</code> that are each already sorted by key in ascending
+ * order, return an {@link Iterable} of every pair of elements from <code>as</code> and <code>bs</code> whose keys
+ * compare equal.
+ * <p>
+ * Both sides are streamed lazily in lockstep, so only the current run of elements of <code>bs</code> sharing a key is
+ * ever held in memory; if keys are unique in <code>bs</code>, the join runs in constant memory. Elements of either
+ * side that match nothing are skipped without being retained. The result is unspecified if either side is not sorted.
+ * <p>
+ * Example: <code>sortMergeJoin(String::length, id(), asList("a", "bb", "cc"), asList(2, 3)); // [("bb", 2), ("cc",
+ * 2)]</code>
+ *
+ * @param <A> the first {@link Iterable} element type
+ * @param <B> the second {@link Iterable} element type
+ * @param <K> the key type
+ * @see HashJoin
+ */
+public final class SortMergeJoin<A, B, K extends Comparable<? super K>> implements
+        Fn4<Function<? super A, ? extends K>, Function<? super B, ? extends K>, Iterable<A>, Iterable<B>,
+                Iterable<Tuple2<A, B>>> {
+
+    private static final SortMergeJoin<?, ?, ?> INSTANCE = new SortMergeJoin<>();
+
+    private SortMergeJoin() {
+    }
+
+    @Override
+    public Iterable<Tuple2<A, B>> apply(Function<? super A, ? extends K> aKeyFn,
+                                        Function<? super B, ? extends K> bKeyFn,
+                                        Iterable<A> as, Iterable<B> bs) {
+        return () -> new SortMergeJoiningIterator<>(Comparator.<K>naturalOrder(), aKeyFn, bKeyFn,
+                                                    as.iterator(), bs.iterator());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, K extends Comparable<? super K>> SortMergeJoin<A, B, K> sortMergeJoin() {
+        return (SortMergeJoin<A, B, K>) INSTANCE;
+    }
+
+    public static <A, B, K extends Comparable<? super K>>
+    Fn3<Function<? super B, ? extends K>, Iterable<A>, Iterable<B>, Iterable<Tuple2<A, B>>> sortMergeJoin(
+            Function<? super A, ? extends K> aKeyFn) {
+        return SortMergeJoin.<A, B, K>sortMergeJoin().apply(aKeyFn);
+    }
+
+    public static <A, B, K extends Comparable<? super K>> Fn2<Iterable<A>, Iterable<B>, Iterable<Tuple2<A, B>>>
+    sortMergeJoin(Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn) {
+        return SortMergeJoin.<A, B, K>sortMergeJoin(aKeyFn).apply(bKeyFn);
+    }
+
+    public static <A, B, K extends Comparable<? super K>> Fn1<Iterable<B>, Iterable<Tuple2<A, B>>> sortMergeJoin(
+            Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn, Iterable<A> as) {
+        return SortMergeJoin.<A, B, K>sortMergeJoin(aKeyFn, bKeyFn).apply(as);
+    }
+
+    public static <A, B, K extends Comparable<? super K>> Iterable<Tuple2<A, B>> sortMergeJoin(
+            Function<? super A, ? extends K> aKeyFn, Function<? super B, ? extends K> bKeyFn,
+            Iterable<A> as, Iterable<B> bs) {
+        return SortMergeJoin.<A, B, K>sortMergeJoin(aKeyFn, bKeyFn, as).apply(bs);
+    }
+}
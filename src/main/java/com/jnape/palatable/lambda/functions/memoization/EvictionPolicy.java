@@ -0,0 +1,125 @@
+package com.jnape.palatable.lambda.functions.memoization;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Tracks the retained keys of a bounded memo table and chooses which to evict. Not thread-safe; callers synchronize.
+ */
+abstract class EvictionPolicy {
+
+    /**
+     * Record a newly retained key, returning the key to evict in exchange, or <code>null</code> if the bound has not
+     * been exceeded.
+     */
+    abstract Object onInsert(Object key);
+
+    abstract void onAccess(Object key);
+
+    abstract void onRemove(Object key);
+
+    static EvictionPolicy evictionPolicy(MemoPolicy policy) {
+        switch (policy.eviction()) {
+            case TINY_LFU:
+                return new TinyLfu(policy.maximumSize());
+            case LRU:
+            default:
+                return new Lru(policy.maximumSize());
+        }
+    }
+
+    private static Object removeEldest(LinkedHashMap<Object, Boolean> keys) {
+        Iterator<Object> iterator = keys.keySet().iterator();
+        Object eldest = iterator.next();
+        iterator.remove();
+        return eldest;
+    }
+
+    private static Object eldest(LinkedHashMap<Object, Boolean> keys) {
+        return keys.keySet().iterator().next();
+    }
+
+    private static final class Lru extends EvictionPolicy {
+        private final long                           maximumSize;
+        private final LinkedHashMap<Object, Boolean> keys;
+
+        private Lru(long maximumSize) {
+            this.maximumSize = maximumSize;
+            keys = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        @Override
+        Object onInsert(Object key) {
+            keys.put(key, true);
+            return keys.size() > maximumSize ? removeEldest(keys) : null;
+        }
+
+        @Override
+        void onAccess(Object key) {
+            keys.get(key);
+        }
+
+        @Override
+        void onRemove(Object key) {
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * Window TinyLFU: new keys enter a small LRU window. A key leaving the window is admitted to the main LRU region
+     * only if its estimated frequency exceeds that of the main region's least recently used key, which is evicted in
+     * its place; otherwise the key leaving the window is evicted itself.
+     */
+    private static final class TinyLfu extends EvictionPolicy {
+        private final long                           windowSize;
+        private final long                           mainSize;
+        private final LinkedHashMap<Object, Boolean> window;
+        private final LinkedHashMap<Object, Boolean> main;
+        private final FrequencySketch                sketch;
+
+        private TinyLfu(long maximumSize) {
+            windowSize = Math.max(1, maximumSize / 100);
+            mainSize = maximumSize - windowSize;
+            window = new LinkedHashMap<>(16, 0.75f, true);
+            main = new LinkedHashMap<>(16, 0.75f, true);
+            sketch = new FrequencySketch(maximumSize);
+        }
+
+        @Override
+        Object onInsert(Object key) {
+            sketch.increment(key);
+            window.put(key, true);
+            if (window.size() <= windowSize)
+                return null;
+
+            Object candidate = removeEldest(window);
+            if (main.size() < mainSize) {
+                main.put(candidate, true);
+                return null;
+            }
+            if (mainSize == 0)
+                return candidate;
+
+            Object victim = eldest(main);
+            if (sketch.frequency(candidate) > sketch.frequency(victim)) {
+                main.remove(victim);
+                main.put(candidate, true);
+                return victim;
+            }
+            return candidate;
+        }
+
+        @Override
+        void onAccess(Object key) {
+            sketch.increment(key);
+            if (window.get(key) == null)
+                main.get(key);
+        }
+
+        @Override
+        void onRemove(Object key) {
+            if (window.remove(key) == null)
+                main.remove(key);
+        }
+    }
+}
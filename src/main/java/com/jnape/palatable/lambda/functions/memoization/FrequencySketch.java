@@ -0,0 +1,60 @@
+package com.jnape.palatable.lambda.functions.memoization;
+
+/**
+ * A count-min sketch of 4-bit counters estimating how often each key has been seen recently. Once as many increments
+ * as ten times the expected number of distinct keys have been recorded, every counter is halved, so that estimates
+ * favor recent history. Not thread-safe.
+ */
+final class FrequencySketch {
+    private static final int    DEPTH     = 4;
+    private static final int    MAX_COUNT = 15;
+    private static final long[] SEEDS     = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL,
+                                             0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final byte[][] counters;
+    private final int      mask;
+    private final long     sampleSize;
+    private       long     increments;
+
+    FrequencySketch(long expectedKeys) {
+        int width = Integer.highestOneBit((int) Math.min(1 << 24, Math.max(16, expectedKeys)) - 1) << 2;
+        counters = new byte[DEPTH][width];
+        mask = width - 1;
+        sampleSize = Math.max(10, 10 * Math.min(expectedKeys, Long.MAX_VALUE / 10));
+    }
+
+    void increment(Object key) {
+        int hash = key.hashCode();
+        boolean incremented = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(hash, row);
+            if (counters[row][index] < MAX_COUNT) {
+                counters[row][index]++;
+                incremented = true;
+            }
+        }
+        if (incremented && ++increments >= sampleSize)
+            reset();
+    }
+
+    int frequency(Object key) {
+        int hash = key.hashCode();
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++)
+            frequency = Math.min(frequency, counters[row][index(hash, row)]);
+        return frequency;
+    }
+
+    private int index(int hash, int row) {
+        long mixed = (hash + SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+    private void reset() {
+        for (byte[] row : counters) {
+            for (int i = 0; i < row.length; i++)
+                row[i] >>= 1;
+        }
+        increments /= 2;
+    }
+}
@@ -0,0 +1,213 @@
+package com.jnape.palatable.lambda.functions.memoization;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The concurrent memo table behind {@link MemoizedFn1}. Results are stored in a {@link ConcurrentHashMap}, and a
+ * missing result is computed by exactly one caller while concurrent callers for the same argument wait for it. Bounded
+ * policies track retained keys in an {@link EvictionPolicy} guarded by a lock; recording that a key was used is skipped
+ * when that lock is contended, trading a little eviction precision for uncontended hits. A key is only handed to the
+ * {@link EvictionPolicy} once its result is computed, so results still being computed are never evicted, and may
+ * briefly exceed the bound.
+ * <p>
+ * Under a time to live, computed results are also queued in the order they were written, and each write removes any
+ * expired results from the head of that queue, so results that are never looked up again do not accumulate.
+ *
+ * @param <A> the argument type
+ * @param <B> the result type
+ */
+final class MemoCache<A, B> implements MemoizedFn1<A, B> {
+    private static final Object NULL_KEY = new Object();
+
+    private final Function<? super A, ? extends B>    fn;
+    private final Duration                            ttl;
+    private final Supplier<Instant>                   clock;
+    private final EvictionPolicy                      eviction;
+    private final ConcurrentHashMap<Object, Entry<B>> entries;
+    private final ConcurrentLinkedQueue<Entry<B>>     writes;
+    private final ReentrantLock                       lock;
+    private final LongAdder                           hits;
+    private final LongAdder                           misses;
+    private final LongAdder                           evictions;
+
+    MemoCache(Function<? super A, ? extends B> fn, MemoPolicy policy) {
+        this.fn = fn;
+        ttl = policy.expireAfterWrite();
+        clock = policy.clock();
+        eviction = policy.bounded() ? EvictionPolicy.evictionPolicy(policy) : null;
+        entries = new ConcurrentHashMap<>();
+        writes = ttl == null ? null : new ConcurrentLinkedQueue<>();
+        lock = new ReentrantLock();
+        hits = new LongAdder();
+        misses = new LongAdder();
+        evictions = new LongAdder();
+    }
+
+    @Override
+    public B apply(A a) {
+        Object key = a == null ? NULL_KEY : a;
+        while (true) {
+            Entry<B> entry = entries.get(key);
+            if (entry != null) {
+                if (!expired(entry)) {
+                    hits.increment();
+                    recordAccess(key);
+                    return entry.await();
+                }
+                remove(key, entry, true);
+                continue;
+            }
+
+            Entry<B> loading = new Entry<>(key);
+            if (entries.putIfAbsent(key, loading) != null)
+                continue;
+
+            misses.increment();
+            B b;
+            try {
+                b = fn.apply(a);
+            } catch (RuntimeException | Error failure) {
+                remove(key, loading, false);
+                loading.fail(failure);
+                throw failure;
+            }
+            loading.complete(b, ttl == null ? null : clock.get());
+            recordInsert(key, loading);
+            purgeExpired(loading);
+            return b;
+        }
+    }
+
+    @Override
+    public MemoStats stats() {
+        return new MemoStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private boolean expired(Entry<B> entry) {
+        Instant writtenAt = entry.writtenAt;
+        return ttl != null && writtenAt != null && !clock.get().isBefore(writtenAt.plus(ttl));
+    }
+
+    private void purgeExpired(Entry<B> written) {
+        if (writes == null)
+            return;
+
+        writes.add(written);
+        Entry<B> oldest;
+        while ((oldest = writes.peek()) != null && expired(oldest)) {
+            if (writes.remove(oldest))
+                remove(oldest.key, oldest, true);
+        }
+    }
+
+    private void recordAccess(Object key) {
+        if (eviction != null && lock.tryLock()) {
+            try {
+                eviction.onAccess(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void recordInsert(Object key, Entry<B> entry) {
+        if (eviction == null)
+            return;
+
+        lock.lock();
+        try {
+            if (entries.get(key) != entry)
+                return;
+
+            Object victim = eviction.onInsert(key);
+            if (victim != null) {
+                Entry<B> evicted = entries.get(victim);
+                if (evicted != null && evicted.done && entries.remove(victim, evicted))
+                    evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Object key, Entry<B> entry, boolean expired) {
+        if (eviction == null) {
+            if (entries.remove(key, entry) && expired)
+                evictions.increment();
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (entries.remove(key, entry)) {
+                eviction.onRemove(key);
+                if (expired)
+                    evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Entry<B> {
+        private final    Object    key;
+        private volatile Thread    loader;
+        private volatile boolean   done;
+        private volatile Instant   writtenAt;
+        private          B         value;
+        private          Throwable failure;
+
+        private Entry(Object key) {
+            this.key = key;
+            loader = Thread.currentThread();
+        }
+
+        private synchronized void complete(B value, Instant writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+            loader = null;
+            done = true;
+            notifyAll();
+        }
+
+        private synchronized void fail(Throwable failure) {
+            this.failure = failure;
+            loader = null;
+            done = true;
+            notifyAll();
+        }
+
+        private B await() {
+            if (!done) {
+                if (loader == Thread.currentThread())
+                    throw new IllegalStateException("Memoized function invoked itself with the same argument");
+
+                boolean interrupted = false;
+                synchronized (this) {
+                    while (!done) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                }
+                if (interrupted)
+                    Thread.currentThread().interrupt();
+            }
+
+            if (failure instanceof Error)
+                throw (Error) failure;
+            if (failure != null)
+                throw (RuntimeException) failure;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.jnape.palatable.lambda.functions.memoization;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * An immutable specification of how a memoized function retains its results: how many results it retains at most,
+ * how it chooses which results to evict once that bound is reached, and how long each result remains valid.
+ *
+ * @see Fn1#memoize(MemoPolicy)
+ * @see Fn2#memoize(MemoPolicy)
+ */
+public final class MemoPolicy {
+
+    /**
+     * The strategy used to choose a result to evict once a memoized function retains its maximum number of results.
+     */
+    public enum Eviction {
+
+        /**
+         * Evict the least recently used result.
+         */
+        LRU,
+
+        /**
+         * Admit new results through a small recency window, then retain them only if they are estimated to be used
+         * more frequently than the result they would displace (Window TinyLFU). This resists pollution by one-off
+         * lookups that would flush an LRU cache.
+         */
+        TINY_LFU
+    }
+
+    private static final MemoPolicy UNBOUNDED = new MemoPolicy(Long.MAX_VALUE, Eviction.LRU, null,
+                                                               Clock.systemUTC()::instant);
+
+    private final long              maximumSize;
+    private final Eviction          eviction;
+    private final Duration          expireAfterWrite;
+    private final Supplier<Instant> clock;
+
+    private MemoPolicy(long maximumSize, Eviction eviction, Duration expireAfterWrite, Supplier<Instant> clock) {
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.expireAfterWrite = expireAfterWrite;
+        this.clock = clock;
+    }
+
+    long maximumSize() {
+        return maximumSize;
+    }
+
+    Eviction eviction() {
+        return eviction;
+    }
+
+    Duration expireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    Supplier<Instant> clock() {
+        return clock;
+    }
+
+    boolean bounded() {
+        return maximumSize != Long.MAX_VALUE;
+    }
+
+    /**
+     * Derive a policy under which each result is recomputed once <code>ttl</code> has elapsed since it was computed,
+     * according to the system clock.
+     *
+     * @param ttl how long each result remains valid
+     * @return the new policy
+     */
+    public MemoPolicy expireAfterWrite(Duration ttl) {
+        return expireAfterWrite(ttl, Clock.systemUTC()::instant);
+    }
+
+    /**
+     * Derive a policy under which each result is recomputed once <code>ttl</code> has elapsed since it was computed,
+     * according to the given clock.
+     *
+     * @param ttl   how long each result remains valid
+     * @param clock the {@link Supplier} of the current {@link Instant}
+     * @return the new policy
+     */
+    public MemoPolicy expireAfterWrite(Duration ttl, Supplier<Instant> clock) {
+        if (ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("Time to live must be greater than 0: " + ttl);
+        return new MemoPolicy(maximumSize, eviction, ttl, clock);
+    }
+
+    /**
+     * A policy that retains every result indefinitely.
+     *
+     * @return the policy
+     */
+    public static MemoPolicy unbounded() {
+        return UNBOUNDED;
+    }
+
+    /**
+     * A policy that retains at most <code>maximumSize</code> results, evicting the least recently used.
+     *
+     * @param maximumSize the maximum number of results to retain
+     * @return the policy
+     * @see Eviction#LRU
+     */
+    public static MemoPolicy lru(long maximumSize) {
+        return bounded(maximumSize, Eviction.LRU);
+    }
+
+    /**
+     * A policy that retains at most <code>maximumSize</code> results, admitting and evicting them by estimated
+     * frequency of use.
+     *
+     * @param maximumSize the maximum number of results to retain
+     * @return the policy
+     * @see Eviction#TINY_LFU
+     */
+    public static MemoPolicy tinyLfu(long maximumSize) {
+        return bounded(maximumSize, Eviction.TINY_LFU);
+    }
+
+    private static MemoPolicy bounded(long maximumSize, Eviction eviction) {
+        if (maximumSize < 1 || maximumSize == Long.MAX_VALUE)
+            throw new IllegalArgumentException("Maximum size must be greater than 0 and bounded: " + maximumSize);
+        return new MemoPolicy(maximumSize, eviction, null, UNBOUNDED.clock);
+    }
+}
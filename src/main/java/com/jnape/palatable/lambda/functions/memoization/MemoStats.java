@@ -0,0 +1,74 @@
+package com.jnape.palatable.lambda.functions.memoization;
+
+import java.util.Objects;
+
+/**
+ * An immutable snapshot of the counters of a memoized function.
+ */
+public final class MemoStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    MemoStats(long hits, long misses, long evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /**
+     * The number of invocations answered by a retained or in-flight result.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * The number of invocations that computed a result.
+     *
+     * @return the miss count
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * The number of results discarded to respect the maximum size, or because they expired.
+     *
+     * @return the eviction count
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * The ratio of hits to invocations, or <code>1</code> if there have been no invocations.
+     *
+     * @return the hit rate
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 1 : (double) hits / requests;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof MemoStats) {
+            MemoStats that = (MemoStats) other;
+            return hits == that.hits && misses == that.misses && evictions == that.evictions;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hits, misses, evictions);
+    }
+
+    @Override
+    public String toString() {
+        return "MemoStats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + '}';
+    }
+}
@@ -0,0 +1,41 @@
+package com.jnape.palatable.lambda.functions.memoization;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+
+import java.util.function.Function;
+
+/**
+ * An {@link Fn1} that retains its results according to a {@link MemoPolicy}, computing each result at most once per
+ * argument while it is retained, even if invoked concurrently with that argument. Arguments are compared by
+ * {@link Object#equals(Object) equality}. If the underlying function throws, nothing is retained, and callers waiting
+ * on that invocation receive the same exception.
+ * <p>
+ * Invoking a memoized function from within its own computation is supported for different arguments, but results in
+ * an {@link IllegalStateException} for the argument being computed.
+ *
+ * @param <A> the argument type
+ * @param <B> the result type
+ * @see Fn1#memoize(MemoPolicy)
+ */
+public interface MemoizedFn1<A, B> extends Fn1<A, B> {
+
+    /**
+     * A snapshot of the hit, miss, and eviction counters of this function.
+     *
+     * @return the {@link MemoStats}
+     */
+    MemoStats stats();
+
+    /**
+     * Memoize a {@link Function} under a {@link MemoPolicy}.
+     *
+     * @param fn     the function
+     * @param policy the policy
+     * @param <A>    the argument type
+     * @param <B>    the result type
+     * @return the {@link MemoizedFn1}
+     */
+    static <A, B> MemoizedFn1<A, B> memoizedFn1(Function<? super A, ? extends B> fn, MemoPolicy policy) {
+        return new MemoCache<>(fn, policy);
+    }
+}
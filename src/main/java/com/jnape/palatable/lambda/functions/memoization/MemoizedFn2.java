@@ -0,0 +1,49 @@
+package com.jnape.palatable.lambda.functions.memoization;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+
+import java.util.function.BiFunction;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.memoization.MemoizedFn1.memoizedFn1;
+
+/**
+ * An {@link Fn2} that retains its results according to a {@link MemoPolicy}, keyed on the {@link Tuple2} of both
+ * arguments. Partially applying a {@link MemoizedFn2} yields a function that shares its memo table.
+ *
+ * @param <A> the first argument type
+ * @param <B> the second argument type
+ * @param <C> the result type
+ * @see MemoizedFn1
+ * @see Fn2#memoize(MemoPolicy)
+ */
+public interface MemoizedFn2<A, B, C> extends Fn2<A, B, C>, MemoizedFn1<A, Fn1<B, C>> {
+
+    /**
+     * Memoize a {@link BiFunction} under a {@link MemoPolicy}.
+     *
+     * @param fn     the function
+     * @param policy the policy
+     * @param <A>    the first argument type
+     * @param <B>    the second argument type
+     * @param <C>    the result type
+     * @return the {@link MemoizedFn2}
+     */
+    static <A, B, C> MemoizedFn2<A, B, C> memoizedFn2(BiFunction<? super A, ? super B, ? extends C> fn,
+                                                       MemoPolicy policy) {
+        MemoizedFn1<Tuple2<A, B>, C> memoized = memoizedFn1(t -> fn.apply(t._1(), t._2()), policy);
+        return new MemoizedFn2<A, B, C>() {
+            @Override
+            public C apply(A a, B b) {
+                return memoized.apply(tuple(a, b));
+            }
+
+            @Override
+            public MemoStats stats() {
+                return memoized.stats();
+            }
+        };
+    }
+}
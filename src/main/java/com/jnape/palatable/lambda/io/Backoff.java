@@ -0,0 +1,29 @@
+package com.jnape.palatable.lambda.io;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Randomized exponential backoff for failed compare-and-set attempts: the first few attempts retry immediately, the
+ * next few yield the processor, and persistent contention parks for a randomized, exponentially growing, and capped
+ * duration.
+ */
+final class Backoff {
+    private static final int  SPIN_ATTEMPTS  = 2;
+    private static final int  YIELD_ATTEMPTS = 8;
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    private Backoff() {
+    }
+
+    static void backoff(int attempt) {
+        if (attempt < SPIN_ATTEMPTS)
+            return;
+        if (attempt < YIELD_ATTEMPTS) {
+            Thread.yield();
+            return;
+        }
+        long bound = Math.min(1_000L << Math.min(attempt - YIELD_ATTEMPTS, 10), MAX_PARK_NANOS);
+        LockSupport.parkNanos(1 + ThreadLocalRandom.current().nextLong(bound));
+    }
+}
@@ -0,0 +1,64 @@
+package com.jnape.palatable.lambda.io;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * {@link Flights} that keep the most recent successful flight, either forever or until a time-to-live measured from
+ * its completion elapses, after which the next performance starts a fresh flight. Failed flights are discarded.
+ *
+ * @param <A> the result type
+ */
+final class Cache<A> implements Flights<A> {
+    private final Duration                  ttl;
+    private final Supplier<Instant>         clock;
+    private final AtomicReference<Entry<A>> entry;
+
+    Cache(Duration ttl, Supplier<Instant> clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        entry = new AtomicReference<>();
+    }
+
+    @Override
+    public CompletableFuture<A> join(CompletableFuture<A> candidate) {
+        while (true) {
+            Entry<A> current = entry.get();
+            if (current != null && !current.expired(clock))
+                return current.flight;
+            if (entry.compareAndSet(current, new Entry<>(candidate)))
+                return candidate;
+        }
+    }
+
+    @Override
+    public void succeeded(CompletableFuture<A> flight) {
+        Entry<A> current = entry.get();
+        if (ttl != null && current != null && current.flight == flight)
+            current.expiresAt = clock.get().plus(ttl);
+    }
+
+    @Override
+    public void failed(CompletableFuture<A> flight) {
+        Entry<A> current = entry.get();
+        if (current != null && current.flight == flight)
+            entry.compareAndSet(current, null);
+    }
+
+    private static final class Entry<A> {
+        private final    CompletableFuture<A> flight;
+        private volatile Instant              expiresAt;
+
+        private Entry(CompletableFuture<A> flight) {
+            this.flight = flight;
+        }
+
+        private boolean expired(Supplier<Instant> clock) {
+            Instant expiresAt = this.expiresAt;
+            return expiresAt != null && !clock.get().isBefore(expiresAt);
+        }
+    }
+}
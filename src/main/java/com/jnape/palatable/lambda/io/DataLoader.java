@@ -0,0 +1,172 @@
+package com.jnape.palatable.lambda.io;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.io.IO.executorAware;
+import static java.util.Collections.singletonMap;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * A batching, deduplicating, and caching front for a keyed batch fetch, in the style of <em>DataLoader</em>.
+ * <p>
+ * {@link DataLoader#load(Object)} produces an {@link IO} for a single key. When performed asynchronously, all keys
+ * requested during a single round of an asynchronous run are collected into one batch: a round spans the run and every
+ * branch of its {@link IO#zip zips} and traversals, across whichever threads they progress on, and ends once none of
+ * them can progress without waiting. The batch fetch is then invoked once with the distinct keys not already loaded,
+ * and loads that depend on its results form the next round. Results are cached per key for the lifetime of the
+ * {@link DataLoader}, so a key is fetched at most once; keys whose fetch fails, or that are missing from the fetched
+ * {@link Map}, are not cached and fail with the fetch's failure or a {@link NoSuchElementException}, respectively.
+ * <p>
+ * Since its cache is unbounded, a {@link DataLoader} is intended to be scoped to a single unit of work, such as one
+ * request. When performed synchronously via {@link IO#unsafePerformIO()}, or from user code running outside of any
+ * round, each key is fetched on its own, but deduplication and caching still apply.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class DataLoader<K, V> {
+    private final Function<? super Set<K>, ? extends IO<Map<K, V>>> batchFn;
+    private final int                                               maxBatchSize;
+    private final Map<K, CompletableFuture<V>>                      cache;
+    private final Map<IO.RunGroup, Map<K, CompletableFuture<V>>>    pending;
+
+    private DataLoader(Function<? super Set<K>, ? extends IO<Map<K, V>>> batchFn, int maxBatchSize) {
+        this.batchFn = batchFn;
+        this.maxBatchSize = maxBatchSize;
+        cache = new HashMap<>();
+        pending = new HashMap<>();
+    }
+
+    /**
+     * An {@link IO} yielding the value for <code>key</code>, fetched as part of the current round's batch unless it
+     * has already been loaded.
+     *
+     * @param key the key
+     * @return the {@link IO} yielding the value
+     */
+    public IO<V> load(K key) {
+        return executorAware(executor -> enqueue(key, executor));
+    }
+
+    private CompletableFuture<V> enqueue(K key, Executor executor) {
+        IO.RunGroup group = IO.runGroup();
+        CompletableFuture<V> future;
+        boolean scheduleDispatch = false;
+        synchronized (this) {
+            future = cache.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                cache.put(key, future);
+            } else if (!unschedule(key, group)) {
+                return future;
+            }
+
+            if (group != null) {
+                Map<K, CompletableFuture<V>> batch = pending.get(group);
+                if (batch == null) {
+                    batch = new LinkedHashMap<>();
+                    pending.put(group, batch);
+                    scheduleDispatch = true;
+                }
+                batch.put(key, future);
+            }
+        }
+
+        if (group == null)
+            dispatch(singletonMap(key, future), executor);
+        else if (scheduleDispatch)
+            group.atEndOfRound(() -> dispatch(takePending(group), executor));
+        return future;
+    }
+
+    /**
+     * Remove <code>key</code> from the batch of a group other than <code>group</code> that has not yet been
+     * dispatched, so that it can be fetched on behalf of <code>group</code> instead of waiting on a round that may be
+     * blocked on <code>group</code>.
+     */
+    private boolean unschedule(K key, IO.RunGroup group) {
+        for (Map.Entry<IO.RunGroup, Map<K, CompletableFuture<V>>> batch : pending.entrySet())
+            if (batch.getKey() != group && batch.getValue().remove(key) != null)
+                return true;
+        return false;
+    }
+
+    private synchronized Map<K, CompletableFuture<V>> takePending(IO.RunGroup group) {
+        return pending.remove(group);
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch, Executor executor) {
+        List<K> keys = new ArrayList<>(batch.keySet());
+        for (int from = 0; from < keys.size(); from += maxBatchSize) {
+            Set<K> chunk = new LinkedHashSet<>(keys.subList(from, Math.min(keys.size(), from + maxBatchSize)));
+            CompletableFuture<Map<K, V>> fetched;
+            try {
+                fetched = batchFn.apply(unmodifiableSet(chunk)).unsafePerformAsyncIO(executor);
+            } catch (Throwable t) {
+                fetched = new CompletableFuture<>();
+                fetched.completeExceptionally(t);
+            }
+            fetched.whenComplete((values, t) -> {
+                for (K key : chunk) {
+                    CompletableFuture<V> future = batch.get(key);
+                    if (t == null && values != null && values.containsKey(key)) {
+                        future.complete(values.get(key));
+                    } else {
+                        evict(key, future);
+                        future.completeExceptionally(t != null
+                                                     ? unwrap(t)
+                                                     : new NoSuchElementException("No value fetched for key: " + key));
+                    }
+                }
+            });
+        }
+    }
+
+    private synchronized void evict(K key, CompletableFuture<V> future) {
+        cache.remove(key, future);
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    /**
+     * Create a {@link DataLoader} over <code>batchFn</code> with no limit on batch size.
+     *
+     * @param batchFn the batch fetch
+     * @param <K>     the key type
+     * @param <V>     the value type
+     * @return the {@link DataLoader}
+     */
+    public static <K, V> DataLoader<K, V> dataLoader(Function<? super Set<K>, ? extends IO<Map<K, V>>> batchFn) {
+        return dataLoader(batchFn, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a {@link DataLoader} over <code>batchFn</code> that splits rounds into batches of at most
+     * <code>maxBatchSize</code> keys.
+     *
+     * @param batchFn      the batch fetch
+     * @param maxBatchSize the maximum number of keys per invocation of <code>batchFn</code>
+     * @param <K>          the key type
+     * @param <V>          the value type
+     * @return the {@link DataLoader}
+     */
+    public static <K, V> DataLoader<K, V> dataLoader(Function<? super Set<K>, ? extends IO<Map<K, V>>> batchFn,
+                                                     int maxBatchSize) {
+        if (maxBatchSize < 1)
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0: " + maxBatchSize);
+        return new DataLoader<>(batchFn, maxBatchSize);
+    }
+}
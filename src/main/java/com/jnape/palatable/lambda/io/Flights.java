@@ -0,0 +1,22 @@
+package com.jnape.palatable.lambda.io;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bookkeeping for {@link IO#shared(java.util.function.Supplier, Flights) shared} {@link IO}s, whose performances may
+ * share a single in-flight run of an underlying {@link IO}, called a flight. Each performance offers a fresh flight to
+ * {@link Flights#join(CompletableFuture)}; if that flight is accepted, the performance leads it by running the
+ * underlying {@link IO}, and otherwise it awaits the flight it was given. Leaders report the outcome via
+ * {@link Flights#succeeded(CompletableFuture)} or {@link Flights#failed(CompletableFuture)} before completing the
+ * flight, so that performances arriving afterwards observe the updated bookkeeping.
+ *
+ * @param <A> the result type
+ */
+interface Flights<A> {
+
+    CompletableFuture<A> join(CompletableFuture<A> candidate);
+
+    void succeeded(CompletableFuture<A> flight);
+
+    void failed(CompletableFuture<A> flight);
+}
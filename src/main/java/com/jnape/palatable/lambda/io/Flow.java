@@ -0,0 +1,94 @@
+package com.jnape.palatable.lambda.io;
+
+/**
+ * The interfaces of the Reactive Streams protocol for asynchronous streams with non-blocking, demand-driven
+ * backpressure, mirroring <code>java.util.concurrent.Flow</code> member for member. A <code>Flow</code> component from
+ * Java 9 or later, or from any Reactive Streams implementation, can be adapted to these interfaces with method
+ * references, and vice versa.
+ *
+ * @see FlowAdapters
+ */
+public final class Flow {
+
+    private Flow() {
+    }
+
+    /**
+     * A producer of elements received by {@link Subscriber}s, in accordance with the demand they signal.
+     *
+     * @param <T> the element type
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+
+        /**
+         * Add <code>subscriber</code>, which will be sent {@link Subscriber#onSubscribe(Subscription)} before any
+         * other signal.
+         *
+         * @param subscriber the subscriber
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of elements from a {@link Publisher}. Signals to a subscriber are never sent concurrently.
+     *
+     * @param <T> the element type
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * Receive the {@link Subscription} through which demand is signalled, before any other signal.
+         *
+         * @param subscription the subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Receive the next element, which was previously requested.
+         *
+         * @param item the element
+         */
+        void onNext(T item);
+
+        /**
+         * Receive the failure terminating the subscription. No further signals are sent.
+         *
+         * @param throwable the failure
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Receive notice that the subscription completed successfully. No further signals are sent.
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link between a {@link Publisher} and one of its {@link Subscriber}s.
+     */
+    public interface Subscription {
+
+        /**
+         * Add <code>n</code> to the number of elements the subscriber is willing to receive. Non-positive
+         * <code>n</code> fails the subscription with an {@link IllegalArgumentException}.
+         *
+         * @param n the additional demand
+         */
+        void request(long n);
+
+        /**
+         * Ask the publisher to stop sending signals, eventually.
+         */
+        void cancel();
+    }
+
+    /**
+     * A component that is both a {@link Subscriber} and a {@link Publisher}.
+     *
+     * @param <T> the received element type
+     * @param <R> the published element type
+     */
+    public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+    }
+}
@@ -0,0 +1,513 @@
+package com.jnape.palatable.lambda.io;
+
+import com.jnape.palatable.lambda.adt.Unit;
+import com.jnape.palatable.lambda.functions.specialized.checked.CheckedSupplier;
+import com.jnape.palatable.lambda.iteration.CloseableIterable;
+import com.jnape.palatable.lambda.iteration.CloseableIterator;
+import com.jnape.palatable.lambda.iteration.ImmutableIterator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static com.jnape.palatable.lambda.adt.Unit.UNIT;
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.io.IO.externallyManaged;
+import static com.jnape.palatable.lambda.io.IO.io;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.ForkJoinPool.commonPool;
+
+/**
+ * Adapters between {@link Flow} components and {@link Iterable}s and {@link IOStream}s.
+ * <p>
+ * Publishers created here send each subscriber exactly as many elements as it has requested, never more, and send
+ * {@link Flow.Subscriber#onNext(Object) onNext} signals from a single thread at a time. Consuming a publisher reads it
+ * through a buffer of a fixed size: the publisher is never asked for more elements than fit in the buffer, and each
+ * element consumed is replaced by requesting one more, so memory stays bounded no matter how fast the publisher is.
+ */
+public final class FlowAdapters {
+
+    private FlowAdapters() {
+    }
+
+    /**
+     * A {@link Flow.Publisher} of the elements of <code>as</code>, iterated on the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     *
+     * @param as  the elements
+     * @param <A> the element type
+     * @return the publisher
+     * @see FlowAdapters#toPublisher(Iterable, Executor)
+     */
+    public static <A> Flow.Publisher<A> toPublisher(Iterable<A> as) {
+        return toPublisher(as, commonPool());
+    }
+
+    /**
+     * A {@link Flow.Publisher} of the elements of <code>as</code>, iterated on <code>executor</code>. Each subscriber
+     * iterates <code>as</code> anew once it first requests elements, and the iterator is only advanced or checked for
+     * further elements while demand is outstanding, so completion is signalled upon the first request that finds
+     * <code>as</code> exhausted. An {@link AutoCloseable} iterator is closed as soon as its subscription completes, fails, or is cancelled.
+     *
+     * @param as       the elements
+     * @param executor the executor iterating the elements
+     * @param <A>      the element type
+     * @return the publisher
+     */
+    public static <A> Flow.Publisher<A> toPublisher(Iterable<A> as, Executor executor) {
+        return subscriber -> {
+            IterableSubscription<A> subscription = new IterableSubscription<>(subscriberOrThrow(subscriber), as,
+                                                                              executor);
+            subscriber.onSubscribe(subscription);
+            subscription.schedule();
+        };
+    }
+
+    /**
+     * A {@link Flow.Publisher} of the elements of <code>stream</code>, pulled asynchronously on the
+     * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     *
+     * @param stream the stream
+     * @param <A>    the element type
+     * @return the publisher
+     * @see FlowAdapters#toPublisher(IOStream, Executor)
+     */
+    public static <A> Flow.Publisher<A> toPublisher(IOStream<A> stream) {
+        return toPublisher(stream, commonPool());
+    }
+
+    /**
+     * A {@link Flow.Publisher} of the elements of <code>stream</code>, pulled asynchronously on
+     * <code>executor</code>. Each subscriber runs <code>stream</code> anew once it first requests elements, and the
+     * stream is pulled at most one chunk ahead of demand. Cancelling a subscription stops pulling and releases any
+     * resources the stream acquired.
+     *
+     * @param stream   the stream
+     * @param executor the executor to pull the stream on
+     * @param <A>      the element type
+     * @return the publisher
+     */
+    public static <A> Flow.Publisher<A> toPublisher(IOStream<A> stream, Executor executor) {
+        return subscriber -> subscriberOrThrow(subscriber)
+                .onSubscribe(new StreamSubscription<>(subscriber, stream, executor));
+    }
+
+    /**
+     * A {@link CloseableIterable} of the elements of <code>publisher</code>, read through a buffer of
+     * <code>bufferSize</code> elements. Each iterator subscribes anew, blocks the iterating thread while no element is
+     * available, and cancels its subscription when closed. A failure of the publisher is rethrown from the iterator.
+     *
+     * @param publisher  the publisher
+     * @param bufferSize the number of elements to buffer
+     * @param <A>        the element type
+     * @return the {@link CloseableIterable}
+     */
+    public static <A> CloseableIterable<A> toIterable(Flow.Publisher<A> publisher, int bufferSize) {
+        requirePositive(bufferSize);
+        return () -> new PublisherIterator<>(publisher, bufferSize);
+    }
+
+    /**
+     * An {@link IOStream} of the elements of <code>publisher</code>, read through a buffer of <code>bufferSize</code>
+     * elements. Each run of the stream subscribes anew, pulls whatever has been buffered as one chunk, and never
+     * blocks a thread while no element is available when performed asynchronously. The subscription is cancelled as
+     * soon as the consumer of the stream stops pulling.
+     *
+     * @param publisher  the publisher
+     * @param bufferSize the number of elements to buffer
+     * @param <A>        the element type
+     * @return the {@link IOStream}
+     */
+    public static <A> IOStream<A> toIOStream(Flow.Publisher<A> publisher, int bufferSize) {
+        requirePositive(bufferSize);
+        return IOStream.bracket(
+                io(() -> {
+                    BufferedSubscriber<A> subscriber = new BufferedSubscriber<>(bufferSize);
+                    publisher.subscribe(subscriber);
+                    return subscriber;
+                }),
+                subscriber -> IOStream.unfoldChunks(UNIT, u -> externallyManaged(
+                        () -> subscriber.nextChunk().thenApply(chunk -> chunk.isEmpty()
+                                                                        ? nothing()
+                                                                        : just(tuple(chunk, UNIT))))),
+                subscriber -> io(subscriber::cancel));
+    }
+
+    private static <S extends Flow.Subscriber<?>> S subscriberOrThrow(S subscriber) {
+        if (subscriber == null)
+            throw new NullPointerException("subscriber must not be null");
+        return subscriber;
+    }
+
+    private static void requirePositive(int bufferSize) {
+        if (bufferSize < 1)
+            throw new IllegalArgumentException("bufferSize must be greater than 0: " + bufferSize);
+    }
+
+    private static boolean addDemand(AtomicLong demand, long n) {
+        if (n <= 0)
+            return false;
+        demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+        return true;
+    }
+
+    private static IllegalArgumentException nonPositiveRequest(long n) {
+        return new IllegalArgumentException("Requested demand must be greater than 0: " + n);
+    }
+
+    private static final class IterableSubscription<A> implements Flow.Subscription {
+        private final    Flow.Subscriber<? super A> subscriber;
+        private final    Iterable<A>                as;
+        private final    Executor                   executor;
+        private final    AtomicLong                 demand;
+        private final    AtomicInteger              wip;
+        private volatile boolean                    cancelled;
+        private volatile Throwable                  invalidRequest;
+        private          Iterator<A>                iterator;
+
+        private IterableSubscription(Flow.Subscriber<? super A> subscriber, Iterable<A> as, Executor executor) {
+            this.subscriber = subscriber;
+            this.as = as;
+            this.executor = executor;
+            demand = new AtomicLong();
+            wip = new AtomicInteger();
+        }
+
+        @Override
+        public void request(long n) {
+            if (!addDemand(demand, n))
+                invalidRequest = nonPositiveRequest(n);
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0)
+                runAsync(this::drain, executor);
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    release();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    cancelled = true;
+                    release();
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+                try {
+                    long requested = demand.get();
+                    if (requested != 0) {
+                        if (iterator == null)
+                            iterator = as.iterator();
+                        long emitted = 0;
+                        while (emitted != requested && !cancelled) {
+                            if (!iterator.hasNext()) {
+                                cancelled = true;
+                                release();
+                                subscriber.onComplete();
+                                return;
+                            }
+                            subscriber.onNext(iterator.next());
+                            emitted++;
+                        }
+                        if (requested != Long.MAX_VALUE)
+                            demand.addAndGet(-emitted);
+                    }
+                } catch (Throwable t) {
+                    cancelled = true;
+                    release();
+                    subscriber.onError(t);
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void release() {
+            Iterator<A> toClose = iterator;
+            iterator = null;
+            if (toClose != null)
+                CloseableIterator.close(toClose);
+        }
+    }
+
+    private static final class StreamSubscription<A> implements Flow.Subscription {
+        private final    Flow.Subscriber<? super A> subscriber;
+        private final    IOStream<A>                stream;
+        private final    Executor                   executor;
+        private final    AtomicLong                 demand;
+        private final    AtomicInteger              wip;
+        private final    AtomicBoolean              started;
+        private volatile boolean                    cancelled;
+        private volatile Throwable                  invalidRequest;
+        private volatile List<A>                    chunk;
+        private volatile CompletableFuture<Unit>    chunkConsumed;
+        private volatile boolean                    completed;
+        private volatile Throwable                  failure;
+        private          int                        index;
+
+        private StreamSubscription(Flow.Subscriber<? super A> subscriber, IOStream<A> stream, Executor executor) {
+            this.subscriber = subscriber;
+            this.stream = stream;
+            this.executor = executor;
+            demand = new AtomicLong();
+            wip = new AtomicInteger();
+            started = new AtomicBoolean();
+        }
+
+        @Override
+        public void request(long n) {
+            if (!addDemand(demand, n))
+                invalidRequest = nonPositiveRequest(n);
+            else if (started.compareAndSet(false, true))
+                stream.forEachChunk(c -> externallyManaged(() -> offer(c)))
+                        .unsafePerformAsyncIO(executor)
+                        .whenComplete((u, t) -> {
+                            if (t == null)
+                                completed = true;
+                            else
+                                failure = t instanceof CompletionException && t.getCause() != null
+                                          ? t.getCause()
+                                          : t;
+                            drain();
+                        });
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private CompletableFuture<Unit> offer(List<A> next) {
+            CompletableFuture<Unit> consumed = new CompletableFuture<>();
+            if (cancelled) {
+                consumed.completeExceptionally(new CancellationException());
+                return consumed;
+            }
+            chunkConsumed = consumed;
+            index = 0;
+            chunk = next;
+            drain();
+            return consumed;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            do {
+                if (invalidRequest != null && !cancelled) {
+                    cancelled = true;
+                    subscriber.onError(invalidRequest);
+                }
+                if (cancelled) {
+                    CompletableFuture<Unit> consumed = chunkConsumed;
+                    chunk = null;
+                    chunkConsumed = null;
+                    if (consumed != null)
+                        consumed.completeExceptionally(new CancellationException());
+                } else {
+                    List<A> current = chunk;
+                    if (current != null) {
+                        long requested = demand.get();
+                        long emitted = 0;
+                        while (emitted != requested && index < current.size() && !cancelled) {
+                            subscriber.onNext(current.get(index++));
+                            emitted++;
+                        }
+                        if (requested != Long.MAX_VALUE)
+                            demand.addAndGet(-emitted);
+                        if (index == current.size()) {
+                            CompletableFuture<Unit> consumed = chunkConsumed;
+                            chunk = null;
+                            chunkConsumed = null;
+                            consumed.complete(UNIT);
+                        }
+                    }
+                    if (chunk == null && (completed || failure != null) && !cancelled) {
+                        cancelled = true;
+                        if (failure != null)
+                            subscriber.onError(failure);
+                        else
+                            subscriber.onComplete();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+
+    private static final class BufferedSubscriber<A> implements Flow.Subscriber<A> {
+        private final int                        bufferSize;
+        private final ArrayDeque<A>              buffer;
+        private       Flow.Subscription          subscription;
+        private       boolean                    cancelled;
+        private       boolean                    completed;
+        private       Throwable                  failure;
+        private       CompletableFuture<List<A>> pending;
+
+        private BufferedSubscriber(int bufferSize) {
+            this.bufferSize = bufferSize;
+            buffer = new ArrayDeque<>();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            boolean rejected;
+            synchronized (this) {
+                rejected = this.subscription != null || cancelled;
+                if (this.subscription == null)
+                    this.subscription = subscription;
+            }
+            if (rejected)
+                subscription.cancel();
+            else
+                subscription.request(bufferSize);
+        }
+
+        @Override
+        public void onNext(A item) {
+            CompletableFuture<List<A>> waiting;
+            synchronized (this) {
+                waiting = pending;
+                pending = null;
+                if (waiting == null)
+                    buffer.add(item);
+            }
+            if (waiting != null) {
+                subscription.request(1);
+                waiting.complete(singletonList(item));
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            CompletableFuture<List<A>> waiting;
+            synchronized (this) {
+                failure = throwable;
+                waiting = pending;
+                pending = null;
+            }
+            if (waiting != null)
+                waiting.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            CompletableFuture<List<A>> waiting;
+            synchronized (this) {
+                completed = true;
+                waiting = pending;
+                pending = null;
+            }
+            if (waiting != null)
+                waiting.complete(emptyList());
+        }
+
+        private CompletableFuture<List<A>> nextChunk() {
+            List<A> chunk;
+            synchronized (this) {
+                if (buffer.isEmpty()) {
+                    if (failure != null) {
+                        CompletableFuture<List<A>> failed = new CompletableFuture<>();
+                        failed.completeExceptionally(failure);
+                        return failed;
+                    }
+                    if (completed)
+                        return completedFuture(emptyList());
+                    pending = new CompletableFuture<>();
+                    return pending;
+                }
+                chunk = new ArrayList<>(buffer);
+                buffer.clear();
+            }
+            subscription.request(chunk.size());
+            return completedFuture(chunk);
+        }
+
+        private void cancel() {
+            Flow.Subscription toCancel;
+            synchronized (this) {
+                cancelled = true;
+                toCancel = subscription;
+            }
+            if (toCancel != null)
+                toCancel.cancel();
+        }
+    }
+
+    private static final class PublisherIterator<A> extends ImmutableIterator<A> {
+        private final BufferedSubscriber<A> subscriber;
+        private       Iterator<A>           chunk;
+        private       boolean               done;
+
+        private PublisherIterator(Flow.Publisher<A> publisher, int bufferSize) {
+            subscriber = new BufferedSubscriber<>(bufferSize);
+            publisher.subscribe(subscriber);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (chunk == null || !chunk.hasNext()) {
+                if (done)
+                    return false;
+                List<A> next = await(subscriber.nextChunk());
+                if (next.isEmpty())
+                    done = true;
+                chunk = next.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public A next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return chunk.next();
+        }
+
+        @Override
+        public void close() {
+            done = true;
+            chunk = null;
+            subscriber.cancel();
+        }
+
+        private static <A> A await(CompletableFuture<A> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() == null ? e : e.getCause();
+                return CheckedSupplier.<Throwable, A>checked(() -> {
+                    throw cause;
+                }).get();
+            }
+        }
+    }
+}
@@ -4,26 +4,35 @@ import com.jnape.palatable.lambda.adt.Try;
 import com.jnape.palatable.lambda.adt.Unit;
 import com.jnape.palatable.lambda.adt.choice.Choice2;
 import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.specialized.checked.CheckedSupplier;
 import com.jnape.palatable.lambda.functor.Applicative;
 import com.jnape.palatable.lambda.functor.builtin.Lazy;
 import com.jnape.palatable.lambda.monad.Monad;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.LinkedList;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static com.jnape.palatable.lambda.adt.Unit.UNIT;
 import static com.jnape.palatable.lambda.adt.choice.Choice2.a;
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
 import static com.jnape.palatable.lambda.functions.Fn0.fn0;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Into.into;
-import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
 import static com.jnape.palatable.lambda.functions.recursion.RecursiveResult.recurse;
 import static com.jnape.palatable.lambda.functions.recursion.RecursiveResult.terminate;
 import static com.jnape.palatable.lambda.functions.recursion.Trampoline.trampoline;
 import static com.jnape.palatable.lambda.functions.specialized.checked.CheckedSupplier.checked;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.runAsync;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.concurrent.ForkJoinPool.commonPool;
 
@@ -31,6 +40,9 @@ import static java.util.concurrent.ForkJoinPool.commonPool;
  * A {@link Monad} representing some side-effecting computation to be performed. Note that because {@link IO} inherently
  * offers an interface supporting parallelism, the optimal execution strategy for any given {@link IO} is encoded in
  * its composition.
+ * <p>
+ * Execution can be observed by {@link IOTracing#install(IOListener) installing} an {@link IOListener}, which is
+ * notified of the timing and outcome of every suspended stage and every {@link IO#named(String) named} span.
  *
  * @param <A> the result type
  */
@@ -92,6 +104,75 @@ public abstract class IO<A> implements Monad<A, IO<?>> {
         };
     }
 
+    /**
+     * Mark this {@link IO} as a span named <code>name</code>: while an {@link IOListener} is
+     * {@link IOTracing#install(IOListener) installed}, performing the returned {@link IO} reports an {@link IOEvent}
+     * carrying the name, the time taken to run this {@link IO} to completion, and any failure. While no listener is
+     * installed, the returned {@link IO} simply performs this one.
+     *
+     * @param name the span name
+     * @return the named {@link IO}
+     * @see IOTracing
+     */
+    public final IO<A> named(String name) {
+        return new IO<A>() {
+            @Override
+            public A unsafePerformIO() {
+                IOListener listener = IOTracing.listener();
+                return listener == null
+                       ? IO.this.unsafePerformIO()
+                       : IOTracing.traceSync(listener, name, IO.this::unsafePerformIO);
+            }
+
+            @Override
+            public CompletableFuture<A> unsafePerformAsyncIO(Executor executor) {
+                IOListener listener = IOTracing.listener();
+                return listener == null
+                       ? IO.this.unsafePerformAsyncIO(executor)
+                       : IOTracing.traceCompletion(listener, name, () -> IO.this.unsafePerformAsyncIO(executor));
+            }
+        };
+    }
+
+    /**
+     * Produce an {@link IO} that performs this {@link IO} at most once successfully, yielding the first successful
+     * result from then on. Performances that overlap with one in progress share its outcome rather than performing
+     * this {@link IO} again; if it fails, the failure is shared with those performances but not remembered, so the
+     * next performance tries again.
+     *
+     * @return the memoized {@link IO}
+     */
+    public final IO<A> memoize() {
+        return shared(() -> this, new Cache<>(null, Instant::now));
+    }
+
+    /**
+     * Like {@link IO#memoize()}, but a successful result is only kept for <code>ttl</code> after it was produced, as
+     * measured by {@link Instant#now()}, after which the next performance refreshes it.
+     *
+     * @param ttl the time a result is kept for
+     * @return the cached {@link IO}
+     * @see IO#cached(Duration, Supplier)
+     */
+    public final IO<A> cached(Duration ttl) {
+        return cached(ttl, Instant::now);
+    }
+
+    /**
+     * Like {@link IO#memoize()}, but a successful result is only kept for <code>ttl</code> after it was produced, as
+     * measured by <code>clock</code>, after which the next performance refreshes it. Performances during a refresh
+     * share the refreshed result.
+     *
+     * @param ttl   the time a result is kept for
+     * @param clock the clock measuring expiry
+     * @return the cached {@link IO}
+     */
+    public final IO<A> cached(Duration ttl, Supplier<Instant> clock) {
+        if (ttl.isNegative())
+            throw new IllegalArgumentException("ttl must not be negative: " + ttl);
+        return shared(() -> this, new Cache<>(ttl, clock));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -166,17 +247,7 @@ public abstract class IO<A> implements Monad<A, IO<?>> {
      * @return the {@link IO}
      */
     public static <A> IO<A> io(A a) {
-        return new IO<A>() {
-            @Override
-            public A unsafePerformIO() {
-                return a;
-            }
-
-            @Override
-            public CompletableFuture<A> unsafePerformAsyncIO(Executor executor) {
-                return completedFuture(a);
-            }
-        };
+        return new Pure<>(a);
     }
 
     /**
@@ -187,17 +258,7 @@ public abstract class IO<A> implements Monad<A, IO<?>> {
      * @return the {@link IO}
      */
     public static <A> IO<A> io(Supplier<A> supplier) {
-        return new IO<A>() {
-            @Override
-            public A unsafePerformIO() {
-                return supplier.get();
-            }
-
-            @Override
-            public CompletableFuture<A> unsafePerformAsyncIO(Executor executor) {
-                return supplyAsync(supplier, executor);
-            }
-        };
+        return new Suspended<>(supplier);
     }
 
     /**
@@ -231,11 +292,150 @@ public abstract class IO<A> implements Monad<A, IO<?>> {
 
             @Override
             public CompletableFuture<A> unsafePerformAsyncIO(Executor executor) {
-                return supplier.get();
+                IOListener listener = IOTracing.listener();
+                return AsyncRun.userCode(listener == null
+                                         ? supplier
+                                         : () -> IOTracing.traceCompletion(listener, null, supplier));
+            }
+        };
+    }
+
+    /**
+     * Like {@link IO#externallyManaged(Supplier)}, but the future is produced from the {@link Executor} the
+     * {@link IO} is being performed with.
+     */
+    static <A> IO<A> executorAware(Function<? super Executor, ? extends CompletableFuture<A>> fn) {
+        return executorAware(() -> checked(() -> fn.apply(commonPool()).get()).get(), fn);
+    }
+
+    /**
+     * Like {@link IO#executorAware(Function)}, but synchronous performances run <code>sync</code> on the calling
+     * thread instead of waiting on the future produced from the default {@link Executor}.
+     */
+    static <A> IO<A> executorAware(Supplier<A> sync, Function<? super Executor, ? extends CompletableFuture<A>> fn) {
+        return new IO<A>() {
+            @Override
+            public A unsafePerformIO() {
+                IOListener listener = IOTracing.listener();
+                return listener == null ? sync.get() : IOTracing.traceSync(listener, null, sync);
+            }
+
+            @Override
+            public CompletableFuture<A> unsafePerformAsyncIO(Executor executor) {
+                IOListener listener = IOTracing.listener();
+                return listener == null
+                       ? fn.apply(executor)
+                       : IOTracing.traceCompletion(listener, null, () -> fn.apply(executor));
             }
         };
     }
 
+    /**
+     * An {@link IO} whose performances run <code>io</code> or share a run already in flight, as decided by
+     * <code>flights</code>.
+     */
+    static <A> IO<A> shared(Supplier<? extends IO<A>> io, Flights<A> flights) {
+        return new IO<A>() {
+            @Override
+            public A unsafePerformIO() {
+                CompletableFuture<A> candidate = new CompletableFuture<>();
+                CompletableFuture<A> flight = flights.join(candidate);
+                if (flight != candidate) {
+                    try {
+                        return flight.join();
+                    } catch (CompletionException e) {
+                        Throwable cause = e.getCause() == null ? e : e.getCause();
+                        return CheckedSupplier.<Throwable, A>checked(() -> {
+                            throw cause;
+                        }).get();
+                    }
+                }
+
+                A a;
+                try {
+                    a = io.get().unsafePerformIO();
+                } catch (Throwable t) {
+                    flights.failed(candidate);
+                    candidate.completeExceptionally(t);
+                    throw t;
+                }
+                flights.succeeded(candidate);
+                candidate.complete(a);
+                return a;
+            }
+
+            @Override
+            public CompletableFuture<A> unsafePerformAsyncIO(Executor executor) {
+                CompletableFuture<A> candidate = new CompletableFuture<>();
+                CompletableFuture<A> flight = flights.join(candidate);
+                if (flight == candidate) {
+                    CompletableFuture<A> run;
+                    try {
+                        run = io.get().unsafePerformAsyncIO(executor);
+                    } catch (Throwable t) {
+                        run = new CompletableFuture<>();
+                        run.completeExceptionally(t);
+                    }
+                    run.whenComplete((a, t) -> {
+                        if (t == null) {
+                            flights.succeeded(candidate);
+                            candidate.complete(a);
+                        } else {
+                            flights.failed(candidate);
+                            candidate.completeExceptionally(t);
+                        }
+                    });
+                }
+                return flight.thenApply(id());
+            }
+        };
+    }
+
+    /**
+     * The {@link RunGroup} of the asynchronous run the current thread is interpreting, or <code>null</code> if the
+     * current thread is not interpreting one, or is running user code on its behalf.
+     */
+    static RunGroup runGroup() {
+        return AsyncRun.currentGroup();
+    }
+
+    /**
+     * A group of asynchronous runs that progress in rounds together: a run started outside of any other, along with
+     * every run the interpreter starts on its behalf, such as the branches of its zips. A round ends once every run in
+     * the group has either finished or is waiting on an incomplete future, at which point work deferred to the end of
+     * the round runs, possibly completing those futures and starting the next round.
+     */
+    static final class RunGroup {
+        private final AtomicInteger                   active     = new AtomicInteger(0);
+        private final ConcurrentLinkedQueue<Runnable> endOfRound = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Run <code>work</code> once the current round of this group ends. Must only be called on behalf of a run in
+         * this group that has not yet finished or started waiting.
+         */
+        void atEndOfRound(Runnable work) {
+            endOfRound.add(work);
+        }
+
+        private void enter() {
+            active.incrementAndGet();
+        }
+
+        private void exit() {
+            if (active.decrementAndGet() != 0)
+                return;
+
+            Runnable work;
+            while (active.get() == 0 && (work = endOfRound.poll()) != null) {
+                Runnable next = work;
+                AsyncRun.userCode(() -> {
+                    next.run();
+                    return UNIT;
+                });
+            }
+        }
+    }
+
     private static final class Compose<A> extends IO<A> {
         private final IO<Object>                                                          source;
         private final Choice2<IO<Function<Object, Object>>, Function<Object, IO<Object>>> composition;
@@ -268,15 +468,10 @@ public abstract class IO<A> implements Monad<A, IO<?>> {
 
         @Override
         public CompletableFuture<A> unsafePerformAsyncIO(Executor executor) {
+            RunGroup group = AsyncRun.currentGroup();
             @SuppressWarnings("unchecked")
-            CompletableFuture<A> future = (CompletableFuture<A>) deforest(new LinkedList<>())
-                    .into((source, compositions) -> foldLeft(
-                            (io, composition) -> composition
-                                    .match(zip -> zip.unsafePerformAsyncIO(executor).thenCompose(io::thenApply),
-                                           flatMap -> io.thenComposeAsync(obj -> flatMap.apply(obj)
-                                                   .unsafePerformAsyncIO(executor))),
-                            source.unsafePerformAsyncIO(executor),
-                            compositions));
+            CompletableFuture<A> future = (CompletableFuture<A>)
+                    new AsyncRun(executor, group == null ? new RunGroup() : group).start(this);
             return future;
         }
 
@@ -294,4 +489,283 @@ public abstract class IO<A> implements Monad<A, IO<?>> {
         }
 
     }
+
+    private static final class Pure<A> extends IO<A> {
+        private final A a;
+
+        private Pure(A a) {
+            this.a = a;
+        }
+
+        @Override
+        public A unsafePerformIO() {
+            return a;
+        }
+
+        @Override
+        public CompletableFuture<A> unsafePerformAsyncIO(Executor executor) {
+            return completedFuture(a);
+        }
+    }
+
+    private static final class Suspended<A> extends IO<A> {
+        private final Supplier<A> supplier;
+
+        private Suspended(Supplier<A> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public A unsafePerformIO() {
+            IOListener listener = IOTracing.listener();
+            return listener == null ? supplier.get() : IOTracing.traceSync(listener, null, supplier);
+        }
+
+        @Override
+        public CompletableFuture<A> unsafePerformAsyncIO(Executor executor) {
+            IOListener listener = IOTracing.listener();
+            return listener == null
+                   ? supplyAsync(supplier, executor)
+                   : IOTracing.traceAsync(listener, supplier, executor);
+        }
+
+        private A performAfterQueueing(long submitted) {
+            IOListener listener = IOTracing.listener();
+            return listener == null
+                   ? supplier.get()
+                   : IOTracing.traceSync(listener, null, System.nanoTime() - submitted, supplier);
+        }
+    }
+
+    /**
+     * The asynchronous interpreter for a single {@link IO}. Pure values, bound functions, and already-completed futures
+     * are processed in a loop on the current thread; the executor is only involved when a suspended effect first needs
+     * to run off of the calling thread, and when resuming after a future that was not yet complete. Zipped
+     * {@link IO}s are started as independent runs in the same {@link RunGroup} before the current run proceeds,
+     * preserving their parallelism.
+     * <p>
+     * All runs and resumptions are driven through a thread-local work queue, so neither deeply nested compositions nor
+     * long chains of synchronously completed stages grow the stack. The queue is hidden while user code (suspended
+     * effects, bound and zipped functions, and callbacks on results) runs, so that an {@link IO} performed from within
+     * user code drives itself to completion or to its first wait rather than being queued behind the very step that
+     * may be blocking on it.
+     */
+    private static final class AsyncRun {
+        private static final ThreadLocal<WorkQueue> WORK_QUEUE = new ThreadLocal<>();
+
+        private final Executor                  executor;
+        private final RunGroup                  group;
+        private final CompletableFuture<Object> result;
+        private final ArrayDeque<Object>        steps;
+        private       boolean                   onExecutor;
+        private       boolean                   finished;
+
+        private AsyncRun(Executor executor, RunGroup group) {
+            this.executor = executor;
+            this.group = group;
+            result = new CompletableFuture<>();
+            steps = new ArrayDeque<>();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <A> CompletableFuture<Object> start(IO<A> io) {
+            group.enter();
+            drive(() -> evaluate((IO<Object>) io));
+            return result;
+        }
+
+        private void evaluate(IO<Object> io) {
+            try {
+                while (true) {
+                    if (io instanceof Compose<?>) {
+                        boolean startedZip = false;
+                        while (io instanceof Compose<?>) {
+                            Compose<?> compose = (Compose<?>) io;
+                            startedZip |= compose.composition.match(zip -> {
+                                steps.push(startZip(zip));
+                                return true;
+                            }, flatMap -> {
+                                steps.push(flatMap);
+                                return false;
+                            });
+                            io = compose.source;
+                        }
+                        if (startedZip) {
+                            IO<Object> leaf = io;
+                            drive(() -> evaluate(leaf));
+                            return;
+                        }
+                    }
+
+                    Object value;
+                    if (io instanceof Pure<?>) {
+                        value = ((Pure<?>) io).a;
+                    } else if (io instanceof Suspended<?>) {
+                        Suspended<?> suspended = (Suspended<?>) io;
+                        if (!onExecutor) {
+                            long submitted = System.nanoTime();
+                            hop(() -> {
+                                onExecutor = true;
+                                Object queued;
+                                try {
+                                    queued = userCode(() -> suspended.performAfterQueueing(submitted));
+                                } catch (Throwable t) {
+                                    fail(t);
+                                    return;
+                                }
+                                proceed(queued);
+                            });
+                            return;
+                        }
+                        value = userCode(suspended::unsafePerformIO);
+                    } else {
+                        CompletableFuture<Object> future = io.unsafePerformAsyncIO(executor);
+                        if (!future.isDone()) {
+                            resumeAfter(future, () -> proceed(future.join()));
+                            return;
+                        }
+                        value = future.join();
+                    }
+
+                    io = applySteps(value);
+                    if (io == null)
+                        return;
+                }
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        private void proceed(Object value) {
+            IO<Object> next;
+            try {
+                next = applySteps(value);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            if (next != null)
+                evaluate(next);
+        }
+
+        @SuppressWarnings("unchecked")
+        private IO<Object> applySteps(Object value) {
+            while (!steps.isEmpty()) {
+                Object step = steps.peek();
+                if (step instanceof CompletableFuture<?>) {
+                    CompletableFuture<Function<Object, Object>> zip = (CompletableFuture<Function<Object, Object>>) step;
+                    if (!zip.isDone()) {
+                        Object pending = value;
+                        resumeAfter(zip, () -> proceed(pending));
+                        return null;
+                    }
+                    steps.pop();
+                    Object zipped = value;
+                    value = userCode(() -> zip.join().apply(zipped));
+                } else {
+                    steps.pop();
+                    Object bound = value;
+                    return userCode(() -> ((Function<Object, IO<Object>>) step).apply(bound));
+                }
+            }
+            complete(value);
+            return null;
+        }
+
+        private <T> CompletableFuture<T> startZip(IO<T> zip) {
+            if (zip instanceof Pure<?>)
+                return completedFuture(((Pure<T>) zip).a);
+            @SuppressWarnings("unchecked")
+            CompletableFuture<T> future = (CompletableFuture<T>) new AsyncRun(executor, group).start(zip);
+            return future;
+        }
+
+        private void resumeAfter(CompletableFuture<?> future, Runnable resumption) {
+            future.whenComplete((x, t) -> {
+                group.enter();
+                hop(() -> {
+                    if (t != null) {
+                        fail(t);
+                        return;
+                    }
+                    onExecutor = true;
+                    resumption.run();
+                });
+            });
+            group.exit();
+        }
+
+        private void complete(Object value) {
+            if (finished)
+                return;
+            finished = true;
+            userCode(() -> result.complete(value));
+            group.exit();
+        }
+
+        private void fail(Throwable t) {
+            if (finished)
+                return;
+            finished = true;
+            userCode(() -> result.completeExceptionally(t instanceof CompletionException
+                                                         ? t
+                                                         : new CompletionException(t)));
+            group.exit();
+        }
+
+        private void hop(Runnable work) {
+            runAsync(() -> drive(work), executor);
+        }
+
+        private void drive(Runnable work) {
+            WorkQueue queue = WORK_QUEUE.get();
+            if (queue != null && !queue.userCode) {
+                queue.runs.add(this);
+                queue.work.add(work);
+                return;
+            }
+
+            WorkQueue outer = queue;
+            queue = new WorkQueue();
+            WORK_QUEUE.set(queue);
+            try {
+                AsyncRun run = this;
+                Runnable next = work;
+                do {
+                    queue.current = run;
+                    next.run();
+                } while ((run = queue.runs.poll()) != null && (next = queue.work.poll()) != null);
+            } finally {
+                if (outer == null)
+                    WORK_QUEUE.remove();
+                else
+                    WORK_QUEUE.set(outer);
+            }
+        }
+
+        private static RunGroup currentGroup() {
+            WorkQueue queue = WORK_QUEUE.get();
+            return queue == null || queue.userCode || queue.current == null ? null : queue.current.group;
+        }
+
+        private static <T> T userCode(Supplier<T> code) {
+            WorkQueue queue = WORK_QUEUE.get();
+            if (queue == null || queue.userCode)
+                return code.get();
+
+            queue.userCode = true;
+            try {
+                return code.get();
+            } finally {
+                queue.userCode = false;
+            }
+        }
+
+        private static final class WorkQueue {
+            private final ArrayDeque<AsyncRun> runs = new ArrayDeque<>();
+            private final ArrayDeque<Runnable> work = new ArrayDeque<>();
+            private       AsyncRun             current;
+            private       boolean              userCode;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package com.jnape.palatable.lambda.io;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import static com.jnape.palatable.lambda.adt.Maybe.maybe;
+
+/**
+ * The timing and outcome of a completed {@link IO} stage or span, delivered to an installed {@link IOListener}.
+ * <p>
+ * A <em>stage</em> is a single suspended effect, such as one constructed by {@link IO#io(java.util.function.Supplier)}
+ * or {@link IO#externallyManaged(java.util.function.Supplier)}, and has no name. A <em>span</em> is the whole of an
+ * {@link IO} marked with {@link IO#named(String)}, and carries that name.
+ */
+public final class IOEvent {
+    private final String    name;
+    private final long      queueWaitNanos;
+    private final long      runNanos;
+    private final Throwable failure;
+
+    IOEvent(String name, long queueWaitNanos, long runNanos, Throwable failure) {
+        this.name = name;
+        this.queueWaitNanos = queueWaitNanos;
+        this.runNanos = runNanos;
+        this.failure = failure;
+    }
+
+    /**
+     * The name of the span, or {@link Maybe#nothing()} for an anonymous stage.
+     *
+     * @return {@link Maybe} the name
+     */
+    public Maybe<String> name() {
+        return maybe(name);
+    }
+
+    /**
+     * The time spent between submitting an asynchronous stage to its executor and the stage starting to run; always
+     * zero for synchronous stages and for spans.
+     *
+     * @return the queue wait in nanoseconds
+     */
+    public long queueWaitNanos() {
+        return queueWaitNanos;
+    }
+
+    /**
+     * The time spent between the stage or span starting to run and completing.
+     *
+     * @return the run time in nanoseconds
+     */
+    public long runNanos() {
+        return runNanos;
+    }
+
+    /**
+     * The {@link Throwable} the stage or span failed with, or {@link Maybe#nothing()} if it succeeded.
+     *
+     * @return {@link Maybe} the failure
+     */
+    public Maybe<Throwable> failure() {
+        return maybe(failure);
+    }
+
+    @Override
+    public String toString() {
+        return "IOEvent{name=" + name + ", queueWaitNanos=" + queueWaitNanos + ", runNanos=" + runNanos
+                + ", failure=" + failure + '}';
+    }
+}
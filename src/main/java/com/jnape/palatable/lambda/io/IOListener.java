@@ -0,0 +1,23 @@
+package com.jnape.palatable.lambda.io;
+
+/**
+ * A listener notified as {@link IO} stages and named spans complete, installed via
+ * {@link IOTracing#install(IOListener)}.
+ * <p>
+ * Listeners are invoked synchronously on the thread that completed the stage or span, so they should be fast and
+ * thread-safe, and they should not throw: an exception thrown by a listener propagates to the caller running the
+ * {@link IO}.
+ *
+ * @see IOTracing
+ * @see IOEvent
+ */
+@FunctionalInterface
+public interface IOListener {
+
+    /**
+     * Receive the timing and outcome of a completed stage or span.
+     *
+     * @param event the event
+     */
+    void onCompletion(IOEvent event);
+}
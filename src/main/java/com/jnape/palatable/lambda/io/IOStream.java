@@ -0,0 +1,560 @@
+package com.jnape.palatable.lambda.io;
+
+import com.jnape.palatable.lambda.adt.Either;
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.adt.Unit;
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.specialized.checked.CheckedSupplier;
+import com.jnape.palatable.lambda.functor.Applicative;
+import com.jnape.palatable.lambda.functor.builtin.Lazy;
+import com.jnape.palatable.lambda.monad.Monad;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.jnape.palatable.lambda.adt.Unit.UNIT;
+import static com.jnape.palatable.lambda.io.IO.executorAware;
+import static com.jnape.palatable.lambda.io.IO.io;
+import static com.jnape.palatable.lambda.iteration.CloseableIterator.close;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.CompletableFuture.anyOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+/**
+ * A lazy, effectful stream of elements, each pulled via an {@link IO}, for sources such as paged APIs, database
+ * cursors, or queues whose next element is not available without performing an effect.
+ * <p>
+ * Elements travel through the stream in chunks, so that combinators like {@link IOStream#fmap(Function) fmap} and
+ * {@link IOStream#filter(Predicate) filter} process many elements per pull in tight loops rather than paying for an
+ * {@link IO} step per element. Nothing is pulled until a terminal {@link IO} such as
+ * {@link IOStream#fold(Object, BiFunction) fold} or {@link IOStream#toList() toList} is performed, and each performance
+ * runs the stream from the start. Since pulls are ordinary {@link IO}s, asynchronous performance never blocks a thread
+ * waiting on the next element.
+ * <p>
+ * Resources acquired via {@link IOStream#bracket(IO, Function, Function) bracket} are released as soon as the stream
+ * using them is exhausted, or else when the terminal {@link IO} consuming the stream completes, whether because it
+ * stopped pulling early, as with {@link IOStream#take(int) take}, or because it failed.
+ *
+ * @param <A> the element type
+ */
+public final class IOStream<A> implements Monad<A, IOStream<?>> {
+    private static final int         DEFAULT_CHUNK_SIZE = 256;
+    private static final IOStream<?> EMPTY              = new IOStream<>(scope -> io(Step.done()));
+
+    private final Function<Scope, IO<Step<A>>> pull;
+
+    private IOStream(Function<Scope, IO<Step<A>>> pull) {
+        this.pull = pull;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B> IOStream<B> fmap(Function<? super A, ? extends B> fn) {
+        return new IOStream<>(scope -> pull.apply(scope).fmap(step -> {
+            if (step.isDone())
+                return Step.done();
+            Object[] mapped = new Object[step.size];
+            for (int i = 0; i < step.size; i++)
+                mapped[i] = fn.apply((A) step.chunk[i]);
+            return new Step<>(mapped, step.size, step.rest.fmap(fn));
+        }));
+    }
+
+    /**
+     * Produce a stream of only those elements of this stream that satisfy <code>predicate</code>.
+     *
+     * @param predicate the predicate
+     * @return the filtered stream
+     */
+    @SuppressWarnings("unchecked")
+    public IOStream<A> filter(Predicate<? super A> predicate) {
+        return new IOStream<>(scope -> pull.apply(scope).flatMap(step -> {
+            if (step.isDone())
+                return io(step);
+            Object[] kept = new Object[step.size];
+            int size = 0;
+            for (int i = 0; i < step.size; i++)
+                if (predicate.test((A) step.chunk[i]))
+                    kept[size++] = step.chunk[i];
+            return size == 0
+                   ? step.rest.filter(predicate).pull.apply(scope)
+                   : io(new Step<>(kept, size, step.rest.filter(predicate)));
+        }));
+    }
+
+    /**
+     * Produce a stream of at most the first <code>n</code> elements of this stream. Once <code>n</code> elements
+     * have been pulled, this stream is not pulled again.
+     *
+     * @param n the number of elements to take
+     * @return the truncated stream
+     */
+    public IOStream<A> take(int n) {
+        if (n <= 0)
+            return empty();
+        return new IOStream<>(scope -> pull.apply(scope).fmap(step -> {
+            if (step.isDone())
+                return step;
+            return step.size >= n
+                   ? new Step<>(step.chunk, n, empty())
+                   : new Step<>(step.chunk, step.size, step.rest.take(n - step.size));
+        }));
+    }
+
+    /**
+     * Produce a stream of the elements of this stream followed by the elements of <code>other</code>.
+     *
+     * @param other the stream to append
+     * @return the concatenated stream
+     */
+    public IOStream<A> concat(IOStream<A> other) {
+        return new IOStream<>(scope -> pull.apply(scope).flatMap(step -> step.isDone()
+                                                                         ? other.pull.apply(scope)
+                                                                         : io(new Step<>(step.chunk, step.size,
+                                                                                         step.rest.concat(other)))));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <B> IOStream<B> flatMap(Function<? super A, ? extends Monad<B, IOStream<?>>> f) {
+        return new IOStream<>(scope -> pull.apply(scope).flatMap(
+                step -> step.isDone()
+                        ? io(Step.done())
+                        : flatMapChunk(step.chunk, 0, step.size, step.rest, f).pull.apply(scope)));
+    }
+
+    /**
+     * Produce a stream of the elements of both this stream and <code>other</code>, in the order they become
+     * available. When performed asynchronously, both streams are pulled concurrently and each chunk is emitted as
+     * soon as it arrives; when performed synchronously, the streams' chunks are interleaved.
+     *
+     * @param other the stream to merge with
+     * @return the merged stream
+     */
+    public IOStream<A> merge(IOStream<A> other) {
+        return new IOStream<>(scope -> executorAware(() -> {
+            Step<A> step = pull.apply(scope).unsafePerformIO();
+            return step.isDone()
+                   ? other.pull.apply(scope).unsafePerformIO()
+                   : new Step<>(step.chunk, step.size, other.merge(step.rest));
+        }, executor -> {
+            CompletableFuture<Step<A>> left = pull.apply(scope).unsafePerformAsyncIO(executor);
+            CompletableFuture<Step<A>> right = other.pull.apply(scope).unsafePerformAsyncIO(executor);
+            return anyOf(left, right).handle((x, t) -> UNIT).thenCompose(ready -> {
+                boolean leftFirst = left.isDone();
+                CompletableFuture<Step<A>> first = leftFirst ? left : right;
+                CompletableFuture<Step<A>> second = leftFirst ? right : left;
+                if (first.isCompletedExceptionally())
+                    return first;
+                Step<A> step = first.join();
+                return step.isDone()
+                       ? second
+                       : completedFuture(new Step<>(step.chunk, step.size, step.rest.merge(pending(second))));
+            });
+        }));
+    }
+
+    /**
+     * Produce a stream of the results of applying <code>fn</code> to the elements of this stream and
+     * <code>other</code> pairwise, ending as soon as either stream ends.
+     *
+     * @param other the stream to zip with
+     * @param fn    the function combining paired elements
+     * @param <B>   the other stream's element type
+     * @param <C>   the combined element type
+     * @return the zipped stream
+     */
+    @SuppressWarnings("unchecked")
+    public <B, C> IOStream<C> zipWith(IOStream<B> other, BiFunction<? super A, ? super B, ? extends C> fn) {
+        return new IOStream<>(scope -> pull.apply(scope).flatMap(left -> left.isDone()
+                                                                         ? io(Step.done())
+                                                                         : other.pull.apply(scope).fmap(right -> {
+            if (right.isDone())
+                return Step.done();
+            int size = Math.min(left.size, right.size);
+            Object[] zipped = new Object[size];
+            for (int i = 0; i < size; i++)
+                zipped[i] = fn.apply((A) left.chunk[i], (B) right.chunk[i]);
+            return new Step<>(zipped, size, left.remainder(size).zipWith(right.remainder(size), fn));
+        })));
+    }
+
+    /**
+     * An {@link IO} that pulls every element of this stream, accumulating them from left to right starting with
+     * <code>zero</code>.
+     *
+     * @param zero the starting accumulation
+     * @param fn   the accumulation function
+     * @param <B>  the accumulation type
+     * @return the {@link IO} yielding the accumulation
+     */
+    public <B> IO<B> fold(B zero, BiFunction<? super B, ? super A, ? extends B> fn) {
+        return scoped(scope -> foldLoop(this, zero, fn, scope));
+    }
+
+    /**
+     * An {@link IO} that pulls every element of this stream into a fresh {@link List}.
+     *
+     * @return the {@link IO} yielding the elements
+     */
+    public IO<List<A>> toList() {
+        return scoped(scope -> foldLoop(this, new ArrayList<>(), (list, a) -> {
+            list.add(a);
+            return list;
+        }, scope));
+    }
+
+    /**
+     * An {@link IO} that pulls every chunk of this stream, performing the {@link IO} produced by <code>fn</code> for
+     * each chunk before pulling the next. Chunks are presented as unmodifiable {@link List}s sharing the stream's
+     * internal storage, and are never empty.
+     *
+     * @param fn the function from a chunk to the {@link IO} consuming it
+     * @return the {@link IO} consuming the stream
+     */
+    public IO<Unit> forEachChunk(Function<? super List<A>, ? extends IO<?>> fn) {
+        return scoped(scope -> chunkLoop(this, fn, scope));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <B> IOStream<B> pure(B b) {
+        return ioStream(b);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <B> IOStream<B> zip(Applicative<Function<? super A, ? extends B>, IOStream<?>> appFn) {
+        return Monad.super.zip(appFn).coerce();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <B> Lazy<IOStream<B>> lazyZip(
+            Lazy<? extends Applicative<Function<? super A, ? extends B>, IOStream<?>>> lazyAppFn) {
+        return Monad.super.lazyZip(lazyAppFn).fmap(Monad<B, IOStream<?>>::coerce);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <B> IOStream<B> discardL(Applicative<B, IOStream<?>> appB) {
+        return Monad.super.discardL(appB).coerce();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <B> IOStream<A> discardR(Applicative<B, IOStream<?>> appB) {
+        return Monad.super.discardR(appB).coerce();
+    }
+
+    /**
+     * The empty stream.
+     *
+     * @param <A> the element type
+     * @return the empty stream
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> IOStream<A> empty() {
+        return (IOStream<A>) EMPTY;
+    }
+
+    /**
+     * A stream of the given elements, in order.
+     *
+     * @param as  the elements
+     * @param <A> the element type
+     * @return the stream
+     */
+    @SafeVarargs
+    public static <A> IOStream<A> ioStream(A... as) {
+        Object[] chunk = new Object[as.length];
+        for (int i = 0; i < as.length; i++)
+            chunk[i] = as[i];
+        return new IOStream<>(scope -> io(new Step<>(chunk, chunk.length, empty())));
+    }
+
+    /**
+     * A stream of the elements of <code>as</code>, iterated in chunks of a default size once the stream is pulled.
+     *
+     * @param as  the elements
+     * @param <A> the element type
+     * @return the stream
+     */
+    public static <A> IOStream<A> fromIterable(Iterable<A> as) {
+        return fromIterable(as, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * A stream of the elements of <code>as</code>, iterated in chunks of <code>chunkSize</code> once the stream is
+     * pulled. If the iterator of <code>as</code> is {@link AutoCloseable}, it is closed as soon as the stream is
+     * exhausted, or when the terminal {@link IO} consuming it completes, whichever comes first.
+     *
+     * @param as        the elements
+     * @param chunkSize the number of elements to iterate per pull
+     * @param <A>       the element type
+     * @return the stream
+     */
+    public static <A> IOStream<A> fromIterable(Iterable<A> as, int chunkSize) {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("chunkSize must be greater than 0: " + chunkSize);
+        return new IOStream<>(scope -> io(as::iterator).flatMap(iterator -> {
+            IOStream<A> stream = iterator instanceof AutoCloseable
+                                 ? bracket(io(iterator), it -> fromIterator(it, chunkSize), it -> io(() -> close(it)))
+                                 : fromIterator(iterator, chunkSize);
+            return stream.pull.apply(scope);
+        }));
+    }
+
+    /**
+     * A stream of the single element yielded by <code>io</code>.
+     *
+     * @param io  the {@link IO}
+     * @param <A> the element type
+     * @return the stream
+     */
+    public static <A> IOStream<A> eval(IO<A> io) {
+        return new IOStream<>(scope -> io.fmap(a -> new Step<>(new Object[]{a}, 1, empty())));
+    }
+
+    /**
+     * A stream of the elements produced by repeatedly applying <code>fn</code> to a state, starting with
+     * <code>seed</code>, until it yields {@link Maybe#nothing() nothing}.
+     *
+     * @param seed the initial state
+     * @param fn   the function from a state to the {@link IO} yielding the next element and state, if any
+     * @param <S>  the state type
+     * @param <A>  the element type
+     * @return the stream
+     */
+    public static <S, A> IOStream<A> unfold(S seed, Function<? super S, ? extends IO<Maybe<Tuple2<A, S>>>> fn) {
+        return new IOStream<>(scope -> fn.apply(seed).fmap(next -> next.match(
+                nothing -> Step.done(),
+                pair -> new Step<>(new Object[]{pair._1()}, 1, unfold(pair._2(), fn)))));
+    }
+
+    /**
+     * A stream of the chunks of elements produced by repeatedly applying <code>fn</code> to a state, starting with
+     * <code>seed</code>, until it yields {@link Maybe#nothing() nothing}. This suits paged sources, each page
+     * becoming one chunk.
+     *
+     * @param seed the initial state
+     * @param fn   the function from a state to the {@link IO} yielding the next chunk and state, if any
+     * @param <S>  the state type
+     * @param <A>  the element type
+     * @return the stream
+     */
+    public static <S, A> IOStream<A> unfoldChunks(
+            S seed, Function<? super S, ? extends IO<Maybe<Tuple2<? extends Iterable<A>, S>>>> fn) {
+        return new IOStream<>(scope -> fn.apply(seed).fmap(next -> next.match(
+                nothing -> Step.done(),
+                pair -> {
+                    Object[] chunk = toArray(pair._1());
+                    return new Step<>(chunk, chunk.length, unfoldChunks(pair._2(), fn));
+                })));
+    }
+
+    /**
+     * A stream that acquires a resource via <code>acquire</code> when first pulled, produces the elements of the
+     * stream returned by <code>use</code>, and releases the resource via <code>release</code> exactly once: as soon
+     * as that stream is exhausted, or when the terminal {@link IO} consuming it completes, whichever comes first.
+     *
+     * @param acquire the {@link IO} acquiring the resource
+     * @param use     the function from the resource to the stream using it
+     * @param release the function from the resource to the {@link IO} releasing it
+     * @param <R>     the resource type
+     * @param <A>     the element type
+     * @return the stream
+     */
+    public static <R, A> IOStream<A> bracket(IO<R> acquire, Function<? super R, ? extends IOStream<A>> use,
+                                             Function<? super R, ? extends IO<?>> release) {
+        return new IOStream<>(scope -> acquire.flatMap(r -> {
+            Finalizer finalizer = scope.register(release.apply(r));
+            return releasing(use.apply(r), finalizer, scope).pull.apply(scope);
+        }));
+    }
+
+    private static <A> IOStream<A> releasing(IOStream<A> stream, Finalizer finalizer, Scope scope) {
+        return new IOStream<>(s -> stream.pull.apply(s).flatMap(
+                step -> step.isDone()
+                        ? scope.release(finalizer).fmap(u -> step)
+                        : io(new Step<>(step.chunk, step.size, releasing(step.rest, finalizer, scope)))));
+    }
+
+    private static <A> IOStream<A> fromIterator(Iterator<A> iterator, int chunkSize) {
+        return new IOStream<>(scope -> io(() -> {
+            Object[] chunk = new Object[chunkSize];
+            int size = 0;
+            while (size < chunkSize && iterator.hasNext())
+                chunk[size++] = iterator.next();
+            return size == 0 ? Step.<A>done() : new Step<>(chunk, size, fromIterator(iterator, chunkSize));
+        }));
+    }
+
+    private static <A> IOStream<A> pending(CompletableFuture<Step<A>> step) {
+        return new IOStream<>(scope -> executorAware(executor -> step));
+    }
+
+    private static <A> IOStream<A> suspend(Supplier<IOStream<A>> stream) {
+        return new IOStream<>(scope -> stream.get().pull.apply(scope));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A, B> IOStream<B> flatMapChunk(Object[] chunk, int i, int size, IOStream<A> rest,
+                                                   Function<? super A, ? extends Monad<B, IOStream<?>>> f) {
+        if (i == size)
+            return rest.flatMap(f);
+        return f.apply((A) chunk[i]).<IOStream<B>>coerce()
+                .concat(suspend(() -> flatMapChunk(chunk, i + 1, size, rest, f)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A, B> IO<B> foldLoop(IOStream<A> stream, B acc, BiFunction<? super B, ? super A, ? extends B> fn,
+                                         Scope scope) {
+        return stream.pull.apply(scope).flatMap(step -> {
+            if (step.isDone())
+                return io(acc);
+            B result = acc;
+            for (int i = 0; i < step.size; i++)
+                result = fn.apply(result, (A) step.chunk[i]);
+            return foldLoop(step.rest, result, fn, scope);
+        });
+    }
+
+    private static <A> IO<Unit> chunkLoop(IOStream<A> stream, Function<? super List<A>, ? extends IO<?>> fn,
+                                          Scope scope) {
+        return stream.pull.apply(scope).flatMap(step -> {
+            if (step.isDone())
+                return io(UNIT);
+            if (step.size == 0)
+                return chunkLoop(step.rest, fn, scope);
+            return fn.apply(step.view()).flatMap(x -> chunkLoop(step.rest, fn, scope));
+        });
+    }
+
+    private static <B> IO<B> scoped(Function<Scope, IO<B>> body) {
+        return io(UNIT).flatMap(u -> {
+            Scope scope = new Scope();
+            return guarantee(body.apply(scope), scope.close());
+        });
+    }
+
+    private static <A> IO<A> guarantee(IO<A> io, IO<Unit> finalizer) {
+        return io.<Either<Throwable, A>>fmap(Either::right)
+                .exceptionally(Either::left)
+                .flatMap(result -> finalizer.flatMap(u -> result.match(IOStream::raise, IO::io)));
+    }
+
+    private static <A> IO<A> raise(Throwable t) {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        return io(CheckedSupplier.<Throwable, A>checked(() -> {
+            throw cause;
+        }));
+    }
+
+    private static Object[] toArray(Iterable<?> as) {
+        if (as instanceof Collection<?>)
+            return ((Collection<?>) as).toArray();
+        List<Object> elements = new ArrayList<>();
+        as.forEach(elements::add);
+        return elements.toArray();
+    }
+
+    private static final class Step<A> {
+        private static final Step<?> DONE = new Step<>(null, 0, null);
+
+        private final Object[]    chunk;
+        private final int         size;
+        private final IOStream<A> rest;
+
+        private Step(Object[] chunk, int size, IOStream<A> rest) {
+            this.chunk = chunk;
+            this.size = size;
+            this.rest = rest;
+        }
+
+        private boolean isDone() {
+            return rest == null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<A> view() {
+            return unmodifiableList((List<A>) Arrays.asList(chunk).subList(0, size));
+        }
+
+        private IOStream<A> remainder(int from) {
+            if (from == size)
+                return rest;
+            Object[] remaining = Arrays.copyOfRange(chunk, from, size);
+            return new IOStream<A>(scope -> io(new Step<>(remaining, remaining.length, rest)));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <A> Step<A> done() {
+            return (Step<A>) DONE;
+        }
+    }
+
+    private static final class Finalizer {
+        private final IO<?> release;
+
+        private Finalizer(IO<?> release) {
+            this.release = release;
+        }
+    }
+
+    private static final class Scope {
+        private final ArrayDeque<Finalizer> finalizers = new ArrayDeque<>();
+
+        private synchronized Finalizer register(IO<?> release) {
+            Finalizer finalizer = new Finalizer(release);
+            finalizers.push(finalizer);
+            return finalizer;
+        }
+
+        private IO<Unit> release(Finalizer finalizer) {
+            return io(UNIT).flatMap(u -> {
+                boolean registered;
+                synchronized (this) {
+                    registered = finalizers.remove(finalizer);
+                }
+                return registered ? finalizer.release.fmap(x -> UNIT) : io(UNIT);
+            });
+        }
+
+        private IO<Unit> close() {
+            return io(UNIT).flatMap(u -> {
+                Finalizer next;
+                synchronized (this) {
+                    next = finalizers.poll();
+                }
+                return next == null ? io(UNIT) : guarantee(next.release.fmap(x -> UNIT), close());
+            });
+        }
+    }
+}
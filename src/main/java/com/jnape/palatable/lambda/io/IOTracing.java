@@ -0,0 +1,94 @@
+package com.jnape.palatable.lambda.io;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * The registry for the process-wide {@link IOListener}. While a listener is installed, every suspended {@link IO}
+ * stage and every {@link IO#named(String) named} span reports an {@link IOEvent} to it as it completes; while no
+ * listener is installed, interpreting an {@link IO} performs no timing and allocates nothing for tracing purposes,
+ * paying only a single volatile read per stage.
+ *
+ * @see IOListener
+ */
+public final class IOTracing {
+    private static volatile IOListener listener;
+
+    private IOTracing() {
+    }
+
+    /**
+     * Install <code>listener</code> as the process-wide {@link IOListener}, replacing any previously installed one.
+     *
+     * @param listener the listener
+     */
+    public static void install(IOListener listener) {
+        IOTracing.listener = listener;
+    }
+
+    /**
+     * Uninstall the process-wide {@link IOListener}, if any.
+     */
+    public static void uninstall() {
+        listener = null;
+    }
+
+    static IOListener listener() {
+        return listener;
+    }
+
+    static <A> A traceSync(IOListener listener, String name, Supplier<A> supplier) {
+        return traceSync(listener, name, 0, supplier);
+    }
+
+    static <A> A traceSync(IOListener listener, String name, long queueWaitNanos, Supplier<A> supplier) {
+        long started = System.nanoTime();
+        A a;
+        try {
+            a = supplier.get();
+        } catch (Throwable t) {
+            reportFailure(listener, new IOEvent(name, queueWaitNanos, System.nanoTime() - started, t), t);
+            throw t;
+        }
+        listener.onCompletion(new IOEvent(name, queueWaitNanos, System.nanoTime() - started, null));
+        return a;
+    }
+
+    static <A> CompletableFuture<A> traceAsync(IOListener listener, Supplier<A> supplier, Executor executor) {
+        long submitted = System.nanoTime();
+        return supplyAsync(() -> traceSync(listener, null, System.nanoTime() - submitted, supplier), executor);
+    }
+
+    static <A> CompletableFuture<A> traceCompletion(IOListener listener, String name,
+                                                    Supplier<CompletableFuture<A>> futureSupplier) {
+        long started = System.nanoTime();
+        CompletableFuture<A> future;
+        try {
+            future = futureSupplier.get();
+        } catch (Throwable t) {
+            reportFailure(listener, new IOEvent(name, 0, System.nanoTime() - started, t), t);
+            throw t;
+        }
+        return future.whenComplete((a, t) -> {
+            if (t == null) {
+                listener.onCompletion(new IOEvent(name, 0, System.nanoTime() - started, null));
+            } else {
+                Throwable failure = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                reportFailure(listener, new IOEvent(name, 0, System.nanoTime() - started, failure), failure);
+            }
+        });
+    }
+
+    private static void reportFailure(IOListener listener, IOEvent event, Throwable failure) {
+        try {
+            listener.onCompletion(event);
+        } catch (Throwable listenerFailure) {
+            if (listenerFailure != failure)
+                failure.addSuppressed(listenerFailure);
+        }
+    }
+}
@@ -0,0 +1,547 @@
+package com.jnape.palatable.lambda.io;
+
+import com.jnape.palatable.lambda.adt.Unit;
+import com.jnape.palatable.lambda.functions.specialized.checked.CheckedSupplier;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.Unit.UNIT;
+import static com.jnape.palatable.lambda.io.IO.executorAware;
+import static com.jnape.palatable.lambda.io.IO.io;
+
+/**
+ * A bounded pool of reusable resources, such as connections, whose acquisition and release are described as
+ * {@link IO} actions.
+ * <p>
+ * Resources are borrowed via {@link Pool#use(Function)}, which always returns the resource to the pool once the
+ * {@link IO} using it completes, whether successfully or not; if the future of an asynchronous performance is cancelled
+ * before a resource was acquired, no resource is taken. Idle resources are reused most-recently-released first, and
+ * are validated before each checkout; resources failing validation are destroyed and replaced. Once the pool holds its
+ * {@link PoolPolicy#bounded(int) maximum} number of resources, acquisitions wait in the order they arrived, failing
+ * with a {@link TimeoutException} after the {@link PoolPolicy#acquireTimeout acquire timeout}; an acquisition whose
+ * resource fails validation keeps its place at the front of the line and its original deadline. Resources idle for
+ * longer than the {@link PoolPolicy#idleTimeout idle timeout} are destroyed when the pool is next used, or on
+ * {@link Pool#evictIdle()}.
+ * <p>
+ * {@link Pool#evictIdle()} and {@link Pool#shutdown()} complete once the resources they destroy have been destroyed,
+ * failing if any destruction failed. Destructions performed in the background, such as those of resources returned
+ * after shutdown, are counted in {@link PoolStats#destroyFailures()} when they fail.
+ * <p>
+ * Waiting never blocks a thread during asynchronous performance; synchronous performance blocks the calling thread.
+ *
+ * @param <A> the resource type
+ */
+public final class Pool<A> {
+    private static final Executor DIRECT = Runnable::run;
+
+    private final IO<A>                                      create;
+    private final Function<? super A, ? extends IO<Boolean>> validate;
+    private final Function<? super A, ? extends IO<?>>       destroy;
+    private final PoolPolicy                                 policy;
+    private final ArrayDeque<Idle<A>>                        idle;
+    private final ArrayDeque<Acquisition<A>>                 waiters;
+    private       int                                        allocated;
+    private       int                                        inUse;
+    private       boolean                                    shutDown;
+    private       long                                       created;
+    private       long                                       destroyed;
+    private       long                                       destroyFailures;
+    private       long                                       acquisitions;
+    private       long                                       timeouts;
+    private       long                                       totalWaitNanos;
+    private       long                                       maxWaitNanos;
+
+    private Pool(IO<A> create, Function<? super A, ? extends IO<Boolean>> validate,
+                 Function<? super A, ? extends IO<?>> destroy, PoolPolicy policy) {
+        this.create = create;
+        this.validate = validate;
+        this.destroy = destroy;
+        this.policy = policy;
+        idle = new ArrayDeque<>();
+        waiters = new ArrayDeque<>();
+    }
+
+    /**
+     * An {@link IO} that acquires a resource, performs the {@link IO} produced by <code>fn</code> with it, and returns
+     * the resource to the pool, yielding the result of <code>fn</code>'s {@link IO}.
+     *
+     * @param fn  the function from the resource to the {@link IO} using it
+     * @param <B> the result type
+     * @return the {@link IO} using a pooled resource
+     */
+    public <B> IO<B> use(Function<? super A, ? extends IO<B>> fn) {
+        return executorAware(() -> {
+            A a = await(acquire(DIRECT));
+            try {
+                return fn.apply(a).unsafePerformIO();
+            } finally {
+                release(a, DIRECT);
+            }
+        }, executor -> {
+            CompletableFuture<A> acquisition = acquire(executor);
+            CompletableFuture<B> result = new CompletableFuture<>();
+            acquisition.whenComplete((a, acquireFailure) -> {
+                if (acquireFailure != null) {
+                    result.completeExceptionally(acquireFailure);
+                    return;
+                }
+                if (result.isDone()) {
+                    release(a, executor);
+                    return;
+                }
+                CompletableFuture<B> run;
+                try {
+                    run = fn.apply(a).unsafePerformAsyncIO(executor);
+                } catch (Throwable t) {
+                    run = new CompletableFuture<>();
+                    run.completeExceptionally(t);
+                }
+                run.whenComplete((b, useFailure) -> {
+                    release(a, executor);
+                    if (useFailure == null)
+                        result.complete(b);
+                    else
+                        result.completeExceptionally(useFailure);
+                });
+            });
+            result.whenComplete((b, t) -> {
+                if (result.isCancelled())
+                    acquisition.cancel(false);
+            });
+            return result;
+        });
+    }
+
+    /**
+     * An {@link IO} that destroys every resource that has been idle for at least the
+     * {@link PoolPolicy#idleTimeout idle timeout}, as long as more than the minimum number of resources exist, and
+     * completes once they have been destroyed.
+     *
+     * @return the {@link IO} evicting idle resources
+     */
+    public IO<Unit> evictIdle() {
+        return executorAware(() -> await(evictIdle(DIRECT)), this::evictIdle);
+    }
+
+    /**
+     * An {@link IO} that reads the current {@link PoolStats}.
+     *
+     * @return the {@link IO} reading the stats
+     */
+    public IO<PoolStats> stats() {
+        return io(() -> {
+            synchronized (this) {
+                return new PoolStats(policy.maxSize(), allocated, idle.size(), inUse, waiters.size(), created,
+                                     destroyed, destroyFailures, acquisitions, timeouts, totalWaitNanos,
+                                     maxWaitNanos);
+            }
+        });
+    }
+
+    /**
+     * An {@link IO} that shuts the pool down: idle resources are destroyed, waiting acquisitions fail with an
+     * {@link IllegalStateException}, as do any further acquisitions, and resources in use are destroyed when they
+     * are returned. The {@link IO} completes once the idle resources have been destroyed.
+     *
+     * @return the {@link IO} shutting down the pool
+     */
+    public IO<Unit> shutdown() {
+        return executorAware(() -> await(shutdown(DIRECT)), this::shutdown);
+    }
+
+    private CompletableFuture<Unit> evictIdle(Executor executor) {
+        List<A> evicted;
+        synchronized (this) {
+            evicted = evictExpired();
+        }
+        CompletableFuture<Unit> destructions = destroyAll(evicted, executor);
+        dispatch();
+        return destructions;
+    }
+
+    private CompletableFuture<Unit> shutdown(Executor executor) {
+        List<A> idled = new ArrayList<>();
+        List<Acquisition<A>> waiting;
+        synchronized (this) {
+            shutDown = true;
+            for (Idle<A> resource : idle)
+                idled.add(resource.a);
+            waiting = new ArrayList<>(waiters);
+            idle.clear();
+            waiters.clear();
+            allocated -= idled.size();
+        }
+        CompletableFuture<Unit> destructions = destroyAll(idled, executor);
+        for (Acquisition<A> acquisition : waiting)
+            acquisition.fail(shutDownException());
+        return destructions;
+    }
+
+    private CompletableFuture<A> acquire(Executor executor) {
+        Acquisition<A> acquisition = new Acquisition<>(executor);
+        acquisition.future.whenComplete((a, t) -> {
+            if (acquisition.future.isCancelled())
+                abandon(acquisition);
+        });
+        attempt(acquisition, false);
+        return acquisition.future;
+    }
+
+    /**
+     * Serve <code>acquisition</code> from the idle resources or a new one if it is at the front of the line, or make
+     * it wait otherwise. A <code>retry</code> follows a resource failing validation, and is treated as being at the
+     * front of the line, waiting there if it must, under its original deadline.
+     */
+    private void attempt(Acquisition<A> acquisition, boolean retry) {
+        List<A> evicted;
+        A reuse = null;
+        boolean createNew = false;
+        boolean timedOut = false;
+        synchronized (this) {
+            if (acquisition.future.isDone())
+                return;
+            if (shutDown) {
+                evicted = null;
+            } else {
+                evicted = evictExpired();
+                boolean first = retry || waiters.isEmpty();
+                if (first && !idle.isEmpty()) {
+                    reuse = idle.pollFirst().a;
+                } else if (first && allocated < policy.maxSize()) {
+                    allocated++;
+                    createNew = true;
+                } else if (!retry) {
+                    waiters.addLast(acquisition);
+                    acquisition.timeout = scheduleTimeout(acquisition);
+                } else if (acquisition.expired) {
+                    timeouts++;
+                    timedOut = true;
+                } else {
+                    waiters.addFirst(acquisition);
+                    if (acquisition.timeout == null)
+                        acquisition.timeout = scheduleTimeout(acquisition);
+                }
+            }
+        }
+        if (evicted == null) {
+            acquisition.fail(shutDownException());
+            return;
+        }
+        for (A a : evicted)
+            destroy(a, acquisition.executor);
+        if (timedOut)
+            acquisition.fail(timeoutException());
+        else if (reuse != null)
+            checkout(reuse, acquisition);
+        else if (createNew)
+            createFor(acquisition);
+    }
+
+    private void checkout(A a, Acquisition<A> acquisition) {
+        CompletableFuture<Boolean> validation;
+        try {
+            validation = validate.apply(a).unsafePerformAsyncIO(acquisition.executor);
+        } catch (Throwable t) {
+            validation = new CompletableFuture<>();
+            validation.completeExceptionally(t);
+        }
+        validation.whenComplete((valid, t) -> {
+            if (t == null && Boolean.TRUE.equals(valid))
+                deliver(a, acquisition);
+            else
+                discard(a, acquisition.executor).whenComplete((x, destroyFailure) -> attempt(acquisition, true));
+        });
+    }
+
+    private void createFor(Acquisition<A> acquisition) {
+        CompletableFuture<A> creation;
+        try {
+            creation = create.unsafePerformAsyncIO(acquisition.executor);
+        } catch (Throwable t) {
+            creation = new CompletableFuture<>();
+            creation.completeExceptionally(t);
+        }
+        creation.whenComplete((a, t) -> {
+            if (t == null) {
+                synchronized (this) {
+                    created++;
+                }
+                deliver(a, acquisition);
+            } else {
+                synchronized (this) {
+                    allocated--;
+                }
+                acquisition.fail(t);
+                dispatch();
+            }
+        });
+    }
+
+    private void deliver(A a, Acquisition<A> acquisition) {
+        long waitNanos = System.nanoTime() - acquisition.startedNanos;
+        synchronized (this) {
+            inUse++;
+        }
+        if (acquisition.succeed(a)) {
+            synchronized (this) {
+                acquisitions++;
+                totalWaitNanos += waitNanos;
+                maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+            }
+        } else {
+            release(a, acquisition.executor);
+        }
+    }
+
+    private void release(A a, Executor executor) {
+        Acquisition<A> next = null;
+        boolean destroyNow = false;
+        synchronized (this) {
+            inUse--;
+            if (shutDown) {
+                allocated--;
+                destroyNow = true;
+            } else {
+                next = pollWaiter();
+                if (next == null)
+                    idle.addFirst(new Idle<>(a, policy.clock().get()));
+            }
+        }
+        if (destroyNow)
+            destroy(a, executor);
+        else if (next != null)
+            checkout(a, next);
+    }
+
+    private CompletableFuture<Unit> discard(A a, Executor executor) {
+        return destroy(a, executor).handle((x, t) -> {
+            synchronized (this) {
+                allocated--;
+            }
+            return UNIT;
+        });
+    }
+
+    private void dispatch() {
+        Acquisition<A> next;
+        synchronized (this) {
+            if (shutDown || allocated >= policy.maxSize())
+                return;
+            next = pollWaiter();
+            if (next == null)
+                return;
+            allocated++;
+        }
+        createFor(next);
+    }
+
+    private CompletableFuture<Unit> destroy(A a, Executor executor) {
+        CompletableFuture<?> destruction;
+        try {
+            destruction = destroy.apply(a).unsafePerformAsyncIO(executor);
+        } catch (Throwable t) {
+            destruction = new CompletableFuture<>();
+            destruction.completeExceptionally(t);
+        }
+        return destruction.handle((x, t) -> {
+            synchronized (this) {
+                destroyed++;
+                if (t != null)
+                    destroyFailures++;
+            }
+            if (t != null)
+                throw t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+            return UNIT;
+        });
+    }
+
+    private CompletableFuture<Unit> destroyAll(List<A> as, Executor executor) {
+        List<CompletableFuture<Unit>> destructions = new ArrayList<>();
+        for (A a : as)
+            destructions.add(destroy(a, executor));
+        return CompletableFuture.allOf(destructions.toArray(new CompletableFuture<?>[0])).handle((x, ignored) -> {
+            Throwable failure = null;
+            for (CompletableFuture<Unit> destruction : destructions) {
+                Throwable t = destruction.handle((u, f) -> f).join();
+                if (t == null)
+                    continue;
+                Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                if (failure == null)
+                    failure = cause;
+                else
+                    failure.addSuppressed(cause);
+            }
+            if (failure != null)
+                throw new CompletionException(failure);
+            return UNIT;
+        });
+    }
+
+    private Acquisition<A> pollWaiter() {
+        Acquisition<A> next;
+        while ((next = waiters.pollFirst()) != null)
+            if (!next.future.isDone())
+                return next;
+        return null;
+    }
+
+    private void abandon(Acquisition<A> acquisition) {
+        synchronized (this) {
+            waiters.remove(acquisition);
+        }
+        acquisition.cancelTimeout();
+    }
+
+    private List<A> evictExpired() {
+        List<A> evicted = new ArrayList<>();
+        if (policy.idleTimeout() == null || idle.isEmpty())
+            return evicted;
+        Instant now = policy.clock().get();
+        while (!idle.isEmpty() && allocated > policy.minSize()
+                && !now.isBefore(idle.peekLast().idleSince.plus(policy.idleTimeout()))) {
+            evicted.add(idle.pollLast().a);
+            allocated--;
+        }
+        return evicted;
+    }
+
+    private ScheduledFuture<?> scheduleTimeout(Acquisition<A> acquisition) {
+        long timeoutNanos = policy.acquireTimeout().toNanos();
+        return Timeouts.SCHEDULER.schedule(() -> {
+            boolean timedOut;
+            synchronized (this) {
+                acquisition.expired = true;
+                timedOut = waiters.remove(acquisition) && !acquisition.future.isDone();
+                if (timedOut)
+                    timeouts++;
+            }
+            if (timedOut)
+                acquisition.fail(timeoutException());
+        }, timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private TimeoutException timeoutException() {
+        return new TimeoutException("Timed out after " + policy.acquireTimeout() + " waiting for a pooled resource");
+    }
+
+    private static IllegalStateException shutDownException() {
+        return new IllegalStateException("Pool is shut down");
+    }
+
+    private static <A> A await(CompletableFuture<A> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            return CheckedSupplier.<Throwable, A>checked(() -> {
+                throw cause;
+            }).get();
+        }
+    }
+
+    /**
+     * Create a {@link Pool} of resources created by <code>create</code> and destroyed by <code>destroy</code>, which
+     * are always considered valid.
+     *
+     * @param create  the {@link IO} creating a resource
+     * @param destroy the function from a resource to the {@link IO} destroying it
+     * @param policy  the {@link PoolPolicy}
+     * @param <A>     the resource type
+     * @return the {@link IO} creating the pool and its minimum number of resources
+     */
+    public static <A> IO<Pool<A>> pool(IO<A> create, Function<? super A, ? extends IO<?>> destroy,
+                                       PoolPolicy policy) {
+        return pool(create, a -> io(true), destroy, policy);
+    }
+
+    /**
+     * Create a {@link Pool} of resources created by <code>create</code> and destroyed by <code>destroy</code>, and
+     * validated by <code>validate</code> on every checkout. A resource is valid if <code>validate</code> yields
+     * <code>true</code>; if it yields <code>false</code> or fails, the resource is destroyed instead.
+     *
+     * @param create   the {@link IO} creating a resource
+     * @param validate the function from a resource to the {@link IO} checking its health
+     * @param destroy  the function from a resource to the {@link IO} destroying it
+     * @param policy   the {@link PoolPolicy}
+     * @param <A>      the resource type
+     * @return the {@link IO} creating the pool and its minimum number of resources
+     */
+    public static <A> IO<Pool<A>> pool(IO<A> create, Function<? super A, ? extends IO<Boolean>> validate,
+                                       Function<? super A, ? extends IO<?>> destroy, PoolPolicy policy) {
+        return io(() -> {
+            Pool<A> pool = new Pool<>(create, validate, destroy, policy);
+            Instant now = policy.clock().get();
+            for (int i = 0; i < policy.minSize(); i++)
+                pool.idle.addFirst(new Idle<>(create.unsafePerformIO(), now));
+            pool.allocated = pool.idle.size();
+            pool.created = pool.idle.size();
+            return pool;
+        });
+    }
+
+    private static final class Idle<A> {
+        private final A       a;
+        private final Instant idleSince;
+
+        private Idle(A a, Instant idleSince) {
+            this.a = a;
+            this.idleSince = idleSince;
+        }
+    }
+
+    private static final class Acquisition<A> {
+        private final    CompletableFuture<A> future;
+        private final    Executor             executor;
+        private final    long                 startedNanos;
+        private volatile ScheduledFuture<?>   timeout;
+        private          boolean              expired;
+
+        private Acquisition(Executor executor) {
+            this.executor = executor;
+            future = new CompletableFuture<>();
+            startedNanos = System.nanoTime();
+        }
+
+        private boolean succeed(A a) {
+            cancelTimeout();
+            return future.complete(a);
+        }
+
+        private void fail(Throwable t) {
+            cancelTimeout();
+            future.completeExceptionally(t);
+        }
+
+        private void cancelTimeout() {
+            ScheduledFuture<?> timeout = this.timeout;
+            if (timeout != null)
+                timeout.cancel(false);
+        }
+    }
+
+    private static final class Timeouts {
+        private static final ScheduledExecutorService SCHEDULER;
+
+        static {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "lambda-pool-timeouts");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            SCHEDULER = scheduler;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.jnape.palatable.lambda.io;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * An immutable specification of how a {@link Pool} sizes itself: how many resources it keeps at least and at most, how
+ * long an acquisition waits for a resource before giving up, and how long a resource may sit idle before it is
+ * destroyed.
+ *
+ * @see Pool
+ */
+public final class PoolPolicy {
+    private final int               minSize;
+    private final int               maxSize;
+    private final Duration          acquireTimeout;
+    private final Duration          idleTimeout;
+    private final Supplier<Instant> clock;
+
+    private PoolPolicy(int minSize, int maxSize, Duration acquireTimeout, Duration idleTimeout,
+                       Supplier<Instant> clock) {
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.acquireTimeout = acquireTimeout;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+    }
+
+    int minSize() {
+        return minSize;
+    }
+
+    int maxSize() {
+        return maxSize;
+    }
+
+    Duration acquireTimeout() {
+        return acquireTimeout;
+    }
+
+    Duration idleTimeout() {
+        return idleTimeout;
+    }
+
+    Supplier<Instant> clock() {
+        return clock;
+    }
+
+    /**
+     * Derive a policy under which the pool creates <code>minSize</code> resources up front, and never evicts idle
+     * resources below that many.
+     *
+     * @param minSize the minimum number of resources
+     * @return the new policy
+     */
+    public PoolPolicy minSize(int minSize) {
+        if (minSize < 0 || minSize > maxSize)
+            throw new IllegalArgumentException("Minimum size must be between 0 and " + maxSize + ": " + minSize);
+        return new PoolPolicy(minSize, maxSize, acquireTimeout, idleTimeout, clock);
+    }
+
+    /**
+     * Derive a policy under which an acquisition fails with a {@link java.util.concurrent.TimeoutException} if no
+     * resource becomes available within <code>timeout</code>.
+     *
+     * @param timeout how long an acquisition waits
+     * @return the new policy
+     */
+    public PoolPolicy acquireTimeout(Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero())
+            throw new IllegalArgumentException("Acquire timeout must be greater than 0: " + timeout);
+        return new PoolPolicy(minSize, maxSize, timeout, idleTimeout, clock);
+    }
+
+    /**
+     * Derive a policy under which resources idle for at least <code>timeout</code>, according to the system clock, are
+     * destroyed, as long as more than the minimum number of resources exist.
+     *
+     * @param timeout how long a resource may sit idle
+     * @return the new policy
+     */
+    public PoolPolicy idleTimeout(Duration timeout) {
+        return idleTimeout(timeout, Clock.systemUTC()::instant);
+    }
+
+    /**
+     * Derive a policy under which resources idle for at least <code>timeout</code>, according to the given clock, are
+     * destroyed, as long as more than the minimum number of resources exist.
+     *
+     * @param timeout how long a resource may sit idle
+     * @param clock   the {@link Supplier} of the current {@link Instant}
+     * @return the new policy
+     */
+    public PoolPolicy idleTimeout(Duration timeout, Supplier<Instant> clock) {
+        if (timeout.isNegative() || timeout.isZero())
+            throw new IllegalArgumentException("Idle timeout must be greater than 0: " + timeout);
+        return new PoolPolicy(minSize, maxSize, acquireTimeout, timeout, clock);
+    }
+
+    /**
+     * A policy for a pool of at most <code>maxSize</code> resources, created on demand and never evicted for being
+     * idle, whose acquisitions wait up to thirty seconds.
+     *
+     * @param maxSize the maximum number of resources
+     * @return the policy
+     */
+    public static PoolPolicy bounded(int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("Maximum size must be greater than 0: " + maxSize);
+        return new PoolPolicy(0, maxSize, Duration.ofSeconds(30), null, Clock.systemUTC()::instant);
+    }
+}
@@ -0,0 +1,173 @@
+package com.jnape.palatable.lambda.io;
+
+import java.util.Objects;
+
+/**
+ * An immutable snapshot of the state and counters of a {@link Pool}.
+ */
+public final class PoolStats {
+    private final int  maxSize;
+    private final int  size;
+    private final int  idle;
+    private final int  inUse;
+    private final int  waiting;
+    private final long created;
+    private final long destroyed;
+    private final long destroyFailures;
+    private final long acquisitions;
+    private final long timeouts;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    PoolStats(int maxSize, int size, int idle, int inUse, int waiting, long created, long destroyed,
+              long destroyFailures, long acquisitions, long timeouts, long totalWaitNanos, long maxWaitNanos) {
+        this.maxSize = maxSize;
+        this.size = size;
+        this.idle = idle;
+        this.inUse = inUse;
+        this.waiting = waiting;
+        this.created = created;
+        this.destroyed = destroyed;
+        this.destroyFailures = destroyFailures;
+        this.acquisitions = acquisitions;
+        this.timeouts = timeouts;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    /**
+     * The number of resources that exist or are being created, whether idle or in use.
+     *
+     * @return the pool size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The number of resources waiting to be acquired.
+     *
+     * @return the idle count
+     */
+    public int idle() {
+        return idle;
+    }
+
+    /**
+     * The number of resources currently acquired.
+     *
+     * @return the in-use count
+     */
+    public int inUse() {
+        return inUse;
+    }
+
+    /**
+     * The number of acquisitions waiting for a resource.
+     *
+     * @return the waiting count
+     */
+    public int waiting() {
+        return waiting;
+    }
+
+    /**
+     * The number of resources created so far.
+     *
+     * @return the creation count
+     */
+    public long created() {
+        return created;
+    }
+
+    /**
+     * The number of resources destroyed so far, whether for failing validation, being idle, or the pool shutting down,
+     * including those whose destruction failed.
+     *
+     * @return the destruction count
+     */
+    public long destroyed() {
+        return destroyed;
+    }
+
+    /**
+     * The number of destroyed resources whose destruction failed.
+     *
+     * @return the destruction failure count
+     */
+    public long destroyFailures() {
+        return destroyFailures;
+    }
+
+    /**
+     * The number of successful acquisitions so far.
+     *
+     * @return the acquisition count
+     */
+    public long acquisitions() {
+        return acquisitions;
+    }
+
+    /**
+     * The number of acquisitions that timed out waiting for a resource.
+     *
+     * @return the timeout count
+     */
+    public long timeouts() {
+        return timeouts;
+    }
+
+    /**
+     * The mean time successful acquisitions waited for a resource, in nanoseconds, or <code>0</code> if there have
+     * been none.
+     *
+     * @return the mean wait
+     */
+    public double meanWaitNanos() {
+        return acquisitions == 0 ? 0 : (double) totalWaitNanos / acquisitions;
+    }
+
+    /**
+     * The longest time a successful acquisition waited for a resource, in nanoseconds.
+     *
+     * @return the maximum wait
+     */
+    public long maxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    /**
+     * The ratio of resources in use to the maximum pool size.
+     *
+     * @return the utilization
+     */
+    public double utilization() {
+        return (double) inUse / maxSize;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof PoolStats) {
+            PoolStats that = (PoolStats) other;
+            return maxSize == that.maxSize && size == that.size && idle == that.idle && inUse == that.inUse
+                    && waiting == that.waiting && created == that.created && destroyed == that.destroyed
+                    && destroyFailures == that.destroyFailures && acquisitions == that.acquisitions && timeouts == that.timeouts
+                    && totalWaitNanos == that.totalWaitNanos && maxWaitNanos == that.maxWaitNanos;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxSize, size, idle, inUse, waiting, created, destroyed, destroyFailures, acquisitions,
+                            timeouts, totalWaitNanos, maxWaitNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStats{size=" + size + "/" + maxSize + ", idle=" + idle + ", inUse=" + inUse
+                + ", waiting=" + waiting + ", created=" + created + ", destroyed=" + destroyed
+                + ", destroyFailures=" + destroyFailures + ", acquisitions=" + acquisitions + ", timeouts=" + timeouts
+                + ", meanWaitNanos=" + meanWaitNanos() + ", maxWaitNanos=" + maxWaitNanos + '}';
+    }
+}
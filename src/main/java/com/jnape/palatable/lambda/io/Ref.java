@@ -0,0 +1,168 @@
+package com.jnape.palatable.lambda.io;
+
+import com.jnape.palatable.lambda.adt.Unit;
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.Unit.UNIT;
+import static com.jnape.palatable.lambda.io.Backoff.backoff;
+import static com.jnape.palatable.lambda.io.IO.io;
+
+/**
+ * A thread-safe mutable reference whose reads and writes are described as {@link IO} actions, so shared state can be
+ * threaded through {@link IO} compositions without hand-written retry loops.
+ * <p>
+ * All updates are lock-free: an update reads the current value, applies the update function, and attempts to
+ * compare-and-set the result, retrying with randomized exponential backoff if another writer got there first. Because
+ * an update function may therefore be applied more than once, it should be free of side-effects. Values are compared
+ * by identity, not by {@link Object#equals(Object)}.
+ * <p>
+ * For hot, commutative updates such as counters, prefer {@link StripedRef}, which spreads contention across several
+ * independent cells.
+ *
+ * @param <A> the referenced value type
+ * @see StripedRef
+ */
+public final class Ref<A> {
+    private final AtomicReference<A> value;
+
+    private Ref(A a) {
+        value = new AtomicReference<>(a);
+    }
+
+    /**
+     * An {@link IO} that reads the current value.
+     *
+     * @return the {@link IO} reading the value
+     */
+    public IO<A> get() {
+        return io(value::get);
+    }
+
+    /**
+     * An {@link IO} that replaces the current value with <code>a</code>.
+     *
+     * @param a the new value
+     * @return the {@link IO} writing the value
+     */
+    public IO<Unit> set(A a) {
+        return io(() -> {
+            value.set(a);
+            return UNIT;
+        });
+    }
+
+    /**
+     * An {@link IO} that replaces the current value with <code>a</code>, yielding the previous value.
+     *
+     * @param a the new value
+     * @return the {@link IO} yielding the previous value
+     */
+    public IO<A> getAndSet(A a) {
+        return io(() -> value.getAndSet(a));
+    }
+
+    /**
+     * An {@link IO} that atomically applies <code>fn</code> to the current value.
+     *
+     * @param fn the side-effect free update function
+     * @return the {@link IO} performing the update
+     */
+    public IO<Unit> update(Function<? super A, ? extends A> fn) {
+        return io(() -> {
+            casLoop(fn, false);
+            return UNIT;
+        });
+    }
+
+    /**
+     * An {@link IO} that atomically applies <code>fn</code> to the current value, yielding the previous value.
+     *
+     * @param fn the side-effect free update function
+     * @return the {@link IO} yielding the previous value
+     */
+    public IO<A> getAndUpdate(Function<? super A, ? extends A> fn) {
+        return io(() -> casLoop(fn, false));
+    }
+
+    /**
+     * An {@link IO} that atomically applies <code>fn</code> to the current value, yielding the updated value.
+     *
+     * @param fn the side-effect free update function
+     * @return the {@link IO} yielding the updated value
+     */
+    public IO<A> updateAndGet(Function<? super A, ? extends A> fn) {
+        return io(() -> casLoop(fn, true));
+    }
+
+    /**
+     * An {@link IO} that atomically replaces the current value with the first slot of the result of applying
+     * <code>fn</code> to it, yielding the second slot.
+     *
+     * @param fn  the side-effect free function producing the new value and the result
+     * @param <B> the result type
+     * @return the {@link IO} yielding the result
+     */
+    public <B> IO<B> modify(Function<? super A, ? extends Tuple2<? extends A, ? extends B>> fn) {
+        return io(() -> {
+            for (int attempt = 0; ; attempt++) {
+                A current = value.get();
+                Tuple2<? extends A, ? extends B> next = fn.apply(current);
+                if (value.compareAndSet(current, next._1()))
+                    return next._2();
+                backoff(attempt);
+            }
+        });
+    }
+
+    /**
+     * An {@link IO} that replaces the current value with <code>next</code> if and only if the current value is
+     * <code>expected</code> (by identity), yielding whether the replacement happened.
+     *
+     * @param expected the expected current value
+     * @param next     the new value
+     * @return the {@link IO} yielding true if the value was replaced; false otherwise
+     */
+    public IO<Boolean> compareAndSet(A expected, A next) {
+        return io(() -> value.compareAndSet(expected, next));
+    }
+
+    @Override
+    public String toString() {
+        return "Ref{" + value.get() + "}";
+    }
+
+    /**
+     * Create a {@link Ref} initialized to <code>a</code>.
+     *
+     * @param a   the initial value
+     * @param <A> the referenced value type
+     * @return the {@link Ref}
+     */
+    public static <A> Ref<A> ref(A a) {
+        return new Ref<>(a);
+    }
+
+    /**
+     * An {@link IO} that creates a fresh {@link Ref} initialized to <code>a</code> each time it is performed.
+     *
+     * @param a   the initial value
+     * @param <A> the referenced value type
+     * @return the {@link IO} creating the {@link Ref}
+     */
+    public static <A> IO<Ref<A>> newRef(A a) {
+        return io(() -> ref(a));
+    }
+
+    private A casLoop(Function<? super A, ? extends A> fn, boolean yieldUpdated) {
+        for (int attempt = 0; ; attempt++) {
+            A current = value.get();
+            A updated = fn.apply(current);
+            if (value.compareAndSet(current, updated))
+                return yieldUpdated ? updated : current;
+            backoff(attempt);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.jnape.palatable.lambda.io;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A registry of keyed {@link IO}s that are performed at most once at a time per key: performances of
+ * {@link SingleFlight#get(Object) get(key)} that overlap with one already in flight for the same key share its
+ * result (or failure) instead of performing the {@link IO} again. Once a flight completes it is forgotten, so the next
+ * performance for that key performs the {@link IO} afresh; in particular, failures are never cached.
+ * <p>
+ * To additionally keep results after they complete, combine with {@link IO#memoize()} or
+ * {@link IO#cached(java.time.Duration)}.
+ *
+ * @param <K> the key type
+ * @param <A> the result type
+ */
+public final class SingleFlight<K, A> {
+    private final Function<? super K, ? extends IO<A>>       fn;
+    private final ConcurrentHashMap<K, CompletableFuture<A>> inFlight;
+
+    private SingleFlight(Function<? super K, ? extends IO<A>> fn) {
+        this.fn = fn;
+        inFlight = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * An {@link IO} yielding the result of the {@link IO} for <code>key</code>, sharing any flight already in progress
+     * for the same key.
+     *
+     * @param key the key
+     * @return the shared {@link IO}
+     */
+    public IO<A> get(K key) {
+        return IO.shared(() -> fn.apply(key), new Flights<A>() {
+            @Override
+            public CompletableFuture<A> join(CompletableFuture<A> candidate) {
+                CompletableFuture<A> existing = inFlight.putIfAbsent(key, candidate);
+                return existing == null ? candidate : existing;
+            }
+
+            @Override
+            public void succeeded(CompletableFuture<A> flight) {
+                inFlight.remove(key, flight);
+            }
+
+            @Override
+            public void failed(CompletableFuture<A> flight) {
+                inFlight.remove(key, flight);
+            }
+        });
+    }
+
+    /**
+     * The number of keys with a flight currently in progress.
+     *
+     * @return the number of flights in progress
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Create a {@link SingleFlight} performing <code>fn(key)</code> for each key.
+     *
+     * @param fn  the function from a key to the {@link IO} to share
+     * @param <K> the key type
+     * @param <A> the result type
+     * @return the {@link SingleFlight}
+     */
+    public static <K, A> SingleFlight<K, A> singleFlight(Function<? super K, ? extends IO<A>> fn) {
+        return new SingleFlight<>(fn);
+    }
+}
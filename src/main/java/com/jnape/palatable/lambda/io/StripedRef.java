@@ -0,0 +1,140 @@
+package com.jnape.palatable.lambda.io;
+
+import com.jnape.palatable.lambda.adt.Unit;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.Unit.UNIT;
+import static com.jnape.palatable.lambda.io.Backoff.backoff;
+import static com.jnape.palatable.lambda.io.IO.io;
+
+/**
+ * A striped counterpart to {@link Ref} for hot, commutative updates, in the spirit of
+ * {@link java.util.concurrent.atomic.LongAdder}. Updates are applied to one of several independent cells, chosen by
+ * the updating thread and re-chosen at random whenever a compare-and-set fails, so concurrent writers rarely contend
+ * on the same cell. Reads combine every cell under the supplied {@link Monoid}.
+ * <p>
+ * Because the cells are combined in an unspecified grouping, updates must commute with the {@link Monoid}: applying
+ * an update to any one cell and then combining must be equivalent to combining and then applying the update. The
+ * canonical such update, appending a value under the {@link Monoid}, is offered directly as
+ * {@link StripedRef#combine(Object)}. Reads are not atomic snapshots; updates that happen concurrently with a read
+ * may or may not be reflected in it.
+ *
+ * @param <A> the referenced value type
+ * @see Ref
+ */
+public final class StripedRef<A> {
+    private final Monoid<A> monoid;
+    private final Cell<A>[] cells;
+    private final int       mask;
+
+    private StripedRef(Monoid<A> monoid, int stripes) {
+        this.monoid = monoid;
+        int size = Integer.highestOneBit(stripes - 1) << 1;
+        @SuppressWarnings("unchecked") Cell<A>[] cells = (Cell<A>[]) new Cell<?>[Math.max(size, 1)];
+        for (int i = 0; i < cells.length; i++)
+            cells[i] = new Cell<>(monoid.identity());
+        this.cells = cells;
+        mask = cells.length - 1;
+    }
+
+    /**
+     * An {@link IO} that reads the current value by combining all cells under the {@link Monoid}.
+     *
+     * @return the {@link IO} reading the value
+     */
+    public IO<A> get() {
+        return io(() -> {
+            A acc = monoid.identity();
+            for (Cell<A> cell : cells)
+                acc = monoid.apply(acc, cell.get());
+            return acc;
+        });
+    }
+
+    /**
+     * An {@link IO} that combines <code>a</code> into the current value under the {@link Monoid}.
+     *
+     * @param a the value to combine
+     * @return the {@link IO} performing the update
+     */
+    public IO<Unit> combine(A a) {
+        return update(x -> monoid.apply(x, a));
+    }
+
+    /**
+     * An {@link IO} that atomically applies <code>fn</code> to one of the cells. <code>fn</code> must be free of
+     * side-effects and commute with the {@link Monoid}.
+     *
+     * @param fn the update function
+     * @return the {@link IO} performing the update
+     */
+    public IO<Unit> update(Function<? super A, ? extends A> fn) {
+        return io(() -> {
+            int index = (int) Thread.currentThread().getId() & mask;
+            for (int attempt = 0; ; attempt++) {
+                Cell<A> cell = cells[index];
+                A current = cell.get();
+                if (cell.compareAndSet(current, fn.apply(current)))
+                    return UNIT;
+                index = ThreadLocalRandom.current().nextInt() & mask;
+                backoff(attempt);
+            }
+        });
+    }
+
+    /**
+     * An {@link IO} that resets every cell to the {@link Monoid#identity() identity}, yielding the combination of the
+     * values they held.
+     *
+     * @return the {@link IO} yielding the value prior to the reset
+     */
+    public IO<A> getAndReset() {
+        return io(() -> {
+            A acc = monoid.identity();
+            for (Cell<A> cell : cells)
+                acc = monoid.apply(acc, cell.getAndSet(monoid.identity()));
+            return acc;
+        });
+    }
+
+    /**
+     * Create a {@link StripedRef} over <code>monoid</code> with a number of cells proportional to the available
+     * processors.
+     *
+     * @param monoid the {@link Monoid} used to combine cells
+     * @param <A>    the referenced value type
+     * @return the {@link StripedRef}
+     */
+    public static <A> StripedRef<A> stripedRef(Monoid<A> monoid) {
+        return stripedRef(monoid, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Create a {@link StripedRef} over <code>monoid</code> with at least <code>stripes</code> cells.
+     *
+     * @param monoid  the {@link Monoid} used to combine cells
+     * @param stripes the minimum number of cells
+     * @param <A>     the referenced value type
+     * @return the {@link StripedRef}
+     */
+    public static <A> StripedRef<A> stripedRef(Monoid<A> monoid, int stripes) {
+        if (stripes < 1)
+            throw new IllegalArgumentException("stripes must be greater than 0: " + stripes);
+        return new StripedRef<>(monoid, stripes);
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Cell<A> extends AtomicReference<A> {
+        private static final long serialVersionUID = 1L;
+
+        private long p1, p2, p3, p4, p5, p6, p7;
+
+        private Cell(A a) {
+            super(a);
+        }
+    }
+}
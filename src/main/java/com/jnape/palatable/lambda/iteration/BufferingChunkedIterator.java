@@ -0,0 +1,47 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static java.lang.Math.min;
+
+/**
+ * A {@link ChunkedIterator} that fills each chunk by iterating an arbitrary {@link Iterator} element-wise, buffering at
+ * most {@link ChunkedIterator#DEFAULT_CHUNK_SIZE} elements at a time.
+ *
+ * @param <A> the element type
+ */
+final class BufferingChunkedIterator<A> extends ImmutableIterator<A> implements ChunkedIterator<A> {
+    private final Iterator<A>    iterator;
+    private final ChunkBuffer<A> buffer;
+
+    BufferingChunkedIterator(Iterator<A> iterator) {
+        this.iterator = iterator;
+        buffer = new ChunkBuffer<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public A next() {
+        return iterator.next();
+    }
+
+    @Override
+    public void close() {
+        CloseableIterator.close(iterator);
+    }
+
+    @Override
+    public List<A> nextChunk(int maxSize) {
+        int limit = min(maxSize, DEFAULT_CHUNK_SIZE);
+        Object[] elements = buffer.ofSize(limit);
+        int size = 0;
+        while (size < limit && iterator.hasNext())
+            elements[size++] = iterator.next();
+        return buffer.view(size);
+    }
+}
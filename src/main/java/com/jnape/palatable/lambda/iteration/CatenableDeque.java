@@ -0,0 +1,468 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+/**
+ * A persistent double-ended queue supporting amortized constant-time insertion and removal at either end, and
+ * concatenation in time logarithmic in the size of the smaller deque.
+ * <p>
+ * Internally, this is an unannotated 2-3 finger tree: the ends of the deque are held in small "digits" of one to four
+ * elements, and everything in between is recursively stored as a deque of 2-3 nodes. Iteration walks the tree with an
+ * explicit, reused traversal stack, and therefore does not allocate per element.
+ *
+ * @param <A> the element type
+ */
+public final class CatenableDeque<A> implements Iterable<A> {
+
+    private static final CatenableDeque<?> EMPTY = new CatenableDeque<>(Empty.INSTANCE);
+
+    private final Tree tree;
+
+    private CatenableDeque(Tree tree) {
+        this.tree = tree;
+    }
+
+    /**
+     * Produce a new deque with <code>a</code> as its first element.
+     *
+     * @param a the element
+     * @return the new deque
+     */
+    public CatenableDeque<A> pushFront(A a) {
+        return new CatenableDeque<>(tree.pushFront(a));
+    }
+
+    /**
+     * Produce a new deque with <code>a</code> as its last element.
+     *
+     * @param a the element
+     * @return the new deque
+     */
+    public CatenableDeque<A> pushBack(A a) {
+        return new CatenableDeque<>(tree.pushBack(a));
+    }
+
+    /**
+     * Retrieve the first element of this deque, if there is one.
+     *
+     * @return {@link Maybe} the first element
+     */
+    @SuppressWarnings("unchecked")
+    public Maybe<A> head() {
+        return tree.isEmpty() ? nothing() : just((A) tree.head());
+    }
+
+    /**
+     * Retrieve the last element of this deque, if there is one.
+     *
+     * @return {@link Maybe} the last element
+     */
+    @SuppressWarnings("unchecked")
+    public Maybe<A> last() {
+        return tree.isEmpty() ? nothing() : just((A) tree.last());
+    }
+
+    /**
+     * Produce a new deque without the first element of this deque. The tail of an empty deque is empty.
+     *
+     * @return the new deque
+     */
+    public CatenableDeque<A> tail() {
+        return tree.isEmpty() ? this : new CatenableDeque<>(tree.tail());
+    }
+
+    /**
+     * Produce a new deque without the last element of this deque. The init of an empty deque is empty.
+     *
+     * @return the new deque
+     */
+    public CatenableDeque<A> init() {
+        return tree.isEmpty() ? this : new CatenableDeque<>(tree.init());
+    }
+
+    /**
+     * Produce a new deque containing the elements of this deque followed by the elements of <code>other</code>.
+     *
+     * @param other the deque to append
+     * @return the concatenated deque
+     */
+    public CatenableDeque<A> concat(CatenableDeque<A> other) {
+        if (tree.isEmpty())
+            return other;
+        if (other.tree.isEmpty())
+            return this;
+        return new CatenableDeque<>(app3(tree, new Object[0], other.tree));
+    }
+
+    /**
+     * Test whether this deque has no elements.
+     *
+     * @return true if this deque is empty; false otherwise
+     */
+    public boolean isEmpty() {
+        return tree.isEmpty();
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new DequeIterator<>(tree);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof CatenableDeque))
+            return false;
+        Iterator<?> xs = iterator();
+        Iterator<?> ys = ((CatenableDeque<?>) other).iterator();
+        while (xs.hasNext() && ys.hasNext())
+            if (!Objects.equals(xs.next(), ys.next()))
+                return false;
+        return !xs.hasNext() && !ys.hasNext();
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (A a : this)
+            hashCode = 31 * hashCode + Objects.hashCode(a);
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CatenableDeque[");
+        Iterator<A> iterator = iterator();
+        while (iterator.hasNext()) {
+            sb.append(iterator.next());
+            if (iterator.hasNext())
+                sb.append(", ");
+        }
+        return sb.append("]").toString();
+    }
+
+    /**
+     * The empty deque.
+     *
+     * @param <A> the element type
+     * @return the empty deque
+     */
+    @SuppressWarnings("unchecked")
+    public static <A> CatenableDeque<A> empty() {
+        return (CatenableDeque<A>) EMPTY;
+    }
+
+    /**
+     * Construct a deque of the given elements, in order.
+     *
+     * @param as  the elements
+     * @param <A> the element type
+     * @return the deque
+     */
+    @SafeVarargs
+    public static <A> CatenableDeque<A> catenableDeque(A... as) {
+        Tree tree = Empty.INSTANCE;
+        for (A a : as)
+            tree = tree.pushBack(a);
+        return new CatenableDeque<>(tree);
+    }
+
+    private static Tree app3(Tree left, Object[] between, Tree right) {
+        if (left instanceof Empty) {
+            Tree tree = right;
+            for (int i = between.length - 1; i >= 0; i--)
+                tree = tree.pushFront(between[i]);
+            return tree;
+        }
+        if (right instanceof Empty) {
+            Tree tree = left;
+            for (Object x : between)
+                tree = tree.pushBack(x);
+            return tree;
+        }
+        if (left instanceof Single)
+            return app3(Empty.INSTANCE, between, right).pushFront(((Single) left).x);
+        if (right instanceof Single)
+            return app3(left, between, Empty.INSTANCE).pushBack(((Single) right).x);
+
+        Deep l = (Deep) left;
+        Deep r = (Deep) right;
+        Object[] middle = new Object[l.suffix.length + between.length + r.prefix.length];
+        System.arraycopy(l.suffix, 0, middle, 0, l.suffix.length);
+        System.arraycopy(between, 0, middle, l.suffix.length, between.length);
+        System.arraycopy(r.prefix, 0, middle, l.suffix.length + between.length, r.prefix.length);
+        return new Deep(l.prefix, app3(l.middle, nodes(middle), r.middle), r.suffix);
+    }
+
+    private static Object[] nodes(Object[] xs) {
+        Object[] nodes = new Object[(xs.length + 2) / 3];
+        int i = 0, n = 0;
+        while (xs.length - i > 4 || xs.length - i == 3) {
+            nodes[n++] = new Node(xs[i], xs[i + 1], xs[i + 2]);
+            i += 3;
+        }
+        while (i < xs.length) {
+            nodes[n++] = new Node(xs[i], xs[i + 1]);
+            i += 2;
+        }
+        return n == nodes.length ? nodes : Arrays.copyOf(nodes, n);
+    }
+
+    private static Object[] cons(Object x, Object[] digit) {
+        Object[] result = new Object[digit.length + 1];
+        result[0] = x;
+        System.arraycopy(digit, 0, result, 1, digit.length);
+        return result;
+    }
+
+    private static Object[] snoc(Object[] digit, Object x) {
+        Object[] result = Arrays.copyOf(digit, digit.length + 1);
+        result[digit.length] = x;
+        return result;
+    }
+
+    private static Tree digitToTree(Object[] digit) {
+        Tree tree = Empty.INSTANCE;
+        for (Object x : digit)
+            tree = tree.pushBack(x);
+        return tree;
+    }
+
+    private static final class Node {
+        private final Object[] children;
+
+        private Node(Object... children) {
+            this.children = children;
+        }
+    }
+
+    private abstract static class Tree {
+        abstract boolean isEmpty();
+
+        abstract Tree pushFront(Object x);
+
+        abstract Tree pushBack(Object x);
+
+        abstract Object head();
+
+        abstract Object last();
+
+        abstract Tree tail();
+
+        abstract Tree init();
+    }
+
+    private static final class Empty extends Tree {
+        private static final Empty INSTANCE = new Empty();
+
+        @Override
+        boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        Tree pushFront(Object x) {
+            return new Single(x);
+        }
+
+        @Override
+        Tree pushBack(Object x) {
+            return new Single(x);
+        }
+
+        @Override
+        Object head() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        Object last() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        Tree tail() {
+            return this;
+        }
+
+        @Override
+        Tree init() {
+            return this;
+        }
+    }
+
+    private static final class Single extends Tree {
+        private final Object x;
+
+        private Single(Object x) {
+            this.x = x;
+        }
+
+        @Override
+        boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        Tree pushFront(Object y) {
+            return new Deep(new Object[]{y}, Empty.INSTANCE, new Object[]{x});
+        }
+
+        @Override
+        Tree pushBack(Object y) {
+            return new Deep(new Object[]{x}, Empty.INSTANCE, new Object[]{y});
+        }
+
+        @Override
+        Object head() {
+            return x;
+        }
+
+        @Override
+        Object last() {
+            return x;
+        }
+
+        @Override
+        Tree tail() {
+            return Empty.INSTANCE;
+        }
+
+        @Override
+        Tree init() {
+            return Empty.INSTANCE;
+        }
+    }
+
+    private static final class Deep extends Tree {
+        private final Object[] prefix;
+        private final Tree     middle;
+        private final Object[] suffix;
+
+        private Deep(Object[] prefix, Tree middle, Object[] suffix) {
+            this.prefix = prefix;
+            this.middle = middle;
+            this.suffix = suffix;
+        }
+
+        @Override
+        boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        Tree pushFront(Object x) {
+            if (prefix.length < 4)
+                return new Deep(cons(x, prefix), middle, suffix);
+            return new Deep(new Object[]{x, prefix[0]},
+                            middle.pushFront(new Node(prefix[1], prefix[2], prefix[3])),
+                            suffix);
+        }
+
+        @Override
+        Tree pushBack(Object x) {
+            if (suffix.length < 4)
+                return new Deep(prefix, middle, snoc(suffix, x));
+            return new Deep(prefix,
+                            middle.pushBack(new Node(suffix[0], suffix[1], suffix[2])),
+                            new Object[]{suffix[3], x});
+        }
+
+        @Override
+        Object head() {
+            return prefix[0];
+        }
+
+        @Override
+        Object last() {
+            return suffix[suffix.length - 1];
+        }
+
+        @Override
+        Tree tail() {
+            if (prefix.length > 1)
+                return new Deep(Arrays.copyOfRange(prefix, 1, prefix.length), middle, suffix);
+            if (middle.isEmpty())
+                return digitToTree(suffix);
+            return new Deep(((Node) middle.head()).children, middle.tail(), suffix);
+        }
+
+        @Override
+        Tree init() {
+            if (suffix.length > 1)
+                return new Deep(prefix, middle, Arrays.copyOf(suffix, suffix.length - 1));
+            if (middle.isEmpty())
+                return digitToTree(prefix);
+            return new Deep(prefix, middle.init(), ((Node) middle.last()).children);
+        }
+    }
+
+    private static final class DequeIterator<A> extends ImmutableIterator<A> {
+        private Object[] items  = new Object[16];
+        private int[]    depths = new int[16];
+        private int      size;
+
+        private DequeIterator(Tree tree) {
+            pushTree(tree, 0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (size > 0 && depths[size - 1] != 0) {
+                Object item = items[--size];
+                int depth = depths[size];
+                items[size] = null;
+                if (depth < 0)
+                    pushTree((Tree) item, -depth - 1);
+                else
+                    pushDigit(((Node) item).children, depth - 1);
+            }
+            return size > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public A next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            A next = (A) items[--size];
+            items[size] = null;
+            return next;
+        }
+
+        private void pushTree(Tree tree, int depth) {
+            if (tree instanceof Single) {
+                push(((Single) tree).x, depth);
+            } else if (tree instanceof Deep) {
+                Deep deep = (Deep) tree;
+                pushDigit(deep.suffix, depth);
+                if (!deep.middle.isEmpty())
+                    push(deep.middle, -depth - 2);
+                pushDigit(deep.prefix, depth);
+            }
+        }
+
+        private void pushDigit(Object[] digit, int depth) {
+            for (int i = digit.length - 1; i >= 0; i--)
+                push(digit[i], depth);
+        }
+
+        private void push(Object item, int depth) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+                depths = Arrays.copyOf(depths, size * 2);
+            }
+            items[size] = item;
+            depths[size++] = depth;
+        }
+    }
+}
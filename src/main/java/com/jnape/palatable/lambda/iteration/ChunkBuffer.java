@@ -0,0 +1,26 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A reusable array backing the chunks a {@link ChunkedIterator} produces, grown as needed.
+ *
+ * @param <A> the element type
+ */
+final class ChunkBuffer<A> {
+    private Object[] elements = new Object[0];
+
+    Object[] ofSize(int size) {
+        if (elements.length < size)
+            elements = new Object[Math.max(size, elements.length * 2)];
+        return elements;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<A> view(int size) {
+        return unmodifiableList((List<A>) asList(elements).subList(0, size));
+    }
+}
@@ -0,0 +1,76 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An {@link Iterator} that can also hand over its elements a chunk at a time, so that bulk consumers and combinators
+ * can process whole chunks in tight loops rather than paying for a {@link Iterator#hasNext() hasNext} and
+ * {@link Iterator#next() next} call per element and per layer.
+ * <p>
+ * Element-wise and chunked iteration may be freely interleaved: both advance the same position. A chunk returned by
+ * {@link ChunkedIterator#nextChunk(int)} is a read-only view that is only valid until the next call to any method of
+ * the iterator, and must be copied if it is to be retained.
+ *
+ * @param <A> the element type
+ */
+public interface ChunkedIterator<A> extends Iterator<A> {
+
+    /**
+     * The number of elements bulk consumers ask for at a time.
+     */
+    int DEFAULT_CHUNK_SIZE = 256;
+
+    /**
+     * Advance past and return the next at most <code>maxSize</code> elements. Unless the iterator is exhausted, at
+     * least one element is returned, but fewer than <code>maxSize</code> may be returned even if more remain.
+     *
+     * @param maxSize the maximum number of elements to return, which must be greater than 0
+     * @return the next elements, or an empty {@link List} if the iterator is exhausted
+     */
+    List<A> nextChunk(int maxSize);
+
+    /**
+     * Whether pulling chunks from this iterator runs no user-supplied functions, such as those given to
+     * <code>map</code>, <code>filter</code>, or <code>zipWith</code>, so that consuming it a chunk at a time cannot be
+     * told apart from consuming it element by element. Consumers that run functions of their own on each element,
+     * such as <code>foldLeft</code>, only consume chunks from iterators for which this holds, so that side effects
+     * still interleave element by element.
+     *
+     * @return whether chunks are pulled without running user-supplied functions
+     */
+    default boolean chunksArePure() {
+        return false;
+    }
+
+    /**
+     * An {@link Iterator} over <code>as</code> that hands over slices of <code>as</code> without copying if
+     * <code>as</code> is an {@link java.util.ArrayList ArrayList} or an array viewed via
+     * {@link java.util.Arrays#asList(Object[]) asList}, or <code>as</code>'s own iterator otherwise. Either way,
+     * element-wise iteration goes through <code>as</code>'s own iterator, so its concurrent modification behavior is
+     * unchanged; other {@link List Lists}, such as concurrent or synchronized ones, are never sliced.
+     *
+     * @param as  the {@link Iterable}
+     * @param <A> the element type
+     * @return the {@link Iterator}
+     */
+    static <A> Iterator<A> chunkedIterator(Iterable<A> as) {
+        return SlicingIterator.slices(as)
+               ? new SlicingIterator<>((List<A>) as)
+               : as.iterator();
+    }
+
+    /**
+     * View <code>iterator</code> as a {@link ChunkedIterator}: either itself, if it already is one, or an adapter that
+     * transparently falls back to element-wise iteration to fill each chunk.
+     *
+     * @param iterator the {@link Iterator}
+     * @param <A>      the element type
+     * @return the {@link ChunkedIterator}
+     */
+    static <A> ChunkedIterator<A> chunks(Iterator<A> iterator) {
+        return iterator instanceof ChunkedIterator<?>
+               ? (ChunkedIterator<A>) iterator
+               : new BufferingChunkedIterator<>(iterator);
+    }
+}
@@ -0,0 +1,16 @@
+package com.jnape.palatable.lambda.iteration;
+
+/**
+ * An {@link Iterable} whose iterators may hold resources that must be released if iteration stops early. Each call to
+ * {@link CloseableIterable#iterator()} may acquire its own resources, released when that iterator is exhausted or
+ * {@link CloseableIterator#close() closed}.
+ *
+ * @param <A> the element type
+ * @see CloseableIterator
+ */
+@FunctionalInterface
+public interface CloseableIterable<A> extends Iterable<A> {
+
+    @Override
+    CloseableIterator<A> iterator();
+}
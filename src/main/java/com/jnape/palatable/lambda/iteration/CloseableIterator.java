@@ -0,0 +1,108 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.functions.specialized.checked.CheckedSupplier;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link Iterator} that may hold resources, such as an open file or database cursor, that must be released if
+ * iteration stops before the {@link Iterator} is exhausted.
+ * <p>
+ * Every iterator in this package is a {@link CloseableIterator} that closes the iterators it pulls from when it is
+ * closed, so closing the outermost iterator of a pipeline releases every source feeding it. Iterators that stop
+ * pulling on their own, such as those of <code>take</code>, <code>takeWhile</code>, and <code>zipWith</code>, close
+ * their sources as soon as they do, and so do the short-circuiting <code>head</code>, <code>find</code>, and
+ * <code>any</code>.
+ *
+ * @param <A> the element type
+ * @see CloseableIterable
+ */
+public interface CloseableIterator<A> extends Iterator<A>, AutoCloseable {
+
+    /**
+     * Release any resources held by this iterator or the iterators it pulls from. Closing is idempotent, and an
+     * iterator must not be used once it has been closed.
+     */
+    @Override
+    void close();
+
+    /**
+     * Close <code>iterator</code> if it is {@link AutoCloseable}, rethrowing any failure to close it.
+     *
+     * @param iterator the {@link Iterator}
+     */
+    static void close(Iterator<?> iterator) {
+        if (iterator instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) iterator).close();
+            } catch (Exception e) {
+                CheckedSupplier.<Exception, Void>checked(() -> {
+                    throw e;
+                }).get();
+            }
+        }
+    }
+
+    /**
+     * The iterator of <code>as</code> as a {@link CloseableIterator}, closing it when closed if it is
+     * {@link AutoCloseable}, for use with try-with-resources or
+     * {@link com.jnape.palatable.lambda.adt.Try#withResources Try#withResources}.
+     *
+     * @param as  the {@link Iterable}
+     * @param <A> the element type
+     * @return the {@link CloseableIterator}
+     */
+    static <A> CloseableIterator<A> closeableIterator(Iterable<A> as) {
+        Iterator<A> iterator = as.iterator();
+        return iterator instanceof CloseableIterator<?>
+               ? (CloseableIterator<A>) iterator
+               : closeableIterator(iterator, () -> close(iterator));
+    }
+
+    /**
+     * A {@link CloseableIterator} over the elements of <code>iterator</code> that closes <code>resource</code> exactly
+     * once: as soon as <code>iterator</code> is exhausted, or when it is closed, whichever comes first.
+     *
+     * @param iterator the {@link Iterator} reading from the resource
+     * @param resource the resource
+     * @param <A>      the element type
+     * @return the {@link CloseableIterator}
+     */
+    static <A> CloseableIterator<A> closeableIterator(Iterator<A> iterator, AutoCloseable resource) {
+        return new ImmutableIterator<A>() {
+            private boolean closed;
+
+            @Override
+            public boolean hasNext() {
+                if (closed)
+                    return false;
+                if (iterator.hasNext())
+                    return true;
+                close();
+                return false;
+            }
+
+            @Override
+            public A next() {
+                if (closed)
+                    throw new NoSuchElementException();
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+                if (closed)
+                    return;
+                closed = true;
+                try {
+                    resource.close();
+                } catch (Exception e) {
+                    CheckedSupplier.<Exception, Void>checked(() -> {
+                        throw e;
+                    }).get();
+                }
+            }
+        };
+    }
+}
@@ -47,6 +47,15 @@ public final class CombinatorialIterator<A, B> extends ImmutableIterator<Tuple2<
         return tuple;
     }
 
+    @Override
+    public void close() {
+        try {
+            CloseableIterator.close(asIterator);
+        } finally {
+            CloseableIterator.close(bsIterator);
+        }
+    }
+
     private boolean moreAs() {
         return asIterator.hasNext();
     }
@@ -4,7 +4,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 
-public final class ConsingIterator<A> implements Iterator<A> {
+public final class ConsingIterator<A> implements CloseableIterator<A> {
 
     private final A                     head;
     private final Supplier<Iterator<A>> asSupplier;
@@ -46,4 +46,9 @@ public final class ConsingIterator<A> implements Iterator<A> {
 
         return asIterator.next();
     }
+
+    @Override
+    public void close() {
+        CloseableIterator.close(asIterator);
+    }
 }
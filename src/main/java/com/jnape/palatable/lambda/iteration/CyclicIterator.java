@@ -18,6 +18,11 @@ public final class CyclicIterator<A> extends InfiniteIterator<A> {
         return iterator.hasNext() ? continueInitialIteration() : continueCachedIteration();
     }
 
+    @Override
+    public void close() {
+        CloseableIterator.close(iterator);
+    }
+
     private A continueCachedIteration() {
         if (!doublyLinkedIterator.hasNext())
             while (doublyLinkedIterator.hasPrevious())
@@ -0,0 +1,8 @@
+package com.jnape.palatable.lambda.iteration;
+
+public final class DifferencingIterable<A> extends SetOperationIterable<A> {
+
+    public DifferencingIterable(Iterable<A> xs, Iterable<A> ys) {
+        super(Operation.DIFFERENCE, xs, ys);
+    }
+}
@@ -2,6 +2,8 @@ package com.jnape.palatable.lambda.iteration;
 
 import java.util.Iterator;
 
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunkedIterator;
+
 public final class DroppingIterable<A> implements Iterable<A> {
     private final int         n;
     private final Iterable<A> as;
@@ -18,6 +20,6 @@ public final class DroppingIterable<A> implements Iterable<A> {
 
     @Override
     public Iterator<A> iterator() {
-        return new DroppingIterator<>(n, as.iterator());
+        return new DroppingIterator<>(n, chunkedIterator(as));
     }
 }
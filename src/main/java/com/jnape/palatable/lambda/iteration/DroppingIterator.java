@@ -1,16 +1,21 @@
 package com.jnape.palatable.lambda.iteration;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
-public final class DroppingIterator<A> extends ImmutableIterator<A> {
-    private final Integer     n;
-    private final Iterator<A> asIterator;
-    private       boolean     dropped;
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunks;
+
+public final class DroppingIterator<A> extends ImmutableIterator<A> implements ChunkedIterator<A> {
+    private final Integer            n;
+    private final Iterator<A>        asIterator;
+    private final ChunkedIterator<A> chunks;
+    private       boolean            dropped;
 
     public DroppingIterator(Integer n, Iterator<A> asIterator) {
         this.n = n;
         this.asIterator = asIterator;
+        chunks = chunks(asIterator);
         dropped = false;
     }
 
@@ -30,10 +35,31 @@ public final class DroppingIterator<A> extends ImmutableIterator<A> {
         return asIterator.next();
     }
 
+    @Override
+    public void close() {
+        CloseableIterator.close(asIterator);
+    }
+
+    @Override
+    public List<A> nextChunk(int maxSize) {
+        if (!dropped)
+            drop();
+        return chunks.nextChunk(maxSize);
+    }
+
+    @Override
+    public boolean chunksArePure() {
+        return chunks.chunksArePure();
+    }
+
     private void drop() {
-        int i = 0;
-        while (i++ < n && asIterator.hasNext())
-            asIterator.next();
+        int remaining = n;
+        while (remaining > 0) {
+            int skipped = chunks.nextChunk(remaining).size();
+            if (skipped == 0)
+                break;
+            remaining -= skipped;
+        }
         dropped = true;
     }
 }
@@ -0,0 +1,202 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.optics.Iso;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.SortWith.sortWith;
+
+/**
+ * An {@link Iterable} of the elements of another {@link Iterable}, sorted in runs of bounded size that are spilled to
+ * temporary files and then merged. At most <code>maxFanIn</code> runs are merged at once; if there are more, groups of
+ * consecutive runs are first merged into longer runs, over as many passes as needed. Temporary files are deleted as
+ * soon as they have been merged, or when the iterator is {@link CloseableIterator#close() closed}.
+ *
+ * @param <A> the element type
+ */
+public final class ExternallySortingIterable<A> implements CloseableIterable<A> {
+    private static final int DEFAULT_MAX_FAN_IN = 64;
+
+    private final Comparator<? super A>            comparator;
+    private final Fn1<? super A, ? extends byte[]> encode;
+    private final Fn1<? super byte[], ? extends A> decode;
+    private final int                              maxRunSize;
+    private final int                              maxFanIn;
+    private final Iterable<A>                      as;
+
+    public ExternallySortingIterable(Comparator<? super A> comparator, Iso.Simple<A, byte[]> codec, int maxRunSize,
+                                     Iterable<A> as) {
+        this(comparator, codec, maxRunSize, DEFAULT_MAX_FAN_IN, as);
+    }
+
+    public ExternallySortingIterable(Comparator<? super A> comparator, Iso.Simple<A, byte[]> codec, int maxRunSize,
+                                     int maxFanIn, Iterable<A> as) {
+        if (maxFanIn < 2)
+            throw new IllegalArgumentException("Maximum fan-in must be greater than 1: " + maxFanIn);
+        this.comparator = comparator;
+        Tuple2<Fn1<? super A, ? extends byte[]>, Fn1<? super byte[], ? extends A>> unIso = codec.unIso();
+        encode = unIso._1();
+        decode = unIso._2();
+        this.maxRunSize = maxRunSize;
+        this.maxFanIn = maxFanIn;
+        this.as = as;
+    }
+
+    @Override
+    public CloseableIterator<A> iterator() {
+        return new ImmutableIterator<A>() {
+            private Iterator<A> sorted;
+            private boolean     closed;
+
+            @Override
+            public boolean hasNext() {
+                if (closed)
+                    return false;
+                if (sorted == null)
+                    sorted = sort();
+                return sorted.hasNext();
+            }
+
+            @Override
+            public A next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return sorted.next();
+            }
+
+            @Override
+            public void close() {
+                closed = true;
+                if (sorted != null)
+                    CloseableIterator.close(sorted);
+            }
+        };
+    }
+
+    private Iterator<A> sort() {
+        Iterator<A> asIterator = as.iterator();
+        List<RunIterator<A>> runs = new ArrayList<>();
+        try {
+            List<A> run = sortWith(comparator, nextRun(asIterator));
+            if (!asIterator.hasNext())
+                return run.iterator();
+
+            runs.add(spill(run.iterator()));
+            while (asIterator.hasNext())
+                runs.add(spill(sortWith(comparator, nextRun(asIterator)).iterator()));
+            while (runs.size() > maxFanIn)
+                runs = mergePass(runs);
+        } catch (RuntimeException e) {
+            runs.forEach(RunIterator::close);
+            throw e;
+        } finally {
+            CloseableIterator.close(asIterator);
+        }
+        return new MergingIterator<>(comparator, runs);
+    }
+
+    private List<RunIterator<A>> mergePass(List<RunIterator<A>> runs) {
+        List<RunIterator<A>> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += maxFanIn) {
+                List<RunIterator<A>> group = runs.subList(from, Math.min(runs.size(), from + maxFanIn));
+                merged.add(group.size() == 1 ? group.get(0) : spill(new MergingIterator<>(comparator, group)));
+            }
+        } catch (RuntimeException e) {
+            merged.forEach(RunIterator::close);
+            throw e;
+        }
+        return merged;
+    }
+
+    private List<A> nextRun(Iterator<A> asIterator) {
+        List<A> run = new ArrayList<>();
+        while (run.size() < maxRunSize && asIterator.hasNext())
+            run.add(asIterator.next());
+        return run;
+    }
+
+    private RunIterator<A> spill(Iterator<A> sorted) {
+        try {
+            Path file = Files.createTempFile("lambda-sort-", ".run");
+            int size = 0;
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                while (sorted.hasNext()) {
+                    byte[] bytes = encode.apply(sorted.next());
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                    size++;
+                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            return new RunIterator<>(file, size, decode);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class RunIterator<A> extends ImmutableIterator<A> {
+        private final Path                             file;
+        private final Fn1<? super byte[], ? extends A> decode;
+        private       int                              remaining;
+        private       DataInputStream                  in;
+
+        private RunIterator(Path file, int size, Fn1<? super byte[], ? extends A> decode) {
+            this.file = file;
+            this.decode = decode;
+            remaining = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public A next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            try {
+                if (in == null)
+                    in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                if (--remaining == 0)
+                    close();
+                return decode.apply(bytes);
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            remaining = 0;
+            try {
+                if (in != null)
+                    in.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn2.All.all;
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunkedIterator;
 import static java.util.Collections.singletonList;
 
 public final class FilteringIterable<A> implements Iterable<A> {
@@ -26,6 +27,6 @@ public final class FilteringIterable<A> implements Iterable<A> {
     @Override
     public Iterator<A> iterator() {
         Function<? super A, ? extends Boolean> metaPredicate = a -> all(p -> p.apply(a), predicates);
-        return new FilteringIterator<>(metaPredicate, as.iterator());
+        return new FilteringIterator<>(metaPredicate, chunkedIterator(as));
     }
 }
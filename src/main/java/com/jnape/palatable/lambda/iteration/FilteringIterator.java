@@ -1,16 +1,23 @@
 package com.jnape.palatable.lambda.iteration;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.function.Function;
 
-public final class FilteringIterator<A> extends ImmutableIterator<A> {
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunks;
+
+public final class FilteringIterator<A> extends ImmutableIterator<A> implements ChunkedIterator<A> {
 
     private final Function<? super A, ? extends Boolean> predicate;
     private final RewindableIterator<A>                  rewindableIterator;
+    private final Iterator<A>                            iterator;
+    private       ChunkedIterator<A>                     chunks;
+    private       ChunkBuffer<A>                         buffer;
 
     public FilteringIterator(Function<? super A, ? extends Boolean> predicate, Iterator<A> iterator) {
         this.predicate = predicate;
+        this.iterator = iterator;
         rewindableIterator = new RewindableIterator<>(iterator);
     }
 
@@ -27,6 +34,39 @@ public final class FilteringIterator<A> extends ImmutableIterator<A> {
         throw new NoSuchElementException();
     }
 
+    @Override
+    public void close() {
+        CloseableIterator.close(iterator);
+    }
+
+    @Override
+    public List<A> nextChunk(int maxSize) {
+        if (chunks == null) {
+            chunks = chunks(iterator);
+            buffer = new ChunkBuffer<>();
+        }
+        Object[] matching;
+        if (rewindableIterator.isRewound()) {
+            matching = buffer.ofSize(1);
+            matching[0] = rewindableIterator.next();
+            return buffer.view(1);
+        }
+
+        int size = 0;
+        int chunkSize;
+        do {
+            List<A> as = chunks.nextChunk(maxSize);
+            chunkSize = as.size();
+            matching = buffer.ofSize(chunkSize);
+            for (int i = 0; i < chunkSize; i++) {
+                A a = as.get(i);
+                if (predicate.apply(a))
+                    matching[size++] = a;
+            }
+        } while (size == 0 && chunkSize != 0);
+        return buffer.view(size);
+    }
+
     private boolean hasMoreMatchingElements() {
         while (rewindableIterator.hasNext()) {
             if (predicate.apply(rewindableIterator.next())) {
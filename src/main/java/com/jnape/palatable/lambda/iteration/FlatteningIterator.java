@@ -26,4 +26,13 @@ public final class FlatteningIterator<A> extends ImmutableIterator<A> {
 
         return xs.next();
     }
+
+    @Override
+    public void close() {
+        try {
+            CloseableIterator.close(xs);
+        } finally {
+            CloseableIterator.close(xss);
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+public final class GeneratingIterator<A> extends ImmutableIterator<A> implements Consumer<A> {
+    private final Generator<A> generator;
+    private       A            next;
+    private       boolean      ready;
+    private       boolean      exhausted;
+
+    public GeneratingIterator(Generator<A> generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!ready && !exhausted)
+            exhausted = !generator.step(this);
+        return ready;
+    }
+
+    @Override
+    public A next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        A a = next;
+        next = null;
+        ready = false;
+        return a;
+    }
+
+    @Override
+    public void accept(A a) {
+        if (ready)
+            throw new IllegalStateException("Generator emitted more than one element in a single step");
+        next = a;
+        ready = true;
+    }
+}
@@ -0,0 +1,26 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.function.Consumer;
+
+/**
+ * A stepwise producer of elements that writes each element into a reusable emitter rather than returning it wrapped
+ * in a container, allowing generation without any per-element allocation.
+ * <p>
+ * Each call to {@link Generator#step(Consumer)} may emit at most one element; a step that emits nothing but returns
+ * <code>true</code> is simply skipped. Returning <code>false</code> signals that the generator is exhausted, although
+ * an element emitted during that final step is still produced. Generators may close over mutable state, in which case
+ * a fresh generator should be supplied for each iteration (see {@link GeneratingIterator}).
+ *
+ * @param <A> the generated element type
+ */
+@FunctionalInterface
+public interface Generator<A> {
+
+    /**
+     * Advance this generator by one step, emitting at most one element to <code>emitter</code>.
+     *
+     * @param emitter the reusable emitter receiving the next element
+     * @return false if this generator is exhausted; true otherwise
+     */
+    boolean step(Consumer<? super A> emitter);
+}
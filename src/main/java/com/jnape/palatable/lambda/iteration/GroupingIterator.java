@@ -1,16 +1,23 @@
 package com.jnape.palatable.lambda.iteration;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunks;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.asList;
+import static java.util.Arrays.copyOf;
+
 public final class GroupingIterator<A> extends ImmutableIterator<Iterable<A>> {
-    private final Integer     k;
-    private final Iterator<A> asIterator;
+    private final Integer            k;
+    private final Iterator<A>        asIterator;
+    private final ChunkedIterator<A> chunks;
 
     public GroupingIterator(Integer k, Iterator<A> asIterator) {
         this.k = k;
         this.asIterator = asIterator;
+        chunks = chunks(asIterator);
     }
 
     @Override
@@ -19,11 +26,25 @@ public final class GroupingIterator<A> extends ImmutableIterator<Iterable<A>> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Iterable<A> next() {
-        List<A> group = new ArrayList<>();
-        int i = 0;
-        while (i++ < k && asIterator.hasNext())
-            group.add(asIterator.next());
-        return group;
+        Object[] group = chunks.nextChunk(k).toArray();
+        int filled = group.length;
+        while (filled < k) {
+            List<A> chunk = chunks.nextChunk(k - filled);
+            int size = chunk.size();
+            if (size == 0)
+                break;
+            if (filled + size > group.length)
+                group = copyOf(group, (int) min(k, max(filled + size, 2L * group.length)));
+            for (int i = 0; i < size; i++)
+                group[filled++] = chunk.get(i);
+        }
+        return (List<A>) asList(filled == group.length ? group : copyOf(group, filled));
+    }
+
+    @Override
+    public void close() {
+        CloseableIterator.close(asIterator);
     }
 }
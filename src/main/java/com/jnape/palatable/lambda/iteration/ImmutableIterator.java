@@ -1,11 +1,13 @@
 package com.jnape.palatable.lambda.iteration;
 
-import java.util.Iterator;
-
-public abstract class ImmutableIterator<Element> implements Iterator<Element> {
+public abstract class ImmutableIterator<Element> implements CloseableIterator<Element> {
 
     @Override
     public final void remove() {
         throw new UnsupportedOperationException("Iterator is immutable.");
     }
+
+    @Override
+    public void close() {
+    }
 }
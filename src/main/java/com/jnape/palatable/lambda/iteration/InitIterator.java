@@ -29,4 +29,9 @@ public final class InitIterator<A> extends ImmutableIterator<A> {
         queued = asIterator.next();
         return next;
     }
+
+    @Override
+    public void close() {
+        CloseableIterator.close(asIterator);
+    }
 }
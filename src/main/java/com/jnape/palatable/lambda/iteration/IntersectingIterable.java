@@ -0,0 +1,8 @@
+package com.jnape.palatable.lambda.iteration;
+
+public final class IntersectingIterable<A> extends SetOperationIterable<A> {
+
+    public IntersectingIterable(Iterable<A> xs, Iterable<A> ys) {
+        super(Operation.INTERSECTION, xs, ys);
+    }
+}
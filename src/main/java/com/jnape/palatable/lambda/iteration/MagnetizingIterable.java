@@ -0,0 +1,19 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.Iterator;
+import java.util.function.BiFunction;
+
+public final class MagnetizingIterable<A> implements Iterable<Iterable<A>> {
+    private final BiFunction<? super A, ? super A, ? extends Boolean> predicate;
+    private final Iterable<A>                                          as;
+
+    public MagnetizingIterable(BiFunction<? super A, ? super A, ? extends Boolean> predicate, Iterable<A> as) {
+        this.predicate = predicate;
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<Iterable<A>> iterator() {
+        return new MagnetizingIterator<>(predicate, as.iterator());
+    }
+}
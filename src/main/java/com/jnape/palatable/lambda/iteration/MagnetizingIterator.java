@@ -0,0 +1,109 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+/**
+ * Groups the elements of a single source {@link Iterator} into contiguous runs in one pass. Each run pulls its
+ * elements from the source only as it is iterated, retaining them so that it may be iterated again; advancing to the
+ * next run first drains whatever remains of the current one.
+ *
+ * @param <A> the element type
+ */
+public final class MagnetizingIterator<A> extends ImmutableIterator<Iterable<A>> {
+    private final BiFunction<? super A, ? super A, ? extends Boolean> predicate;
+    private final Iterator<A>                                          asIterator;
+    private       Run                                                  current;
+    private       boolean                                              lookingAhead;
+    private       A                                                    lookahead;
+
+    public MagnetizingIterator(BiFunction<? super A, ? super A, ? extends Boolean> predicate,
+                               Iterator<A> asIterator) {
+        this.predicate = predicate;
+        this.asIterator = asIterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (current != null) {
+            current.drain();
+            current = null;
+        }
+        return lookingAhead || asIterator.hasNext();
+    }
+
+    @Override
+    public Iterable<A> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        A head;
+        if (lookingAhead) {
+            head = lookahead;
+            lookahead = null;
+            lookingAhead = false;
+        } else {
+            head = asIterator.next();
+        }
+        current = new Run(head);
+        return current;
+    }
+
+    @Override
+    public void close() {
+        CloseableIterator.close(asIterator);
+    }
+
+    private final class Run implements Iterable<A> {
+        private final List<A> elements = new ArrayList<>();
+        private       boolean closed;
+
+        private Run(A head) {
+            elements.add(head);
+        }
+
+        private boolean pull() {
+            if (closed)
+                return false;
+
+            if (asIterator.hasNext()) {
+                A next = asIterator.next();
+                if (predicate.apply(elements.get(elements.size() - 1), next)) {
+                    elements.add(next);
+                    return true;
+                }
+                lookahead = next;
+                lookingAhead = true;
+            }
+            closed = true;
+            return false;
+        }
+
+        private void drain() {
+            while (!closed)
+                pull();
+        }
+
+        @Override
+        public Iterator<A> iterator() {
+            return new ImmutableIterator<A>() {
+                private int i = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return i < elements.size() || pull();
+                }
+
+                @Override
+                public A next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    return elements.get(i++);
+                }
+            };
+        }
+    }
+}
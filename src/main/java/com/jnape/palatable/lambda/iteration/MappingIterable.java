@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunkedIterator;
 import static java.util.Collections.singletonList;
 
 public final class MappingIterable<A, B> implements Iterable<B> {
@@ -29,6 +30,6 @@ public final class MappingIterable<A, B> implements Iterable<B> {
     public Iterator<B> iterator() {
         Function<Object, Object> fnComposedOnTheHeap = a -> foldLeft((x, fn) -> ((Function<Object, Object>) fn).apply(x),
                                                                      a, mappers);
-        return new MappingIterator<>((Function<? super A, ? extends B>) fnComposedOnTheHeap, as.iterator());
+        return new MappingIterator<>((Function<? super A, ? extends B>) fnComposedOnTheHeap, chunkedIterator(as));
     }
 }
@@ -1,12 +1,17 @@
 package com.jnape.palatable.lambda.iteration;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Function;
 
-public final class MappingIterator<A, B> extends ImmutableIterator<B> {
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunks;
+
+public final class MappingIterator<A, B> extends ImmutableIterator<B> implements ChunkedIterator<B> {
 
     private final Function<? super A, ? extends B> function;
     private final Iterator<A>                      iterator;
+    private       ChunkedIterator<A>               chunks;
+    private       ChunkBuffer<B>                   buffer;
 
     public MappingIterator(Function<? super A, ? extends B> function, Iterator<A> iterator) {
         this.function = function;
@@ -22,4 +27,23 @@ public final class MappingIterator<A, B> extends ImmutableIterator<B> {
     public B next() {
         return function.apply(iterator.next());
     }
+
+    @Override
+    public void close() {
+        CloseableIterator.close(iterator);
+    }
+
+    @Override
+    public List<B> nextChunk(int maxSize) {
+        if (chunks == null) {
+            chunks = chunks(iterator);
+            buffer = new ChunkBuffer<>();
+        }
+        List<A> as = chunks.nextChunk(maxSize);
+        int size = as.size();
+        Object[] bs = buffer.ofSize(size);
+        for (int i = 0; i < size; i++)
+            bs[i] = function.apply(as.get(i));
+        return buffer.view(size);
+    }
 }
@@ -0,0 +1,24 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+public final class MergingIterable<A> implements Iterable<A> {
+    private final Comparator<? super A>            comparator;
+    private final Iterable<? extends Iterable<A>> ass;
+
+    public MergingIterable(Comparator<? super A> comparator, Iterable<? extends Iterable<A>> ass) {
+        this.comparator = comparator;
+        this.ass = ass;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        List<Iterator<A>> iterators = new ArrayList<>();
+        for (Iterable<A> as : ass)
+            iterators.add(as.iterator());
+        return new MergingIterator<>(comparator, iterators);
+    }
+}
@@ -0,0 +1,76 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Lazily merges any number of {@link Iterator Iterators} that are each sorted according to the same
+ * {@link Comparator}, maintaining a min-heap of the current head of each {@link Iterator}. Elements that compare equal
+ * are produced in the order of the {@link Iterator Iterators} they came from, so the merge is stable.
+ *
+ * @param <A> the element type
+ */
+public final class MergingIterator<A> extends ImmutableIterator<A> {
+    private final List<? extends Iterator<A>> iterators;
+    private final Comparator<? super A>       comparator;
+    private       PriorityQueue<Head<A>>      heads;
+
+    public MergingIterator(Comparator<? super A> comparator, List<? extends Iterator<A>> iterators) {
+        this.comparator = comparator;
+        this.iterators = iterators;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads().isEmpty();
+    }
+
+    @Override
+    public A next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Head<A> head = heads.poll();
+        A next = head.value;
+        Iterator<A> source = iterators.get(head.index);
+        if (source.hasNext()) {
+            head.value = source.next();
+            heads.add(head);
+        }
+        return next;
+    }
+
+    @Override
+    public void close() {
+        for (Iterator<A> iterator : iterators)
+            CloseableIterator.close(iterator);
+    }
+
+    private PriorityQueue<Head<A>> heads() {
+        if (heads == null) {
+            heads = new PriorityQueue<>(Math.max(1, iterators.size()), (x, y) -> {
+                int comparison = comparator.compare(x.value, y.value);
+                return comparison != 0 ? comparison : Integer.compare(x.index, y.index);
+            });
+            for (int i = 0; i < iterators.size(); i++) {
+                Iterator<A> source = iterators.get(i);
+                if (source.hasNext())
+                    heads.add(new Head<>(source.next(), i));
+            }
+        }
+        return heads;
+    }
+
+    private static final class Head<A> {
+        private       A   value;
+        private final int index;
+
+        private Head(A value, int index) {
+            this.value = value;
+            this.index = index;
+        }
+    }
+}
@@ -29,6 +29,11 @@ public final class PredicatedDroppingIterator<A> extends ImmutableIterator<A> {
         throw new NoSuchElementException();
     }
 
+    @Override
+    public void close() {
+        CloseableIterator.close(rewindableIterator);
+    }
+
     private void dropElementsIfNecessary() {
         while (rewindableIterator.hasNext() && !finishedDropping) {
             if (!predicate.apply(rewindableIterator.next())) {
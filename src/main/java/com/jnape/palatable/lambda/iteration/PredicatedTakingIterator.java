@@ -8,6 +8,7 @@ public final class PredicatedTakingIterator<A> extends ImmutableIterator<A> {
     private final Function<? super A, ? extends Boolean> predicate;
     private final RewindableIterator<A>                  rewindableIterator;
     private       boolean                                stillTaking;
+    private       boolean                                closed;
 
     public PredicatedTakingIterator(Function<? super A, ? extends Boolean> predicate,
                                     Iterator<A> asIterator) {
@@ -18,7 +19,11 @@ public final class PredicatedTakingIterator<A> extends ImmutableIterator<A> {
 
     @Override
     public boolean hasNext() {
-        return stillTaking && rewindableIterator.hasNext() && predicateSucceedsOnNextElement();
+        if (!closed && stillTaking && rewindableIterator.hasNext() && predicateSucceedsOnNextElement())
+            return true;
+
+        close();
+        return false;
     }
 
     @Override
@@ -29,6 +34,14 @@ public final class PredicatedTakingIterator<A> extends ImmutableIterator<A> {
         return rewindableIterator.next();
     }
 
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            CloseableIterator.close(rewindableIterator);
+        }
+    }
+
     private boolean predicateSucceedsOnNextElement() {
         if (rewindableIterator.isRewound())
             return true;
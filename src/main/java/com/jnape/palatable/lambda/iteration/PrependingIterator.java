@@ -27,4 +27,9 @@ public final class PrependingIterator<A> extends ImmutableIterator<A> {
 
         return (prependNext = !prependNext) ? iterator.next() : antecedent;
     }
+
+    @Override
+    public void close() {
+        CloseableIterator.close(iterator);
+    }
 }
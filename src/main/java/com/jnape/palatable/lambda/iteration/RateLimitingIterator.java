@@ -23,7 +23,7 @@ import static com.jnape.palatable.lambda.semigroup.builtin.Max.max;
 import static java.lang.Thread.sleep;
 import static java.util.Collections.emptyList;
 
-public final class RateLimitingIterator<A> implements Iterator<A> {
+public final class RateLimitingIterator<A> implements CloseableIterator<A> {
     private final Iterator<A>                                                   asIterator;
     private final Set<Tuple3<Long, Duration, Supplier<Instant>>>                rateLimits;
     private final Map<Tuple3<Long, Duration, Supplier<Instant>>, List<Instant>> timeSlicesByRateLimit;
@@ -47,6 +47,11 @@ public final class RateLimitingIterator<A> implements Iterator<A> {
         return asIterator.next();
     }
 
+    @Override
+    public void close() {
+        CloseableIterator.close(asIterator);
+    }
+
     private void awaitNextTimeSlice() {
         rateLimits.forEach(rateLimit -> {
             awaitNextTimeSliceForRateLimit(rateLimit);
@@ -26,6 +26,11 @@ public final class ReversingIterator<A> extends ImmutableIterator<A> {
         return reversingIterator.previous();
     }
 
+    @Override
+    public void close() {
+        CloseableIterator.close(as);
+    }
+
     private void prepareForReversal() {
         while (as.hasNext())
             reversingIterator.add(as.next());
@@ -31,6 +31,11 @@ public final class RewindableIterator<A> extends ImmutableIterator<A> {
         return next;
     }
 
+    @Override
+    public void close() {
+        CloseableIterator.close(asIterator);
+    }
+
     public void rewind() {
         if (cache.isEmpty())
             throw new NoSuchElementException();
@@ -0,0 +1,27 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+public final class RunFoldingIterable<A, K, M> implements Iterable<Tuple2<K, M>> {
+    private final Function<? super A, ? extends K> keyFn;
+    private final Monoid<M>                        monoid;
+    private final Function<? super A, ? extends M> fn;
+    private final Iterable<A>                      as;
+
+    public RunFoldingIterable(Function<? super A, ? extends K> keyFn, Monoid<M> monoid,
+                              Function<? super A, ? extends M> fn, Iterable<A> as) {
+        this.keyFn = keyFn;
+        this.monoid = monoid;
+        this.fn = fn;
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<Tuple2<K, M>> iterator() {
+        return new RunFoldingIterator<>(keyFn, monoid, fn, as.iterator());
+    }
+}
@@ -0,0 +1,72 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+
+public final class RunFoldingIterator<A, K, M> extends ImmutableIterator<Tuple2<K, M>> {
+    private final Function<? super A, ? extends K> keyFn;
+    private final Monoid<M>                        monoid;
+    private final Function<? super A, ? extends M> fn;
+    private final Iterator<A>                      asIterator;
+    private       boolean                          lookingAhead;
+    private       A                                lookahead;
+    private       K                                lookaheadKey;
+
+    public RunFoldingIterator(Function<? super A, ? extends K> keyFn, Monoid<M> monoid,
+                              Function<? super A, ? extends M> fn, Iterator<A> asIterator) {
+        this.keyFn = keyFn;
+        this.monoid = monoid;
+        this.fn = fn;
+        this.asIterator = asIterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return lookingAhead || asIterator.hasNext();
+    }
+
+    @Override
+    public Tuple2<K, M> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        A head;
+        K key;
+        if (lookingAhead) {
+            head = lookahead;
+            key = lookaheadKey;
+            lookahead = null;
+            lookaheadKey = null;
+            lookingAhead = false;
+        } else {
+            head = asIterator.next();
+            key = keyFn.apply(head);
+        }
+
+        M aggregate = monoid.apply(monoid.identity(), fn.apply(head));
+        while (asIterator.hasNext()) {
+            A next = asIterator.next();
+            K nextKey = keyFn.apply(next);
+            if (!Objects.equals(key, nextKey)) {
+                lookahead = next;
+                lookaheadKey = nextKey;
+                lookingAhead = true;
+                break;
+            }
+            aggregate = monoid.apply(aggregate, fn.apply(next));
+        }
+        return tuple(key, aggregate);
+    }
+
+    @Override
+    public void close() {
+        CloseableIterator.close(asIterator);
+    }
+}
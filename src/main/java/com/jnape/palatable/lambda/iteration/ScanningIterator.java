@@ -31,4 +31,9 @@ public final class ScanningIterator<A, B> extends ImmutableIterator<B> {
         b = asIterator.hasNext() ? scanner.apply(b, asIterator.next()) : null;
         return next;
     }
+
+    @Override
+    public void close() {
+        CloseableIterator.close(asIterator);
+    }
 }
@@ -0,0 +1,254 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The common supertype of {@link UnioningIterable}, {@link DifferencingIterable}, and {@link IntersectingIterable}.
+ * <p>
+ * Nested set operations form an expression tree that is flattened upon iteration into an ordered sequence of source
+ * {@link Iterable Iterables}, each guarded by the membership tests its elements must pass. The whole expression is
+ * then evaluated in a single traversal against one shared set of emitted elements, without nesting iterators, and
+ * regardless of how deeply the operations are nested.
+ *
+ * @param <A> the element type
+ */
+abstract class SetOperationIterable<A> implements Iterable<A> {
+
+    private final Operation   operation;
+    private final Iterable<A> xs;
+    private final Iterable<A> ys;
+
+    SetOperationIterable(Operation operation, Iterable<A> xs, Iterable<A> ys) {
+        this.operation = operation;
+        this.xs = xs;
+        this.ys = ys;
+    }
+
+    @Override
+    public final Iterator<A> iterator() {
+        return new SetOperationIterator<>(plan(this));
+    }
+
+    enum Operation {
+        UNION,
+        DIFFERENCE,
+        INTERSECTION
+    }
+
+    private static <A> Plan<A> plan(SetOperationIterable<A> expression) {
+        Map<Iterable<A>, Probe<A>> probes = new IdentityHashMap<>();
+        Deque<Step<A>> steps = new ArrayDeque<>();
+        Plan<A> plan = new Plan<>();
+        steps.push(new Step<>(expression, null, plan));
+        while (!steps.isEmpty()) {
+            Step<A> step = steps.pop();
+            if (!(step.expression instanceof SetOperationIterable)) {
+                step.plan.sources.add(new Source<>(step.expression, step.guard));
+                continue;
+            }
+
+            SetOperationIterable<A> node = (SetOperationIterable<A>) step.expression;
+            if (node.operation == Operation.UNION) {
+                steps.push(new Step<>(node.ys, step.guard, step.plan));
+                steps.push(new Step<>(node.xs, step.guard, step.plan));
+                continue;
+            }
+
+            Probe<A> probe = probes.get(node.ys);
+            if (probe == null) {
+                if (node.ys instanceof SetOperationIterable) {
+                    Plan<A> subPlan = new Plan<>();
+                    probe = new MaterializingProbe<>(subPlan);
+                    steps.push(new Step<>(node.ys, null, subPlan));
+                } else {
+                    probe = new DrainingProbe<>(node.ys);
+                }
+                probes.put(node.ys, probe);
+            }
+            if (probe instanceof MaterializingProbe)
+                step.plan.dependencies.add((MaterializingProbe<A>) probe);
+
+            Guard<A> guard = new Guard<>(probe, node.operation == Operation.INTERSECTION, step.guard);
+            steps.push(new Step<>(node.xs, guard, step.plan));
+        }
+        return plan;
+    }
+
+    private static final class Step<A> {
+        private final Iterable<A> expression;
+        private final Guard<A>    guard;
+        private final Plan<A>     plan;
+
+        private Step(Iterable<A> expression, Guard<A> guard, Plan<A> plan) {
+            this.expression = expression;
+            this.guard = guard;
+            this.plan = plan;
+        }
+    }
+
+    private static final class Plan<A> {
+        private final List<Source<A>>             sources      = new ArrayList<>();
+        private final List<MaterializingProbe<A>> dependencies = new ArrayList<>();
+    }
+
+    private static final class Source<A> {
+        private final Iterable<A> elements;
+        private final Guard<A>    guard;
+
+        private Source(Iterable<A> elements, Guard<A> guard) {
+            this.elements = elements;
+            this.guard = guard;
+        }
+
+        private boolean admits(A a) {
+            for (Guard<A> guard = this.guard; guard != null; guard = guard.next) {
+                if (guard.probe.contains(a) != guard.membership)
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    private static final class Guard<A> {
+        private final Probe<A> probe;
+        private final boolean  membership;
+        private final Guard<A> next;
+
+        private Guard(Probe<A> probe, boolean membership, Guard<A> next) {
+            this.probe = probe;
+            this.membership = membership;
+            this.next = next;
+        }
+    }
+
+    private interface Probe<A> {
+        boolean contains(A a);
+    }
+
+    private static final class DrainingProbe<A> implements Probe<A> {
+        private final Iterable<A> ys;
+        private final Set<A>      drained;
+        private       Iterator<A> iterator;
+
+        private DrainingProbe(Iterable<A> ys) {
+            this.ys = ys;
+            drained = new HashSet<>();
+        }
+
+        @Override
+        public boolean contains(A a) {
+            if (drained.contains(a))
+                return true;
+
+            if (iterator == null)
+                iterator = ys.iterator();
+
+            while (iterator.hasNext()) {
+                A y = iterator.next();
+                drained.add(y);
+                if (Objects.equals(a, y))
+                    return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class MaterializingProbe<A> implements Probe<A> {
+        private final Plan<A> plan;
+        private       Set<A>  members;
+
+        private MaterializingProbe(Plan<A> plan) {
+            this.plan = plan;
+        }
+
+        @Override
+        public boolean contains(A a) {
+            if (members == null)
+                materialize(this);
+            return members.contains(a);
+        }
+
+        private static <A> void materialize(MaterializingProbe<A> probe) {
+            Deque<MaterializingProbe<A>> pending = new ArrayDeque<>();
+            pending.push(probe);
+            while (!pending.isEmpty()) {
+                MaterializingProbe<A> next = pending.peek();
+                boolean ready = true;
+                for (MaterializingProbe<A> dependency : next.plan.dependencies) {
+                    if (dependency.members == null) {
+                        pending.push(dependency);
+                        ready = false;
+                    }
+                }
+                if (ready) {
+                    pending.pop();
+                    if (next.members == null) {
+                        SetOperationIterator<A> iterator = new SetOperationIterator<>(next.plan);
+                        while (iterator.hasNext())
+                            iterator.next();
+                        next.members = iterator.emitted;
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class SetOperationIterator<A> extends ImmutableIterator<A> {
+        private final Iterator<Source<A>> sources;
+        private final Set<A>              emitted;
+        private       Source<A>           source;
+        private       Iterator<A>         elements;
+        private       boolean             staged;
+        private       A                   next;
+
+        private SetOperationIterator(Plan<A> plan) {
+            sources = plan.sources.iterator();
+            emitted = new HashSet<>();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!staged) {
+                if (elements != null && elements.hasNext()) {
+                    A candidate = elements.next();
+                    if (!emitted.contains(candidate) && source.admits(candidate)) {
+                        emitted.add(candidate);
+                        next = candidate;
+                        staged = true;
+                    }
+                } else if (sources.hasNext()) {
+                    source = sources.next();
+                    elements = source.elements.iterator();
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public A next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            staged = false;
+            return next;
+        }
+
+        @Override
+        public void close() {
+            if (elements != null)
+                CloseableIterator.close(elements);
+        }
+    }
+}
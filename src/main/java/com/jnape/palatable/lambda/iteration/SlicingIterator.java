@@ -0,0 +1,70 @@
+package com.jnape.palatable.lambda.iteration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+
+import static java.lang.Math.min;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A {@link ChunkedIterator} over a {@link List} that iterates element-wise via the {@link List List's} own
+ * {@link ListIterator}, and hands over chunks as {@link List#subList(int, int) subList} views rather than copies. After
+ * each chunk, iteration resumes from a fresh {@link ListIterator} positioned past it, which first steps over the chunk's
+ * first element, so that the {@link List List's} own concurrent modification checks still apply between chunks.
+ *
+ * @param <A> the element type
+ */
+public final class SlicingIterator<A> extends ImmutableIterator<A> implements ChunkedIterator<A> {
+    private static final Class<?> ARRAY_VIEW = asList().getClass();
+
+    private final List<A>         as;
+    private       ListIterator<A> iterator;
+
+    public SlicingIterator(List<A> as) {
+        this.as = as;
+        iterator = as.listIterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public A next() {
+        return iterator.next();
+    }
+
+    @Override
+    public List<A> nextChunk(int maxSize) {
+        int from = iterator.nextIndex();
+        int to = from + min(maxSize, remaining());
+        if (to == from)
+            return unmodifiableList(as.subList(from, to));
+
+        iterator.next();
+        List<A> chunk = as.subList(from, to);
+        iterator = as.listIterator(to);
+        return unmodifiableList(chunk);
+    }
+
+    @Override
+    public boolean chunksArePure() {
+        return true;
+    }
+
+    int remaining() {
+        return as.size() - iterator.nextIndex();
+    }
+
+    /**
+     * Whether <code>as</code> is known to have {@link List#subList(int, int) subList} views that are consistent with
+     * its iterators: exactly an {@link ArrayList} or an array viewed via {@link java.util.Arrays#asList(Object[])
+     * asList}.
+     */
+    static boolean slices(Iterable<?> as) {
+        return as.getClass() == ArrayList.class || as.getClass() == ARRAY_VIEW;
+    }
+}
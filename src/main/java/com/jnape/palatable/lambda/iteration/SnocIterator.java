@@ -3,7 +3,7 @@ package com.jnape.palatable.lambda.iteration;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
-public final class SnocIterator<A> implements Iterator<A> {
+public final class SnocIterator<A> implements CloseableIterator<A> {
 
     private final Iterator<A> as;
     private final Iterator<A> snocs;
@@ -25,4 +25,13 @@ public final class SnocIterator<A> implements Iterator<A> {
 
         return as.hasNext() ? as.next() : snocs.next();
     }
+
+    @Override
+    public void close() {
+        try {
+            CloseableIterator.close(as);
+        } finally {
+            CloseableIterator.close(snocs);
+        }
+    }
 }
@@ -0,0 +1,143 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+
+/**
+ * Joins two {@link Iterator Iterators} that are each sorted by key, advancing both in lockstep and retaining only the
+ * current run of right-hand elements that share a key.
+ *
+ * @param <A> the left element type
+ * @param <B> the right element type
+ * @param <K> the key type
+ */
+public final class SortMergeJoiningIterator<A, B, K> extends ImmutableIterator<Tuple2<A, B>> {
+    private final Comparator<? super K>            comparator;
+    private final Function<? super A, ? extends K> aKeyFn;
+    private final Function<? super B, ? extends K> bKeyFn;
+    private final Iterator<A>                      as;
+    private final Iterator<B>                      bs;
+    private final List<B>                          run;
+    private       K                                runKey;
+    private       boolean                          hasRun;
+    private       A                                a;
+    private       K                                aKey;
+    private       boolean                          hasA;
+    private       int                              i;
+    private       B                                pending;
+    private       K                                pendingKey;
+    private       boolean                          hasPending;
+    private       Tuple2<A, B>                     next;
+    private       boolean                          exhausted;
+
+    public SortMergeJoiningIterator(Comparator<? super K> comparator,
+                                    Function<? super A, ? extends K> aKeyFn,
+                                    Function<? super B, ? extends K> bKeyFn,
+                                    Iterator<A> as, Iterator<B> bs) {
+        this.comparator = comparator;
+        this.aKeyFn = aKeyFn;
+        this.bKeyFn = bKeyFn;
+        this.as = as;
+        this.bs = bs;
+        run = new ArrayList<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !exhausted)
+            advance();
+        return next != null;
+    }
+
+    @Override
+    public Tuple2<A, B> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        Tuple2<A, B> result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void close() {
+        try {
+            CloseableIterator.close(as);
+        } finally {
+            CloseableIterator.close(bs);
+        }
+    }
+
+    private void advance() {
+        if (!hasA) {
+            if (!as.hasNext()) {
+                exhausted = true;
+                return;
+            }
+            a = as.next();
+            aKey = aKeyFn.apply(a);
+            hasA = true;
+            i = 0;
+        }
+
+        if (hasRun) {
+            int comparison = comparator.compare(aKey, runKey);
+            if (comparison == 0) {
+                if (i < run.size())
+                    next = tuple(a, run.get(i++));
+                else
+                    hasA = false;
+                return;
+            }
+            if (comparison < 0) {
+                hasA = false;
+                return;
+            }
+        }
+
+        if (!loadRun())
+            exhausted = true;
+    }
+
+    private boolean loadRun() {
+        run.clear();
+        hasRun = false;
+        while (true) {
+            if (!hasPending) {
+                if (!bs.hasNext())
+                    return false;
+                pending = bs.next();
+                pendingKey = bKeyFn.apply(pending);
+                hasPending = true;
+            }
+            if (comparator.compare(pendingKey, aKey) >= 0)
+                break;
+            hasPending = false;
+        }
+
+        runKey = pendingKey;
+        run.add(pending);
+        hasPending = false;
+        while (bs.hasNext()) {
+            B b = bs.next();
+            K key = bKeyFn.apply(b);
+            if (comparator.compare(key, runKey) != 0) {
+                pending = b;
+                pendingKey = key;
+                hasPending = true;
+                break;
+            }
+            run.add(b);
+        }
+        hasRun = true;
+        return true;
+    }
+}
@@ -2,6 +2,7 @@ package com.jnape.palatable.lambda.iteration;
 
 import java.util.Iterator;
 
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunkedIterator;
 import static java.lang.Math.min;
 
 public final class TakingIterable<A> implements Iterable<A> {
@@ -20,6 +21,6 @@ public final class TakingIterable<A> implements Iterable<A> {
 
     @Override
     public Iterator<A> iterator() {
-        return new TakingIterator<>(n, as.iterator());
+        return new TakingIterator<>(n, chunkedIterator(as));
     }
 }
@@ -1,13 +1,20 @@
 package com.jnape.palatable.lambda.iteration;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
-public final class TakingIterator<A> extends ImmutableIterator<A> {
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunks;
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
 
-    private final int         n;
-    private final Iterator<A> iterator;
-    private       int         currentIndex;
+public final class TakingIterator<A> extends ImmutableIterator<A> implements ChunkedIterator<A> {
+
+    private final int                n;
+    private final Iterator<A>        iterator;
+    private       int                currentIndex;
+    private       ChunkedIterator<A> chunks;
+    private       boolean            closed;
 
     public TakingIterator(int n, Iterator<A> iterator) {
         this.n = n;
@@ -17,7 +24,11 @@ public final class TakingIterator<A> extends ImmutableIterator<A> {
 
     @Override
     public boolean hasNext() {
-        return currentIndex < n && iterator.hasNext();
+        if (!closed && currentIndex < n && iterator.hasNext())
+            return true;
+
+        close();
+        return false;
     }
 
     @Override
@@ -25,7 +36,38 @@ public final class TakingIterator<A> extends ImmutableIterator<A> {
         if (currentIndex >= n)
             throw new NoSuchElementException();
 
-        currentIndex++;
-        return iterator.next();
+        A next = iterator.next();
+        if (++currentIndex == n)
+            close();
+        return next;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            CloseableIterator.close(iterator);
+        }
+    }
+
+    @Override
+    public List<A> nextChunk(int maxSize) {
+        if (closed || currentIndex >= n) {
+            close();
+            return emptyList();
+        }
+        if (chunks == null)
+            chunks = chunks(iterator);
+
+        List<A> chunk = chunks.nextChunk(min(maxSize, n - currentIndex));
+        currentIndex += chunk.size();
+        if (chunk.isEmpty() || currentIndex == n)
+            close();
+        return chunk;
+    }
+
+    @Override
+    public boolean chunksArePure() {
+        return iterator instanceof ChunkedIterator<?> && ((ChunkedIterator<?>) iterator).chunksArePure();
     }
 }
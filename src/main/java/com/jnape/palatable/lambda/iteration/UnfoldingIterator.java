@@ -6,12 +6,11 @@ import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 import java.util.NoSuchElementException;
 import java.util.function.Function;
 
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Constantly.constantly;
-
 public final class UnfoldingIterator<A, B> extends ImmutableIterator<A> {
     private final Function<? super B, Maybe<Tuple2<A, B>>> function;
     private       B                                        seed;
-    private       Maybe<Tuple2<A, B>>                      maybeAcc;
+    private       Tuple2<A, B>                             acc;
+    private       boolean                                  exhausted;
 
     public UnfoldingIterator(Function<? super B, Maybe<Tuple2<A, B>>> function, B seed) {
         this.function = function;
@@ -20,10 +19,11 @@ public final class UnfoldingIterator<A, B> extends ImmutableIterator<A> {
 
     @Override
     public boolean hasNext() {
-        if (maybeAcc == null)
-            maybeAcc = function.apply(seed);
-
-        return maybeAcc.fmap(constantly(true)).orElse(false);
+        if (acc == null && !exhausted) {
+            acc = function.apply(seed).orElse(null);
+            exhausted = acc == null;
+        }
+        return acc != null;
     }
 
     @Override
@@ -31,10 +31,9 @@ public final class UnfoldingIterator<A, B> extends ImmutableIterator<A> {
         if (!hasNext())
             throw new NoSuchElementException();
 
-        Tuple2<A, B> acc = maybeAcc.orElseThrow(NoSuchElementException::new);
         A next = acc._1();
         seed = acc._2();
-        maybeAcc = null;
+        acc = null;
         return next;
     }
 }
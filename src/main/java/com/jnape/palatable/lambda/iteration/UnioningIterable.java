@@ -1,20 +1,8 @@
 package com.jnape.palatable.lambda.iteration;
 
-import java.util.Iterator;
-
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Distinct.distinct;
-
-public final class UnioningIterable<A> implements Iterable<A> {
-
-    private final ConcatenatingIterable<A> elements;
+public final class UnioningIterable<A> extends SetOperationIterable<A> {
 
     public UnioningIterable(Iterable<A> xs, Iterable<A> ys) {
-        elements = new ConcatenatingIterable<>(xs instanceof UnioningIterable ? ((UnioningIterable<A>) xs).elements : xs,
-                                               ys instanceof UnioningIterable ? ((UnioningIterable<A>) ys).elements : ys);
-    }
-
-    @Override
-    public Iterator<A> iterator() {
-        return distinct(elements).iterator();
+        super(Operation.UNION, xs, ys);
     }
 }
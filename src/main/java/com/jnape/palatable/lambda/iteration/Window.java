@@ -0,0 +1,278 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * A specification of how to partition a sequence of elements into windows for aggregation, either by count or by a
+ * timestamp derived from each element, and either tumbling (disjoint, consecutive windows) or sliding (one window per
+ * element, covering the most recent elements).
+ * <p>
+ * Time-based windows expect timestamps in ascending order; a timestamp earlier than one already seen is treated as
+ * the latest timestamp seen so far.
+ *
+ * @param <A> the element type
+ * @see WindowAggregatingIterable
+ */
+public abstract class Window<A> {
+
+    private Window() {
+    }
+
+    abstract <M> Iterator<M> aggregate(Monoid<M> monoid, Function<? super A, ? extends M> fn, Iterator<A> as);
+
+    /**
+     * Disjoint windows of <code>size</code> consecutive elements each, the last of which may be smaller.
+     *
+     * @param size the number of elements per window
+     * @param <A>  the element type
+     * @return the window specification
+     */
+    public static <A> Window<A> tumbling(int size) {
+        requirePositive(size);
+        return new CountTumbling<>(size);
+    }
+
+    /**
+     * One window for each element from the <code>size</code>th onward, covering that element and the
+     * <code>size - 1</code> elements before it.
+     *
+     * @param size the number of elements per window
+     * @param <A>  the element type
+     * @return the window specification
+     */
+    public static <A> Window<A> sliding(int size) {
+        requirePositive(size);
+        return new CountSliding<>(size);
+    }
+
+    /**
+     * Disjoint windows spanning consecutive intervals of <code>size</code>, aligned to the epoch. Intervals containing
+     * no elements produce no window.
+     *
+     * @param size        the interval spanned by each window, at least one millisecond
+     * @param timestampFn the function from an element to its timestamp
+     * @param <A>         the element type
+     * @return the window specification
+     */
+    public static <A> Window<A> tumbling(Duration size, Function<? super A, ? extends Instant> timestampFn) {
+        if (size.toMillis() < 1)
+            throw new IllegalArgumentException("Window size must be at least one millisecond: " + size);
+        return new TimeTumbling<>(size.toMillis(), timestampFn);
+    }
+
+    /**
+     * One window for each element, covering every element whose timestamp falls within <code>size</code> of, and not
+     * after, that element's timestamp.
+     *
+     * @param size        the interval spanned by each window
+     * @param timestampFn the function from an element to its timestamp
+     * @param <A>         the element type
+     * @return the window specification
+     */
+    public static <A> Window<A> sliding(Duration size, Function<? super A, ? extends Instant> timestampFn) {
+        if (size.isNegative() || size.isZero())
+            throw new IllegalArgumentException("Window size must be greater than 0: " + size);
+        return new TimeSliding<>(size, timestampFn);
+    }
+
+    private static void requirePositive(int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("Window size must be greater than 0: " + size);
+    }
+
+    private static final class CountTumbling<A> extends Window<A> {
+        private final int size;
+
+        private CountTumbling(int size) {
+            this.size = size;
+        }
+
+        @Override
+        <M> Iterator<M> aggregate(Monoid<M> monoid, Function<? super A, ? extends M> fn, Iterator<A> as) {
+            return new ImmutableIterator<M>() {
+                @Override
+                public boolean hasNext() {
+                    return as.hasNext();
+                }
+
+                @Override
+                public M next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+
+                    M aggregate = monoid.identity();
+                    for (int i = 0; i < size && as.hasNext(); i++)
+                        aggregate = monoid.apply(aggregate, fn.apply(as.next()));
+                    return aggregate;
+                }
+
+                @Override
+                public void close() {
+                    CloseableIterator.close(as);
+                }
+            };
+        }
+    }
+
+    private static final class CountSliding<A> extends Window<A> {
+        private final int size;
+
+        private CountSliding(int size) {
+            this.size = size;
+        }
+
+        @Override
+        <M> Iterator<M> aggregate(Monoid<M> monoid, Function<? super A, ? extends M> fn, Iterator<A> as) {
+            WindowAggregator<M> window = WindowAggregator.windowAggregator(monoid);
+            return new ImmutableIterator<M>() {
+                @Override
+                public boolean hasNext() {
+                    while (window.size() < size - 1 && as.hasNext())
+                        window.push(fn.apply(as.next()));
+                    return as.hasNext();
+                }
+
+                @Override
+                public M next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+
+                    window.push(fn.apply(as.next()));
+                    M aggregate = window.aggregate();
+                    window.evict();
+                    return aggregate;
+                }
+
+                @Override
+                public void close() {
+                    CloseableIterator.close(as);
+                }
+            };
+        }
+    }
+
+    private static final class TimeTumbling<A> extends Window<A> {
+        private final long                                   sizeMillis;
+        private final Function<? super A, ? extends Instant> timestampFn;
+
+        private TimeTumbling(long sizeMillis, Function<? super A, ? extends Instant> timestampFn) {
+            this.sizeMillis = sizeMillis;
+            this.timestampFn = timestampFn;
+        }
+
+        @Override
+        <M> Iterator<M> aggregate(Monoid<M> monoid, Function<? super A, ? extends M> fn, Iterator<A> as) {
+            return new ImmutableIterator<M>() {
+                private boolean lookingAhead;
+                private A       lookahead;
+                private long    lookaheadBucket;
+                private long    latestBucket = Long.MIN_VALUE;
+
+                @Override
+                public boolean hasNext() {
+                    return lookingAhead || as.hasNext();
+                }
+
+                @Override
+                public M next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+
+                    long bucket;
+                    M aggregate;
+                    if (lookingAhead) {
+                        bucket = lookaheadBucket;
+                        aggregate = monoid.apply(monoid.identity(), fn.apply(lookahead));
+                        lookahead = null;
+                        lookingAhead = false;
+                    } else {
+                        A a = as.next();
+                        bucket = bucketOf(a);
+                        aggregate = monoid.apply(monoid.identity(), fn.apply(a));
+                    }
+
+                    while (as.hasNext()) {
+                        A a = as.next();
+                        long nextBucket = bucketOf(a);
+                        if (nextBucket != bucket) {
+                            lookahead = a;
+                            lookaheadBucket = nextBucket;
+                            lookingAhead = true;
+                            break;
+                        }
+                        aggregate = monoid.apply(aggregate, fn.apply(a));
+                    }
+                    return aggregate;
+                }
+
+                private long bucketOf(A a) {
+                    latestBucket = Math.max(latestBucket,
+                                            Math.floorDiv(timestampFn.apply(a).toEpochMilli(), sizeMillis));
+                    return latestBucket;
+                }
+
+                @Override
+                public void close() {
+                    CloseableIterator.close(as);
+                }
+            };
+        }
+    }
+
+    private static final class TimeSliding<A> extends Window<A> {
+        private final Duration                               size;
+        private final Function<? super A, ? extends Instant> timestampFn;
+
+        private TimeSliding(Duration size, Function<? super A, ? extends Instant> timestampFn) {
+            this.size = size;
+            this.timestampFn = timestampFn;
+        }
+
+        @Override
+        <M> Iterator<M> aggregate(Monoid<M> monoid, Function<? super A, ? extends M> fn, Iterator<A> as) {
+            WindowAggregator<M> window = WindowAggregator.windowAggregator(monoid);
+            Deque<Instant> timestamps = new ArrayDeque<>();
+            return new ImmutableIterator<M>() {
+                private Instant latest = Instant.MIN;
+
+                @Override
+                public boolean hasNext() {
+                    return as.hasNext();
+                }
+
+                @Override
+                public M next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+
+                    A a = as.next();
+                    Instant timestamp = timestampFn.apply(a);
+                    if (timestamp.isAfter(latest))
+                        latest = timestamp;
+
+                    Instant horizon = latest.minus(size);
+                    while (!timestamps.isEmpty() && !timestamps.peekFirst().isAfter(horizon)) {
+                        timestamps.removeFirst();
+                        window.evict();
+                    }
+                    timestamps.addLast(latest);
+                    window.push(fn.apply(a));
+                    return window.aggregate();
+                }
+
+                @Override
+                public void close() {
+                    CloseableIterator.close(as);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+public final class WindowAggregatingIterable<A, M> implements Iterable<M> {
+    private final Window<A>                        window;
+    private final Monoid<M>                        monoid;
+    private final Function<? super A, ? extends M> fn;
+    private final Iterable<A>                      as;
+
+    public WindowAggregatingIterable(Window<A> window, Monoid<M> monoid, Function<? super A, ? extends M> fn,
+                                     Iterable<A> as) {
+        this.window = window;
+        this.monoid = monoid;
+        this.fn = fn;
+        this.as = as;
+    }
+
+    @Override
+    public Iterator<M> iterator() {
+        return window.aggregate(monoid, fn, as.iterator());
+    }
+}
@@ -0,0 +1,119 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.monoid.InvertibleMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A first-in, first-out window of monoidal values that maintains the aggregate of its contents under insertion at the
+ * back and eviction from the front, each in amortized constant time.
+ *
+ * @param <M> the value type
+ */
+abstract class WindowAggregator<M> {
+
+    abstract void push(M m);
+
+    abstract void evict();
+
+    abstract M aggregate();
+
+    abstract int size();
+
+    static <M> WindowAggregator<M> windowAggregator(Monoid<M> monoid) {
+        return monoid instanceof InvertibleMonoid
+               ? new Inverting<>((InvertibleMonoid<M>) monoid)
+               : new TwoStack<>(monoid);
+    }
+
+    /**
+     * Keeps a stack of suffix aggregates over the oldest values and a running aggregate of the newest values. When the
+     * front stack runs dry on eviction, the back values are folded into it from newest to oldest, so each value is
+     * combined a constant number of times over its lifetime.
+     */
+    private static final class TwoStack<M> extends WindowAggregator<M> {
+        private final Monoid<M> monoid;
+        private final List<M>   front;
+        private final List<M>   back;
+        private       M         backAggregate;
+
+        private TwoStack(Monoid<M> monoid) {
+            this.monoid = monoid;
+            front = new ArrayList<>();
+            back = new ArrayList<>();
+            backAggregate = monoid.identity();
+        }
+
+        @Override
+        void push(M m) {
+            back.add(m);
+            backAggregate = monoid.apply(backAggregate, m);
+        }
+
+        @Override
+        void evict() {
+            if (front.isEmpty()) {
+                M suffix = monoid.identity();
+                for (int i = back.size() - 1; i >= 0; i--) {
+                    suffix = monoid.apply(back.get(i), suffix);
+                    front.add(suffix);
+                }
+                back.clear();
+                backAggregate = monoid.identity();
+            }
+            front.remove(front.size() - 1);
+        }
+
+        @Override
+        M aggregate() {
+            return front.isEmpty()
+                   ? backAggregate
+                   : monoid.apply(front.get(front.size() - 1), backAggregate);
+        }
+
+        @Override
+        int size() {
+            return front.size() + back.size();
+        }
+    }
+
+    /**
+     * Keeps a single running aggregate, removing evicted values by combining their inverse on the left.
+     */
+    private static final class Inverting<M> extends WindowAggregator<M> {
+        private final InvertibleMonoid<M> monoid;
+        private final Deque<M>            values;
+        private       M                   aggregate;
+
+        private Inverting(InvertibleMonoid<M> monoid) {
+            this.monoid = monoid;
+            values = new ArrayDeque<>();
+            aggregate = monoid.identity();
+        }
+
+        @Override
+        void push(M m) {
+            values.addLast(m);
+            aggregate = monoid.apply(aggregate, m);
+        }
+
+        @Override
+        void evict() {
+            aggregate = monoid.apply(monoid.inverse(values.removeFirst()), aggregate);
+        }
+
+        @Override
+        M aggregate() {
+            return aggregate;
+        }
+
+        @Override
+        int size() {
+            return values.size();
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package com.jnape.palatable.lambda.iteration;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.BiFunction;
 
-public final class ZippingIterator<C, A, B> extends ImmutableIterator<C> {
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunks;
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
+
+public final class ZippingIterator<C, A, B> extends ImmutableIterator<C> implements ChunkedIterator<C> {
     private final BiFunction<? super A, ? super B, ? extends C> zipper;
     private final Iterator<A>                                   asIterator;
     private final Iterator<B>                                   bsIterator;
+    private       ChunkedIterator<A>                            asChunks;
+    private       ChunkedIterator<B>                            bsChunks;
+    private       ChunkBuffer<C>                                buffer;
+    private       boolean                                       closed;
 
     public ZippingIterator(BiFunction<? super A, ? super B, ? extends C> zipper, Iterator<A> asIterator,
                            Iterator<B> bsIterator) {
@@ -17,11 +26,85 @@ public final class ZippingIterator<C, A, B> extends ImmutableIterator<C> {
 
     @Override
     public boolean hasNext() {
-        return asIterator.hasNext() && bsIterator.hasNext();
+        if (!closed && asIterator.hasNext() && bsIterator.hasNext())
+            return true;
+
+        close();
+        return false;
     }
 
     @Override
     public C next() {
         return zipper.apply(asIterator.next(), bsIterator.next());
     }
+
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+        try {
+            CloseableIterator.close(asIterator);
+        } finally {
+            CloseableIterator.close(bsIterator);
+        }
+    }
+
+    /**
+     * Chunks are only pulled from the sources when at least one of them is a {@link SlicingIterator}, whose remaining
+     * size bounds the chunk; the other source is pulled first, and the sliced one is then pulled for exactly as many
+     * elements. Otherwise, chunks are filled element-wise, so that neither source is ever pulled past the shorter one.
+     */
+    @Override
+    public List<C> nextChunk(int maxSize) {
+        if (buffer == null) {
+            asChunks = chunks(asIterator);
+            bsChunks = chunks(bsIterator);
+            buffer = new ChunkBuffer<>();
+        }
+        if (closed)
+            return buffer.view(0);
+
+        int asRemaining = remaining(asChunks);
+        int bsRemaining = remaining(bsChunks);
+        if (asRemaining == -1 && bsRemaining == -1)
+            return fill(min(maxSize, DEFAULT_CHUNK_SIZE));
+
+        int limit = min(maxSize, asRemaining == -1 ? bsRemaining
+                                 : bsRemaining == -1 ? asRemaining
+                                   : min(asRemaining, bsRemaining));
+        List<A> as = emptyList();
+        List<B> bs = emptyList();
+        if (bsRemaining == -1) {
+            if (limit > 0)
+                bs = bsChunks.nextChunk(limit);
+            if (!bs.isEmpty())
+                as = asChunks.nextChunk(bs.size());
+        } else {
+            if (limit > 0)
+                as = asChunks.nextChunk(limit);
+            if (!as.isEmpty())
+                bs = bsChunks.nextChunk(as.size());
+        }
+
+        int size = as.size();
+        if (size == 0)
+            close();
+        Object[] cs = buffer.ofSize(size);
+        for (int i = 0; i < size; i++)
+            cs[i] = zipper.apply(as.get(i), bs.get(i));
+        return buffer.view(size);
+    }
+
+    private List<C> fill(int limit) {
+        Object[] cs = buffer.ofSize(limit);
+        int size = 0;
+        while (size < limit && hasNext())
+            cs[size++] = next();
+        return buffer.view(size);
+    }
+
+    private static int remaining(ChunkedIterator<?> iterator) {
+        return iterator instanceof SlicingIterator<?> ? ((SlicingIterator<?>) iterator).remaining() : -1;
+    }
 }
@@ -0,0 +1,56 @@
+package com.jnape.palatable.lambda.iteration.instrumentation;
+
+import com.jnape.palatable.lambda.iteration.CloseableIterator;
+import com.jnape.palatable.lambda.iteration.ImmutableIterator;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+final class MeasuringIterator<A> extends ImmutableIterator<A> {
+    private final Iterator<A> delegate;
+    private final LongAdder   count;
+    private final LongAdder   nanos;
+    private final LongAdder   bytes;
+
+    MeasuringIterator(Iterator<A> delegate, LongAdder count, LongAdder nanos, LongAdder bytes) {
+        this.delegate = delegate;
+        this.count = count;
+        this.nanos = nanos;
+        this.bytes = bytes;
+    }
+
+    @Override
+    public boolean hasNext() {
+        long startBytes = bytes == null ? 0 : Stage.allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            return delegate.hasNext();
+        } finally {
+            record(start, startBytes);
+        }
+    }
+
+    @Override
+    public A next() {
+        long startBytes = bytes == null ? 0 : Stage.allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            A next = delegate.next();
+            count.increment();
+            return next;
+        } finally {
+            record(start, startBytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        CloseableIterator.close(delegate);
+    }
+
+    private void record(long start, long startBytes) {
+        nanos.add(System.nanoTime() - start);
+        if (bytes != null)
+            bytes.add(Stage.allocatedBytes() - startBytes);
+    }
+}
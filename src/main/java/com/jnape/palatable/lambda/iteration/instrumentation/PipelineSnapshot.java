@@ -0,0 +1,59 @@
+package com.jnape.palatable.lambda.iteration.instrumentation;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.List;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * An immutable snapshot of every stage of an {@link Instrumentation instrumented} iteration pipeline, in the order
+ * the stages were instrumented.
+ */
+public final class PipelineSnapshot {
+    private final String              name;
+    private final List<StageSnapshot> stages;
+
+    PipelineSnapshot(String name, List<StageSnapshot> stages) {
+        this.name = name;
+        this.stages = unmodifiableList(stages);
+    }
+
+    /**
+     * The name of the pipeline.
+     *
+     * @return the name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * The snapshots of each stage, in the order the stages were instrumented.
+     *
+     * @return the stage snapshots
+     */
+    public List<StageSnapshot> stages() {
+        return stages;
+    }
+
+    /**
+     * The snapshot of the first stage named <code>stageName</code>, if there is one.
+     *
+     * @param stageName the stage name
+     * @return {@link Maybe} the stage snapshot
+     */
+    public Maybe<StageSnapshot> stage(String stageName) {
+        for (StageSnapshot stage : stages)
+            if (stage.name().equals(stageName))
+                return just(stage);
+        return nothing();
+    }
+
+    @Override
+    public String toString() {
+        return "PipelineSnapshot{name=" + name + ", stages=" + stages + '}';
+    }
+}
@@ -0,0 +1,90 @@
+package com.jnape.palatable.lambda.iteration.instrumentation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The live counters of one instrumented stage. Output-side counters accumulate inclusive measurements taken around
+ * the stage's own iterator; source-side counters accumulate the portion of those measurements spent pulling from the
+ * stage's source, which is subtracted out when reporting exclusive figures.
+ */
+final class Stage implements StageMetricsMBean {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final String    pipeline;
+    private final String    name;
+    private final boolean   source;
+    private final boolean   trackAllocations;
+    private final LongAdder received       = new LongAdder();
+    private final LongAdder emitted        = new LongAdder();
+    private final LongAdder inclusiveNanos = new LongAdder();
+    private final LongAdder sourceNanos    = new LongAdder();
+    private final LongAdder inclusiveBytes = new LongAdder();
+    private final LongAdder sourceBytes    = new LongAdder();
+
+    Stage(String pipeline, String name, boolean source, boolean trackAllocations) {
+        this.pipeline = pipeline;
+        this.name = name;
+        this.source = source;
+        this.trackAllocations = trackAllocations && allocatedBytes() >= 0;
+    }
+
+    <A> Iterator<A> measureOutput(Iterator<A> iterator) {
+        return new MeasuringIterator<>(iterator, emitted, inclusiveNanos, trackAllocations ? inclusiveBytes : null);
+    }
+
+    <A> Iterator<A> measureSource(Iterator<A> iterator) {
+        return new MeasuringIterator<>(iterator, received, sourceNanos, trackAllocations ? sourceBytes : null);
+    }
+
+    StageSnapshot snapshot() {
+        long emitted = this.emitted.sum();
+        return new StageSnapshot(name, source ? emitted : received.sum(), emitted, getNanos(), getAllocatedBytes());
+    }
+
+    @Override
+    public String getPipeline() {
+        return pipeline;
+    }
+
+    @Override
+    public String getStage() {
+        return name;
+    }
+
+    @Override
+    public long getReceived() {
+        return source ? emitted.sum() : received.sum();
+    }
+
+    @Override
+    public long getEmitted() {
+        return emitted.sum();
+    }
+
+    @Override
+    public double getSelectivity() {
+        return snapshot().selectivity();
+    }
+
+    @Override
+    public long getNanos() {
+        return Math.max(0, inclusiveNanos.sum() - sourceNanos.sum());
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return trackAllocations ? Math.max(0, inclusiveBytes.sum() - sourceBytes.sum()) : -1;
+    }
+
+    static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled())
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
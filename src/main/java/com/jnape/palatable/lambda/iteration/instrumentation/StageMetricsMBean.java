@@ -0,0 +1,59 @@
+package com.jnape.palatable.lambda.iteration.instrumentation;
+
+/**
+ * The JMX management interface of a single stage of an {@link Instrumentation instrumented} iteration pipeline,
+ * exposing the same live counters as a {@link StageSnapshot}.
+ *
+ * @see Instrumentation#registerMBeans()
+ */
+public interface StageMetricsMBean {
+
+    /**
+     * The name of the pipeline the stage belongs to.
+     *
+     * @return the pipeline name
+     */
+    String getPipeline();
+
+    /**
+     * The name of the stage.
+     *
+     * @return the stage name
+     */
+    String getStage();
+
+    /**
+     * The number of elements the stage pulled from its source.
+     *
+     * @return the received count
+     */
+    long getReceived();
+
+    /**
+     * The number of elements the stage produced.
+     *
+     * @return the emitted count
+     */
+    long getEmitted();
+
+    /**
+     * The ratio of emitted to received elements, or {@link Double#NaN} if nothing has been received.
+     *
+     * @return the selectivity
+     */
+    double getSelectivity();
+
+    /**
+     * The time spent in the stage itself, excluding time spent pulling from its source.
+     *
+     * @return the exclusive time in nanoseconds
+     */
+    long getNanos();
+
+    /**
+     * The bytes allocated by the stage itself, excluding its source, or -1 if allocations are not tracked.
+     *
+     * @return the exclusive allocated bytes
+     */
+    long getAllocatedBytes();
+}
@@ -0,0 +1,99 @@
+package com.jnape.palatable.lambda.iteration.instrumentation;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+/**
+ * An immutable snapshot of the counters of a single stage of an {@link Instrumentation instrumented} iteration
+ * pipeline. Times and allocations are <em>exclusive</em>: whatever was spent pulling elements from the stage's source
+ * is attributed to the source, not to the stage.
+ */
+public final class StageSnapshot {
+    private final String name;
+    private final long   received;
+    private final long   emitted;
+    private final long   nanos;
+    private final long   allocatedBytes;
+
+    StageSnapshot(String name, long received, long emitted, long nanos, long allocatedBytes) {
+        this.name = name;
+        this.received = received;
+        this.emitted = emitted;
+        this.nanos = nanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * The name of the stage.
+     *
+     * @return the name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * The number of elements the stage pulled from its source. For a {@link Instrumentation#source(String, Iterable)
+     * source} stage, this is the same as the number of elements emitted.
+     *
+     * @return the received count
+     */
+    public long received() {
+        return received;
+    }
+
+    /**
+     * The number of elements the stage produced.
+     *
+     * @return the emitted count
+     */
+    public long emitted() {
+        return emitted;
+    }
+
+    /**
+     * The ratio of emitted to received elements (the pass rate of a filter, or the fan-out of a flattening stage), or
+     * {@link Double#NaN} if nothing has been received.
+     *
+     * @return the selectivity
+     */
+    public double selectivity() {
+        return received == 0 ? Double.NaN : (double) emitted / received;
+    }
+
+    /**
+     * The time spent in the stage itself, excluding time spent pulling from its source.
+     *
+     * @return the exclusive time in nanoseconds
+     */
+    public long nanos() {
+        return nanos;
+    }
+
+    /**
+     * The average exclusive time spent per emitted element, or {@link Double#NaN} if nothing has been emitted.
+     *
+     * @return the nanoseconds per emitted element
+     */
+    public double nanosPerElement() {
+        return emitted == 0 ? Double.NaN : (double) nanos / emitted;
+    }
+
+    /**
+     * An estimate of the bytes allocated by the stage itself, excluding its source, if allocations were tracked and
+     * the JVM supports measuring them.
+     *
+     * @return {@link Maybe} the exclusive allocated bytes
+     */
+    public Maybe<Long> allocatedBytes() {
+        return allocatedBytes < 0 ? nothing() : just(allocatedBytes);
+    }
+
+    @Override
+    public String toString() {
+        return "StageSnapshot{name=" + name + ", received=" + received + ", emitted=" + emitted + ", nanos=" + nanos
+                + (allocatedBytes < 0 ? "" : ", allocatedBytes=" + allocatedBytes) + '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.jnape.palatable.lambda.monoid;
+
+import com.jnape.palatable.lambda.semigroup.Semigroup;
+
+import java.util.function.Function;
+
+/**
+ * A {@link Monoid} in which every element has an inverse, such that combining an element with its inverse on either
+ * side yields the identity. Algebraically, this is a group.
+ * <p>
+ * Inverses allow an element to be removed from a combined result without recombining the remaining elements, which
+ * is exploited by incremental aggregations such as sliding windows.
+ *
+ * @param <A> the element type this InvertibleMonoid is formed over
+ */
+public interface InvertibleMonoid<A> extends Monoid<A> {
+
+    /**
+     * The inverse of an element under this monoid.
+     *
+     * @param a the element
+     * @return the inverse of a
+     */
+    A inverse(A a);
+
+    /**
+     * Promote a {@link Semigroup} to an {@link InvertibleMonoid} by supplying an identity element and an inverse
+     * function.
+     *
+     * @param semigroup the semigroup
+     * @param identity  the identity element
+     * @param inverse   the inverse function
+     * @param <A>       the element type of this monoid
+     * @return the invertible monoid
+     */
+    static <A> InvertibleMonoid<A> invertibleMonoid(Semigroup<A> semigroup, A identity,
+                                                    Function<? super A, ? extends A> inverse) {
+        return new InvertibleMonoid<A>() {
+            @Override
+            public A inverse(A a) {
+                return inverse.apply(a);
+            }
+
+            @Override
+            public A identity() {
+                return identity;
+            }
+
+            @Override
+            public A apply(A x, A y) {
+                return semigroup.apply(x, y);
+            }
+        };
+    }
+}
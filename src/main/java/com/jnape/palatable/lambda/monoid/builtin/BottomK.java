@@ -0,0 +1,79 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.builtin.fn3.BottomKWith;
+import com.jnape.palatable.lambda.functions.specialized.BiMonoidFactory;
+import com.jnape.palatable.lambda.functions.specialized.MonoidFactory;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Flatten.flatten;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.BottomKWith.bottomKWith;
+import static com.jnape.palatable.lambda.monoid.builtin.Concat.concat;
+
+/**
+ * Given a number <code>k</code> and a {@link Comparator}, the {@link Monoid} formed by keeping only the <code>k</code>
+ * least elements of two {@link List Lists}, from least to greatest, via {@link BottomKWith}. Since each partial result
+ * holds at most <code>k</code> elements, results of folds over separate partitions of some data combine in <code>O(k
+ * log k)</code> time, regardless of the size of the partitions.
+ * <p>
+ * {@link Monoid#foldMap(Function, Iterable)} is overridden to keep a single bounded heap over all of the mapped
+ * elements, so folding many small {@link List Lists} does not pay for intermediate results.
+ *
+ * @param <A> the {@link List} element type
+ * @see BottomKWith
+ * @see TopK
+ */
+public final class BottomK<A> implements BiMonoidFactory<Integer, Comparator<? super A>, List<A>> {
+
+    private static final BottomK<?> INSTANCE = new BottomK<>();
+
+    private BottomK() {
+    }
+
+    @Override
+    public Monoid<List<A>> apply(Integer k, Comparator<? super A> comparator) {
+        return new Monoid<List<A>>() {
+            @Override
+            public List<A> identity() {
+                return new ArrayList<>();
+            }
+
+            @Override
+            public List<A> apply(List<A> xs, List<A> ys) {
+                return bottomKWith(k, comparator, concat(xs, ys));
+            }
+
+            @Override
+            public <B> List<A> foldMap(Function<? super B, ? extends List<A>> fn, Iterable<B> bs) {
+                return bottomKWith(k, comparator, flatten(map(fn, bs)));
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> BottomK<A> bottomK() {
+        return (BottomK<A>) INSTANCE;
+    }
+
+    public static <A> MonoidFactory<Comparator<? super A>, List<A>> bottomK(int k) {
+        return BottomK.<A>bottomK().apply(k);
+    }
+
+    public static <A> Monoid<List<A>> bottomK(int k, Comparator<? super A> comparator) {
+        return BottomK.<A>bottomK(k).apply(comparator);
+    }
+
+    public static <A> Fn1<List<A>, List<A>> bottomK(int k, Comparator<? super A> comparator, List<A> xs) {
+        return BottomK.<A>bottomK(k, comparator).apply(xs);
+    }
+
+    public static <A> List<A> bottomK(int k, Comparator<? super A> comparator, List<A> xs, List<A> ys) {
+        return bottomK(k, comparator, xs).apply(ys);
+    }
+}
@@ -8,7 +8,8 @@ import static com.jnape.palatable.lambda.functions.Fn2.fn2;
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
 
 /**
- * A {@link Monoid} formed by {@link Fn1} under composition.
+ * A {@link Monoid} formed by {@link Fn1} under composition. Since {@link Fn1} composition is stack-safe, so is
+ * invoking the reduction of any number of {@link Fn1 Fn1s} under this monoid.
  *
  * @param <A> the input/output type to the {@link Fn1}
  */
@@ -0,0 +1,79 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.builtin.fn3.TopKWith;
+import com.jnape.palatable.lambda.functions.specialized.BiMonoidFactory;
+import com.jnape.palatable.lambda.functions.specialized.MonoidFactory;
+import com.jnape.palatable.lambda.monoid.Monoid;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Flatten.flatten;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.TopKWith.topKWith;
+import static com.jnape.palatable.lambda.monoid.builtin.Concat.concat;
+
+/**
+ * Given a number <code>k</code> and a {@link Comparator}, the {@link Monoid} formed by keeping only the <code>k</code>
+ * greatest elements of two {@link List Lists}, from greatest to least, via {@link TopKWith}. Since each partial result
+ * holds at most <code>k</code> elements, results of folds over separate partitions of some data combine in <code>O(k
+ * log k)</code> time, regardless of the size of the partitions.
+ * <p>
+ * {@link Monoid#foldMap(Function, Iterable)} is overridden to keep a single bounded heap over all of the mapped
+ * elements, so folding many small {@link List Lists} does not pay for intermediate results.
+ *
+ * @param <A> the {@link List} element type
+ * @see TopKWith
+ * @see BottomK
+ */
+public final class TopK<A> implements BiMonoidFactory<Integer, Comparator<? super A>, List<A>> {
+
+    private static final TopK<?> INSTANCE = new TopK<>();
+
+    private TopK() {
+    }
+
+    @Override
+    public Monoid<List<A>> apply(Integer k, Comparator<? super A> comparator) {
+        return new Monoid<List<A>>() {
+            @Override
+            public List<A> identity() {
+                return new ArrayList<>();
+            }
+
+            @Override
+            public List<A> apply(List<A> xs, List<A> ys) {
+                return topKWith(k, comparator, concat(xs, ys));
+            }
+
+            @Override
+            public <B> List<A> foldMap(Function<? super B, ? extends List<A>> fn, Iterable<B> bs) {
+                return topKWith(k, comparator, flatten(map(fn, bs)));
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> TopK<A> topK() {
+        return (TopK<A>) INSTANCE;
+    }
+
+    public static <A> MonoidFactory<Comparator<? super A>, List<A>> topK(int k) {
+        return TopK.<A>topK().apply(k);
+    }
+
+    public static <A> Monoid<List<A>> topK(int k, Comparator<? super A> comparator) {
+        return TopK.<A>topK(k).apply(comparator);
+    }
+
+    public static <A> Fn1<List<A>, List<A>> topK(int k, Comparator<? super A> comparator, List<A> xs) {
+        return TopK.<A>topK(k, comparator).apply(xs);
+    }
+
+    public static <A> List<A> topK(int k, Comparator<? super A> comparator, List<A> xs, List<A> ys) {
+        return topK(k, comparator, xs).apply(ys);
+    }
+}
@@ -10,6 +10,9 @@ import java.util.Collections;
 /**
  * Given two {@link Iterable Iterables} <code>xs</code> and <code>ys</code>, return the {@link Concat concatenation} of
  * the {@link Distinct distinct} elements of both <code>xs</code> and <code>ys</code>.
+ * <p>
+ * Arbitrarily nested set operations, including reductions of many {@link Iterable Iterables} under this monoid, are
+ * evaluated in a single, stack-safe traversal that shares one set of already-seen elements.
  *
  * @param <A> the {@link Iterable} element type
  */
@@ -16,6 +16,7 @@ import static com.jnape.palatable.lambda.adt.choice.Choice2.a;
 import static com.jnape.palatable.lambda.adt.choice.Choice2.b;
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
 import static com.jnape.palatable.lambda.functions.Fn1.fn1;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.ReduceLeft.reduceLeft;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
@@ -23,6 +24,8 @@ import static org.junit.Assert.assertEquals;
 @RunWith(Traits.class)
 public class Fn1Test {
 
+    private static final int STACK_EXPLODING_NUMBER = 50_000;
+
     @TestTraits({FunctorLaws.class, ApplicativeLaws.class, MonadLaws.class})
     public EquatableM<Fn1<String, ?>, ?> testSubject() {
         return new EquatableM<>(fn1(Integer::parseInt), f -> f.apply("1"));
@@ -80,4 +83,72 @@ public class Fn1Test {
         assertEquals(b(123), add1.choose().apply("123"));
         assertEquals(a("foo"), add1.choose().apply("foo"));
     }
+
+    @Test
+    public void andThenIsStackSafe() {
+        Fn1<Integer, Integer> addAll = id();
+        for (int i = 0; i < STACK_EXPLODING_NUMBER; i++)
+            addAll = addAll.andThen(x -> x + 1);
+        assertEquals((Integer) STACK_EXPLODING_NUMBER, addAll.apply(0));
+    }
+
+    @Test
+    public void composeIsStackSafe() {
+        Fn1<String, String> appendAll = id();
+        for (int i = 0; i < STACK_EXPLODING_NUMBER; i++) {
+            int n = i % 10;
+            appendAll = appendAll.compose(s -> s + n);
+        }
+        assertEquals(STACK_EXPLODING_NUMBER, appendAll.apply("").length());
+        assertEquals("9876543210", appendAll.apply("").substring(0, 10));
+    }
+
+    @Test
+    public void nestedCompositionsAreStackSafeAndPreserveOrder() {
+        Fn1<String, String> nested = id();
+        for (int i = 0; i < STACK_EXPLODING_NUMBER; i++) {
+            int n = i % 10;
+            Fn1<String, String> appendN = s -> s + n;
+            nested = appendN.fmap(nested).diMap(id(), s -> s);
+        }
+        assertEquals("9876543210", nested.apply("").substring(0, 10));
+    }
+
+    @Test
+    public void compositionsShareTheirPrefixesIndependently() {
+        Fn1<Integer, Integer> addOne = x -> x + 1;
+        Fn1<Integer, Integer> prefix = addOne.andThen(x -> x * 2);
+        Fn1<Integer, Integer> left = prefix.andThen(x -> x - 1);
+        Fn1<Integer, Integer> right = prefix.andThen(x -> x * 10);
+        assertEquals((Integer) 4, prefix.apply(1));
+        assertEquals((Integer) 3, left.apply(1));
+        assertEquals((Integer) 40, right.apply(1));
+    }
+
+    @Test
+    public void compositionsCanBeInvokedWhileBeingBuilt() {
+        Fn1<Integer, Integer> addAll = id();
+        for (int i = 1; i <= 10_000; i++) {
+            addAll = addAll.fmap(x -> x + 1);
+            assertEquals((Integer) i, addAll.apply(0));
+        }
+    }
+
+    @Test
+    public void compositionsSharingAFlattenedPrefixRemainIndependent() {
+        Fn1<Integer, Integer> base = Fn1.<Integer, Integer>fn1(x -> x + 1).fmap(x -> x * 2);
+        assertEquals((Integer) 2, base.apply(0));
+
+        Fn1<Integer, Integer> plusThree  = base.fmap(x -> x + 3);
+        Fn1<Integer, Integer> timesThree = base.fmap(x -> x * 3);
+        assertEquals((Integer) 5, plusThree.apply(0));
+        assertEquals((Integer) 6, timesThree.apply(0));
+        assertEquals((Integer) 2, base.apply(0));
+
+        Fn1<Integer, Integer> negatedFirst = base.compose(x -> -x);
+        Fn1<Integer, Integer> squaredFirst = base.compose(x -> x * x);
+        assertEquals((Integer) 0, negatedFirst.apply(1));
+        assertEquals((Integer) 4, squaredFirst.apply(1));
+        assertEquals((Integer) 10, plusThree.fmap(x -> x + 1).compose((Integer x) -> x - 1).apply(3));
+    }
 }
@@ -0,0 +1,54 @@
+package com.jnape.palatable.lambda.functions.builtin.fn1;
+
+import com.jnape.palatable.lambda.iteration.Generator;
+import org.junit.Test;
+
+import java.util.function.Consumer;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Generate.generate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.isEmpty;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class GenerateTest {
+
+    @Test
+    public void generatesElementsUntilExhausted() {
+        assertThat(generate(() -> new CountingTo(3)), iterates(0, 1, 2));
+    }
+
+    @Test
+    public void generatesEmptyIterable() {
+        assertThat(generate(() -> new CountingTo(0)), isEmpty());
+    }
+
+    @Test
+    public void suppliesFreshGeneratorForEachIteration() {
+        Iterable<Integer> counting = generate(() -> new CountingTo(3));
+        assertThat(counting, iterates(0, 1, 2));
+        assertThat(counting, iterates(0, 1, 2));
+    }
+
+    @Test
+    public void supportsInfiniteGenerators() {
+        assertThat(take(3, generate(() -> new CountingTo(Integer.MAX_VALUE))), iterates(0, 1, 2));
+    }
+
+    private static final class CountingTo implements Generator<Integer> {
+        private final int limit;
+        private       int next;
+
+        private CountingTo(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean step(Consumer<? super Integer> emitter) {
+            if (next >= limit)
+                return false;
+            emitter.accept(next++);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.jnape.palatable.lambda.functions.builtin.fn1;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.MergeSorted.mergeSorted;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class MergeSortedTest {
+
+    @Test
+    public void mergesByNaturalOrder() {
+        assertThat(mergeSorted(asList(asList("a", "c"), asList("b", "d"))), iterates("a", "b", "c", "d"));
+    }
+}
@@ -0,0 +1,43 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.DistinctRecent.distinctRecent;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class DistinctRecentTest {
+
+    @TestTraits({Laziness.class, InfiniteIterableSupport.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> testSubject() {
+        return distinctRecent(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lessThanOneCapacityIsInvalid() {
+        distinctRecent(0, emptyList());
+    }
+
+    @Test
+    public void evictsLeastRecentlySeenElements() {
+        assertThat(distinctRecent(2, asList(1, 2, 3, 1)), iterates(1, 2, 3, 1));
+        assertThat(distinctRecent(2, asList(1, 2, 1, 3, 1, 2)), iterates(1, 2, 3, 2));
+    }
+
+    @Test
+    public void behavesLikeDistinctWithinCapacity() {
+        assertThat(distinctRecent(3, asList(1, 2, 2, 3, 1, 3, 2)), iterates(1, 2, 3));
+    }
+}
@@ -0,0 +1,43 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.DistinctSortedWith.distinctSortedWith;
+import static java.util.Arrays.asList;
+import static java.util.Comparator.comparing;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class DistinctSortedWithTest {
+
+    @TestTraits({Laziness.class, InfiniteIterableSupport.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> testSubject() {
+        return distinctSortedWith(comparing(Object::hashCode));
+    }
+
+    @Test
+    public void collapsesRunsOfEqualElements() {
+        assertThat(distinctSortedWith(Integer::compare, asList(1, 1, 2, 3, 3, 3, 4)), iterates(1, 2, 3, 4));
+    }
+
+    @Test
+    public void equalityIsDeterminedByComparator() {
+        assertThat(distinctSortedWith(comparing(String::length), asList("a", "b", "cc", "dd", "eee")),
+                   iterates("a", "cc", "eee"));
+    }
+
+    @Test
+    public void onlyAdjacentElementsAreCollapsedForUnsortedInput() {
+        assertThat(distinctSortedWith(Integer::compare, asList(1, 1, 2, 1)), iterates(1, 2, 1));
+    }
+}
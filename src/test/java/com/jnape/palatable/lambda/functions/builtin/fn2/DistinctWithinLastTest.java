@@ -0,0 +1,43 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.DistinctWithinLast.distinctWithinLast;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class DistinctWithinLastTest {
+
+    @TestTraits({Laziness.class, InfiniteIterableSupport.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> testSubject() {
+        return distinctWithinLast(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lessThanOneWindowSizeIsInvalid() {
+        distinctWithinLast(0, emptyList());
+    }
+
+    @Test
+    public void onlySuppressesElementsSeenWithinWindow() {
+        assertThat(distinctWithinLast(2, asList(1, 2, 1, 3, 4, 1, 1)), iterates(1, 2, 3, 4, 1));
+    }
+
+    @Test
+    public void windowIsOverPrecedingElementsRatherThanEmittedElements() {
+        assertThat(distinctWithinLast(1, asList(1, 1, 1, 2, 1)), iterates(1, 2, 1));
+        assertThat(distinctWithinLast(2, asList(1, 1, 1, 2, 1)), iterates(1, 2));
+    }
+}
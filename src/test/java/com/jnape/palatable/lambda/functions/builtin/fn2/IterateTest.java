@@ -10,10 +10,13 @@ import testsupport.traits.InfiniteIteration;
 import testsupport.traits.Laziness;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Constantly.constantly;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static testsupport.matchers.IterableMatcher.iterates;
 
@@ -29,4 +32,17 @@ public class IterateTest {
     public void iteratesIterableFromSeedValueAndSuccessiveFunctionApplications() {
         assertThat(take(5, iterate(x -> x + 1, 0)), iterates(0, 1, 2, 3, 4));
     }
+
+    @Test
+    public void defersEachApplicationUntilItsElementIsRequested() {
+        AtomicInteger applications = new AtomicInteger(0);
+        Iterator<Integer> iterator = iterate((Integer x) -> {
+            applications.incrementAndGet();
+            return x + 1;
+        }, 0).iterator();
+        iterator.next();
+        assertEquals(0, applications.get());
+        iterator.next();
+        assertEquals(1, applications.get());
+    }
 }
@@ -11,16 +11,21 @@ import testsupport.traits.ImmutableIteration;
 import testsupport.traits.InfiniteIterableSupport;
 import testsupport.traits.Laziness;
 
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Last.last;
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Eq.eq;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.MagnetizeBy.magnetizeBy;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.Assert.assertThat;
 import static testsupport.matchers.IterableMatcher.isEmpty;
@@ -53,4 +58,33 @@ public class MagnetizeByTest {
         assertThat(last(magnetizeBy((x, y) -> false, take(stackBlowingNumber, repeat(1)))).orElseThrow(AssertionError::new),
                    iterates(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void traversesSourceOnceAndSupportsSingleUseIterables() {
+        AtomicInteger pulls = new AtomicInteger(0);
+        Iterator<Integer> source = map((Integer x) -> {
+            pulls.incrementAndGet();
+            return x;
+        }, asList(1, 2, 3, 2, 2, 3, 2, 1)).iterator();
+        Iterable<Integer> once = singleton(source).iterator()::next;
+
+        assertThat(magnetizeBy((Integer x, Integer y) -> x <= y, once),
+                   contains(iterates(1, 2, 3),
+                            iterates(2, 2, 3),
+                            iterates(2),
+                            iterates(1)));
+        assertThat(pulls.get(), is(8));
+    }
+
+    @Test
+    public void groupsRemainIterableAfterAdvancing() {
+        Iterator<Iterable<Integer>> groups = magnetizeBy((Integer x, Integer y) -> x.equals(y),
+                                                         asList(1, 1, 2)).iterator();
+        Iterable<Integer> first = groups.next();
+        groups.next();
+
+        assertThat(first, iterates(1, 1));
+        assertThat(first, iterates(1, 1));
+    }
+}
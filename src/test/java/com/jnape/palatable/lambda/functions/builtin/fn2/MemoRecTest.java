@@ -0,0 +1,97 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.MemoRec.memoRec;
+import static com.jnape.palatable.lambda.functor.builtin.Lazy.lazy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static testsupport.Constants.STACK_EXPLODING_NUMBER;
+
+public class MemoRecTest {
+
+    @Test
+    public void solvesEachDistinctInputOnce() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        assertEquals(BigInteger.valueOf(12586269025L),
+                     MemoRec.<Integer, BigInteger>memoRec((f, n) -> {
+                         invocations.incrementAndGet();
+                         return n < 2
+                                ? lazy(BigInteger.valueOf(n))
+                                : f.apply(n - 1).flatMap(x -> f.apply(n - 2).fmap(x::add));
+                     }, 50).value());
+        assertEquals(51, invocations.get());
+    }
+
+    @Test
+    public void memoizesResultsRequestedBeforeTheyAreSolved() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        assertEquals((Long) 832040L,
+                     MemoRec.<Integer, Long>memoRec((f, n) -> {
+                         invocations.incrementAndGet();
+                         if (n < 2)
+                             return lazy((long) n);
+                         return f.apply(n - 1).zip(f.apply(n - 2).fmap(y -> x -> x + y));
+                     }, 30).value());
+        assertEquals(31, invocations.get());
+    }
+
+    @Test
+    public void stackSafe() {
+        assertEquals((Integer) (STACK_EXPLODING_NUMBER * 20),
+                     MemoRec.<Integer, Integer>memoRec((f, n) -> n == 0
+                                                                 ? lazy(0)
+                                                                 : f.apply(n - 1).fmap(x -> x + 1),
+                                                       STACK_EXPLODING_NUMBER * 20)
+                             .value());
+    }
+
+    @Test
+    public void editDistance() {
+        String source = "kitten";
+        String target = "sitting";
+        assertEquals((Integer) 3,
+                     MemoRec.<Integer, Integer>memoRec((d, ij) -> {
+                         int i = ij / 100, j = ij % 100;
+                         if (i == 0)
+                             return lazy(j);
+                         if (j == 0)
+                             return lazy(i);
+                         int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                         return d.apply(ij - 100).flatMap(
+                                 del -> d.apply(ij - 1).flatMap(
+                                         ins -> d.apply(ij - 101).fmap(
+                                                 sub -> Math.min(Math.min(del + 1, ins + 1), sub + cost))));
+                     }, source.length() * 100 + target.length()).value());
+    }
+
+    @Test
+    public void usesFreshTableForEachEvaluation() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        memoRec((f, n) -> {
+            invocations.incrementAndGet();
+            return lazy(n);
+        }, 1).value();
+        memoRec((f, n) -> {
+            invocations.incrementAndGet();
+            return lazy(n);
+        }, 1).value();
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void defersAllComputationUntilForced() {
+        AtomicBoolean invoked = new AtomicBoolean(false);
+        memoRec((f, x) -> {
+                    invoked.set(true);
+                    return lazy(x);
+                },
+                0);
+
+        assertFalse(invoked.get());
+    }
+}
@@ -0,0 +1,54 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.util.Comparator;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.MergeSortedWith.mergeSortedWith;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.isEmpty;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class MergeSortedWithTest {
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class})
+    public Fn1<Iterable<? extends Iterable<Object>>, Iterable<Object>> testSubject() {
+        return mergeSortedWith(Comparator.comparing(Object::hashCode));
+    }
+
+    @Test
+    public void mergesSortedIterables() {
+        assertThat(mergeSortedWith(Comparator.<Integer>naturalOrder(),
+                                   asList(asList(1, 4, 7), emptyList(), asList(2, 5, 8), asList(3, 6))),
+                   iterates(1, 2, 3, 4, 5, 6, 7, 8));
+        assertThat(mergeSortedWith(Comparator.<Integer>naturalOrder(), emptyList()), isEmpty());
+    }
+
+    @Test
+    public void tiesAreBrokenBySourceOrder() {
+        assertThat(mergeSortedWith(Comparator.comparing(Tuple2::_1),
+                                   asList(asList(tuple(1, "a"), tuple(2, "c")),
+                                          asList(tuple(1, "b"), tuple(2, "d")))),
+                   iterates(tuple(1, "a"), tuple(1, "b"), tuple(2, "c"), tuple(2, "d")));
+    }
+
+    @Test
+    public void mergesInfiniteIterables() {
+        assertThat(take(6, mergeSortedWith(Comparator.<Integer>naturalOrder(),
+                                           asList(iterate(x -> x + 2, 0), iterate(x -> x + 3, 0)))),
+                   iterates(0, 0, 2, 3, 4, 6));
+    }
+}
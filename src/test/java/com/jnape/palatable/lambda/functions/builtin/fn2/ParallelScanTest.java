@@ -0,0 +1,66 @@
+package com.jnape.palatable.lambda.functions.builtin.fn2;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.monoid.Monoid;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ParallelScan.PARALLEL_SCAN_THRESHOLD;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ParallelScan.parallelScan;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.ScanLeft.scanLeft;
+import static com.jnape.palatable.lambda.monoid.Monoid.monoid;
+import static com.jnape.palatable.lambda.monoid.builtin.Last.last;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class ParallelScanTest {
+
+    private static final Monoid<Long> SUM = monoid(Long::sum, 0L);
+
+    @Test
+    public void scansFromIdentity() {
+        assertThat(parallelScan(SUM, emptyList()), iterates(0L));
+        assertThat(parallelScan(SUM, asList(1L, 2L, 3L, 4L)), iterates(0L, 1L, 3L, 6L, 10L));
+    }
+
+    @Test
+    public void largeInputsAgreeWithSequentialScan() {
+        List<Long> xs = toCollection(ArrayList::new, take(PARALLEL_SCAN_THRESHOLD * 16 + 7,
+                                                          iterate(x -> (x * 31 + 7) % 1_009, 1L)));
+        assertThat(parallelScan(SUM, xs),
+                   equalTo(toCollection(ArrayList::new, scanLeft(SUM.toBiFunction(), 0L, xs))));
+    }
+
+    @Test
+    public void preservesOrderForNonCommutativeMonoids() {
+        List<Maybe<Integer>> xs = toCollection(ArrayList::new,
+                                               map(Maybe::just,
+                                                   take(PARALLEL_SCAN_THRESHOLD * 4, iterate(x -> x + 1, 0))));
+        List<Maybe<Integer>> scanned = parallelScan(last(), xs);
+        assertThat(scanned.subList(1, scanned.size()), equalTo(xs));
+    }
+
+    @Test
+    public void supportsListsWithoutRandomAccess() {
+        LinkedList<Long> xs = toCollection(LinkedList::new, take(PARALLEL_SCAN_THRESHOLD * 2, iterate(x -> x + 1, 0L)));
+        assertThat(parallelScan(SUM, xs),
+                   equalTo(toCollection(ArrayList::new, scanLeft(SUM.toBiFunction(), 0L, xs))));
+    }
+
+    @Test
+    public void singletonScan() {
+        assertThat(parallelScan(last(), singletonList(just(1))), iterates(Maybe.<Integer>nothing(), just(1)));
+    }
+}
@@ -18,4 +18,16 @@ public class ReplicateTest {
     public void replicateMoreThan0TimesProducesPopulatedIterable() {
         assertThat(replicate(3, '1'), iterates('1', '1', '1'));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void replicateNegativeTimesProducesEmptyIterable() {
+        assertThat(replicate(-1, 1), isEmpty());
+    }
+
+    @Test
+    public void replicateCanBeIteratedRepeatedly() {
+        Iterable<Character> ones = replicate(2, '1');
+        assertThat(ones, iterates('1', '1'));
+        assertThat(ones, iterates('1', '1'));
+    }
+}
@@ -3,12 +3,19 @@ package com.jnape.palatable.lambda.functions.builtin.fn2;
 import com.jnape.palatable.lambda.adt.hlist.Tuple2;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
 import static com.jnape.palatable.lambda.functions.builtin.fn2.SortWith.sortWith;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class SortWithTest {
 
@@ -19,4 +26,17 @@ public class SortWithTest {
                                       .thenComparing(Tuple2::_2),
                               asList(tuple("foo", 1), tuple("foo", 2), tuple("bar", 4), tuple("baz", 3))));
     }
+
+    @Test
+    public void sortsLargeInputsStably() {
+        List<Tuple2<Integer, Integer>> descending = toCollection(ArrayList::new,
+                                                                 map(x -> tuple((100_000 - x) / 2, x),
+                                                                     take(100_000, iterate(x -> x + 1, 0))));
+        List<Tuple2<Integer, Integer>> sorted = sortWith(Comparator.comparing(Tuple2::_1), descending);
+        for (int i = 1; i < sorted.size(); i++) {
+            Tuple2<Integer, Integer> previous = sorted.get(i - 1);
+            Tuple2<Integer, Integer> current = sorted.get(i);
+            assertTrue(previous._1() < current._1() || previous._2() < current._2());
+        }
+    }
 }
\ No newline at end of file
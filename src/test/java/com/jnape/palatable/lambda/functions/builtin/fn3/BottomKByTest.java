@@ -0,0 +1,15 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn3.BottomKBy.bottomKBy;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class BottomKByTest {
+
+    @Test
+    public void keepsKElementsWithLeastMappedValues() {
+        assertEquals(asList("a", "b", "dd"), bottomKBy(3, String::length, asList("a", "dd", "ccc", "b", "ee")));
+    }
+}
@@ -0,0 +1,26 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.BottomKWith.bottomKWith;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class BottomKWithTest {
+
+    @Test
+    public void keepsKLeastElementsFromLeastToGreatest() {
+        assertEquals(asList(1, 2, 3), bottomKWith(3, Comparator.<Integer>naturalOrder(), asList(5, 1, 9, 3, 7, 2)));
+    }
+
+    @Test
+    public void earlierEqualElementsArePreferred() {
+        assertEquals(asList(tuple(0, "e"), tuple(1, "a"), tuple(1, "c")),
+                     bottomKWith(3, Comparator.comparing(Tuple2::_1),
+                                 asList(tuple(1, "a"), tuple(2, "b"), tuple(1, "c"), tuple(1, "d"), tuple(0, "e"))));
+    }
+}
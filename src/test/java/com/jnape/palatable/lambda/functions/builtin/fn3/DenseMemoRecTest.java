@@ -0,0 +1,71 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn3.DenseMemoRec.denseMemoRec;
+import static com.jnape.palatable.lambda.functor.builtin.Lazy.lazy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DenseMemoRecTest {
+
+    @Test
+    public void solvesEachIndexOnce() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        assertEquals((Long) 12586269025L,
+                     DenseMemoRec.<Long>denseMemoRec(51, (f, n) -> {
+                         invocations.incrementAndGet();
+                         return n < 2
+                                ? lazy((long) n)
+                                : f.apply(n - 1).flatMap(x -> f.apply(n - 2).fmap(y -> x + y));
+                     }, 50).value());
+        assertEquals(51, invocations.get());
+    }
+
+    @Test
+    public void solvesMillionStateProblemsWithoutBlowingTheStack() {
+        int states = 1_000_000;
+        assertEquals((Long) ((long) states * (states - 1) / 2),
+                     DenseMemoRec.<Long>denseMemoRec(states, (f, n) -> n == 0
+                                                                       ? lazy(0L)
+                                                                       : f.apply(n - 1).fmap(x -> x + n),
+                                                     states - 1).value());
+    }
+
+    @Test
+    public void knapsack() {
+        int[] weights = {1, 3, 4, 5};
+        int[] values = {1, 4, 5, 7};
+        int capacity = 7;
+        int width = capacity + 1;
+        assertEquals((Integer) 9,
+                     DenseMemoRec.<Integer>denseMemoRec((weights.length + 1) * width, (best, ic) -> {
+                         int i = ic / width, c = ic % width;
+                         if (i == 0)
+                             return lazy(0);
+                         Integer skip = (i - 1) * width + c;
+                         return weights[i - 1] > c
+                                ? best.apply(skip)
+                                : best.apply(skip).flatMap(
+                                 without -> best.apply(skip - weights[i - 1])
+                                         .fmap(with -> Math.max(without, with + values[i - 1])));
+                     }, weights.length * width + capacity).value());
+    }
+
+    @Test
+    public void memoizesNullResults() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        assertNull(DenseMemoRec.<Object>denseMemoRec(2, (f, n) -> {
+            invocations.incrementAndGet();
+            return n == 0 ? lazy((Object) null) : f.apply(0).flatMap(x -> f.apply(0));
+        }, 1).value());
+        assertEquals(2, invocations.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveSizeIsRejected() {
+        denseMemoRec(0, (f, n) -> lazy(n), 0);
+    }
+}
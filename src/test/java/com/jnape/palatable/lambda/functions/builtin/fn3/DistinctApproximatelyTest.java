@@ -0,0 +1,52 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Size.size;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.DistinctApproximately.distinctApproximately;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class DistinctApproximatelyTest {
+
+    @TestTraits({Laziness.class, InfiniteIterableSupport.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> testSubject() {
+        return distinctApproximately(100, 0.01);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lessThanOneExpectedElementIsInvalid() {
+        distinctApproximately(0, 0.01, emptyList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void falsePositiveProbabilityMustBeBetweenZeroAndOne() {
+        distinctApproximately(10, 1d, emptyList());
+    }
+
+    @Test
+    public void neverRepeatsElements() {
+        assertThat(distinctApproximately(10, 0.01, asList(1, 2, 2, 3, 1, 3)), iterates(1, 2, 3));
+    }
+
+    @Test
+    public void falsePositivesAreBoundedByProbability() {
+        Iterable<Integer> distinct = distinctApproximately(10_000, 0.01, take(10_000, iterate(x -> x + 1, 0)));
+        assertThat(size(distinct), greaterThan(9_800L));
+    }
+}
@@ -0,0 +1,56 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.time.Instant;
+import java.util.Iterator;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Constantly.constantly;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.DistinctWithin.distinctWithin;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofSeconds;
+import static java.time.Instant.EPOCH;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class DistinctWithinTest {
+
+    @TestTraits({Laziness.class, InfiniteIterableSupport.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> testSubject() {
+        return distinctWithin(ofSeconds(1), constantly(EPOCH));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveWindowIsInvalid() {
+        distinctWithin(ZERO, constantly(EPOCH), emptyList());
+    }
+
+    @Test
+    public void onlySuppressesElementsSeenWithinWindow() {
+        Iterator<Instant> clock = asList(at(0), at(5), at(9), at(14), at(30)).iterator();
+        assertThat(distinctWithin(ofSeconds(10), __ -> clock.next(), asList("a", "a", "b", "a", "a")),
+                   iterates("a", "b", "a"));
+    }
+
+    @Test
+    public void outOfOrderTimestampsAreTreatedAsLatestTimestamp() {
+        Iterator<Instant> clock = asList(at(20), at(0), at(25)).iterator();
+        assertThat(distinctWithin(ofSeconds(10), __ -> clock.next(), asList("a", "b", "b")), iterates("a", "b"));
+    }
+
+    private static Instant at(long seconds) {
+        return EPOCH.plusSeconds(seconds);
+    }
+}
@@ -0,0 +1,41 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.Monoid;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn3.ReduceWindows.reduceWindows;
+import static com.jnape.palatable.lambda.iteration.Window.sliding;
+import static com.jnape.palatable.lambda.iteration.Window.tumbling;
+import static com.jnape.palatable.lambda.monoid.Monoid.monoid;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class ReduceWindowsTest {
+
+    private static final Monoid<Integer> SUM      = monoid(Integer::sum, 0);
+    private static final Object          IDENTITY = new Object();
+    private static final Monoid<Object>  LAST     = monoid((x, y) -> y == IDENTITY ? x : y, IDENTITY);
+
+    @TestTraits({EmptyIterableSupport.class, InfiniteIterableSupport.class, FiniteIteration.class,
+            ImmutableIteration.class, Laziness.class})
+    public Fn1<Iterable<Object>, Iterable<Object>> testSubject() {
+        return reduceWindows(tumbling(2), LAST);
+    }
+
+    @Test
+    public void reducesEachWindow() {
+        assertThat(reduceWindows(tumbling(2), SUM, asList(1, 2, 3, 4, 5)), iterates(3, 7, 5));
+        assertThat(reduceWindows(sliding(2), SUM, asList(1, 2, 3, 4, 5)), iterates(3, 5, 7, 9));
+    }
+}
@@ -0,0 +1,15 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn3.TopKBy.topKBy;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+public class TopKByTest {
+
+    @Test
+    public void keepsKElementsWithGreatestMappedValues() {
+        assertEquals(asList("ccc", "dd", "ee"), topKBy(3, String::length, asList("a", "dd", "ccc", "b", "ee")));
+    }
+}
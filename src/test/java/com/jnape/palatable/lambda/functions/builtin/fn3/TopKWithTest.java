@@ -0,0 +1,44 @@
+package com.jnape.palatable.lambda.functions.builtin.fn3;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import org.junit.Test;
+
+import java.util.Comparator;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.TopKWith.topKWith;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+
+public class TopKWithTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeKIsInvalid() {
+        topKWith(-1, Comparator.<Integer>naturalOrder(), emptyList());
+    }
+
+    @Test
+    public void keepsKGreatestElementsFromGreatestToLeast() {
+        assertEquals(asList(9, 7, 5), topKWith(3, Comparator.<Integer>naturalOrder(), asList(5, 1, 9, 3, 7, 2)));
+        assertEquals(asList(3, 2, 1), topKWith(5, Comparator.<Integer>naturalOrder(), asList(2, 3, 1)));
+        assertEquals(emptyList(), topKWith(0, Comparator.<Integer>naturalOrder(), asList(2, 3, 1)));
+        assertEquals(emptyList(), topKWith(3, Comparator.<Integer>naturalOrder(), emptyList()));
+    }
+
+    @Test
+    public void earlierEqualElementsArePreferred() {
+        assertEquals(asList(tuple(2, "b"), tuple(1, "a"), tuple(1, "c")),
+                     topKWith(3, Comparator.comparing(Tuple2::_1),
+                              asList(tuple(1, "a"), tuple(2, "b"), tuple(1, "c"), tuple(1, "d"), tuple(0, "e"))));
+    }
+
+    @Test
+    public void onlyRetainsKElements() {
+        assertEquals(singletonList(99_999), topKWith(1, Comparator.<Integer>naturalOrder(),
+                                                     take(100_000, iterate(x -> x + 1, 0))));
+    }
+}
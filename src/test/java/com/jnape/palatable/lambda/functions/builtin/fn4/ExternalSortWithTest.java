@@ -0,0 +1,105 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.iteration.CloseableIterator;
+import com.jnape.palatable.lambda.optics.Iso;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.Laziness;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Reverse.reverse;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn4.ExternalSortWith.externalSortWith;
+import static com.jnape.palatable.lambda.optics.Iso.simpleIso;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class ExternalSortWithTest {
+
+    private static final Iso.Simple<Integer, byte[]> INT_CODEC = simpleIso(
+            x -> ByteBuffer.allocate(4).putInt(x).array(),
+            bytes -> ByteBuffer.wrap(bytes).getInt());
+
+    @TestTraits({Laziness.class, EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class})
+    public Fn1<Iterable<Integer>, Iterable<Integer>> testSubject() {
+        return externalSortWith(Comparator.naturalOrder(), INT_CODEC, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lessThanOneMaxRunSizeIsInvalid() {
+        externalSortWith(Comparator.<Integer>naturalOrder(), INT_CODEC, 0, emptyList());
+    }
+
+    @Test
+    public void sortsInputThatFitsInSingleRun() {
+        assertThat(externalSortWith(Comparator.<Integer>naturalOrder(), INT_CODEC, 10, asList(3, 1, 2)),
+                   iterates(1, 2, 3));
+    }
+
+    @Test
+    public void sortsAcrossSpilledRuns() {
+        assertThat(externalSortWith(Comparator.<Integer>naturalOrder(), INT_CODEC, 3,
+                                    reverse(take(10, iterate(x -> x + 1, 1)))),
+                   iterates(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+    }
+
+    @Test
+    public void equalElementsRetainOriginalOrder() {
+        Iso.Simple<Tuple2<String, Integer>, byte[]> codec = simpleIso(
+                t -> (t._1() + ":" + t._2()).getBytes(),
+                bytes -> {
+                    String[] parts = new String(bytes).split(":");
+                    return tuple(parts[0], Integer.parseInt(parts[1]));
+                });
+        assertThat(externalSortWith(Comparator.comparing(Tuple2::_1), codec, 2,
+                                    asList(tuple("b", 1), tuple("a", 2), tuple("b", 3), tuple("a", 4), tuple("a", 5))),
+                   iterates(tuple("a", 2), tuple("a", 4), tuple("a", 5), tuple("b", 1), tuple("b", 3)));
+    }
+
+    @Test
+    public void deletesSpilledRunsOnceMerged() {
+        int spilledBefore = spilledRuns();
+        Iterator<Integer> sorted = externalSortWith(Comparator.<Integer>naturalOrder(), INT_CODEC, 2,
+                                                    asList(4, 3, 2, 1)).iterator();
+        sorted.hasNext();
+        assertEquals(spilledBefore + 2, spilledRuns());
+        while (sorted.hasNext())
+            sorted.next();
+        assertEquals(spilledBefore, spilledRuns());
+    }
+
+    @Test
+    public void deletesSpilledRunsWhenClosedEarly() {
+        int spilledBefore = spilledRuns();
+        Iterator<Integer> sorted = externalSortWith(Comparator.<Integer>naturalOrder(), INT_CODEC, 2,
+                                                    asList(4, 3, 2, 1)).iterator();
+        sorted.hasNext();
+        assertEquals(spilledBefore + 2, spilledRuns());
+        assertEquals((Integer) 1, sorted.next());
+        CloseableIterator.close(sorted);
+        assertEquals(spilledBefore, spilledRuns());
+    }
+
+    private static int spilledRuns() {
+        File[] runs = new File(System.getProperty("java.io.tmpdir"))
+                .listFiles((dir, name) -> name.startsWith("lambda-sort-"));
+        return runs == null ? 0 : runs.length;
+    }
+}
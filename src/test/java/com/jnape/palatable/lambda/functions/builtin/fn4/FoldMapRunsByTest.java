@@ -0,0 +1,85 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.monoid.Monoid;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.Laziness;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Last.last;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Size.size;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn4.FoldMapRunsBy.foldMapRunsBy;
+import static com.jnape.palatable.lambda.monoid.Monoid.monoid;
+import static com.jnape.palatable.lambda.monoid.builtin.Join.join;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.isEmpty;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class FoldMapRunsByTest {
+
+    private static final Monoid<Integer> SUM = monoid(Integer::sum, 0);
+
+    @TestTraits({EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, Laziness.class})
+    public Fn1<Iterable<Object>, ?> testSubject() {
+        return foldMapRunsBy(id(), SUM, x -> 1);
+    }
+
+    @Test
+    public void emptyIterableHasNoRuns() {
+        assertThat(foldMapRunsBy(id(), SUM, (Integer x) -> 1, asList()), isEmpty());
+    }
+
+    @Test
+    public void runLengthEncodesAdjacentEqualKeys() {
+        assertThat(foldMapRunsBy(id(), SUM, (Integer x) -> 1, asList(1, 1, 2, 2, 2, 1)),
+                   iterates(tuple(1, 2), tuple(2, 3), tuple(1, 1)));
+    }
+
+    @Test
+    public void aggregatesMappedElementsOfEachRunByKey() {
+        assertThat(foldMapRunsBy(String::length, join(), id(), asList("a", "b", "cd", "ef", "g")),
+                   iterates(tuple(1, "ab"), tuple(2, "cdef"), tuple(1, "g")));
+    }
+
+    @Test
+    public void appliesKeyFunctionOncePerElement() {
+        AtomicInteger keyed = new AtomicInteger(0);
+        size(foldMapRunsBy(x -> {
+            keyed.incrementAndGet();
+            return x;
+        }, SUM, (Integer x) -> x, asList(1, 1, 2, 3, 3)));
+        assertThat(keyed.get(), is(5));
+    }
+
+    @Test
+    public void supportsSingleUseIterables() {
+        Iterable<Integer> once = singleton(asList(1, 1, 2).iterator()).iterator()::next;
+        assertThat(foldMapRunsBy(id(), SUM, (Integer x) -> x, once), iterates(tuple(1, 2), tuple(2, 2)));
+    }
+
+    @Test
+    public void manyRunsInConstantStack() {
+        int runs = 1_000_000;
+        assertThat(last(foldMapRunsBy(id(), SUM, (Integer x) -> 1,
+                                      map(x -> x / 2, take(runs * 2, iterate(x -> x + 1, 0))))),
+                   equalTo(just(tuple(runs - 1, 2))));
+    }
+}
@@ -0,0 +1,142 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.iteration.Window;
+import com.jnape.palatable.lambda.monoid.InvertibleMonoid;
+import com.jnape.palatable.lambda.monoid.Monoid;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.InfiniteIterableSupport;
+import testsupport.traits.Laziness;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Size.size;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Slide.slide;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
+import static com.jnape.palatable.lambda.functions.builtin.fn4.FoldMapWindows.foldMapWindows;
+import static com.jnape.palatable.lambda.iteration.Window.sliding;
+import static com.jnape.palatable.lambda.iteration.Window.tumbling;
+import static com.jnape.palatable.lambda.monoid.InvertibleMonoid.invertibleMonoid;
+import static com.jnape.palatable.lambda.monoid.Monoid.monoid;
+import static com.jnape.palatable.lambda.monoid.builtin.Join.join;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.isEmpty;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class FoldMapWindowsTest {
+
+    private static final Monoid<Integer>           SUM            = monoid(Integer::sum, 0);
+    private static final InvertibleMonoid<Integer> INVERTIBLE_SUM = invertibleMonoid(Integer::sum, 0, x -> -x);
+    private static final Monoid<Integer>           MAX            = monoid(Math::max, Integer.MIN_VALUE);
+
+    @TestTraits({EmptyIterableSupport.class, InfiniteIterableSupport.class, FiniteIteration.class,
+            ImmutableIteration.class, Laziness.class})
+    public Fn1<Iterable<Object>, Iterable<String>> testSubject() {
+        return foldMapWindows(sliding(2), join(), Object::toString);
+    }
+
+    @Test
+    public void countTumblingWindows() {
+        assertThat(foldMapWindows(tumbling(2), SUM, id(), asList(1, 2, 3, 4, 5)), iterates(3, 7, 5));
+        assertThat(foldMapWindows(tumbling(2), SUM, id(), asList()), isEmpty());
+    }
+
+    @Test
+    public void countSlidingWindows() {
+        assertThat(foldMapWindows(sliding(3), SUM, id(), asList(1, 2, 3, 4, 5)), iterates(6, 9, 12));
+        assertThat(foldMapWindows(sliding(3), MAX, id(), asList(5, 1, 2, 1, 0, 3)), iterates(5, 2, 2, 3));
+        assertThat(foldMapWindows(sliding(3), SUM, id(), asList(1, 2)), isEmpty());
+        assertThat(foldMapWindows(sliding(1), SUM, id(), asList(1, 2, 3)), iterates(1, 2, 3));
+    }
+
+    @Test
+    public void slidingWindowsPreserveElementOrderForNonCommutativeMonoids() {
+        assertThat(foldMapWindows(sliding(3), join(), Object::toString, asList(1, 2, 3, 4, 5, 6, 7)),
+                   iterates("123", "234", "345", "456", "567"));
+    }
+
+    @Test
+    public void invertibleMonoidsAgreeWithSlidingReduction() {
+        Iterable<Integer> xs = take(1_000, iterate(x -> (x * 31 + 7) % 101, 1));
+        assertThat(foldMapWindows(sliding(17), INVERTIBLE_SUM, id(), xs),
+                   iterates(toCollection(ArrayList::new,
+                                         map(SUM::reduceLeft, slide(17, xs))).toArray(new Integer[0])));
+    }
+
+    @Test
+    public void combinesEachElementAConstantNumberOfTimes() {
+        AtomicInteger combinations = new AtomicInteger(0);
+        Monoid<Integer> countingSum = monoid((x, y) -> {
+            combinations.incrementAndGet();
+            return x + y;
+        }, 0);
+        int elements = 10_000;
+        size(foldMapWindows(sliding(1_000), countingSum, id(), take(elements, iterate(x -> x + 1, 0))));
+        assertThat(combinations.get() < elements * 4, is(true));
+    }
+
+    @Test
+    public void timeTumblingWindows() {
+        Instant epoch = Instant.EPOCH;
+        List<Tuple2<Instant, Integer>> readings = asList(tuple(epoch, 1),
+                                                         tuple(epoch.plusSeconds(5), 2),
+                                                         tuple(epoch.plusSeconds(12), 3),
+                                                         tuple(epoch.plusSeconds(31), 4),
+                                                         tuple(epoch.plusSeconds(39), 5));
+        assertThat(foldMapWindows(tumbling(Duration.ofSeconds(10), Tuple2::_1), SUM, Tuple2::_2, readings),
+                   iterates(3, 3, 9));
+    }
+
+    @Test
+    public void timeSlidingWindows() {
+        Instant epoch = Instant.EPOCH;
+        List<Tuple2<Instant, Integer>> readings = asList(tuple(epoch, 1),
+                                                         tuple(epoch.plusSeconds(5), 2),
+                                                         tuple(epoch.plusSeconds(10), 3),
+                                                         tuple(epoch.plusSeconds(11), 4),
+                                                         tuple(epoch.plusSeconds(40), 5));
+        assertThat(foldMapWindows(sliding(Duration.ofSeconds(10), Tuple2::_1), SUM, Tuple2::_2, readings),
+                   iterates(1, 3, 5, 9, 5));
+        assertThat(foldMapWindows(sliding(Duration.ofSeconds(10), Tuple2::_1), INVERTIBLE_SUM, Tuple2::_2, readings),
+                   iterates(1, 3, 5, 9, 5));
+    }
+
+    @Test
+    public void outOfOrderTimestampsAreTreatedAsLatest() {
+        Instant epoch = Instant.EPOCH;
+        List<Tuple2<Instant, Integer>> readings = asList(tuple(epoch.plusSeconds(15), 1),
+                                                         tuple(epoch, 2),
+                                                         tuple(epoch.plusSeconds(21), 3));
+        assertThat(foldMapWindows(tumbling(Duration.ofSeconds(10), Tuple2::_1), SUM, Tuple2::_2, readings),
+                   iterates(3, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveCountWindowsAreRejected() {
+        sliding(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveTimeWindowsAreRejected() {
+        sliding(Duration.ZERO, Tuple2<Instant, Integer>::_1);
+    }
+}
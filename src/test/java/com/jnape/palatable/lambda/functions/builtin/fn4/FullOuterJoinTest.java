@@ -0,0 +1,59 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.adt.These;
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.Laziness;
+
+import static com.jnape.palatable.lambda.adt.These.a;
+import static com.jnape.palatable.lambda.adt.These.b;
+import static com.jnape.palatable.lambda.adt.These.both;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn4.FullOuterJoin.fullOuterJoin;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.isEmpty;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class FullOuterJoinTest {
+
+    @TestTraits({EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, Laziness.class})
+    public Fn1<Iterable<Object>, ?> testSubject() {
+        return fullOuterJoin(id(), id(), asList(1, 2, 3));
+    }
+
+    @Test
+    public void emitsMatchesThenUnmatchedElementsOfEitherSide() {
+        assertThat(fullOuterJoin(String::length, id(), asList("a", "bb", "cc"), asList(4, 2, 3, 4)),
+                   iterates(a("a"), both("bb", 2), both("cc", 2), b(4), b(4), b(3)));
+    }
+
+    @Test
+    public void emptySides() {
+        assertThat(fullOuterJoin(id(), id(), emptyList(), emptyList()), isEmpty());
+        assertThat(fullOuterJoin(id(), id(), asList(1, 2), emptyList()), iterates(a(1), a(2)));
+        assertThat(fullOuterJoin(id(), id(), emptyList(), asList(1, 2)), iterates(b(1), b(2)));
+    }
+
+    @Test
+    public void iteratesRepeatedlyWithFreshMatches() {
+        Iterable<These<Integer, Integer>> joined = fullOuterJoin(id(), id(), asList(1), asList(1, 2));
+        assertThat(joined, iterates(both(1, 1), b(2)));
+        assertThat(joined, iterates(both(1, 1), b(2)));
+    }
+
+    @Test
+    public void streamsLeftSideLazily() {
+        assertThat(fullOuterJoin(id(), id(), repeat(1), asList(1)).iterator().next(), is(both(1, 1)));
+    }
+}
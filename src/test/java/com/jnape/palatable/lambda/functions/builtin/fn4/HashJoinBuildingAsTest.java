@@ -0,0 +1,77 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.Laziness;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn4.HashJoin.hashJoin;
+import static com.jnape.palatable.lambda.functions.builtin.fn4.HashJoinBuildingAs.hashJoinBuildingAs;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.isEmpty;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class HashJoinBuildingAsTest {
+
+    @TestTraits({EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, Laziness.class})
+    public Fn1<Iterable<Object>, ?> testSubject() {
+        return hashJoinBuildingAs(id(), id(), asList(1, 2, 3));
+    }
+
+    @Test
+    public void joinsPairsWithEqualKeys() {
+        assertThat(hashJoinBuildingAs(String::length, id(), asList("a", "bb", "cc", "ddd"), asList(2, 3, 4, 2)),
+                   iterates(tuple("bb", 2), tuple("cc", 2), tuple("ddd", 3), tuple("bb", 2), tuple("cc", 2)));
+    }
+
+    @Test
+    public void emptySidesJoinToNothing() {
+        assertThat(hashJoinBuildingAs(id(), id(), emptyList(), asList(1, 2)), isEmpty());
+        assertThat(hashJoinBuildingAs(id(), id(), asList(1, 2), emptyList()), isEmpty());
+    }
+
+    @Test
+    public void resultsFollowOrderOfBs() {
+        assertThat(hashJoinBuildingAs(id(), String::length, asList(1, 2), asList("xx", "y", "zz", "w")),
+                   iterates(tuple(2, "xx"), tuple(1, "y"), tuple(2, "zz"), tuple(1, "w")));
+    }
+
+    @Test
+    public void joinsTheSamePairsAsHashJoin() {
+        Iterable<Integer> as = asList(1, 2, 2, 3);
+        Iterable<Integer> bs = asList(2, 3, 3, 4);
+        assertThat(hashJoinBuildingAs(id(), id(), as, bs),
+                   iterates(tuple(2, 2), tuple(2, 2), tuple(3, 3), tuple(3, 3)));
+        assertThat(hashJoin(id(), id(), as, bs),
+                   iterates(tuple(2, 2), tuple(2, 2), tuple(3, 3), tuple(3, 3)));
+    }
+
+    @Test
+    public void streamsProbeSideLazily() {
+        AtomicInteger probed = new AtomicInteger(0);
+        Iterable<Integer> infinite = map(x -> {
+            probed.incrementAndGet();
+            return x;
+        }, repeat(1));
+        Iterator<?> joined = hashJoinBuildingAs(id(), id(), asList(1, 2), infinite).iterator();
+
+        assertThat(joined.next(), is(tuple(1, 1)));
+        assertThat(probed.get(), is(1));
+    }
+}
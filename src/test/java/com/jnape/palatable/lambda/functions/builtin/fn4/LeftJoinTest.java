@@ -0,0 +1,54 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.Laziness;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn4.LeftJoin.leftJoin;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.isEmpty;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class LeftJoinTest {
+
+    @TestTraits({EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, Laziness.class})
+    public Fn1<Iterable<Object>, ?> testSubject() {
+        return leftJoin(id(), id(), asList(1, 2, 3));
+    }
+
+    @Test
+    public void pairsEachLeftElementWithItsMatchesOrNothing() {
+        assertThat(leftJoin(String::length, id(), asList("a", "bb", "ccc"), asList(2, 3, 2)),
+                   iterates(tuple("a", nothing()),
+                            tuple("bb", just(2)),
+                            tuple("bb", just(2)),
+                            tuple("ccc", just(3))));
+    }
+
+    @Test
+    public void emptyRightSideYieldsNothingForEveryLeftElement() {
+        assertThat(leftJoin(id(), id(), asList(1, 2), emptyList()),
+                   iterates(tuple(1, nothing()), tuple(2, nothing())));
+        assertThat(leftJoin(id(), id(), emptyList(), asList(1, 2)), isEmpty());
+    }
+
+    @Test
+    public void streamsLeftSideLazily() {
+        assertThat(leftJoin(id(), id(), repeat(1), asList(2)).iterator().next(), is(tuple(1, nothing())));
+    }
+}
@@ -0,0 +1,60 @@
+package com.jnape.palatable.lambda.functions.builtin.fn4;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.EmptyIterableSupport;
+import testsupport.traits.FiniteIteration;
+import testsupport.traits.ImmutableIteration;
+import testsupport.traits.Laziness;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn4.SortMergeJoin.sortMergeJoin;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.isEmpty;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class SortMergeJoinTest {
+
+    @TestTraits({EmptyIterableSupport.class, FiniteIteration.class, ImmutableIteration.class, Laziness.class})
+    public Fn1<Iterable<Integer>, ?> testSubject() {
+        return sortMergeJoin(id(), id(), asList(1, 2, 3));
+    }
+
+    @Test
+    public void joinsSortedSidesOnEqualKeys() {
+        assertThat(sortMergeJoin(String::length, id(), asList("a", "bb", "cc", "dddd"), asList(0, 2, 2, 3, 4, 5)),
+                   iterates(tuple("bb", 2), tuple("bb", 2), tuple("cc", 2), tuple("cc", 2), tuple("dddd", 4)));
+    }
+
+    @Test
+    public void emptySidesJoinToNothing() {
+        assertThat(sortMergeJoin(id(), id(), emptyList(), asList(1, 2)), isEmpty());
+        assertThat(sortMergeJoin(id(), id(), asList(1, 2), emptyList()), isEmpty());
+        assertThat(sortMergeJoin(id(), id(), asList(1, 3), asList(2, 4)), isEmpty());
+    }
+
+    @Test
+    public void joinsInfiniteSortedSides() {
+        Iterable<Integer> naturals = iterate(x -> x + 1, 0);
+        Iterable<Integer> evens = iterate(x -> x + 2, 0);
+        assertThat(take(3, sortMergeJoin(id(), x -> x / 3, naturals, evens)),
+                   iterates(tuple(0, 0), tuple(0, 2), tuple(1, 4)));
+    }
+
+    @Test
+    public void largeDisjointRunsAreSkippedInConstantStack() {
+        Iterable<Integer> left = take(100_000, iterate(x -> x + 2, 0));
+        Iterable<Integer> right = take(100_000, iterate(x -> x + 2, 1));
+        assertThat(sortMergeJoin(id(), id(), left, right).iterator().hasNext(), is(false));
+    }
+}
@@ -0,0 +1,27 @@
+package com.jnape.palatable.lambda.functions.memoization;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static com.jnape.palatable.lambda.functions.memoization.MemoPolicy.lru;
+import static com.jnape.palatable.lambda.functions.memoization.MemoPolicy.tinyLfu;
+import static com.jnape.palatable.lambda.functions.memoization.MemoPolicy.unbounded;
+
+public class MemoPolicyTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lruRequiresPositiveMaximumSize() {
+        lru(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tinyLfuRequiresPositiveMaximumSize() {
+        tinyLfu(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void expiryRequiresPositiveTimeToLive() {
+        unbounded().expireAfterWrite(Duration.ZERO);
+    }
+}
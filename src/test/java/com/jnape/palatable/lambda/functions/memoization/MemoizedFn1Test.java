@@ -0,0 +1,236 @@
+package com.jnape.palatable.lambda.functions.memoization;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.jnape.palatable.lambda.functions.memoization.MemoPolicy.lru;
+import static com.jnape.palatable.lambda.functions.memoization.MemoPolicy.tinyLfu;
+import static com.jnape.palatable.lambda.functions.memoization.MemoPolicy.unbounded;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MemoizedFn1Test {
+
+    @Test
+    public void computesEachResultOnce() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        MemoizedFn1<Integer, Integer> square = Fn1.<Integer, Integer>fn1(x -> {
+            invocations.incrementAndGet();
+            return x * x;
+        }).memoize();
+
+        assertEquals((Integer) 9, square.apply(3));
+        assertEquals((Integer) 9, square.apply(3));
+        assertEquals((Integer) 16, square.apply(4));
+        assertEquals(2, invocations.get());
+        assertEquals(new MemoStats(1, 2, 0), square.stats());
+    }
+
+    @Test
+    public void memoizesNullArgumentsAndResults() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        MemoizedFn1<String, String> fn = Fn1.<String, String>fn1(s -> {
+            invocations.incrementAndGet();
+            return null;
+        }).memoize();
+
+        assertEquals(null, fn.apply(null));
+        assertEquals(null, fn.apply(null));
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void failuresAreNotRetained() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        MemoizedFn1<Integer, Integer> flaky = Fn1.<Integer, Integer>fn1(x -> {
+            if (invocations.incrementAndGet() == 1)
+                throw new IllegalStateException("first");
+            return x;
+        }).memoize();
+
+        try {
+            flaky.apply(1);
+            fail("Expected the first invocation to throw");
+        } catch (IllegalStateException expected) {
+            assertEquals("first", expected.getMessage());
+        }
+        assertEquals((Integer) 1, flaky.apply(1));
+        assertEquals((Integer) 1, flaky.apply(1));
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void lruEvictsLeastRecentlyUsed() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        MemoizedFn1<Integer, Integer> fn = Fn1.<Integer, Integer>fn1(x -> {
+            invocations.incrementAndGet();
+            return x;
+        }).memoize(lru(2));
+
+        fn.apply(1);
+        fn.apply(2);
+        fn.apply(1);
+        fn.apply(3);
+        assertEquals(3, invocations.get());
+
+        fn.apply(1);
+        assertEquals(3, invocations.get());
+        fn.apply(2);
+        assertEquals(4, invocations.get());
+        assertEquals(2, fn.stats().evictions());
+    }
+
+    @Test
+    public void tinyLfuResistsScansThatFlushLru() {
+        MemoizedFn1<Integer, Integer> tinyLfu = Fn1.<Integer, Integer>fn1(x -> x).memoize(tinyLfu(100));
+        MemoizedFn1<Integer, Integer> lru = Fn1.<Integer, Integer>fn1(x -> x).memoize(lru(100));
+
+        for (int cold = 1_000; cold < 51_000; cold++) {
+            tinyLfu.apply(cold);
+            lru.apply(cold);
+            if (cold % 5 == 0) {
+                tinyLfu.apply(cold % 250 / 5);
+                lru.apply(cold % 250 / 5);
+            }
+        }
+
+        assertEquals(0, lru.stats().hits());
+        assertThat(tinyLfu.stats().hits() > 9_000, is(true));
+    }
+
+    @Test
+    public void resultsExpireAfterWrite() {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.EPOCH);
+        AtomicInteger invocations = new AtomicInteger(0);
+        MemoizedFn1<Integer, Integer> fn = Fn1.<Integer, Integer>fn1(x -> invocations.incrementAndGet())
+                .memoize(unbounded().expireAfterWrite(Duration.ofSeconds(10), now::get));
+
+        assertEquals((Integer) 1, fn.apply(0));
+        now.set(Instant.EPOCH.plusSeconds(9));
+        assertEquals((Integer) 1, fn.apply(0));
+        now.set(Instant.EPOCH.plusSeconds(10));
+        assertEquals((Integer) 2, fn.apply(0));
+        assertEquals(new MemoStats(1, 2, 1), fn.stats());
+    }
+
+    @Test
+    public void writesPurgeExpiredResultsThatAreNeverLookedUpAgain() {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.EPOCH);
+        MemoizedFn1<Integer, Integer> fn = Fn1.<Integer, Integer>fn1(x -> x + 1)
+                .memoize(unbounded().expireAfterWrite(Duration.ofSeconds(10), now::get));
+
+        for (int i = 0; i < 100; i++)
+            fn.apply(i);
+        now.set(Instant.EPOCH.plusSeconds(5));
+        fn.apply(100);
+        assertEquals(new MemoStats(0, 101, 0), fn.stats());
+
+        now.set(Instant.EPOCH.plusSeconds(10));
+        fn.apply(101);
+        assertEquals(new MemoStats(0, 102, 100), fn.stats());
+
+        assertEquals((Integer) 101, fn.apply(100));
+        assertEquals(new MemoStats(1, 102, 100), fn.stats());
+    }
+
+    @Test
+    public void concurrentMissesComputeOnce() throws Exception {
+        AtomicInteger invocations = new AtomicInteger(0);
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MemoizedFn1<Integer, Integer> slow = Fn1.<Integer, Integer>fn1(x -> {
+            invocations.incrementAndGet();
+            computing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return x + 1;
+        }).memoize(lru(10));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> slow.apply(1)));
+            assertTrue(computing.await(5, SECONDS));
+            for (int i = 0; i < 7; i++)
+                results.add(executor.submit(() -> slow.apply(1)));
+            release.countDown();
+            for (Future<Integer> result : results)
+                assertEquals((Integer) 2, result.get(5, SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, invocations.get());
+        assertThat(slow.stats(), equalTo(new MemoStats(7, 1, 0)));
+    }
+
+    @Test
+    public void resultsBeingComputedAreNotEvicted() throws Exception {
+        AtomicInteger invocations = new AtomicInteger(0);
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MemoizedFn1<Integer, Integer> slowOnes = Fn1.<Integer, Integer>fn1(x -> {
+            if (x == 1) {
+                invocations.incrementAndGet();
+                computing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }
+            return x + 1;
+        }).memoize(lru(1));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> first = executor.submit(() -> slowOnes.apply(1));
+            assertTrue(computing.await(5, SECONDS));
+            assertEquals((Integer) 3, slowOnes.apply(2));
+            Future<Integer> second = executor.submit(() -> slowOnes.apply(1));
+            release.countDown();
+            assertEquals((Integer) 2, first.get(5, SECONDS));
+            assertEquals((Integer) 2, second.get(5, SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, invocations.get());
+        assertEquals((Integer) 2, slowOnes.apply(1));
+        assertEquals(1, invocations.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void invokingItselfWithTheSameArgumentFails() {
+        AtomicReference<Fn1<Integer, Integer>> self = new AtomicReference<>();
+        MemoizedFn1<Integer, Integer> fn = Fn1.<Integer, Integer>fn1(x -> self.get().apply(x)).memoize();
+        self.set(fn);
+        fn.apply(1);
+    }
+
+    @Test
+    public void invokingItselfWithDifferentArgumentsIsSupported() {
+        AtomicReference<Fn1<Integer, Long>> fib = new AtomicReference<>();
+        MemoizedFn1<Integer, Long> memoized = Fn1.<Integer, Long>fn1(
+                n -> n < 2 ? (long) n : fib.get().apply(n - 1) + fib.get().apply(n - 2)).memoize();
+        fib.set(memoized);
+        assertEquals((Long) 12586269025L, memoized.apply(50));
+    }
+}
@@ -0,0 +1,42 @@
+package com.jnape.palatable.lambda.functions.memoization;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.lambda.functions.Fn2;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.memoization.MemoPolicy.lru;
+import static org.junit.Assert.assertEquals;
+
+public class MemoizedFn2Test {
+
+    @Test
+    public void memoizesOnBothArguments() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        MemoizedFn2<Integer, Integer, Integer> add = Fn2.<Integer, Integer, Integer>fn2((x, y) -> {
+            invocations.incrementAndGet();
+            return x + y;
+        }).memoize(lru(10));
+
+        assertEquals((Integer) 3, add.apply(1, 2));
+        assertEquals((Integer) 3, add.apply(1, 2));
+        assertEquals((Integer) 3, add.apply(2, 1));
+        assertEquals(2, invocations.get());
+        assertEquals(new MemoStats(1, 2, 0), add.stats());
+    }
+
+    @Test
+    public void partialApplicationSharesMemoTable() {
+        AtomicInteger invocations = new AtomicInteger(0);
+        MemoizedFn2<Integer, Integer, Integer> add = Fn2.<Integer, Integer, Integer>fn2((x, y) -> {
+            invocations.incrementAndGet();
+            return x + y;
+        }).memoize();
+
+        Fn1<Integer, Integer> addOne = add.apply(1);
+        assertEquals((Integer) 3, addOne.apply(2));
+        assertEquals((Integer) 3, add.apply(1, 2));
+        assertEquals(1, invocations.get());
+    }
+}
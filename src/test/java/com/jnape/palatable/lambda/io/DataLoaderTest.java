@@ -0,0 +1,201 @@
+package com.jnape.palatable.lambda.io;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.io.DataLoader.dataLoader;
+import static com.jnape.palatable.lambda.io.IO.io;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DataLoaderTest {
+
+    private static Function<Set<Integer>, IO<Map<Integer, String>>> recording(List<Set<Integer>> batches) {
+        return keys -> io(() -> {
+            synchronized (batches) {
+                batches.add(new HashSet<>(keys));
+            }
+            Map<Integer, String> values = new HashMap<>();
+            for (Integer key : keys)
+                if (key >= 0)
+                    values.put(key, "v" + key);
+            return values;
+        });
+    }
+
+    @Test
+    public void coalescesKeysLoadedInTheSameZipIntoOneDeduplicatedBatch() {
+        List<Set<Integer>> batches = new ArrayList<>();
+        DataLoader<Integer, String> loader = dataLoader(recording(batches));
+
+        IO<String> io = loader.load(1)
+                .zip(loader.load(2)
+                             .zip(loader.load(1).fmap(x -> y -> x + y))
+                             .fmap(xy -> z -> z + xy));
+
+        assertEquals("v1v1v2", io.unsafePerformAsyncIO().join());
+        assertEquals(singletonList(new HashSet<>(asList(1, 2))), batches);
+    }
+
+    @Test
+    public void coalescesKeysFromEffectfulStagesAcrossZippedBranches() {
+        List<Set<Integer>> batches = new ArrayList<>();
+        DataLoader<Integer, String> loader = dataLoader(recording(batches));
+
+        Set<Integer> keys = new HashSet<>();
+        IO<Integer> totalLength = io(0);
+        for (int i = 0; i < 20; i++) {
+            int key = i;
+            keys.add(key);
+            totalLength = io(() -> key).flatMap(loader::load).zip(totalLength.fmap(sum -> v -> sum + v.length()));
+        }
+
+        assertEquals((Integer) 50, totalLength.unsafePerformAsyncIO().join());
+        assertEquals(singletonList(keys), batches);
+    }
+
+    @Test
+    public void eachLevelOfDependentLoadsAcrossBranchesIsOneRound() {
+        List<Set<Integer>> batches = new ArrayList<>();
+        DataLoader<Integer, String> loader = dataLoader(recording(batches));
+
+        Function<Integer, IO<String>> twoLevels = key -> io(() -> key)
+                .flatMap(loader::load)
+                .flatMap(v -> io(() -> key + 10).flatMap(loader::load).fmap(w -> v + w));
+        IO<String> io = twoLevels.apply(1).zip(twoLevels.apply(2).fmap(y -> x -> x + y));
+
+        assertEquals("v1v11v2v12", io.unsafePerformAsyncIO().join());
+        assertEquals(asList(new HashSet<>(asList(1, 2)), new HashSet<>(asList(11, 12))), batches);
+    }
+
+    @Test
+    public void loadsPerformedFromUserCodeWithinARoundDoNotWaitForIt() throws Exception {
+        List<Set<Integer>> batches = new ArrayList<>();
+        DataLoader<Integer, String> loader = dataLoader(recording(batches));
+
+        IO<String> io = loader.load(1)
+                .zip(io(() -> loader.load(1).unsafePerformAsyncIO().join()
+                        + loader.load(2).unsafePerformIO()).fmap(y -> x -> x + y));
+
+        assertEquals("v1v1v2", io.unsafePerformAsyncIO(Runnable::run).get(5, SECONDS));
+        assertEquals(asList(new HashSet<>(singletonList(1)), new HashSet<>(singletonList(2))), batches);
+    }
+
+    @Test
+    public void loadsPerformedSynchronouslyWithinARunDoNotWaitForIt() throws Exception {
+        List<Set<Integer>> batches = new ArrayList<>();
+        DataLoader<Integer, String> loader = dataLoader(recording(batches));
+
+        IO<String> io = io(() -> 1).flatMap(key -> io(() -> loader.load(key).unsafePerformIO()));
+
+        assertEquals("v1", io.unsafePerformAsyncIO(Runnable::run).get(5, SECONDS));
+        assertEquals(singletonList(new HashSet<>(singletonList(1))), batches);
+    }
+
+    @Test
+    public void cachesLoadedValuesAcrossRounds() {
+        List<Set<Integer>> batches = new ArrayList<>();
+        DataLoader<Integer, String> loader = dataLoader(recording(batches));
+
+        assertEquals("v1", loader.load(1).unsafePerformAsyncIO().join());
+        assertEquals(tuple("v1", "v2"),
+                     loader.load(1).zip(loader.load(2).fmap(y -> x -> tuple(x, y))).unsafePerformAsyncIO().join());
+        assertEquals(asList(new HashSet<>(singletonList(1)), new HashSet<>(singletonList(2))), batches);
+    }
+
+    @Test
+    public void dependentLoadsAreFetchedInSeparateRounds() {
+        List<Set<Integer>> batches = new ArrayList<>();
+        DataLoader<Integer, String> loader = dataLoader(recording(batches));
+
+        IO<String> io = loader.load(1).flatMap(v1 -> loader.load(v1.length()).fmap(v2 -> v1 + v2));
+
+        assertEquals("v1v2", io.unsafePerformAsyncIO().join());
+        assertEquals(asList(new HashSet<>(singletonList(1)), new HashSet<>(singletonList(2))), batches);
+    }
+
+    @Test
+    public void missingKeysFailWithoutBeingCached() {
+        List<Set<Integer>> batches = new ArrayList<>();
+        DataLoader<Integer, String> loader = dataLoader(recording(batches));
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                loader.load(-1).unsafePerformAsyncIO().join();
+                fail("Expected missing key to fail");
+            } catch (CompletionException e) {
+                assertTrue(e.getCause() instanceof NoSuchElementException);
+            }
+        }
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    public void batchFailuresFailEveryKeyInTheBatchAndAreRetried() {
+        IllegalStateException failure = new IllegalStateException("down");
+        int[] calls = {0};
+        DataLoader<Integer, String> loader = dataLoader(keys -> io(() -> {
+            if (calls[0]++ == 0)
+                throw failure;
+            return new HashMap<Integer, String>() {{
+                keys.forEach(k -> put(k, "v" + k));
+            }};
+        }));
+
+        try {
+            loader.load(1).zip(loader.load(2).fmap(y -> x -> x + y)).unsafePerformAsyncIO().join();
+            fail("Expected batch failure");
+        } catch (CompletionException e) {
+            assertEquals(failure, e.getCause());
+        }
+        assertEquals("v1", loader.load(1).unsafePerformAsyncIO().join());
+        assertEquals(2, calls[0]);
+    }
+
+    @Test
+    public void splitsRoundsIntoBatchesOfAtMostMaxBatchSize() {
+        List<Set<Integer>> batches = new ArrayList<>();
+        DataLoader<Integer, String> loader = dataLoader(recording(batches), 2);
+
+        IO<String> io = loader.load(1)
+                .zip(loader.load(2)
+                             .zip(loader.load(3).fmap(x -> y -> x + y))
+                             .fmap(xy -> z -> z + xy));
+
+        assertEquals("v1v3v2", io.unsafePerformAsyncIO().join());
+        assertEquals(2, batches.size());
+        assertEquals((Integer) 3, (Integer) (batches.get(0).size() + batches.get(1).size()));
+        assertEquals((Integer) 2, (Integer) Math.max(batches.get(0).size(), batches.get(1).size()));
+        Set<Integer> fetched = new HashSet<>(batches.get(0));
+        fetched.addAll(batches.get(1));
+        assertEquals(new HashSet<>(asList(1, 2, 3)), fetched);
+    }
+
+    @Test
+    public void synchronousInterpretationStillDeduplicates() {
+        List<Set<Integer>> batches = new ArrayList<>();
+        DataLoader<Integer, String> loader = dataLoader(recording(batches));
+
+        assertEquals("v1v1", loader.load(1).zip(loader.load(1).fmap(y -> x -> x + y)).unsafePerformIO());
+        assertEquals(singletonList(new HashSet<>(singletonList(1))), batches);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxBatchSizeMustBePositive() {
+        dataLoader(recording(new ArrayList<>()), 0);
+    }
+}
@@ -0,0 +1,355 @@
+package com.jnape.palatable.lambda.io;
+
+import com.jnape.palatable.lambda.iteration.CloseableIterable;
+import com.jnape.palatable.lambda.iteration.CloseableIterator;
+import com.jnape.palatable.lambda.iteration.ImmutableIterator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.io.FlowAdapters.toIOStream;
+import static com.jnape.palatable.lambda.io.FlowAdapters.toIterable;
+import static com.jnape.palatable.lambda.io.FlowAdapters.toPublisher;
+import static com.jnape.palatable.lambda.io.IO.io;
+import static com.jnape.palatable.lambda.io.IOStream.bracket;
+import static com.jnape.palatable.lambda.io.IOStream.eval;
+import static com.jnape.palatable.lambda.io.IOStream.fromIterable;
+import static com.jnape.palatable.lambda.io.IOStream.ioStream;
+import static com.jnape.palatable.lambda.iteration.CloseableIterator.closeableIterator;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FlowAdaptersTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    public void iterablePublisherEmitsExactlyTheRequestedElements() {
+        Recorder<Integer> recorder = new Recorder<>();
+        toPublisher(asList(1, 2, 3, 4, 5), DIRECT).subscribe(recorder);
+
+        recorder.subscription.request(2);
+        assertEquals(asList(1, 2), recorder.elements);
+
+        recorder.subscription.request(2);
+        assertEquals(asList(1, 2, 3, 4), recorder.elements);
+        assertEquals(0, recorder.completions);
+
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals(asList(1, 2, 3, 4, 5), recorder.elements);
+        assertEquals(1, recorder.completions);
+    }
+
+    @Test
+    public void iterablePublisherOnlyIteratesOnDemand() {
+        AtomicInteger pulled = new AtomicInteger(0);
+        Iterable<Integer> infinite = naturals(pulled);
+        Recorder<Integer> recorder = new Recorder<>();
+        toPublisher(infinite, DIRECT).subscribe(recorder);
+        recorder.subscription.request(3);
+        recorder.subscription.cancel();
+        recorder.subscription.request(3);
+
+        assertEquals(asList(1, 2, 3), recorder.elements);
+        assertEquals(3, pulled.get());
+    }
+
+    @Test
+    public void iterablePublisherOnlyProbesForCompletionUnderDemand() {
+        AtomicInteger probes = new AtomicInteger(0);
+        Iterable<Integer> probed = () -> new Iterator<Integer>() {
+            private final Iterator<Integer> delegate = asList(1, 2).iterator();
+
+            @Override
+            public boolean hasNext() {
+                probes.incrementAndGet();
+                return delegate.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                return delegate.next();
+            }
+        };
+        Recorder<Integer> recorder = new Recorder<>();
+        toPublisher(probed, DIRECT).subscribe(recorder);
+        assertEquals(0, probes.get());
+
+        recorder.subscription.request(2);
+        assertEquals(asList(1, 2), recorder.elements);
+        assertEquals(2, probes.get());
+        assertEquals(0, recorder.completions);
+
+        recorder.subscription.request(1);
+        assertEquals(3, probes.get());
+        assertEquals(1, recorder.completions);
+    }
+
+    @Test
+    public void emptyIterableCompletesUponFirstRequest() {
+        Recorder<Integer> recorder = new Recorder<>();
+        toPublisher(Collections.<Integer>emptyList(), DIRECT).subscribe(recorder);
+        assertEquals(0, recorder.completions);
+
+        recorder.subscription.request(1);
+        assertEquals(emptyList(), recorder.elements);
+        assertEquals(1, recorder.completions);
+    }
+
+    @Test
+    public void nonPositiveRequestsSignalError() {
+        Recorder<Integer> fromIterable = new Recorder<>();
+        toPublisher(asList(1, 2, 3), DIRECT).subscribe(fromIterable);
+        fromIterable.subscription.request(0);
+        assertTrue(fromIterable.error instanceof IllegalArgumentException);
+
+        Recorder<Integer> fromStream = new Recorder<>();
+        toPublisher(ioStream(1, 2, 3), DIRECT).subscribe(fromStream);
+        fromStream.subscription.request(-1);
+        assertTrue(fromStream.error instanceof IllegalArgumentException);
+        assertEquals(emptyList(), fromStream.elements);
+    }
+
+    @Test
+    public void streamPublisherEmitsExactlyTheRequestedElements() {
+        Recorder<Integer> recorder = new Recorder<>();
+        toPublisher(fromIterable(asList(1, 2, 3, 4, 5), 3), DIRECT).subscribe(recorder);
+
+        recorder.subscription.request(1);
+        assertEquals(asList(1), recorder.elements);
+
+        recorder.subscription.request(3);
+        assertEquals(asList(1, 2, 3, 4), recorder.elements);
+        assertEquals(0, recorder.completions);
+
+        recorder.subscription.request(1);
+        assertEquals(asList(1, 2, 3, 4, 5), recorder.elements);
+        assertEquals(1, recorder.completions);
+    }
+
+    @Test
+    public void cancellingStreamPublisherReleasesResources() {
+        AtomicInteger releases = new AtomicInteger(0);
+        IOStream<Integer> infinite = bracket(io(1), r -> fromIterable(repeat(r), 2),
+                                             r -> io(releases::incrementAndGet));
+        Recorder<Integer> recorder = new Recorder<>();
+        toPublisher(infinite, DIRECT).subscribe(recorder);
+
+        recorder.subscription.request(3);
+        assertEquals(asList(1, 1, 1), recorder.elements);
+        assertEquals(0, releases.get());
+
+        recorder.subscription.cancel();
+        assertEquals(1, releases.get());
+        assertEquals(0, recorder.completions);
+        assertEquals(null, recorder.error);
+    }
+
+    @Test
+    public void streamPublisherSignalsStreamFailure() {
+        IllegalStateException failure = new IllegalStateException("failed");
+        Recorder<Integer> recorder = new Recorder<>();
+        toPublisher(ioStream(1).concat(eval(io(() -> {throw failure;}))), DIRECT).subscribe(recorder);
+        recorder.subscription.request(5);
+        assertEquals(asList(1), recorder.elements);
+        assertEquals(failure, recorder.error);
+    }
+
+    @Test
+    public void iterableRoundTripsThroughSmallBuffer() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++)
+            values.add(i);
+
+        List<Integer> collected = new ArrayList<>();
+        toIterable(toPublisher(values), 4).forEach(collected::add);
+        assertEquals(values, collected);
+
+        List<Integer> fromStream = new ArrayList<>();
+        toIterable(toPublisher(fromIterable(values, 16)), 3).forEach(fromStream::add);
+        assertEquals(values, fromStream);
+    }
+
+    @Test
+    public void iterableBoundsDemandByBufferSize() {
+        AtomicInteger pulled = new AtomicInteger(0);
+        Flow.Publisher<Integer> publisher = toPublisher(naturals(pulled), DIRECT);
+
+        Iterator<Integer> iterator = toIterable(publisher, 5).iterator();
+        assertEquals((Integer) 1, iterator.next());
+        assertEquals((Integer) 2, iterator.next());
+        assertEquals(10, pulled.get());
+    }
+
+    @Test
+    public void closingIteratorCancelsSubscription() {
+        AtomicInteger pulled = new AtomicInteger(0);
+        AtomicInteger closes = new AtomicInteger(0);
+        CloseableIterable<Integer> source = () -> closeableIterator(naturals(pulled).iterator(),
+                                                                    closes::incrementAndGet);
+
+        CloseableIterator<Integer> iterator = toIterable(toPublisher(source, DIRECT), 2).iterator();
+        assertEquals((Integer) 1, iterator.next());
+        iterator.close();
+        assertEquals(1, closes.get());
+        assertEquals(false, iterator.hasNext());
+    }
+
+    @Test
+    public void iterableRethrowsPublisherFailure() {
+        IllegalStateException failure = new IllegalStateException("failed");
+        Flow.Publisher<Integer> failing = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                subscriber.onError(failure);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        try {
+            toIterable(failing, 2).iterator().hasNext();
+            fail("Expected failure to be rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals(failure, e);
+        }
+    }
+
+    @Test
+    public void ioStreamRoundTrips() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++)
+            values.add(i);
+
+        IOStream<Integer> stream = toIOStream(toPublisher(values), 8);
+        assertEquals(values, stream.toList().unsafePerformIO());
+        assertEquals(values, stream.toList().unsafePerformAsyncIO().join());
+        assertEquals(values, toIOStream(toPublisher(fromIterable(values, 10)), 3).toList().unsafePerformIO());
+    }
+
+    @Test
+    public void ioStreamCancelsSubscriptionWhenConsumptionStopsEarly() {
+        IOStream<Integer> infinite = fromIterable(repeat(1), 4);
+        CompletableFuture<Boolean> cancelled = new CompletableFuture<>();
+        Flow.Publisher<Integer> publisher = toPublisher(infinite);
+        Flow.Publisher<Integer> observed = subscriber -> publisher.subscribe(new Flow.Subscriber<Integer>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                        subscription.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        subscription.cancel();
+                        cancelled.complete(true);
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                subscriber.onNext(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                subscriber.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                subscriber.onComplete();
+            }
+        });
+
+        assertEquals(asList(1, 1, 1), toIOStream(observed, 2).take(3).toList().unsafePerformAsyncIO().join());
+        assertTrue(cancelled.join());
+    }
+
+    @Test
+    public void ioStreamPropagatesPublisherFailure() {
+        IllegalStateException failure = new IllegalStateException("failed");
+        IOStream<Integer> stream = toIOStream(
+                toPublisher(ioStream(1, 2).concat(eval(io(() -> {throw failure;})))), 1);
+        try {
+            stream.toList().unsafePerformAsyncIO().join();
+            fail("Expected failure to propagate");
+        } catch (CompletionException e) {
+            assertEquals(failure, e.getCause());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bufferSizeMustBePositive() {
+        toIterable(toPublisher(asList(1, 2, 3)), 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void subscriberMustNotBeNull() {
+        toPublisher(asList(1, 2, 3)).subscribe(null);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void exhaustedIteratorThrows() {
+        Iterator<Integer> iterator = toIterable(toPublisher(asList(1)), 1).iterator();
+        iterator.next();
+        iterator.next();
+    }
+
+    private static Iterable<Integer> naturals(AtomicInteger pulled) {
+        return () -> new ImmutableIterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return pulled.incrementAndGet();
+            }
+        };
+    }
+
+    private static final class Recorder<A> implements Flow.Subscriber<A> {
+        private final List<A>           elements = new ArrayList<>();
+        private       Flow.Subscription subscription;
+        private       int               completions;
+        private       Throwable         error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(A item) {
+            elements.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completions++;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.jnape.palatable.lambda.io;
+
+import com.jnape.palatable.lambda.iteration.CloseableIterable;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.framework.Subjects;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.EquatableM;
+import testsupport.traits.ApplicativeLaws;
+import testsupport.traits.FunctorLaws;
+import testsupport.traits.MonadLaws;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.io.IO.externallyManaged;
+import static com.jnape.palatable.lambda.io.IO.io;
+import static com.jnape.palatable.lambda.io.IOStream.bracket;
+import static com.jnape.palatable.lambda.io.IOStream.empty;
+import static com.jnape.palatable.lambda.io.IOStream.eval;
+import static com.jnape.palatable.lambda.io.IOStream.fromIterable;
+import static com.jnape.palatable.lambda.io.IOStream.ioStream;
+import static com.jnape.palatable.lambda.io.IOStream.unfold;
+import static com.jnape.palatable.lambda.io.IOStream.unfoldChunks;
+import static com.jnape.palatable.lambda.iteration.CloseableIterator.closeableIterator;
+import static com.jnape.palatable.traitor.framework.Subjects.subjects;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static testsupport.Constants.STACK_EXPLODING_NUMBER;
+
+@RunWith(Traits.class)
+public class IOStreamTest {
+
+    @TestTraits({FunctorLaws.class, ApplicativeLaws.class, MonadLaws.class})
+    public Subjects<EquatableM<IOStream<?>, Integer>> testSubject() {
+        return subjects(new EquatableM<>(empty(), IOStreamTest::elements),
+                        new EquatableM<>(ioStream(1), IOStreamTest::elements),
+                        new EquatableM<>(fromIterable(asList(1, 2, 3, 4, 5), 2), IOStreamTest::elements));
+    }
+
+    private static List<?> elements(IOStream<?> stream) {
+        return stream.toList().unsafePerformIO();
+    }
+
+    @Test
+    public void chunkedCombinators() {
+        IOStream<Integer> stream = fromIterable(asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), 3)
+                .filter(x -> x % 2 == 0)
+                .fmap(x -> x * 10)
+                .take(4);
+        assertEquals(asList(20, 40, 60, 80), stream.toList().unsafePerformIO());
+        assertEquals(asList(20, 40, 60, 80), stream.toList().unsafePerformAsyncIO().join());
+        assertEquals((Integer) 200, stream.fold(0, Integer::sum).unsafePerformIO());
+    }
+
+    @Test
+    public void flatMapAndConcat() {
+        IOStream<Integer> stream = ioStream(1, 2, 3).flatMap(x -> ioStream(x, -x)).concat(eval(io(() -> 0)));
+        assertEquals(asList(1, -1, 2, -2, 3, -3, 0), stream.toList().unsafePerformIO());
+    }
+
+    @Test
+    public void takeStopsPulling() {
+        AtomicInteger pulls = new AtomicInteger(0);
+        IOStream<Integer> naturals = unfold(0, n -> io(() -> {
+            pulls.incrementAndGet();
+            return just(tuple(n, n + 1));
+        }));
+        assertEquals(asList(0, 1, 2), naturals.take(3).toList().unsafePerformIO());
+        assertEquals(3, pulls.get());
+    }
+
+    @Test
+    public void unfoldChunksEmitsOneChunkPerPage() {
+        AtomicInteger pages = new AtomicInteger(0);
+        IOStream<Integer> paged = unfoldChunks(0, page -> io(() -> {
+            pages.incrementAndGet();
+            return page < 3 ? just(tuple(asList(page * 2, page * 2 + 1), page + 1)) : nothing();
+        }));
+        assertEquals(asList(0, 1, 2, 3, 4, 5), paged.toList().unsafePerformIO());
+        assertEquals(4, pages.get());
+    }
+
+    @Test
+    public void zipWithPairsAcrossUnevenChunks() {
+        IOStream<String> zipped = fromIterable(asList(1, 2, 3, 4, 5), 2)
+                .zipWith(fromIterable(asList("a", "b", "c", "d"), 3), (x, s) -> s + x);
+        assertEquals(asList("a1", "b2", "c3", "d4"), zipped.toList().unsafePerformIO());
+    }
+
+    @Test
+    public void mergeEmitsChunksFromBothStreams() {
+        CompletableFuture<Integer> slow = new CompletableFuture<>();
+        IOStream<Integer> merged = eval(externallyManaged(() -> slow)).merge(ioStream(1, 2));
+        CompletableFuture<List<Integer>> result = merged.toList().unsafePerformAsyncIO();
+        assertFalse(result.isDone());
+        slow.complete(3);
+        assertEquals(asList(1, 2, 3), result.join());
+
+        assertEquals(asList(1, 3, 2, 4), ioStream(1, 3).merge(ioStream(2, 4)).toList().unsafePerformIO());
+    }
+
+    @Test
+    public void asyncPullsDoNotBlockWaitingForElements() {
+        CompletableFuture<Integer> next = new CompletableFuture<>();
+        CompletableFuture<List<Integer>> result = eval(externallyManaged(() -> next)).toList().unsafePerformAsyncIO();
+        assertFalse(result.isDone());
+        next.complete(1);
+        assertEquals(singletonList(1), result.join());
+    }
+
+    @Test
+    public void bracketReleasesWhenExhausted() {
+        List<String> events = new ArrayList<>();
+        IOStream<Integer> stream = bracket(io(() -> {
+            events.add("acquire");
+            return 1;
+        }), r -> ioStream(r, r + 1), r -> io(() -> events.add("release"))).concat(eval(io(() -> {
+            events.add("after");
+            return 3;
+        })));
+        assertEquals(asList(1, 2, 3), stream.toList().unsafePerformIO());
+        assertEquals(asList("acquire", "release", "after"), events);
+    }
+
+    @Test
+    public void fromIterableClosesCloseableIteratorsWhenConsumptionStopsEarly() {
+        AtomicInteger closes = new AtomicInteger(0);
+        CloseableIterable<Integer> ones = () -> closeableIterator(repeat(1).iterator(), closes::incrementAndGet);
+        assertEquals(asList(1, 1, 1), fromIterable(ones, 2).take(3).toList().unsafePerformIO());
+        assertEquals(1, closes.get());
+        assertEquals(asList(1, 1, 1), fromIterable(ones, 2).take(3).toList().unsafePerformAsyncIO().join());
+        assertEquals(2, closes.get());
+    }
+
+    @Test
+    public void bracketReleasesWhenConsumptionStopsEarly() {
+        AtomicInteger releases = new AtomicInteger(0);
+        IOStream<Integer> stream = bracket(io(1), r -> fromIterable(repeat(r), 1),
+                                           r -> io(releases::incrementAndGet));
+        assertEquals(asList(1, 1), stream.take(2).toList().unsafePerformIO());
+        assertEquals(1, releases.get());
+        assertEquals(asList(1, 1), stream.take(2).toList().unsafePerformAsyncIO().join());
+        assertEquals(2, releases.get());
+    }
+
+    @Test
+    public void bracketReleasesOnFailure() {
+        AtomicInteger releases = new AtomicInteger(0);
+        IllegalStateException failure = new IllegalStateException("kaboom");
+        IOStream<Integer> stream = bracket(io(1), r -> ioStream(r, r + 1).fmap(x -> {
+            if (x == 2)
+                throw failure;
+            return x;
+        }), r -> io(releases::incrementAndGet));
+        try {
+            stream.toList().unsafePerformIO();
+            fail("Expected failure");
+        } catch (IllegalStateException expected) {
+            assertEquals(failure, expected);
+        }
+        try {
+            stream.toList().unsafePerformAsyncIO().join();
+            fail("Expected failure");
+        } catch (CompletionException expected) {
+            assertEquals(failure, expected.getCause());
+        }
+        assertEquals(2, releases.get());
+    }
+
+    @Test
+    public void emptyStreams() {
+        assertEquals(emptyList(), empty().toList().unsafePerformIO());
+        assertEquals(emptyList(), ioStream(1, 2).take(0).toList().unsafePerformIO());
+        assertEquals(emptyList(), ioStream(1, 2).filter(x -> false).toList().unsafePerformIO());
+    }
+
+    @Test
+    public void stackSafety() {
+        IOStream<Integer> ones = fromIterable(take(STACK_EXPLODING_NUMBER, repeat(1)), 1);
+        assertEquals((Integer) STACK_EXPLODING_NUMBER, ones.fold(0, Integer::sum).unsafePerformIO());
+        assertEquals((Integer) STACK_EXPLODING_NUMBER, ones.fold(0, Integer::sum).unsafePerformAsyncIO().join());
+        assertEquals((Integer) 0, ones.filter(x -> x > 1).fold(0, Integer::sum).unsafePerformIO());
+        assertEquals((Integer) STACK_EXPLODING_NUMBER,
+                     ones.flatMap(IOStream::ioStream).fold(0, Integer::sum).unsafePerformIO());
+    }
+}
@@ -11,9 +11,14 @@ import testsupport.traits.ApplicativeLaws;
 import testsupport.traits.FunctorLaws;
 import testsupport.traits.MonadLaws;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static com.jnape.palatable.lambda.adt.Unit.UNIT;
@@ -25,7 +30,9 @@ import static com.jnape.palatable.lambda.io.IO.io;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.concurrent.ForkJoinPool.commonPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static testsupport.Constants.STACK_EXPLODING_NUMBER;
 
 @RunWith(Traits.class)
@@ -178,4 +185,123 @@ public class IOTest {
                      }.apply(io(0)).unsafePerformAsyncIO().join());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void asyncInterpreterRunsSynchronousStagesWithoutHoppingExecutors() {
+        AtomicInteger submissions = new AtomicInteger(0);
+        Executor executor = r -> {
+            submissions.incrementAndGet();
+            commonPool().execute(r);
+        };
+        IO<Integer> io = times(200, f -> f.flatMap(x -> io(() -> x + 1)), io(() -> 0));
+        assertEquals((Integer) 200, io.unsafePerformAsyncIO(executor).join());
+        assertEquals(1, submissions.get());
+    }
+
+    @Test
+    public void asyncInterpreterResumesOnExecutorAfterIncompleteFutures() {
+        AtomicInteger submissions = new AtomicInteger(0);
+        Executor executor = r -> {
+            submissions.incrementAndGet();
+            new Thread(r).start();
+        };
+        CompletableFuture<Integer> external = new CompletableFuture<>();
+        CompletableFuture<Integer> future = io(1)
+                .flatMap(x -> externallyManaged(() -> external).fmap(y -> x + y))
+                .flatMap(x -> io(() -> x + 1))
+                .unsafePerformAsyncIO(executor);
+        assertEquals(0, submissions.get());
+        external.complete(1);
+        assertEquals((Integer) 3, future.join());
+        assertEquals(1, submissions.get());
+    }
+
+    @Test
+    public void asyncInterpreterPropagatesFailures() {
+        IllegalStateException failure = new IllegalStateException("kaboom");
+        try {
+            io(1).<Integer>flatMap(x -> {
+                throw failure;
+            }).unsafePerformAsyncIO().join();
+            fail("Expected failure");
+        } catch (CompletionException expected) {
+            assertEquals(failure, expected.getCause());
+        }
+    }
+
+    @Test
+    public void asyncRunsStartedFromWithinARunDriveThemselves() throws Exception {
+        IO<Integer> inner = io(() -> 1).flatMap(x -> io(() -> x + 1));
+        assertEquals((Integer) 2, io(() -> 0)
+                .flatMap(x -> io(() -> inner.unsafePerformAsyncIO().join() + x))
+                .unsafePerformAsyncIO()
+                .get(5, SECONDS));
+
+        Executor direct = Runnable::run;
+        assertEquals((Integer) 2, io(0)
+                .flatMap(x -> io(inner.unsafePerformAsyncIO(direct).join() + x))
+                .unsafePerformAsyncIO(direct)
+                .get(5, SECONDS));
+    }
+
+    @Test
+    public void memoizeRunsTheEffectOnceSuccessfully() {
+        AtomicInteger runs = new AtomicInteger(0);
+        IO<Integer> memoized = io(runs::incrementAndGet).memoize();
+        assertEquals((Integer) 1, memoized.unsafePerformIO());
+        assertEquals((Integer) 1, memoized.unsafePerformIO());
+        assertEquals((Integer) 1, memoized.unsafePerformAsyncIO().join());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void memoizeDoesNotRememberFailures() {
+        AtomicInteger runs = new AtomicInteger(0);
+        IO<Integer> memoized = io(() -> {
+            if (runs.incrementAndGet() == 1)
+                throw new IllegalStateException("first run fails");
+            return runs.get();
+        }).memoize();
+        try {
+            memoized.unsafePerformIO();
+            fail("Expected failure");
+        } catch (IllegalStateException expected) {
+        }
+        assertEquals((Integer) 2, memoized.unsafePerformIO());
+        assertEquals((Integer) 2, memoized.unsafePerformIO());
+    }
+
+    @Test
+    public void memoizeSharesInFlightRuns() {
+        AtomicInteger runs = new AtomicInteger(0);
+        CompletableFuture<Integer> external = new CompletableFuture<>();
+        IO<Integer> memoized = externallyManaged(() -> {
+            runs.incrementAndGet();
+            return external;
+        }).memoize();
+        CompletableFuture<Integer> first = memoized.unsafePerformAsyncIO();
+        CompletableFuture<Integer> second = memoized.unsafePerformAsyncIO();
+        external.complete(1);
+        assertEquals((Integer) 1, first.join());
+        assertEquals((Integer) 1, second.join());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void cachedRefreshesAfterTtl() {
+        AtomicInteger runs = new AtomicInteger(0);
+        Instant[] now = {Instant.EPOCH};
+        IO<Integer> cached = io(runs::incrementAndGet).cached(Duration.ofSeconds(10), () -> now[0]);
+        assertEquals((Integer) 1, cached.unsafePerformIO());
+        now[0] = now[0].plusSeconds(9);
+        assertEquals((Integer) 1, cached.unsafePerformIO());
+        now[0] = now[0].plusSeconds(1);
+        assertEquals((Integer) 2, cached.unsafePerformAsyncIO().join());
+        assertEquals((Integer) 2, cached.unsafePerformIO());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cachedRejectsNegativeTtl() {
+        io(1).cached(Duration.ofSeconds(-1));
+    }
+}
@@ -0,0 +1,161 @@
+package com.jnape.palatable.lambda.io;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static com.jnape.palatable.lambda.io.IO.externallyManaged;
+import static com.jnape.palatable.lambda.io.IO.io;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class IOTracingTest {
+
+    private final List<IOEvent> events = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() {
+        IOTracing.install(events::add);
+    }
+
+    @After
+    public void tearDown() {
+        IOTracing.uninstall();
+    }
+
+    @Test
+    public void reportsEachSuspendedStage() {
+        assertEquals((Integer) 3, io(() -> 1).flatMap(x -> io(() -> x + 1)).zip(io(() -> x -> x + 1))
+                .unsafePerformIO());
+        assertEquals(3, events.size());
+        events.forEach(event -> {
+            assertEquals(nothing(), event.name());
+            assertEquals(nothing(), event.failure());
+            assertEquals(0, event.queueWaitNanos());
+            assertTrue(event.runNanos() >= 0);
+        });
+    }
+
+    @Test
+    public void pureValuesAreNotStages() {
+        io(1).flatMap(x -> io(x + 1)).unsafePerformIO();
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void reportsNamedSpansAfterTheirStages() {
+        assertEquals((Integer) 2, io(() -> 1).flatMap(x -> io(() -> x + 1)).named("fetch-user").unsafePerformIO());
+        assertEquals(3, events.size());
+        IOEvent span = events.get(2);
+        assertEquals(just("fetch-user"), span.name());
+        assertTrue(span.runNanos() >= events.get(0).runNanos() + events.get(1).runNanos());
+    }
+
+    @Test
+    public void reportsFailures() {
+        IllegalStateException failure = new IllegalStateException("kaboom");
+        try {
+            io(() -> {
+                throw failure;
+            }).named("failing").unsafePerformIO();
+            fail("Expected failure");
+        } catch (IllegalStateException expected) {
+            assertEquals(failure, expected);
+        }
+        assertEquals(2, events.size());
+        assertEquals(just(failure), events.get(0).failure());
+        assertEquals(just(failure), events.get(1).failure());
+        assertEquals(just("failing"), events.get(1).name());
+    }
+
+    @Test
+    public void reportsQueueWaitForAsyncStages() throws InterruptedException {
+        ExecutorService executor = newSingleThreadExecutor();
+        CountDownLatch blocker = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            CompletableFuture<Integer> future = io(() -> 1).named("queued").unsafePerformAsyncIO(executor);
+            Thread.sleep(20);
+            blocker.countDown();
+            assertEquals((Integer) 1, future.join());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).queueWaitNanos() >= 10_000_000L);
+        assertEquals(just("queued"), events.get(1).name());
+        assertTrue(events.get(1).runNanos() >= events.get(0).queueWaitNanos());
+    }
+
+    @Test
+    public void reportsUnwrappedAsyncFailures() {
+        IllegalStateException failure = new IllegalStateException("kaboom");
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(failure);
+        try {
+            externallyManaged(() -> failed).named("external").unsafePerformAsyncIO().join();
+            fail("Expected failure");
+        } catch (CompletionException expected) {
+            assertEquals(failure, expected.getCause());
+        }
+        assertEquals(2, events.size());
+        assertEquals(just(failure), events.get(0).failure());
+        assertEquals(just(failure), events.get(1).failure());
+    }
+
+    @Test
+    public void failingListenersDoNotMaskFailures() {
+        IllegalStateException         failure         = new IllegalStateException("kaboom");
+        UnsupportedOperationException listenerFailure = new UnsupportedOperationException("listener");
+        IOTracing.install(event -> {
+            if (!event.failure().equals(nothing()))
+                throw listenerFailure;
+        });
+        try {
+            io(() -> {
+                throw failure;
+            }).named("failing").unsafePerformIO();
+            fail("Expected failure");
+        } catch (IllegalStateException expected) {
+            assertEquals(failure, expected);
+            assertEquals(asList(listenerFailure, listenerFailure), asList(expected.getSuppressed()));
+        }
+
+        IllegalStateException asyncFailure = new IllegalStateException("kaboom");
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(asyncFailure);
+        try {
+            externallyManaged(() -> failed).named("external").unsafePerformAsyncIO().join();
+            fail("Expected failure");
+        } catch (CompletionException expected) {
+            assertEquals(asyncFailure, expected.getCause());
+            assertTrue(asList(asyncFailure.getSuppressed()).contains(listenerFailure));
+        }
+    }
+
+    @Test
+    public void reportsNothingOnceUninstalled() {
+        IOTracing.uninstall();
+        io(() -> 1).named("untraced").unsafePerformIO();
+        io(() -> 1).named("untraced").unsafePerformAsyncIO().join();
+        assertTrue(events.isEmpty());
+    }
+}
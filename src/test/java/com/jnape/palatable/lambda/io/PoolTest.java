@@ -0,0 +1,280 @@
+package com.jnape.palatable.lambda.io;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.adt.Unit.UNIT;
+import static com.jnape.palatable.lambda.io.IO.externallyManaged;
+import static com.jnape.palatable.lambda.io.IO.io;
+import static com.jnape.palatable.lambda.io.Pool.pool;
+import static com.jnape.palatable.lambda.io.PoolPolicy.bounded;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PoolTest {
+
+    private final AtomicInteger ids       = new AtomicInteger(0);
+    private final List<Integer> destroyed = new ArrayList<>();
+
+    private IO<Pool<Integer>> pool(PoolPolicy policy) {
+        return Pool.pool(io(ids::incrementAndGet), this::destroy, policy);
+    }
+
+    private static Executor delayed() {
+        return r -> new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            r.run();
+        }).start();
+    }
+
+    private IO<?> destroy(Integer resource) {
+        return io(() -> {
+            synchronized (destroyed) {
+                destroyed.add(resource);
+            }
+        });
+    }
+
+    @Test
+    public void reusesReleasedResources() {
+        Pool<Integer> pool = pool(bounded(2)).unsafePerformIO();
+        assertEquals((Integer) 1, pool.use(IO::io).unsafePerformIO());
+        assertEquals((Integer) 1, pool.use(IO::io).unsafePerformAsyncIO().join());
+
+        PoolStats stats = pool.stats().unsafePerformIO();
+        assertEquals(1, stats.created());
+        assertEquals(2, stats.acquisitions());
+        assertEquals(1, stats.idle());
+        assertEquals(0, stats.inUse());
+    }
+
+    @Test
+    public void returnsResourcesWhenUseFails() {
+        Pool<Integer> pool = pool(bounded(1)).unsafePerformIO();
+        IllegalStateException failure = new IllegalStateException("kaboom");
+        try {
+            pool.<Integer>use(x -> io(() -> {
+                throw failure;
+            })).unsafePerformIO();
+            fail("Expected failure");
+        } catch (IllegalStateException expected) {
+            assertEquals(failure, expected);
+        }
+        try {
+            pool.<Integer>use(x -> io(() -> {
+                throw failure;
+            })).unsafePerformAsyncIO().join();
+            fail("Expected failure");
+        } catch (CompletionException expected) {
+            assertEquals(failure, expected.getCause());
+        }
+        assertEquals((Integer) 1, pool.use(IO::io).unsafePerformIO());
+        assertEquals(0, pool.stats().unsafePerformIO().inUse());
+    }
+
+    @Test
+    public void waitingAcquisitionsAreServedInOrder() {
+        Pool<Integer> pool = pool(bounded(1)).unsafePerformIO();
+        CompletableFuture<Integer> held = new CompletableFuture<>();
+        List<String> order = new ArrayList<>();
+        CompletableFuture<Integer> acquired = new CompletableFuture<>();
+        CompletableFuture<Integer> first = pool.use(x -> {
+            acquired.complete(x);
+            return externallyManaged(() -> held);
+        }).unsafePerformAsyncIO();
+        acquired.join();
+        CompletableFuture<String> second = pool.use(x -> io(() -> {
+            order.add("second");
+            return "second";
+        })).unsafePerformAsyncIO();
+        CompletableFuture<String> third = pool.use(x -> io(() -> {
+            order.add("third");
+            return "third";
+        })).unsafePerformAsyncIO();
+        assertEquals(2, pool.stats().unsafePerformIO().waiting());
+        assertEquals(1.0, pool.stats().unsafePerformIO().utilization(), 0);
+
+        held.complete(0);
+        assertEquals((Integer) 0, first.join());
+        assertEquals("second", second.join());
+        assertEquals("third", third.join());
+        assertEquals(asList("second", "third"), order);
+        assertEquals(1, pool.stats().unsafePerformIO().created());
+    }
+
+    @Test
+    public void acquisitionsTimeOut() {
+        Pool<Integer> pool = pool(bounded(1).acquireTimeout(Duration.ofMillis(10))).unsafePerformIO();
+        CompletableFuture<Integer> held = new CompletableFuture<>();
+        pool.use(x -> externallyManaged(() -> held)).unsafePerformAsyncIO();
+        try {
+            pool.use(IO::io).unsafePerformIO();
+            fail("Expected timeout");
+        } catch (Exception expected) {
+            assertTrue(expected instanceof TimeoutException);
+        }
+        assertEquals(1, pool.stats().unsafePerformIO().timeouts());
+        held.complete(0);
+        assertEquals((Integer) 1, pool.use(IO::io).unsafePerformIO());
+    }
+
+    @Test
+    public void invalidResourcesAreDestroyedAndReplaced() {
+        Pool<Integer> pool = Pool.pool(io(ids::incrementAndGet), x -> io(x != 1), this::destroy, bounded(1))
+                .unsafePerformIO();
+        assertEquals((Integer) 1, pool.use(IO::io).unsafePerformIO());
+        assertEquals((Integer) 2, pool.use(IO::io).unsafePerformAsyncIO().join());
+        assertEquals((Integer) 2, pool.use(IO::io).unsafePerformIO());
+        assertEquals(asList(1), destroyed);
+        assertEquals(2, pool.stats().unsafePerformIO().created());
+    }
+
+    @Test
+    public void waitersWhoseResourceFailsValidationKeepTheirPlace() {
+        Set<Integer> invalid = new HashSet<>();
+        Pool<Integer> pool = Pool.pool(io(ids::incrementAndGet), x -> io(() -> !invalid.contains(x)),
+                                       this::destroy, bounded(1)).unsafePerformIO();
+        CompletableFuture<Integer> held = new CompletableFuture<>();
+        pool.use(x -> externallyManaged(() -> held)).unsafePerformAsyncIO();
+        List<Integer> order = new ArrayList<>();
+        CompletableFuture<Integer> second = pool.use(x -> io(() -> {
+            order.add(2);
+            return x;
+        })).unsafePerformAsyncIO();
+        CompletableFuture<Integer> third = pool.use(x -> io(() -> {
+            order.add(3);
+            return x;
+        })).unsafePerformAsyncIO();
+
+        invalid.add(1);
+        held.complete(0);
+        assertEquals((Integer) 2, second.join());
+        assertEquals((Integer) 2, third.join());
+        assertEquals(asList(2, 3), order);
+        assertEquals(asList(1), destroyed);
+    }
+
+    @Test
+    public void cancelledWaitersAreNotCountedAsTimeouts() throws InterruptedException {
+        Pool<Integer> pool = pool(bounded(1).acquireTimeout(Duration.ofMillis(10))).unsafePerformIO();
+        CompletableFuture<Integer> held = new CompletableFuture<>();
+        pool.use(x -> externallyManaged(() -> held)).unsafePerformAsyncIO();
+        assertTrue(pool.use(IO::io).unsafePerformAsyncIO().cancel(false));
+        assertEquals(0, pool.stats().unsafePerformIO().waiting());
+
+        Thread.sleep(50);
+        assertEquals(0, pool.stats().unsafePerformIO().timeouts());
+        held.complete(0);
+    }
+
+    @Test
+    public void evictionAndShutdownWaitForDestruction() {
+        Instant[] now = {Instant.EPOCH};
+        Pool<Integer> pool = Pool.pool(io(ids::incrementAndGet), x -> externallyManaged(
+                () -> CompletableFuture.runAsync(() -> destroy(x).unsafePerformIO(), delayed())), bounded(2)
+                .idleTimeout(Duration.ofMinutes(1), () -> now[0])).unsafePerformIO();
+        pool.use(x -> pool.use(y -> io(x + y))).unsafePerformIO();
+
+        now[0] = now[0].plusSeconds(30);
+        pool.use(IO::io).unsafePerformIO();
+        now[0] = now[0].plusSeconds(30);
+        pool.evictIdle().unsafePerformAsyncIO().join();
+        assertEquals(asList(2), destroyed);
+
+        pool.shutdown().unsafePerformIO();
+        assertEquals(asList(2, 1), destroyed);
+    }
+
+    @Test
+    public void destructionFailuresAreSurfaced() {
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalStateException second = new IllegalStateException("second");
+        Pool<Integer> pool = Pool.pool(io(ids::incrementAndGet), x -> io(() -> {
+            throw x == 1 ? first : second;
+        }), bounded(2).minSize(2)).unsafePerformIO();
+        try {
+            pool.shutdown().unsafePerformIO();
+            fail("Expected failure");
+        } catch (IllegalStateException expected) {
+            assertTrue(expected == first || expected == second);
+            assertEquals(1, expected.getSuppressed().length);
+        }
+        assertEquals(2, pool.stats().unsafePerformIO().destroyFailures());
+    }
+
+    @Test
+    public void minimumResourcesAreCreatedUpFrontAndSurviveIdleEviction() {
+        Instant[] now = {Instant.EPOCH};
+        Pool<Integer> pool = pool(bounded(3).minSize(1).idleTimeout(Duration.ofMinutes(1), () -> now[0]))
+                .unsafePerformIO();
+        assertEquals(1, pool.stats().unsafePerformIO().idle());
+
+        pool.use(x -> pool.use(y -> io(x + y))).unsafePerformIO();
+        assertEquals(2, pool.stats().unsafePerformIO().idle());
+
+        now[0] = now[0].plusSeconds(60);
+        pool.evictIdle().unsafePerformIO();
+        PoolStats stats = pool.stats().unsafePerformIO();
+        assertEquals(1, stats.size());
+        assertEquals(1, stats.destroyed());
+        assertEquals(1, destroyed.size());
+    }
+
+    @Test
+    public void cancelledAcquisitionsDoNotTakeResources() {
+        Pool<Integer> pool = pool(bounded(1)).unsafePerformIO();
+        CompletableFuture<Integer> held = new CompletableFuture<>();
+        AtomicInteger uses = new AtomicInteger(0);
+        pool.use(x -> externallyManaged(() -> held)).unsafePerformAsyncIO();
+        CompletableFuture<Integer> cancelled = pool.use(x -> io(uses::incrementAndGet)).unsafePerformAsyncIO();
+        assertTrue(cancelled.cancel(false));
+
+        held.complete(0);
+        assertEquals((Integer) 1, pool.use(IO::io).unsafePerformIO());
+        assertEquals(0, uses.get());
+        PoolStats stats = pool.stats().unsafePerformIO();
+        assertEquals(0, stats.inUse());
+        assertEquals(1, stats.idle());
+    }
+
+    @Test
+    public void shutdownDestroysIdleResourcesAndRejectsAcquisitions() {
+        Pool<Integer> pool = pool(bounded(2).minSize(2)).unsafePerformIO();
+        assertEquals(UNIT, pool.shutdown().unsafePerformIO());
+        assertEquals(2, destroyed.size());
+        try {
+            pool.use(IO::io).unsafePerformIO();
+            fail("Expected failure");
+        } catch (IllegalStateException expected) {
+            assertFalse(expected.getMessage().isEmpty());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxSizeMustBePositive() {
+        bounded(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void minSizeMustNotExceedMaxSize() {
+        bounded(1).minSize(2);
+    }
+}
@@ -0,0 +1,91 @@
+package com.jnape.palatable.lambda.io;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.adt.Unit.UNIT;
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+import static com.jnape.palatable.lambda.io.Ref.newRef;
+import static com.jnape.palatable.lambda.io.Ref.ref;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class RefTest {
+
+    @Test
+    public void getAndSet() {
+        Ref<Integer> ref = ref(1);
+        assertEquals((Integer) 1, ref.get().unsafePerformIO());
+        assertEquals(UNIT, ref.set(2).unsafePerformIO());
+        assertEquals((Integer) 2, ref.get().unsafePerformIO());
+        assertEquals((Integer) 2, ref.getAndSet(3).unsafePerformIO());
+        assertEquals((Integer) 3, ref.get().unsafePerformIO());
+    }
+
+    @Test
+    public void updates() {
+        Ref<Integer> ref = ref(1);
+        assertEquals(UNIT, ref.update(x -> x + 1).unsafePerformIO());
+        assertEquals((Integer) 2, ref.getAndUpdate(x -> x * 10).unsafePerformIO());
+        assertEquals((Integer) 21, ref.updateAndGet(x -> x + 1).unsafePerformIO());
+        assertEquals("21", ref.modify(x -> tuple(0, x.toString())).unsafePerformIO());
+        assertEquals((Integer) 0, ref.get().unsafePerformIO());
+    }
+
+    @Test
+    public void compareAndSetByIdentity() {
+        String initial = "foo";
+        Ref<String> ref = ref(initial);
+        assertFalse(ref.compareAndSet(new String("foo"), "bar").unsafePerformIO());
+        assertTrue(ref.compareAndSet(initial, "bar").unsafePerformIO());
+        assertEquals("bar", ref.get().unsafePerformIO());
+    }
+
+    @Test
+    public void actionsAreDeferredUntilPerformed() {
+        Ref<Integer> ref = ref(1);
+        IO<Integer> increment = ref.updateAndGet(x -> x + 1);
+        assertEquals((Integer) 1, ref.get().unsafePerformIO());
+        increment.unsafePerformIO();
+        increment.unsafePerformIO();
+        assertEquals((Integer) 3, ref.get().unsafePerformIO());
+    }
+
+    @Test
+    public void newRefCreatesFreshRefPerPerformance() {
+        IO<Ref<Integer>> newRef = newRef(0);
+        assertNotSame(newRef.unsafePerformIO(), newRef.unsafePerformIO());
+    }
+
+    @Test
+    public void updatesAreAtomicUnderContention() {
+        Ref<Integer> ref = ref(0);
+        AtomicInteger applications = new AtomicInteger(0);
+        ExecutorService executor = newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+                futures.add(ref.modify(x -> {
+                    applications.incrementAndGet();
+                    return tuple(x + 1, x);
+                }).flatMap(x -> ref.getAndUpdate(y -> y + 1))
+                        .discardR(ref.update(y -> y + 1))
+                        .unsafePerformAsyncIO(executor));
+            for (int i = 0; i < 1_000; i++)
+                futures.add(ref.updateAndGet(x -> x + 3).unsafePerformAsyncIO(executor));
+            futures.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals((Integer) (8 * 3 + 1_000 * 3), ref.get().unsafePerformIO());
+        assertTrue(applications.get() >= 8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.jnape.palatable.lambda.io;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.jnape.palatable.lambda.io.IO.externallyManaged;
+import static com.jnape.palatable.lambda.io.SingleFlight.singleFlight;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
+
+public class SingleFlightTest {
+
+    @Test
+    public void concurrentRequestsForTheSameKeyShareOneFlight() {
+        Map<String, Integer> runs = new HashMap<>();
+        CompletableFuture<Integer> external = new CompletableFuture<>();
+        SingleFlight<String, Integer> flights = singleFlight(key -> externallyManaged(() -> {
+            runs.merge(key, 1, Integer::sum);
+            return key.equals("a") ? external : CompletableFuture.completedFuture(0);
+        }));
+
+        CompletableFuture<Integer> first = flights.get("a").unsafePerformAsyncIO();
+        CompletableFuture<Integer> second = flights.get("a").unsafePerformAsyncIO();
+        assertEquals((Integer) 0, flights.get("b").unsafePerformAsyncIO().join());
+        assertEquals(1, flights.inFlight());
+
+        external.complete(42);
+        assertEquals((Integer) 42, first.join());
+        assertEquals((Integer) 42, second.join());
+        assertEquals((Integer) 1, runs.get("a"));
+        assertEquals(0, flights.inFlight());
+    }
+
+    @Test
+    public void completedFlightsAreNotCached() {
+        int[] runs = {0};
+        SingleFlight<String, Integer> flights = singleFlight(key -> IO.io(() -> ++runs[0]));
+        assertEquals((Integer) 1, flights.get("a").unsafePerformIO());
+        assertEquals((Integer) 2, flights.get("a").unsafePerformIO());
+    }
+
+    @Test
+    public void failuresAreSharedButNotCached() {
+        IllegalStateException failure = new IllegalStateException("upstream down");
+        CompletableFuture<Integer> external = new CompletableFuture<>();
+        SingleFlight<String, Integer> flights = singleFlight(key -> externallyManaged(() -> external));
+
+        CompletableFuture<Integer> first = flights.get("a").unsafePerformAsyncIO();
+        CompletableFuture<Integer> second = flights.get("a").unsafePerformAsyncIO();
+        assertNotSame(first, second);
+        external.completeExceptionally(failure);
+        for (CompletableFuture<Integer> future : asList(first, second)) {
+            try {
+                future.join();
+                fail("Expected failure");
+            } catch (CompletionException expected) {
+                assertEquals(failure, expected.getCause());
+            }
+        }
+        assertEquals(0, flights.inFlight());
+    }
+}
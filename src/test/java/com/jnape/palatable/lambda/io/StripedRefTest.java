@@ -0,0 +1,65 @@
+package com.jnape.palatable.lambda.io;
+
+import com.jnape.palatable.lambda.monoid.Monoid;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static com.jnape.palatable.lambda.io.StripedRef.stripedRef;
+import static com.jnape.palatable.lambda.monoid.Monoid.monoid;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.junit.Assert.assertEquals;
+
+public class StripedRefTest {
+
+    private static final Monoid<Long> SUM = monoid(Long::sum, 0L);
+
+    @Test
+    public void startsAtIdentity() {
+        assertEquals((Long) 0L, stripedRef(SUM).get().unsafePerformIO());
+    }
+
+    @Test
+    public void combinesUpdatesOnRead() {
+        StripedRef<Long> ref = stripedRef(SUM, 4);
+        ref.combine(1L).unsafePerformIO();
+        ref.combine(2L).unsafePerformIO();
+        ref.update(x -> x + 3).unsafePerformIO();
+        assertEquals((Long) 6L, ref.get().unsafePerformIO());
+    }
+
+    @Test
+    public void getAndResetReturnsToIdentity() {
+        StripedRef<Long> ref = stripedRef(SUM, 1);
+        ref.combine(5L).unsafePerformIO();
+        assertEquals((Long) 5L, ref.getAndReset().unsafePerformIO());
+        assertEquals((Long) 0L, ref.get().unsafePerformIO());
+    }
+
+    @Test
+    public void updatesAreNotLostUnderContention() {
+        StripedRef<Long> ref = stripedRef(SUM);
+        ExecutorService executor = newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+                futures.add(CompletableFuture.runAsync(() -> {
+                    IO<?> increment = ref.combine(1L);
+                    for (int j = 0; j < 10_000; j++)
+                        increment.unsafePerformIO();
+                }, executor));
+            futures.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals((Long) 80_000L, ref.get().unsafePerformIO());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveStripesAreRejected() {
+        stripedRef(SUM, 0);
+    }
+}
@@ -0,0 +1,173 @@
+package com.jnape.palatable.lambda.iteration;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static com.jnape.palatable.lambda.iteration.CatenableDeque.catenableDeque;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static testsupport.matchers.IterableMatcher.isEmpty;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class CatenableDequeTest {
+
+    @Test
+    public void emptyDeque() {
+        CatenableDeque<Integer> empty = CatenableDeque.empty();
+        assertTrue(empty.isEmpty());
+        assertEquals(nothing(), empty.head());
+        assertEquals(nothing(), empty.last());
+        assertSame(empty, empty.tail());
+        assertSame(empty, empty.init());
+        assertThat(empty, isEmpty());
+    }
+
+    @Test
+    public void pushesAndPopsAtBothEnds() {
+        CatenableDeque<Integer> deque = CatenableDeque.<Integer>empty().pushBack(2).pushFront(1).pushBack(3);
+        assertThat(deque, iterates(1, 2, 3));
+        assertEquals(just(1), deque.head());
+        assertEquals(just(3), deque.last());
+        assertThat(deque.tail(), iterates(2, 3));
+        assertThat(deque.init(), iterates(1, 2));
+    }
+
+    @Test
+    public void isPersistent() {
+        CatenableDeque<Integer> deque = catenableDeque(1, 2, 3);
+        deque.pushFront(0);
+        deque.pushBack(4);
+        deque.tail();
+        deque.concat(deque);
+        assertThat(deque, iterates(1, 2, 3));
+    }
+
+    @Test
+    public void concatenates() {
+        assertThat(catenableDeque(1, 2, 3).concat(catenableDeque(4, 5)), iterates(1, 2, 3, 4, 5));
+        assertThat(catenableDeque(1).concat(CatenableDeque.empty()), iterates(1));
+        assertThat(CatenableDeque.<Integer>empty().concat(catenableDeque(1)), iterates(1));
+    }
+
+    @Test
+    public void supportsNullElements() {
+        assertThat(catenableDeque(1, null, 3), iterates(1, null, 3));
+    }
+
+    @Test
+    public void equalityIsElementWise() {
+        assertEquals(catenableDeque(1, 2, 3), CatenableDeque.<Integer>empty().pushFront(3).pushFront(2).pushFront(1));
+        assertEquals(catenableDeque(1, 2, 3).hashCode(), catenableDeque(1).concat(catenableDeque(2, 3)).hashCode());
+        assertNotEquals(catenableDeque(1, 2), catenableDeque(1, 2, 3));
+        assertEquals("CatenableDeque[1, 2, 3]", catenableDeque(1, 2, 3).toString());
+    }
+
+    @Test
+    public void concatenatingManyDequesIsCheap() {
+        CatenableDeque<Integer> deque = CatenableDeque.empty();
+        for (int i = 0; i < 100_000; i++)
+            deque = i % 2 == 0 ? deque.concat(catenableDeque(i)) : catenableDeque(-i).concat(deque);
+
+        assertEquals(just(-99_999), deque.head());
+        assertEquals(just(99_998), deque.last());
+        int count = 0;
+        for (Integer ignored : deque)
+            count++;
+        assertEquals(100_000, count);
+    }
+
+    @Test
+    public void agreesWithListModelUnderRandomOperations() {
+        Random random = new Random(42);
+        CatenableDeque<Integer> deque = CatenableDeque.empty();
+        List<Integer> model = new ArrayList<>();
+        List<CatenableDeque<Integer>> history = new ArrayList<>();
+        List<List<Integer>> historyModels = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            switch (random.nextInt(7)) {
+                case 0:
+                    deque = deque.pushFront(i);
+                    model.add(0, i);
+                    break;
+                case 1:
+                    deque = deque.pushBack(i);
+                    model.add(i);
+                    break;
+                case 2:
+                    deque = deque.tail();
+                    if (!model.isEmpty())
+                        model.remove(0);
+                    break;
+                case 3:
+                    deque = deque.init();
+                    if (!model.isEmpty())
+                        model.remove(model.size() - 1);
+                    break;
+                case 4:
+                    if (!history.isEmpty()) {
+                        int j = random.nextInt(history.size());
+                        deque = deque.concat(history.get(j));
+                        model.addAll(historyModels.get(j));
+                    }
+                    break;
+                case 5:
+                    if (!history.isEmpty()) {
+                        int j = random.nextInt(history.size());
+                        deque = history.get(j).concat(deque);
+                        model.addAll(0, historyModels.get(j));
+                    }
+                    break;
+                default:
+                    history.add(deque);
+                    historyModels.add(new ArrayList<>(model));
+            }
+            if (model.size() > 2_000) {
+                deque = CatenableDeque.empty();
+                model.clear();
+            }
+
+            assertEquals(model.isEmpty() ? nothing() : just(model.get(0)), deque.head());
+            assertEquals(model.isEmpty() ? nothing() : just(model.get(model.size() - 1)), deque.last());
+        }
+        for (int i = 0; i < history.size(); i++)
+            assertEquals(historyModels.get(i), toList(history.get(i)));
+        assertEquals(model, toList(deque));
+    }
+
+    @Test
+    public void drainsFromBothEnds() {
+        CatenableDeque<Integer> deque = CatenableDeque.empty();
+        for (int i = 0; i < 1_000; i++)
+            deque = deque.pushBack(i);
+        for (int i = 0; i < 500; i++) {
+            assertEquals(just(i), deque.head());
+            assertEquals(just(999 - i), deque.last());
+            deque = deque.tail().init();
+        }
+        assertFalse(deque.iterator().hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void iteratorThrowsWhenExhausted() {
+        Iterator<Integer> iterator = catenableDeque(1).iterator();
+        iterator.next();
+        iterator.next();
+    }
+
+    private static <A> List<A> toList(Iterable<A> as) {
+        List<A> list = new ArrayList<>();
+        as.forEach(list::add);
+        return list;
+    }
+}
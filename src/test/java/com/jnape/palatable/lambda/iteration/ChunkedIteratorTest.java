@@ -0,0 +1,214 @@
+package com.jnape.palatable.lambda.iteration;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Drop.drop;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.InGroupsOf.inGroupsOf;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.ZipWith.zipWith;
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunkedIterator;
+import static com.jnape.palatable.lambda.iteration.ChunkedIterator.chunks;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class ChunkedIteratorTest {
+
+    @Test
+    public void arrayBackedListsAreSlicedWithoutCopying() {
+        List<Integer> list = new ArrayList<>(asList(1, 2, 3, 4, 5));
+        Iterator<Integer> iterator = chunkedIterator(list);
+        assertThat(iterator, instanceOf(SlicingIterator.class));
+
+        List<Integer> chunk = chunks(iterator).nextChunk(3);
+        list.set(0, 10);
+        assertEquals(asList(10, 2, 3), chunk);
+        assertEquals(asList(4, 5), chunks(iterator).nextChunk(3));
+        assertEquals(emptyList(), chunks(iterator).nextChunk(3));
+    }
+
+    @Test
+    public void otherListsKeepTheirOwnIterators() {
+        List<Integer> snapshot = new CopyOnWriteArrayList<>(asList(1, 2, 3));
+        assertThat(chunkedIterator(snapshot), not(instanceOf(SlicingIterator.class)));
+
+        List<Integer> mapped = new ArrayList<>();
+        for (Integer x : map(x -> x * 10, snapshot)) {
+            snapshot.clear();
+            mapped.add(x);
+        }
+        assertEquals(asList(10, 20, 30), mapped);
+        assertEquals(emptyList(), snapshot);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void slicedListsStillFailFastOnConcurrentModification() {
+        List<Integer> list = new ArrayList<>(asList(1, 2, 3));
+        for (Integer x : map(x -> x, list))
+            list.add(x);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void slicedChunksStillFailFastOnConcurrentModification() {
+        List<Integer> list = new ArrayList<>(asList(1, 2, 3, 4));
+        ChunkedIterator<Integer> iterator = chunks(chunkedIterator(list));
+        iterator.nextChunk(2);
+        list.add(5);
+        iterator.nextChunk(2);
+    }
+
+    @Test
+    public void otherIterablesFallBackToElementWiseIteration() {
+        Iterable<Integer> infinite = repeat(1);
+        ChunkedIterator<Integer> chunks = chunks(chunkedIterator(infinite));
+        assertEquals(asList(1, 1, 1), chunks.nextChunk(3));
+        assertEquals(ChunkedIterator.DEFAULT_CHUNK_SIZE, chunks.nextChunk(Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    public void chunkedIteratorsAreTheirOwnChunks() {
+        SlicingIterator<Integer> iterator = new SlicingIterator<>(asList(1, 2, 3));
+        assertThat(chunks(iterator), sameInstance(iterator));
+    }
+
+    @Test
+    public void elementWiseAndChunkedIterationInterleave() {
+        ChunkedIterator<Integer> iterator = chunks(map(x -> x * 10, asList(1, 2, 3, 4, 5, 6)).iterator());
+        assertEquals((Integer) 10, iterator.next());
+        assertEquals(asList(20, 30), iterator.nextChunk(2));
+        assertEquals((Integer) 40, iterator.next());
+        assertEquals(asList(50, 60), iterator.nextChunk(5));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void filterFillsChunksWithMatchingElementsOnly() {
+        Iterable<Integer> multiplesOfThree = filter(x -> x % 3 == 0, asList(1, 2, 3, 4, 5, 6, 7, 8, 9));
+        ChunkedIterator<Integer> iterator = chunks(multiplesOfThree.iterator());
+        assertThat(iterator.hasNext(), is(true));
+        assertEquals(asList(3), iterator.nextChunk(4));
+        assertEquals(asList(6), iterator.nextChunk(4));
+        assertEquals(asList(9), iterator.nextChunk(4));
+        assertEquals(emptyList(), iterator.nextChunk(4));
+    }
+
+    @Test
+    public void takeAndDropNeverPullMoreThanNeeded() {
+        AtomicInteger pulled = new AtomicInteger(0);
+        Iterable<Integer> counted = map(x -> pulled.incrementAndGet(), repeat(0));
+        assertEquals(asList(3, 4, 5, 6, 7), drainChunks(take(5, drop(2, counted))));
+        assertEquals(7, pulled.get());
+    }
+
+    @Test
+    public void zipWithCarriesOverUnzippedElements() {
+        List<Integer> as = asList(1, 2, 3, 4, 5);
+        Iterable<Integer> bs = filter(x -> true, asList(10, 20, 30, 40));
+        ChunkedIterator<Integer> iterator = chunks(zipWith(Integer::sum, as, take(2, bs)).iterator());
+        assertEquals(asList(11, 22), iterator.nextChunk(5));
+        assertEquals(emptyList(), iterator.nextChunk(5));
+
+        ChunkedIterator<Integer> uneven = chunks(zipWith(Integer::sum, as, bs).iterator());
+        assertEquals((Integer) 11, uneven.next());
+        assertEquals(asList(22, 33, 44), uneven.nextChunk(5));
+        assertThat(uneven.hasNext(), is(false));
+    }
+
+    @Test
+    public void foldLeftInterleavesUpstreamFunctionsElementByElement() {
+        List<String> events = new ArrayList<>();
+        foldLeft((Integer acc, Integer x) -> {
+            events.add("fold " + x);
+            return acc + x;
+        }, 0, map(x -> {
+            events.add("map " + x);
+            return x;
+        }, asList(1, 2)));
+        assertEquals(asList("map 1", "fold 1", "map 2", "fold 2"), events);
+    }
+
+    @Test
+    public void onlyChunksPulledWithoutUserFunctionsArePure() {
+        List<Integer> list = new ArrayList<>(asList(1, 2, 3));
+        assertThat(chunks(chunkedIterator(list)).chunksArePure(), is(true));
+        assertThat(chunks(take(2, drop(1, list)).iterator()).chunksArePure(), is(true));
+        assertThat(chunks(map(x -> x, list).iterator()).chunksArePure(), is(false));
+        assertThat(chunks(take(2, filter(x -> true, list)).iterator()).chunksArePure(), is(false));
+        assertThat(chunks(take(2, repeat(1)).iterator()).chunksArePure(), is(false));
+    }
+
+    @Test
+    public void zipWithNeverPullsPastTheShorterSource() {
+        AtomicInteger pulled = new AtomicInteger(0);
+        Iterable<Integer> counted = map(x -> pulled.incrementAndGet(), repeat(0));
+
+        assertEquals(asList(11), drainChunks(zipWith(Integer::sum, counted, asList(10))));
+        assertEquals(1, pulled.get());
+        assertEquals(asList(12, 13), drainChunks(zipWith(Integer::sum, asList(10, 10), counted)));
+        assertEquals(3, pulled.get());
+        assertEquals(asList(9, 13), drainChunks(zipWith(Integer::sum, counted, take(2, counted))));
+        assertEquals(7, pulled.get());
+    }
+
+    @Test
+    public void bulkCombinatorsAgreeWithElementWiseIteration() {
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++)
+            numbers.add(i);
+
+        Iterable<Integer> pipeline = take(600, drop(3, zipWith(Integer::sum,
+                                                               filter(x -> x % 2 == 0, map(x -> x + 1, numbers)),
+                                                               numbers)));
+        List<Integer> elementWise = new ArrayList<>();
+        pipeline.forEach(elementWise::add);
+
+        assertEquals(drainChunks(pipeline), elementWise);
+        assertEquals((Integer) elementWise.stream().mapToInt(x -> x).sum(), foldLeft(Integer::sum, 0, pipeline));
+    }
+
+    @Test
+    public void groupsAreIndependentOfTheSource() {
+        List<Integer> list = new ArrayList<>(asList(1, 2, 3, 4, 5));
+        Iterator<Iterable<Integer>> groups = inGroupsOf(2, list).iterator();
+        Iterable<Integer> first = groups.next();
+        list.set(0, 10);
+        assertThat(first, iterates(1, 2));
+        assertThat(groups.next(), iterates(3, 4));
+        assertThat(groups.next(), iterates(5));
+        assertThat(groups.hasNext(), is(false));
+    }
+
+    @Test
+    public void groupsSpanChunks() {
+        List<Integer> grouped = new ArrayList<>();
+        for (Iterable<Integer> group : inGroupsOf(600, take(1_000, repeat(1))))
+            grouped.add(foldLeft(Integer::sum, 0, group));
+        assertEquals(asList(600, 400), grouped);
+    }
+
+    private static <A> List<A> drainChunks(Iterable<A> as) {
+        ChunkedIterator<A> iterator = chunks(as.iterator());
+        List<A> drained = new ArrayList<>();
+        List<A> chunk;
+        while (!(chunk = iterator.nextChunk(ChunkedIterator.DEFAULT_CHUNK_SIZE)).isEmpty())
+            drained.addAll(chunk);
+        return drained;
+    }
+}
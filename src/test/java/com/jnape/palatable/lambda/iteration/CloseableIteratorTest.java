@@ -0,0 +1,129 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.adt.Try;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Head.head;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.All.all;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Any.any;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Drop.drop;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Find.find;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.TakeWhile.takeWhile;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.ZipWith.zipWith;
+import static com.jnape.palatable.lambda.iteration.CloseableIterator.closeableIterator;
+import static java.util.Arrays.asList;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class CloseableIteratorTest {
+
+    @Test
+    public void closesResourceOnceWhenExhausted() {
+        AtomicInteger closes = new AtomicInteger(0);
+        CloseableIterator<Integer> iterator = closeableIterator(asList(1, 2).iterator(), closes::incrementAndGet);
+        iterator.next();
+        iterator.next();
+        assertEquals(0, closes.get());
+
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(iterator.hasNext(), is(false));
+        iterator.close();
+        assertEquals(1, closes.get());
+    }
+
+    @Test
+    public void closingPropagatesThroughCombinators() {
+        AtomicInteger closes = new AtomicInteger(0);
+        Iterable<Integer> pipeline = cons(0, map(x -> x * 2, filter(x -> x > 1, drop(1, naturals(closes)))));
+        Iterator<Integer> iterator = pipeline.iterator();
+        assertEquals((Integer) 0, iterator.next());
+        assertEquals((Integer) 4, iterator.next());
+
+        CloseableIterator.close(iterator);
+        assertEquals(1, closes.get());
+    }
+
+    @Test
+    public void takeClosesSourceOnceSatisfied() {
+        AtomicInteger closes = new AtomicInteger(0);
+        Iterator<Integer> iterator = take(2, map(x -> x + 1, naturals(closes))).iterator();
+        iterator.next();
+        assertEquals(0, closes.get());
+        iterator.next();
+        assertEquals(1, closes.get());
+        assertThat(iterator.hasNext(), is(false));
+        assertEquals(1, closes.get());
+
+        assertEquals((Integer) 6, foldLeft(Integer::sum, 0, take(3, naturals(closes))));
+        assertEquals(2, closes.get());
+    }
+
+    @Test
+    public void takeWhileClosesSourceOncePredicateFails() {
+        AtomicInteger closes = new AtomicInteger(0);
+        List<Integer> taken = new ArrayList<>();
+        takeWhile(x -> x < 4, naturals(closes)).forEach(taken::add);
+        assertEquals(asList(1, 2, 3), taken);
+        assertEquals(1, closes.get());
+    }
+
+    @Test
+    public void zipWithClosesBothSourcesOnceEitherIsExhausted() {
+        AtomicInteger closes = new AtomicInteger(0);
+        List<Integer> zipped = new ArrayList<>();
+        zipWith(Integer::sum, naturals(closes), asList(10, 20)).forEach(zipped::add);
+        assertEquals(asList(11, 22), zipped);
+        assertEquals(1, closes.get());
+
+        Iterable<Integer> bulk = zipWith(Integer::sum, naturals(closes), asList(10, 20));
+        assertEquals((Integer) 33, foldLeft(Integer::sum, 0, bulk));
+        assertEquals(2, closes.get());
+    }
+
+    @Test
+    public void shortCircuitingTerminalsCloseSource() {
+        AtomicInteger closes = new AtomicInteger(0);
+        assertEquals(just(1), head(naturals(closes)));
+        assertEquals(1, closes.get());
+
+        assertEquals(just(3), find(x -> x == 3, naturals(closes)));
+        assertEquals(2, closes.get());
+
+        assertThat(any(x -> x == 3, naturals(closes)), is(true));
+        assertEquals(3, closes.get());
+
+        assertThat(all(x -> x < 3, naturals(closes)), is(false));
+        assertEquals(4, closes.get());
+    }
+
+    @Test
+    public void closesWithTryWithResources() {
+        AtomicInteger closes = new AtomicInteger(0);
+        Try<Exception, Integer> firstTwo = Try.withResources(
+                () -> closeableIterator(map(x -> x * 10, naturals(closes))),
+                iterator -> Try.success(iterator.next() + iterator.next()));
+        assertEquals(Try.success(30), firstTwo);
+        assertEquals(1, closes.get());
+    }
+
+    private static CloseableIterable<Integer> naturals(AtomicInteger closes) {
+        return () -> {
+            AtomicInteger counter = new AtomicInteger(0);
+            return closeableIterator(map(x -> counter.incrementAndGet(), repeat(0)).iterator(),
+                                     closes::incrementAndGet);
+        };
+    }
+}
@@ -4,12 +4,15 @@ import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.traitor.annotations.TestTraits;
 import com.jnape.palatable.traitor.framework.Subjects;
 import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import testsupport.traits.Deforesting;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
 import static com.jnape.palatable.traitor.framework.Subjects.subjects;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
 
 @RunWith(Traits.class)
 public class ConcatenatingIterableTest {
@@ -21,4 +24,22 @@ public class ConcatenatingIterableTest {
                         xs -> new ConcatenatingIterable<>(repeat(1), xs),
                         xs -> new ConcatenatingIterable<>(xs, repeat(1)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void concatenatesManyIterablesFromEitherSide() {
+        Iterable<Integer> concatenated = emptyList();
+        for (int i = 0; i < 10_000; i++)
+            concatenated = i % 2 == 0
+                           ? new ConcatenatingIterable<>(concatenated, singletonList(i))
+                           : new ConcatenatingIterable<>(singletonList(i), concatenated);
+
+        int count = 0;
+        int sum = 0;
+        for (Integer x : concatenated) {
+            count++;
+            sum += x;
+        }
+        assertEquals(10_000, count);
+        assertEquals(49_995_000, sum);
+    }
+}
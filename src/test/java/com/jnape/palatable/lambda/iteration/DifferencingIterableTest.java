@@ -0,0 +1,52 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.framework.Subjects;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.Deforesting;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.Times.times;
+import static com.jnape.palatable.traitor.framework.Subjects.subjects;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class DifferencingIterableTest {
+
+    @TestTraits({Deforesting.class})
+    public Subjects<Fn1<Iterable<Integer>, Iterable<Integer>>> testSubject() {
+        return subjects(xs -> new DifferencingIterable<>(xs, emptyList()),
+                        xs -> new DifferencingIterable<>(xs, singletonList(2)));
+    }
+
+    @Test
+    public void rightNestedDifferencesAreStackSafe() {
+        Iterable<Integer> nested = times(10_001,
+                                         (Iterable<Integer> xs) -> new DifferencingIterable<>(asList(1, 2), xs),
+                                         singletonList(1));
+        assertThat(nested, iterates(2));
+    }
+
+    @Test
+    public void mixedNestingMatchesNaiveSemantics() {
+        Iterable<Integer> xs = new UnioningIterable<>(new DifferencingIterable<>(asList(1, 2, 3, 2), asList(2, 5)),
+                                                      new IntersectingIterable<>(asList(4, 2, 6), asList(6, 2)));
+        assertThat(new DifferencingIterable<>(xs, new DifferencingIterable<>(asList(3, 6), singletonList(3))),
+                   iterates(1, 3, 2));
+    }
+
+    @Test
+    public void streamsInfiniteMinuends() {
+        assertThat(take(3, new DifferencingIterable<>(new UnioningIterable<>(asList(1, 2, 3, 4), repeat(5)),
+                                                      singletonList(2))),
+                   iterates(1, 3, 4));
+    }
+}
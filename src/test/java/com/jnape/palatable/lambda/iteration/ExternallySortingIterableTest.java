@@ -0,0 +1,65 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.optics.Iso;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static com.jnape.palatable.lambda.optics.Iso.simpleIso;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class ExternallySortingIterableTest {
+
+    private static final Iso.Simple<Integer, byte[]> INT_CODEC = simpleIso(
+            x -> ByteBuffer.allocate(4).putInt(x).array(),
+            bytes -> ByteBuffer.wrap(bytes).getInt());
+
+    @Test
+    public void mergesRunsBeyondMaxFanInOverMultiplePasses() {
+        ExternallySortingIterable<Integer> sorted = new ExternallySortingIterable<>(
+                Comparator.naturalOrder(), INT_CODEC, 1, 2, asList(9, 3, 7, 1, 8, 2, 6, 4, 5));
+        assertThat(sorted, iterates(1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    public void onlyMaxFanInRunsRemainForTheFinalMerge() {
+        int spilledBefore = spilledRuns();
+        Iterator<Integer> sorted = new ExternallySortingIterable<>(Comparator.<Integer>naturalOrder(), INT_CODEC, 1, 3,
+                                                                   asList(9, 3, 7, 1, 8, 2, 6, 4, 5, 0, 10))
+                .iterator();
+        sorted.hasNext();
+        assertEquals(spilledBefore + 2, spilledRuns());
+        while (sorted.hasNext())
+            sorted.next();
+        assertEquals(spilledBefore, spilledRuns());
+    }
+
+    @Test
+    public void closingBeforeTheFinalMergeIsExhaustedDeletesAllRuns() {
+        int spilledBefore = spilledRuns();
+        CloseableIterator<Integer> sorted = new ExternallySortingIterable<>(
+                Comparator.<Integer>naturalOrder(), INT_CODEC, 1, 2, asList(4, 3, 2, 1, 0)).iterator();
+        assertEquals((Integer) 0, sorted.next());
+        sorted.close();
+        assertEquals(spilledBefore, spilledRuns());
+        assertEquals(false, sorted.hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxFanInMustBeGreaterThanOne() {
+        new ExternallySortingIterable<>(Comparator.<Integer>naturalOrder(), INT_CODEC, 1, 1, emptyList());
+    }
+
+    private static int spilledRuns() {
+        File[] runs = new File(System.getProperty("java.io.tmpdir"))
+                .listFiles((dir, name) -> name.startsWith("lambda-sort-"));
+        return runs == null ? 0 : runs.length;
+    }
+}
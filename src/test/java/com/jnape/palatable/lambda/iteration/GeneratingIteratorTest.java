@@ -0,0 +1,91 @@
+package com.jnape.palatable.lambda.iteration;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GeneratingIteratorTest {
+
+    @Test
+    public void hasNextIfGeneratorEmits() {
+        assertTrue(new GeneratingIterator<Integer>(emitter -> {
+            emitter.accept(1);
+            return true;
+        }).hasNext());
+    }
+
+    @Test
+    public void doesNotHaveNextIfGeneratorIsExhaustedWithoutEmitting() {
+        assertFalse(new GeneratingIterator<Integer>(emitter -> false).hasNext());
+    }
+
+    @Test
+    public void producesElementEmittedDuringFinalStep() {
+        GeneratingIterator<Integer> iterator = new GeneratingIterator<>(emitter -> {
+            emitter.accept(1);
+            return false;
+        });
+        assertEquals((Integer) 1, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void skipsStepsThatDoNotEmit() {
+        AtomicInteger counter = new AtomicInteger(0);
+        GeneratingIterator<Integer> iterator = new GeneratingIterator<>(emitter -> {
+            int n = counter.getAndIncrement();
+            if (n % 3 == 0)
+                emitter.accept(n);
+            return n < 9;
+        });
+        assertEquals((Integer) 0, iterator.next());
+        assertEquals((Integer) 3, iterator.next());
+        assertEquals((Integer) 6, iterator.next());
+        assertEquals((Integer) 9, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void doesNotStepAgainOnceExhausted() {
+        AtomicInteger steps = new AtomicInteger(0);
+        GeneratingIterator<Integer> iterator = new GeneratingIterator<>(emitter -> {
+            steps.incrementAndGet();
+            return false;
+        });
+        iterator.hasNext();
+        iterator.hasNext();
+        assertEquals(1, steps.get());
+    }
+
+    @Test
+    public void defersStepForAsLongAsPossible() {
+        AtomicInteger steps = new AtomicInteger(0);
+        GeneratingIterator<Integer> iterator = new GeneratingIterator<>(emitter -> {
+            emitter.accept(steps.incrementAndGet());
+            return true;
+        });
+        assertEquals(0, steps.get());
+        iterator.hasNext();
+        iterator.hasNext();
+        assertEquals(1, steps.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void emittingMoreThanOnceInAStepFails() {
+        new GeneratingIterator<Integer>(emitter -> {
+            emitter.accept(1);
+            emitter.accept(2);
+            return true;
+        }).next();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextWhenExhaustedFails() {
+        new GeneratingIterator<Integer>(emitter -> false).next();
+    }
+}
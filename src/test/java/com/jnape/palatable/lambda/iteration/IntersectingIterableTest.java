@@ -0,0 +1,32 @@
+package com.jnape.palatable.lambda.iteration;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+import com.jnape.palatable.traitor.annotations.TestTraits;
+import com.jnape.palatable.traitor.framework.Subjects;
+import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import testsupport.traits.Deforesting;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Iterate.iterate;
+import static com.jnape.palatable.traitor.framework.Subjects.subjects;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+@RunWith(Traits.class)
+public class IntersectingIterableTest {
+
+    @TestTraits({Deforesting.class})
+    public Subjects<Fn1<Iterable<Integer>, Iterable<Integer>>> testSubject() {
+        return subjects(xs -> new IntersectingIterable<>(xs, repeat(1)),
+                        xs -> new IntersectingIterable<>(singletonList(1), xs));
+    }
+
+    @Test
+    public void onlyIteratesRightSideAsFarAsNecessary() {
+        assertThat(new IntersectingIterable<>(asList(3, 1, 2), iterate(x -> x + 1, 1)), iterates(3, 1, 2));
+    }
+}
@@ -0,0 +1,60 @@
+package com.jnape.palatable.lambda.iteration;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class MagnetizingIteratorTest {
+
+    @Test
+    public void groupsRunsInSinglePass() {
+        AtomicInteger pulls = new AtomicInteger(0);
+        Iterator<Integer> source = map((Integer x) -> {
+            pulls.incrementAndGet();
+            return x;
+        }, asList(1, 1, 2, 3, 3, 3)).iterator();
+        MagnetizingIterator<Integer> iterator = new MagnetizingIterator<>(Integer::equals, source);
+
+        assertThat(iterator.next(), iterates(1, 1));
+        assertThat(iterator.next(), iterates(2));
+        assertThat(iterator.next(), iterates(3, 3, 3));
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(pulls.get(), is(6));
+    }
+
+    @Test
+    public void skippedRunsRemainIterable() {
+        MagnetizingIterator<Integer> iterator = new MagnetizingIterator<>(Integer::equals,
+                                                                          asList(1, 1, 2, 2).iterator());
+        Iterable<Integer> first = iterator.next();
+        Iterable<Integer> second = iterator.next();
+
+        assertThat(second, iterates(2, 2));
+        assertThat(first, iterates(1, 1));
+        assertThat(first, iterates(1, 1));
+    }
+
+    @Test
+    public void runsPullLazilyFromSource() {
+        MagnetizingIterator<Integer> iterator = new MagnetizingIterator<>(Integer::equals, repeat(1).iterator());
+        Iterator<Integer> run = iterator.next().iterator();
+
+        assertThat(run.next(), is(1));
+        assertThat(run.next(), is(1));
+        assertThat(run.hasNext(), is(true));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void nextWithoutMoreElementsThrows() {
+        new MagnetizingIterator<>(Object::equals, asList().iterator()).next();
+    }
+}
@@ -0,0 +1,59 @@
+package com.jnape.palatable.lambda.iteration;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class MergingIteratorTest {
+
+    @Test
+    public void mergesSortedIterators() {
+        assertThat(() -> new MergingIterator<>(Comparator.<Integer>naturalOrder(),
+                                               asList(asList(1, 4, 7).iterator(),
+                                                      emptyIterator(),
+                                                      asList(2, 5, 8).iterator(),
+                                                      asList(3, 6).iterator())),
+                   iterates(1, 2, 3, 4, 5, 6, 7, 8));
+    }
+
+    @Test
+    public void tiesAreBrokenByIteratorOrder() {
+        assertThat(() -> new MergingIterator<>(Comparator.comparing(String::length),
+                                               asList(asList("a", "ccc").iterator(),
+                                                      asList("b", "dd").iterator())),
+                   iterates("a", "b", "dd", "ccc"));
+    }
+
+    @Test
+    public void supportsInfiniteIterators() {
+        assertThat(take(3, () -> new MergingIterator<>(Comparator.<Integer>naturalOrder(),
+                                                       asList(repeat(2).iterator(), asList(1, 3).iterator()))),
+                   iterates(1, 2, 2));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void throwsWhenExhausted() {
+        Iterator<Integer> merging = new MergingIterator<>(Comparator.<Integer>naturalOrder(), emptyList());
+        assertFalse(merging.hasNext());
+        merging.next();
+    }
+
+    @Test
+    public void doesNotAdvanceSourcesUntilIterated() {
+        Iterator<Integer> source = asList(1, 2).iterator();
+        new MergingIterator<>(Comparator.<Integer>naturalOrder(), asList(source));
+        assertEquals(1, (int) source.next());
+    }
+}
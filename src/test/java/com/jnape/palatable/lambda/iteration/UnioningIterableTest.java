@@ -4,12 +4,21 @@ import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.traitor.annotations.TestTraits;
 import com.jnape.palatable.traitor.framework.Subjects;
 import com.jnape.palatable.traitor.runners.Traits;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import testsupport.traits.Deforesting;
 
+import java.util.List;
+
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Replicate.replicate;
+import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
 import static com.jnape.palatable.traitor.framework.Subjects.subjects;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertThat;
+import static testsupport.matchers.IterableMatcher.iterates;
 
 @RunWith(Traits.class)
 public class UnioningIterableTest {
@@ -21,4 +30,20 @@ public class UnioningIterableTest {
                         xs -> new UnioningIterable<>(xs, repeat(1)));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void alternatingUnionsAndDifferencesAreStackSafe() {
+        Iterable<Integer> result = foldLeft((Iterable<Integer> acc, Integer x) -> x % 2 == 0
+                                                        ? new UnioningIterable<>(acc, singletonList(x))
+                                                        : new DifferencingIterable<>(acc, singletonList(x - 1)),
+                                            emptyList(),
+                                            asList(0, 1, 2, 3, 4));
+        assertThat(result, iterates(4));
+
+        Iterable<Integer> deep = foldLeft((Iterable<Integer> acc, List<Integer> xs) ->
+                                                  new DifferencingIterable<>(new UnioningIterable<>(acc, xs),
+                                                                             singletonList(0)),
+                                          emptyList(),
+                                          replicate(10_000, asList(0, 1, 2)));
+        assertThat(deep, iterates(1, 2));
+    }
+}
@@ -0,0 +1,161 @@
+package com.jnape.palatable.lambda.iteration.instrumentation;
+
+import org.junit.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Head.head;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Repeat.repeat;
+import static com.jnape.palatable.lambda.functions.builtin.fn1.Size.size;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Filter.filter;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Map.map;
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Take.take;
+import static com.jnape.palatable.lambda.iteration.CloseableIterator.closeableIterator;
+import static com.jnape.palatable.lambda.iteration.instrumentation.Instrumentation.instrumentation;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static testsupport.matchers.IterableMatcher.iterates;
+
+public class InstrumentationTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void countsElementsAndSelectivityPerStage() {
+        Instrumentation pipeline = instrumentation("counts");
+        Iterable<Integer> source = pipeline.source("source", asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        Iterable<Integer> evens = pipeline.stage("evens", filter(x -> x % 2 == 0), source);
+        Iterable<String> strings = pipeline.stage("strings", map(Object::toString), evens);
+        Iterable<String> firstTwo = pipeline.stage("firstTwo", take(2), strings);
+
+        assertThat(firstTwo, iterates("2", "4"));
+
+        PipelineSnapshot snapshot = pipeline.snapshot();
+        assertEquals("counts", snapshot.name());
+        assertEquals(4, snapshot.stages().size());
+
+        StageSnapshot sourceStage = snapshot.stage("source").orElseThrow(AssertionError::new);
+        assertEquals(4, sourceStage.received());
+        assertEquals(4, sourceStage.emitted());
+
+        StageSnapshot evensStage = snapshot.stage("evens").orElseThrow(AssertionError::new);
+        assertEquals(4, evensStage.received());
+        assertEquals(2, evensStage.emitted());
+        assertEquals(0.5, evensStage.selectivity(), 0.0);
+
+        StageSnapshot stringsStage = snapshot.stage("strings").orElseThrow(AssertionError::new);
+        assertEquals(2, stringsStage.received());
+        assertEquals(2, stringsStage.emitted());
+
+        StageSnapshot firstTwoStage = snapshot.stage("firstTwo").orElseThrow(AssertionError::new);
+        assertEquals(2, firstTwoStage.received());
+        assertEquals(2, firstTwoStage.emitted());
+    }
+
+    @Test
+    public void closingInstrumentedPipelinesClosesTheirSources() {
+        AtomicInteger closes = new AtomicInteger(0);
+        Instrumentation pipeline = instrumentation("closing");
+        Iterable<Integer> source = pipeline.source(
+                "source", () -> closeableIterator(repeat(1).iterator(), closes::incrementAndGet));
+        Iterable<Integer> incremented = pipeline.stage("incremented", map(x -> x + 1), source);
+
+        assertEquals(just(2), head(incremented));
+        assertEquals(1, closes.get());
+        assertEquals(2, size(take(2, incremented)).intValue());
+        assertEquals(2, closes.get());
+    }
+
+    @Test
+    public void accumulatesAcrossIterations() {
+        Instrumentation pipeline = instrumentation("iterations");
+        Iterable<Integer> source = pipeline.source("source", asList(1, 2, 3));
+        size(source);
+        size(source);
+        assertEquals(6, pipeline.snapshot().stage("source").orElseThrow(AssertionError::new).emitted());
+    }
+
+    @Test
+    public void selectivityIsUndefinedBeforeAnythingIsReceived() {
+        Instrumentation pipeline = instrumentation("empty");
+        pipeline.stage("stage", filter(x -> true), asList(1, 2, 3));
+        assertTrue(Double.isNaN(pipeline.snapshot().stages().get(0).selectivity()));
+    }
+
+    @Test
+    public void attributesTimeToTheSlowStage() {
+        Instrumentation pipeline = instrumentation("timing");
+        Iterable<Integer> slowSource = pipeline.source("slow", map(x -> {
+            sleep(5);
+            return x;
+        }, asList(1, 2, 3, 4)));
+        Iterable<Integer> cheap = pipeline.stage("cheap", map(x -> x + 1), slowSource);
+        size(cheap);
+
+        PipelineSnapshot snapshot = pipeline.snapshot();
+        long slow = snapshot.stage("slow").orElseThrow(AssertionError::new).nanos();
+        long fast = snapshot.stage("cheap").orElseThrow(AssertionError::new).nanos();
+        assertTrue(slow >= 20_000_000L);
+        assertTrue(fast < slow);
+    }
+
+    @Test
+    public void tracksAllocationsOnlyWhenRequested() {
+        Instrumentation untracked = instrumentation("untracked");
+        size(untracked.source("source", asList(1, 2, 3)));
+        assertFalse(untracked.snapshot().stages().get(0).allocatedBytes().fmap(x -> true).orElse(false));
+
+        if (Stage.allocatedBytes() < 0)
+            return;
+
+        Instrumentation tracked = instrumentation("tracked", true);
+        Iterable<List<Integer>> allocating = tracked.stage("allocating", map(x -> {
+            List<Integer> xs = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++)
+                xs.add(i);
+            return xs;
+        }), asList(1, 2, 3));
+        size(allocating);
+        long bytes = tracked.snapshot().stages().get(0).allocatedBytes().orElseThrow(AssertionError::new);
+        assertTrue(bytes > 3 * 1_000 * 4);
+    }
+
+    @Test
+    public void exposesStagesAsMBeans() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        Instrumentation pipeline = instrumentation("jmx").registerMBeans();
+        try {
+            Iterable<Integer> evens = pipeline.stage("evens", filter(x -> x % 2 == 0), asList(1, 2, 3, 4));
+            size(evens);
+
+            ObjectName name = new ObjectName(
+                    "com.jnape.palatable.lambda:type=IterationPipeline,pipeline=\"jmx\",stage=\"evens\"");
+            assertTrue(server.isRegistered(name));
+            assertEquals(4L, server.getAttribute(name, "Received"));
+            assertEquals(2L, server.getAttribute(name, "Emitted"));
+            assertEquals(0.5, (Double) server.getAttribute(name, "Selectivity"), 0.0);
+
+            pipeline.unregisterMBeans();
+            assertFalse(server.isRegistered(name));
+        } finally {
+            pipeline.unregisterMBeans();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
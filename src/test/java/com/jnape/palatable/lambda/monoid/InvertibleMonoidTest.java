@@ -0,0 +1,18 @@
+package com.jnape.palatable.lambda.monoid;
+
+import org.junit.Test;
+
+import static com.jnape.palatable.lambda.monoid.InvertibleMonoid.invertibleMonoid;
+import static org.junit.Assert.assertEquals;
+
+public class InvertibleMonoidTest {
+
+    @Test
+    public void promotesSemigroupWithIdentityAndInverse() {
+        InvertibleMonoid<Integer> sum = invertibleMonoid(Integer::sum, 0, x -> -x);
+        assertEquals((Integer) 0, sum.identity());
+        assertEquals((Integer) 5, sum.apply(2, 3));
+        assertEquals((Integer) (-2), sum.inverse(2));
+        assertEquals(sum.identity(), sum.apply(sum.inverse(7), 7));
+    }
+}
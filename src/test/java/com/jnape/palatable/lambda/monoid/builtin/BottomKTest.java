@@ -0,0 +1,35 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.monoid.Monoid;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static com.jnape.palatable.lambda.monoid.builtin.BottomK.bottomK;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+
+public class BottomKTest {
+
+    @Test
+    public void identity() {
+        assertEquals(emptyList(), bottomK(2, Comparator.<Integer>naturalOrder()).identity());
+    }
+
+    @Test
+    public void monoid() {
+        Monoid<List<Integer>> bottomTwo = bottomK(2, Comparator.naturalOrder());
+        assertEquals(asList(1, 3), bottomTwo.apply(asList(4, 1), asList(5, 3)));
+        assertEquals(asList(1, 4), bottomTwo.apply(asList(1, 4), emptyList()));
+        assertEquals(asList(1, 4), bottomTwo.apply(emptyList(), asList(1, 4)));
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(asList(1, 2), bottomK(2, Comparator.<Integer>naturalOrder())
+                .foldMap(x -> singletonList(x), asList(3, 9, 1, 8, 2)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.jnape.palatable.lambda.monoid.builtin;
+
+import com.jnape.palatable.lambda.monoid.Monoid;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static com.jnape.palatable.lambda.monoid.builtin.TopK.topK;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+
+public class TopKTest {
+
+    @Test
+    public void identity() {
+        assertEquals(emptyList(), topK(2, Comparator.<Integer>naturalOrder()).identity());
+    }
+
+    @Test
+    public void monoid() {
+        Monoid<List<Integer>> topTwo = topK(2, Comparator.naturalOrder());
+        assertEquals(asList(5, 4), topTwo.apply(asList(4, 1), asList(5, 3)));
+        assertEquals(asList(4, 1), topTwo.apply(asList(4, 1), emptyList()));
+        assertEquals(asList(4, 1), topTwo.apply(emptyList(), asList(4, 1)));
+        assertEquals(topTwo.apply(topTwo.apply(asList(1, 7), asList(3)), asList(5, 2)),
+                     topTwo.apply(asList(1, 7), topTwo.apply(asList(3), asList(5, 2))));
+    }
+
+    @Test
+    public void foldMap() {
+        assertEquals(asList(9, 8), topK(2, Comparator.<Integer>naturalOrder())
+                .foldMap(x -> singletonList(x), asList(3, 9, 1, 8, 2)));
+    }
+}
@@ -1,8 +1,10 @@
 package com.jnape.palatable.lambda.semigroup.builtin;
 
+import com.jnape.palatable.lambda.functions.Fn1;
 import com.jnape.palatable.lambda.monoid.builtin.Endo;
 import org.junit.Test;
 
+import static com.jnape.palatable.lambda.functions.builtin.fn2.Replicate.replicate;
 import static org.junit.Assert.assertEquals;
 
 public class EndoTest {
@@ -18,4 +20,12 @@ public class EndoTest {
         assertEquals((Integer) 2, Endo.<Integer>endo().apply(x -> x + 1, x -> x + 1, 0));
         assertEquals((Integer) 2, Endo.<Integer>endo(x -> x + 1, x -> x + 1, 0));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void reductionIsStackSafe() {
+        int stackBlowingNumber = 50_000;
+        Iterable<Fn1<Integer, Integer>> increments = replicate(stackBlowingNumber, x -> x + 1);
+        assertEquals((Integer) stackBlowingNumber, Endo.<Integer>endo().reduceLeft(increments).apply(0));
+        assertEquals((Integer) stackBlowingNumber, Endo.<Integer>endo().reduceRight(increments).apply(0));
+    }
+}